@@ -0,0 +1,31 @@
+package com.iremembr.jtraxxs.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar.
+ *
+ * <p>Accepts the usual JMH command line options and always attaches the
+ * {@link GCProfiler}, so that every run reports the allocation rate
+ * ({@code gc.alloc.rate.norm}) next to throughput and average time.
+ * <pre>{@code
+ *     java -jar target/benchmarks.jar ValueResultOperatorBenchmark
+ * }</pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,127 @@
+package com.iremembr.jtraxxs.benchmarks;
+
+import com.iremembr.jtraxxs.Railway;
+import com.iremembr.jtraxxs.ValueResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a complete railway chain, step by step and compiled into a
+ * {@link Railway}, with the same validation logic written with exceptions
+ * and with {@link Optional}.
+ *
+ * <p>Each invocation processes a batch of inputs of which {@code failurePercent}
+ * percent fail in one of the chain's steps.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RailwayChainBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int LIMIT = 10_000;
+
+    private static final Railway<String, Long, String> COMPILED = Railway.<String, String>start()
+            .ensure(s -> !s.isEmpty(), "empty")
+            .map(Integer::parseInt)
+            .ensure(v -> v > 0, "not positive")
+            .flatMap(v -> v < LIMIT ? ValueResult.ok(v) : ValueResult.fail("too large"))
+            .map(v -> v * 100L);
+
+    @Param({"0", "10", "50"})
+    public int failurePercent;
+
+    private String[] inputs;
+
+    @Setup
+    public void setUp() {
+        inputs = new String[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            if (i % 100 >= failurePercent) {
+                inputs[i] = String.valueOf(i + 1);
+            } else {
+                // spread the failures over the different steps of the chain
+                switch (i % 3) {
+                    case 0:
+                        inputs[i] = "";
+                        break;
+                    case 1:
+                        inputs[i] = "-" + i;
+                        break;
+                    default:
+                        inputs[i] = String.valueOf(LIMIT + i);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void railway(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(railway(input));
+        }
+    }
+
+    @Benchmark
+    public void compiledRailway(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(COMPILED.apply(input));
+        }
+    }
+
+    @Benchmark
+    public void exceptions(Blackhole blackhole) {
+        for (String input : inputs) {
+            try {
+                blackhole.consume(exceptions(input));
+            } catch (IllegalArgumentException e) {
+                blackhole.consume(e.getMessage());
+            }
+        }
+    }
+
+    @Benchmark
+    public void optional(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(optional(input));
+        }
+    }
+
+    private static ValueResult<Long, String> railway(String input) {
+        return ValueResult.<String, String>ok(input)
+                .ensure(s -> !s.isEmpty(), "empty")
+                .map(Integer::parseInt)
+                .ensure(v -> v > 0, "not positive")
+                .flatMap(v -> v < LIMIT ? ValueResult.ok(v) : ValueResult.fail("too large"))
+                .map(v -> v * 100L);
+    }
+
+    private static long exceptions(String input) {
+        if (input.isEmpty()) {
+            throw new IllegalArgumentException("empty");
+        }
+        int value = Integer.parseInt(input);
+        if (value <= 0) {
+            throw new IllegalArgumentException("not positive");
+        }
+        if (value >= LIMIT) {
+            throw new IllegalArgumentException("too large");
+        }
+        return value * 100L;
+    }
+
+    private static Optional<Long> optional(String input) {
+        return Optional.of(input)
+                .filter(s -> !s.isEmpty())
+                .map(Integer::parseInt)
+                .filter(v -> v > 0)
+                .flatMap(v -> v < LIMIT ? Optional.of(v) : Optional.empty())
+                .map(v -> v * 100L);
+    }
+}
@@ -0,0 +1,70 @@
+package com.iremembr.jtraxxs.benchmarks;
+
+import com.iremembr.jtraxxs.Result;
+import com.iremembr.jtraxxs.ValueResult;
+import com.iremembr.jtraxxs.VoidResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures calls on {@link Result} at a call site which sees one, two or
+ * four different result classes.
+ *
+ * <p>With one or two receiver classes the JIT inlines the call, with four
+ * the call site becomes megamorphic and every call is a virtual call.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ResultDispatchBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"1", "2", "4"})
+    public int receiverTypes;
+
+    private Result<String>[] results;
+    private VoidResult<String> base;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Result<String>[] candidates = new Result[]{
+                ValueResult.ok(42),
+                ValueResult.fail("error"),
+                VoidResult.ok(),
+                VoidResult.fail("error")
+        };
+        results = new Result[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            results[i] = candidates[i % receiverTypes];
+        }
+        base = VoidResult.ok();
+    }
+
+    @Benchmark
+    public int hasFailed() {
+        int failures = 0;
+        for (Result<String> result : results) {
+            if (result.hasFailed()) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    @Benchmark
+    public int ensureResult() {
+        int failures = 0;
+        for (Result<String> result : results) {
+            if (base.ensure(result).hasFailed()) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,16 @@
+package com.iremembr.jtraxxs.benchmarks;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * Runs the {@link ResultDispatchBenchmark} with the tagged representation,
+ * in which every {@code ValueResult} and every {@code VoidResult} is an
+ * instance of one class.
+ *
+ * <p>Compared with {@code ResultDispatchBenchmark}, the two-receiver runs
+ * show the cost of the tag branch against a bimorphic call, and the
+ * four-receiver runs show the gain over a megamorphic call.
+ */
+@Fork(value = 2, jvmArgsAppend = "-Dcom.iremembr.jtraxxs.taggedResults=true")
+public class TaggedResultDispatchBenchmark extends ResultDispatchBenchmark {
+}
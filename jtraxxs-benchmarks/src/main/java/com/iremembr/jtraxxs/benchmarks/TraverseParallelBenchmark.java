@@ -0,0 +1,76 @@
+package com.iremembr.jtraxxs.benchmarks;
+
+import com.iremembr.jtraxxs.ValueResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shows how {@link ValueResult#traverseParallel(List, java.util.function.Function, int, ForkJoinPool)}
+ * scales with the number of cores compared to a sequential traversal with
+ * {@link ValueResult#sequence(Iterable)}.
+ *
+ * <p>Parallelism levels above the number of available cores only add
+ * scheduling overhead; restrict them with {@code -p parallelism=1,2,4}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TraverseParallelBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int parallelism;
+
+    @Param({"4096"})
+    public int threshold;
+
+    private List<String> inputs;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        inputs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            inputs.add(i % 1000 == 0 ? "invalid" : String.valueOf(i));
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public ValueResult<Collection<Integer>, Collection<String>> sequential() {
+        List<ValueResult<Integer, String>> results = new ArrayList<>(inputs.size());
+        for (String input : inputs) {
+            results.add(parse(input));
+        }
+        return ValueResult.sequence(results);
+    }
+
+    @Benchmark
+    public ValueResult<Collection<Integer>, Collection<String>> parallel() {
+        return ValueResult.traverseParallel(inputs, TraverseParallelBenchmark::parse, threshold, pool);
+    }
+
+    private static ValueResult<Integer, String> parse(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (!Character.isDigit(input.charAt(i))) {
+                return ValueResult.fail("not a number: " + input);
+            }
+        }
+        return ValueResult.ok(Integer.parseInt(input));
+    }
+}
@@ -0,0 +1,176 @@
+package com.iremembr.jtraxxs.benchmarks;
+
+import com.iremembr.jtraxxs.ResultFailureException;
+import com.iremembr.jtraxxs.ValueResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures every {@link ValueResult} operator on the successful and on the
+ * failed track.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ValueResultOperatorBenchmark {
+
+    @Param({"success", "failure"})
+    public String track;
+
+    @Param({"100"})
+    public int sequenceSize;
+
+    private ValueResult<Integer, String> result;
+    private ValueResult<Integer, String> other;
+    private List<ValueResult<Integer, String>> results;
+
+    @Setup
+    public void setUp() {
+        boolean success = "success".equals(track);
+        result = success ? ValueResult.ok(42) : ValueResult.fail("error");
+        other = ValueResult.ok(4711);
+        results = new ArrayList<>(sequenceSize);
+        for (int i = 0; i < sequenceSize; i++) {
+            // failure track: a single failure in the middle of the batch
+            results.add(success || i != sequenceSize / 2 ? ValueResult.ok(i) : ValueResult.fail("error"));
+        }
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> map() {
+        return result.map(v -> v + 1);
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> flatMap() {
+        return result.flatMap(v -> other);
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> ensurePredicate() {
+        return result.ensure(v -> v > 0, "negative");
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> ensurePredicateEagerError() {
+        return result.ensure(v -> v > 0, String.format("value of %s is not positive", result));
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> ensurePredicateLazyError() {
+        return result.ensureOrElseGet(v -> v > 0, v -> String.format("value %d is not positive", v));
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> ensureResult() {
+        return result.ensure(other);
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> take() {
+        return result.take(other);
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> takeFunction() {
+        return result.take(v -> other);
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> combine() {
+        return result.combine(Integer::sum, other);
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> mapError() {
+        return result.mapError(String::length).mapError(String::valueOf);
+    }
+
+    @Benchmark
+    public int fold() {
+        return result.fold(v -> v, String::length);
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> onSuccess(Blackhole blackhole) {
+        return result.onSuccess(v -> blackhole.consume(v));
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> onFailure(Blackhole blackhole) {
+        return result.onFailure(e -> blackhole.consume(e));
+    }
+
+    @Benchmark
+    public Integer orElse() {
+        return result.orElse(-1);
+    }
+
+    @Benchmark
+    public Object orElseThrowWithStackTrace() {
+        try {
+            return result.orElseThrow(IllegalStateException::new);
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object orElseThrowStackless() {
+        try {
+            return result.orElseThrow();
+        } catch (ResultFailureException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public long foldToLong() {
+        return result.foldToLong(v -> v * 1_000_000L, String::length);
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> ensureBoxedSupplier() {
+        Supplier<Boolean> supplier = () -> sequenceSize > 0;
+        return result.ensure(supplier, "empty");
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> ensureBooleanSupplier() {
+        return result.ensure(() -> sequenceSize > 0, "empty");
+    }
+
+    @Benchmark
+    public ValueResult<Integer, TimeUnit> failInternedEnum() {
+        return ValueResult.fail(TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> failString() {
+        return ValueResult.fail("error");
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> okInternedInteger() {
+        return ValueResult.ok(42);
+    }
+
+    @Benchmark
+    public ValueResult<Integer, String> okInteger() {
+        return ValueResult.ok(4711);
+    }
+
+    @Benchmark
+    public ValueResult<Collection<Integer>, Collection<String>> sequence() {
+        return ValueResult.sequence(results);
+    }
+}
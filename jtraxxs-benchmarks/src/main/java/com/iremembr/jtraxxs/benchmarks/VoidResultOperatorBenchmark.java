@@ -0,0 +1,99 @@
+package com.iremembr.jtraxxs.benchmarks;
+
+import com.iremembr.jtraxxs.VoidResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every {@link VoidResult} operator on the successful and on the
+ * failed track.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class VoidResultOperatorBenchmark {
+
+    @Param({"success", "failure"})
+    public String track;
+
+    @Param({"100"})
+    public int sequenceSize;
+
+    private VoidResult<String> result;
+    private VoidResult<String> other;
+    private List<VoidResult<String>> results;
+
+    @Setup
+    public void setUp() {
+        boolean success = "success".equals(track);
+        result = success ? VoidResult.ok() : VoidResult.fail("error");
+        other = VoidResult.ok();
+        results = new ArrayList<>(sequenceSize);
+        for (int i = 0; i < sequenceSize; i++) {
+            results.add(success || i != sequenceSize / 2 ? VoidResult.ok() : VoidResult.fail("error"));
+        }
+    }
+
+    @Benchmark
+    public VoidResult<String> ok() {
+        return VoidResult.ok();
+    }
+
+    @Benchmark
+    public VoidResult<String> ensureFlag() {
+        return result.ensure(true, "error");
+    }
+
+    @Benchmark
+    public VoidResult<String> ensureBooleanSupplier() {
+        return result.ensure(() -> sequenceSize > 0, "empty");
+    }
+
+    @Benchmark
+    public VoidResult<String> ensureResult() {
+        return result.ensure(other);
+    }
+
+    @Benchmark
+    public VoidResult<String> ensureResultSupplier() {
+        return result.ensure(() -> other);
+    }
+
+    @Benchmark
+    public VoidResult<String> mapError() {
+        return result.mapError(String::length).mapError(String::valueOf);
+    }
+
+    @Benchmark
+    public VoidResult<String> onSuccess(Blackhole blackhole) {
+        return result.onSuccess(() -> blackhole.consume(true));
+    }
+
+    @Benchmark
+    public int fold() {
+        return result.fold(() -> 0, String::length);
+    }
+
+    @Benchmark
+    public VoidResult<Collection<String>> sequence() {
+        return VoidResult.sequence(results);
+    }
+
+    @Benchmark
+    public VoidResult<Collection<String>> allOf() {
+        return VoidResult.allOf(result, other, result);
+    }
+
+    @Benchmark
+    public VoidResult<String> firstFailure() {
+        return VoidResult.firstFailure(other, result, other);
+    }
+}
@@ -0,0 +1,297 @@
+package com.iremembr.jtraxxs;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents the eventual outcome of an asynchronous computation which completes
+ * with a {@link ValueResult}.
+ *
+ * <p>The operators mirror those of {@code ValueResult}. Continuations on the successful
+ * track run on the executor given at creation time. When the computation completes with
+ * a failed {@code ValueResult}, it is passed through every success track operator without
+ * scheduling any further work on the executor.
+ *
+ * <p>If a continuation throws an exception, the {@code AsyncValueResult} completes
+ * exceptionally and {@link #join()} throws a {@link java.util.concurrent.CompletionException}.
+ *
+ * <pre>{@code
+ *     ValueResult<Order, String> order = AsyncValueResult.supplyAsync(() -> customers.find(id), executor)
+ *             .ensure(Customer::isActive, "inactive customer")
+ *             .flatMap(customer -> orders.place(customer, cart))
+ *             .join();
+ * }</pre>
+ *
+ * @param <V> the type of the contained value in case of a successful computation
+ * @param <E> the type of the error object in case of a failure
+ */
+public final class AsyncValueResult<V, E> {
+
+    private final CompletableFuture<ValueResult<V, E>> future;
+    private final Executor executor;
+
+    private AsyncValueResult(CompletableFuture<ValueResult<V, E>> future, Executor executor) {
+        this.future = future;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns an {@code AsyncValueResult} which completes with the {@code ValueResult} of the given
+     * {@link CompletionStage}.
+     *
+     * @param stage    the stage which completes with a {@code ValueResult}; must not be {@code null}
+     * @param executor the executor which runs the continuations; must not be {@code null}
+     * @param <V>      the type of the contained value
+     * @param <E>      the type of the error object in case of a failure
+     * @return an {@code AsyncValueResult}, never {@code null}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <V, E> AsyncValueResult<V, E> of(
+            CompletionStage<? extends ValueResult<? extends V, ? extends E>> stage,
+            Executor executor
+    ) {
+        requireNonNull(stage, "stage must not be null");
+        requireNonNull(executor, "executor must not be null");
+        return new AsyncValueResult<>(stage.<ValueResult<V, E>>thenApply(ValueResult::upCast).toCompletableFuture(), executor);
+    }
+
+    /**
+     * Returns an already completed {@code AsyncValueResult} with the given {@code ValueResult}.
+     *
+     * @param result   the {@code ValueResult}; must not be {@code null}
+     * @param executor the executor which runs the continuations; must not be {@code null}
+     * @param <V>      the type of the contained value
+     * @param <E>      the type of the error object in case of a failure
+     * @return a completed {@code AsyncValueResult}, never {@code null}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <V, E> AsyncValueResult<V, E> completed(ValueResult<? extends V, ? extends E> result, Executor executor) {
+        requireNonNull(result, "result must not be null");
+        requireNonNull(executor, "executor must not be null");
+        return new AsyncValueResult<>(CompletableFuture.completedFuture(ValueResult.upCast(result)), executor);
+    }
+
+    /**
+     * Returns an {@code AsyncValueResult} which completes with the {@code ValueResult} returned by
+     * the given supplier, which runs on the given executor.
+     *
+     * @param supplier the supplier of the {@code ValueResult}; must not be {@code null}
+     * @param executor the executor which runs the supplier and the continuations; must not be {@code null}
+     * @param <V>      the type of the contained value
+     * @param <E>      the type of the error object in case of a failure
+     * @return an {@code AsyncValueResult}, never {@code null}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <V, E> AsyncValueResult<V, E> supplyAsync(
+            Supplier<? extends ValueResult<? extends V, ? extends E>> supplier,
+            Executor executor
+    ) {
+        requireNonNull(supplier, "supplier must not be null");
+        requireNonNull(executor, "executor must not be null");
+        return new AsyncValueResult<>(
+                CompletableFuture.supplyAsync(() -> ValueResult.upCast(requireNonNull(supplier.get())), executor),
+                executor
+        );
+    }
+
+    /**
+     * Maps the eventual {@code ValueResult} to a {@code ValueResult} with another value, if it is successful.
+     *
+     * @param mapper A function that returns the new value.
+     * @param <W>    The type of result value of the mapper function.
+     * @return An AsyncValueResult of the function's value or the failed ValueResult.
+     * @throws NullPointerException if mapper is {@code null}.
+     * @see ValueResult#map(Function)
+     */
+    public <W> AsyncValueResult<W, E> map(Function<? super V, ? extends W> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return apply(true, result -> result.map(mapper));
+    }
+
+    /**
+     * Returns an AsyncValueResult which completes with the outcome of the AsyncValueResult returned by
+     * the given function, if the eventual {@code ValueResult} is successful.
+     *
+     * @param function A function which takes the value and returns an AsyncValueResult.
+     * @param <W>      The type of the success case of the returned AsyncValueResult.
+     * @return An AsyncValueResult.
+     * @throws NullPointerException if function is {@code null}.
+     * @see ValueResult#flatMap(Function)
+     */
+    public <W> AsyncValueResult<W, E> flatMap(Function<? super V, ? extends AsyncValueResult<? extends W, ? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        if (passesThrough(true)) {
+            return passThrough();
+        }
+        CompletableFuture<ValueResult<W, E>> next = future.thenCompose(result -> result.isSuccessful()
+                ? CompletableFuture.supplyAsync(() -> function.apply(result.value()), executor)
+                        .thenCompose(AsyncValueResult::<W, E>futureOf)
+                : CompletableFuture.completedFuture(cast(result)));
+        return new AsyncValueResult<>(next, executor);
+    }
+
+    /**
+     * Returns an AsyncValueResult which completes with the {@code ValueResult} returned by the given
+     * function, if the eventual {@code ValueResult} is successful.
+     *
+     * @param function The ValueResult function.
+     * @param <W>      The type of the success case of the ValueResult returned by the function.
+     * @return An AsyncValueResult.
+     * @throws NullPointerException if function is {@code null}.
+     * @see ValueResult#take(Function)
+     */
+    public <W> AsyncValueResult<W, E> take(Function<? super V, ? extends ValueResult<? extends W, ? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        return apply(true, result -> result.take(function));
+    }
+
+    /**
+     * Checks the value of the eventual {@code ValueResult} with the given predicate, if it is successful.
+     *
+     * @param predicate The predicate for testing the value.
+     * @param error     The Error to return when the predicate evaluates to false.
+     * @return An AsyncValueResult.
+     * @throws NullPointerException if predicate is {@code null}.
+     * @see ValueResult#ensure(Predicate, Object)
+     */
+    public AsyncValueResult<V, E> ensure(Predicate<? super V> predicate, E error) {
+        requireNonNull(predicate, "predicate must not be null");
+        return apply(true, result -> result.ensure(predicate, error));
+    }
+
+    /**
+     * Fails with the error of the {@code Result} returned by the given function, if the eventual
+     * {@code ValueResult} is successful and the returned {@code Result} has failed.
+     *
+     * @param function The function
+     * @return An AsyncValueResult.
+     * @throws NullPointerException if function is {@code null}.
+     * @see ValueResult#ensure(Function)
+     */
+    public AsyncValueResult<V, E> ensure(Function<? super V, ? extends Result<? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        return apply(true, result -> result.ensure(function));
+    }
+
+    /**
+     * Maps the eventual {@code ValueResult} to a {@code ValueResult} with another error, if it has failed.
+     *
+     * @param mapper A function that returns the new error.
+     * @param <F>    The type of result value of the mapper function.
+     * @return An AsyncValueResult.
+     * @throws NullPointerException if mapper is {@code null}.
+     * @see ValueResult#mapError(Function)
+     */
+    public <F> AsyncValueResult<V, F> mapError(Function<? super E, ? extends F> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return apply(false, result -> result.mapError(mapper));
+    }
+
+    /**
+     * Executes the given consumer with the value, if the eventual {@code ValueResult} is successful.
+     *
+     * @param consumer The function to run.
+     * @return An AsyncValueResult which completes after the consumer has been executed.
+     * @throws NullPointerException if consumer is {@code null}.
+     */
+    public AsyncValueResult<V, E> onSuccess(Consumer<? super V> consumer) {
+        requireNonNull(consumer, "consumer must not be null");
+        return apply(true, result -> result.onSuccess(consumer));
+    }
+
+    /**
+     * Executes the given consumer with the error, if the eventual {@code ValueResult} has failed.
+     *
+     * @param consumer The function to run.
+     * @return An AsyncValueResult which completes after the consumer has been executed.
+     * @throws NullPointerException if consumer is {@code null}.
+     */
+    public AsyncValueResult<V, E> onFailure(Consumer<? super E> consumer) {
+        requireNonNull(consumer, "consumer must not be null");
+        return apply(false, result -> result.onFailure(consumer));
+    }
+
+    /**
+     * Waits for the computation to complete and returns its {@code ValueResult}.
+     *
+     * @return the {@code ValueResult}, never {@code null}
+     * @throws java.util.concurrent.CompletionException   if a step of the computation threw an exception
+     * @throws java.util.concurrent.CancellationException if the computation was cancelled
+     */
+    public ValueResult<V, E> join() {
+        return future.join();
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} which completes with the {@code ValueResult} of the computation.
+     *
+     * @return a {@code CompletableFuture}, never {@code null}
+     */
+    public CompletableFuture<ValueResult<V, E>> toCompletableFuture() {
+        return future;
+    }
+
+    /**
+     * Returns {@code true} if the computation has completed in any fashion.
+     *
+     * @return {@code true} if completed
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    @Override
+    public String toString() {
+        return future.isDone() && !future.isCompletedExceptionally()
+                ? String.format("AsyncValueResult{result=%s}", future.join())
+                : String.format("AsyncValueResult{future=%s}", future);
+    }
+
+    private <W, F> AsyncValueResult<W, F> apply(
+            boolean successTrack,
+            Function<? super ValueResult<V, E>, ? extends ValueResult<? extends W, ? extends F>> step
+    ) {
+        if (passesThrough(successTrack)) {
+            return passThrough();
+        }
+        CompletableFuture<ValueResult<W, F>> next = future.thenCompose(result -> result.isSuccessful() == successTrack
+                ? CompletableFuture.supplyAsync(() -> AsyncValueResult.<W, F>cast(step.apply(result)), executor)
+                : CompletableFuture.completedFuture(cast(result)));
+        return new AsyncValueResult<>(next, executor);
+    }
+
+    /**
+     * Returns {@code true} if the computation has already completed with a {@code ValueResult}
+     * which is not on the given track, so the operator can return this instance unchanged.
+     */
+    private boolean passesThrough(boolean successTrack) {
+        return future.isDone()
+                && !future.isCompletedExceptionally()
+                && future.join().isSuccessful() != successTrack;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <W, F> AsyncValueResult<W, F> passThrough() {
+        // the ValueResult of this instance is not on the track of the operator, so its
+        // value or error, whose type would change, is never accessed
+        return (AsyncValueResult<W, F>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <W, F> CompletableFuture<ValueResult<W, F>> futureOf(AsyncValueResult<? extends W, ? extends F> async) {
+        requireNonNull(async, "function must not return null");
+        return (CompletableFuture<ValueResult<W, F>>) (CompletableFuture<?>) async.future;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <W, F> ValueResult<W, F> cast(ValueResult<?, ?> result) {
+        return (ValueResult<W, F>) result;
+    }
+}
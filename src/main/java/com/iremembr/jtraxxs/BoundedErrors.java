@@ -0,0 +1,183 @@
+package com.iremembr.jtraxxs;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * The errors of a traversal with a {@link FailureBudget} or an {@link ErrorPolicy}: the kept
+ * errors, the number of all failures and how much of the input has been processed.
+ *
+ * <p>{@link ValueResult#sequence(Iterable, FailureBudget)}, {@link VoidResult#sequence(Iterable, FailureBudget)}
+ * and {@link ValueResult#forEach(Iterator, java.util.function.Consumer, ErrorPolicy, TraversalProgress)}
+ * return their errors as a {@code BoundedErrors}:
+ * <pre>{@code
+ *     ValueResult<Collection<Row>, BoundedErrors<String>> result = ValueResult.sequence(rows, budget);
+ *     result.onFailure(errors -> log.warn("{} failures, {} inputs skipped, first errors: {}",
+ *             errors.failureCount(), errors.skippedInputs(), errors.errors()));
+ * }</pre>
+ *
+ * @param <E> the type of the errors
+ */
+public final class BoundedErrors<E> {
+
+    private final ErrorList<E> errors;
+    private final long failureCount;
+    private final long processedInputs;
+    private final long skippedInputs;
+    private final boolean terminatedEarly;
+
+    // skippedInputs is negative if it is unknown
+    BoundedErrors(ErrorList<E> errors, long failureCount, long processedInputs, long skippedInputs, boolean terminatedEarly) {
+        this.errors = errors;
+        this.failureCount = failureCount;
+        this.processedInputs = processedInputs;
+        this.skippedInputs = skippedInputs;
+        this.terminatedEarly = terminatedEarly;
+    }
+
+    /**
+     * Returns the kept errors in the order of the input.
+     *
+     * @return the kept errors, never {@code null}
+     */
+    public ErrorList<E> errors() {
+        return errors;
+    }
+
+    /**
+     * Returns the number of all failed results, including those whose errors were not kept.
+     *
+     * @return the number of failures, always positive
+     */
+    public long failureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the number of failed results whose errors were only counted.
+     *
+     * @return the number of dropped errors
+     */
+    public long droppedErrors() {
+        return failureCount - errors.size();
+    }
+
+    /**
+     * Returns the number of results which have been processed before the traversal ended.
+     *
+     * @return the number of processed results
+     */
+    public long processedInputs() {
+        return processedInputs;
+    }
+
+    /**
+     * Returns the number of results which have not been processed because the traversal was
+     * stopped early.
+     *
+     * @return the number of skipped results, or an empty {@code OptionalLong} if the traversal
+     * was stopped early and the input is no {@link Collection}, so its size is unknown
+     */
+    public OptionalLong skippedInputs() {
+        return skippedInputs < 0 ? OptionalLong.empty() : OptionalLong.of(skippedInputs);
+    }
+
+    /**
+     * Returns {@code true} if the {@link FailureBudget} was exhausted or the {@link ErrorPolicy}
+     * stopped the traversal before the end of the input.
+     *
+     * @return {@code true} if the traversal was stopped early
+     */
+    public boolean isTerminatedEarly() {
+        return terminatedEarly;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof BoundedErrors)) {
+            return false;
+        }
+        BoundedErrors<?> other = (BoundedErrors<?>) obj;
+        return failureCount == other.failureCount
+                && processedInputs == other.processedInputs
+                && skippedInputs == other.skippedInputs
+                && terminatedEarly == other.terminatedEarly
+                && errors.equals(other.errors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(errors, failureCount, processedInputs, skippedInputs, terminatedEarly);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "BoundedErrors{errors=%s, failureCount=%d, processedInputs=%d, skippedInputs=%s, terminatedEarly=%s}",
+                errors, failureCount, processedInputs, skippedInputs < 0 ? "unknown" : skippedInputs, terminatedEarly
+        );
+    }
+
+    /**
+     * Counts the processed results against a {@link FailureBudget} and keeps the first errors.
+     */
+    static final class Counter<E> {
+
+        private final FailureBudget budget;
+        private final ErrorList.Builder<E> errors = ErrorList.builder();
+        private long failureCount;
+        private long processedInputs;
+        private boolean exhausted;
+
+        Counter(FailureBudget budget) {
+            this.budget = budget;
+        }
+
+        void succeed() {
+            processedInputs++;
+            exhausted = budget.isExhausted(failureCount, processedInputs);
+        }
+
+        void fail(E error) {
+            if (failureCount < budget.maxKeptErrors()) {
+                errors.add(error);
+            }
+            failureCount++;
+            processedInputs++;
+            exhausted = budget.isExhausted(failureCount, processedInputs);
+        }
+
+        boolean hasFailed() {
+            return failureCount > 0;
+        }
+
+        /**
+         * Returns {@code true} if the traversal has to stop.
+         */
+        boolean isExhausted() {
+            return exhausted;
+        }
+
+        /**
+         * Returns the counted errors of a traversal over {@code inputs}, which stopped at the
+         * position of {@code remaining}. {@code remaining} is only asked for another input if the
+         * budget is exhausted and {@code inputs} is not a {@link Collection}.
+         */
+        BoundedErrors<E> build(Iterable<?> inputs, Iterator<?> remaining) {
+            long skippedInputs;
+            if (!exhausted) {
+                skippedInputs = 0;
+            } else if (inputs instanceof Collection) {
+                skippedInputs = ((Collection<?>) inputs).size() - processedInputs;
+            } else {
+                skippedInputs = remaining.hasNext() ? -1 : 0;
+            }
+            return new BoundedErrors<>(errors.build(), failureCount, processedInputs, skippedInputs, skippedInputs != 0);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.iremembr.jtraxxs;
+
+/**
+ * An action which may throw a checked exception.
+ *
+ * @see VoidResult#attempt(CheckedRunnable)
+ */
+@FunctionalInterface
+public interface CheckedRunnable {
+
+    /**
+     * Runs the action.
+     *
+     * @throws Exception if the action fails
+     */
+    void run() throws Exception;
+}
@@ -0,0 +1,19 @@
+package com.iremembr.jtraxxs;
+
+/**
+ * A supplier of a value which may throw a checked exception.
+ *
+ * @param <V> the type of the supplied value
+ * @see ValueResult#attempt(CheckedSupplier)
+ */
+@FunctionalInterface
+public interface CheckedSupplier<V> {
+
+    /**
+     * Returns a value.
+     *
+     * @return the value; can be {@code null}
+     * @throws Exception if the value can not be supplied
+     */
+    V get() throws Exception;
+}
@@ -0,0 +1,242 @@
+package com.iremembr.jtraxxs;
+
+import java.util.OptionalDouble;
+import java.util.function.*;
+import java.util.stream.DoubleStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents the result of a successful or failed calculation with a primitive
+ * {@code double} value, thus it holds either a {@code double} value or an error object
+ * of type {@code E}.
+ *
+ * <p>It mirrors the API of {@link ValueResult} without boxing the value, so numeric
+ * railways can be chained without allocating a wrapper object per step.
+ *
+ * @param <E> the type of the error object in case of a failure
+ * @see ValueResult#mapToDouble(ToDoubleFunction)
+ */
+public abstract class DoubleValueResult<E> extends Result<E> {
+
+    /**
+     * Returns a successful {@code DoubleValueResult} with the given value.
+     *
+     * @param value the value
+     * @param <E>   the type of the error object in case of a failure
+     * @return a successful DoubleValueResult, never {@code null}
+     */
+    public static <E> DoubleValueResult<E> ok(double value) {
+        return new SuccessfulDoubleValueResult<>(value);
+    }
+
+    /**
+     * Returns a failed {@code DoubleValueResult} with the given error.
+     *
+     * @param error the error; can be {@code null}
+     * @param <E>   the type of the error object in case of a failure
+     * @return a failed DoubleValueResult; never {@code null}
+     */
+    public static <E> DoubleValueResult<E> fail(E error) {
+        return new FailedDoubleValueResult<>(error);
+    }
+
+    /**
+     * Returns a {@code DoubleValueResult} with the unboxed value of the given
+     * {@code ValueResult} when it is successful, otherwise a failed
+     * {@code DoubleValueResult} with its error.
+     *
+     * @param result a {@code ValueResult}; must not be {@code null}
+     * @param <E>    the type of the error
+     * @return a {@code DoubleValueResult} with the same state as the given {@code ValueResult}
+     * @throws NullPointerException if the given {@code result} is {@code null} or it is
+     *                              successful and its value is {@code null}
+     */
+    public static <E> DoubleValueResult<E> unbox(ValueResult<Double, ? extends E> result) {
+        requireNonNull(result, "result must not be null");
+        return result.isSuccessful() ? ok(result.value()) : fail(result.error());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E, F extends E> DoubleValueResult<E> upCast(DoubleValueResult<F> result) {
+        return (DoubleValueResult<E>) result;
+    }
+
+    public abstract <F> DoubleValueResult<F> castError(Class<F> clazz);
+
+    /**
+     * Returns the DoubleValueResult's value.
+     *
+     * @return the value.
+     * @throws IllegalStateException if the DoubleValueResult has failed.
+     */
+    public abstract double value();
+
+    public abstract DoubleStream stream();
+
+    /**
+     * Returns the DoubleValueResult itself when flag is true otherwise the given error.
+     *
+     * @param flag  A boolean value.
+     * @param error An error.
+     * @return A DoubleValueResult.
+     */
+    public abstract DoubleValueResult<E> ensure(boolean flag, E error);
+
+    /**
+     * Returns the DoubleValueResult itself when the supplier evaluates to true otherwise the given error.
+     * The supplier returns a primitive {@code boolean}, so no {@code Boolean} is boxed for the check.
+     *
+     * @param supplier A supplier which returns a boolean.
+     * @param error    An error.
+     * @return A DoubleValueResult.
+     * @throws NullPointerException if the DoubleValueResult is successful and supplier is {@code null}.
+     */
+    public abstract DoubleValueResult<E> ensure(BooleanSupplier supplier, E error);
+
+    /**
+     * When the DoubleValueResult is successful it checks the value with the given predicate. When the
+     * predicate evaluates to true, it returns the DoubleValueResult itself. In all other cases a
+     * failed DoubleValueResult will be returned.
+     *
+     * @param predicate The predicate for testing the value.
+     * @param error     The Error to return when the predicate evaluates to false.
+     * @return The successful DoubleValueResult with the value or a failed DoubleValueResult.
+     * @throws NullPointerException if the DoubleValueResult is successful and predicate is {@code null}.
+     */
+    public abstract DoubleValueResult<E> ensure(DoublePredicate predicate, E error);
+
+    /**
+     * Returns a failed DoubleValueResult when either the DoubleValueResult itself or the argument are failed,
+     * otherwise return itself.
+     *
+     * @param result The other Result.
+     * @return A DoubleValueResult.
+     * @throws NullPointerException if the DoubleValueResult is successful and result is {@code null}.
+     */
+    public abstract DoubleValueResult<E> ensure(Result<? extends E> result);
+
+    /**
+     * Returns a failed DoubleValueResult when either the DoubleValueResult itself or the result of the
+     * function are failed, otherwise return itself.
+     *
+     * @param function The function
+     * @return A DoubleValueResult.
+     * @throws NullPointerException if the DoubleValueResult is successful and function is {@code null}.
+     */
+    public abstract DoubleValueResult<E> ensure(DoubleFunction<? extends Result<? extends E>> function);
+
+    /**
+     * Maps the DoubleValueResult to a DoubleValueResult with another value, if the DoubleValueResult is successful.
+     *
+     * @param mapper A function that returns the new value.
+     * @return The DoubleValueResult of the function's value or a failed DoubleValueResult.
+     * @throws NullPointerException if the DoubleValueResult is successful and mapper is {@code null}.
+     */
+    public abstract DoubleValueResult<E> map(DoubleUnaryOperator mapper);
+
+    /**
+     * Maps the DoubleValueResult to a {@code ValueResult} with an object value, if the DoubleValueResult
+     * is successful.
+     *
+     * @param mapper A function that returns the new value.
+     * @param <W>    The type of result value of the mapper function.
+     * @return The ValueResult of the function's value or a failed ValueResult.
+     * @throws NullPointerException if the DoubleValueResult is successful and mapper is {@code null}.
+     */
+    public abstract <W> ValueResult<W, E> mapToObj(DoubleFunction<? extends W> mapper);
+
+    /**
+     * Maps the DoubleValueResult to a {@code IntValueResult} with another value, if the DoubleValueResult is successful.
+     *
+     * @param mapper A function that returns the new int value.
+     * @return The IntValueResult of the function's value or a failed IntValueResult.
+     * @throws NullPointerException if the DoubleValueResult is successful and mapper is {@code null}.
+     */
+    public abstract IntValueResult<E> mapToInt(DoubleToIntFunction mapper);
+
+    /**
+     * Maps the DoubleValueResult to a {@code LongValueResult} with another value, if the DoubleValueResult is successful.
+     *
+     * @param mapper A function that returns the new long value.
+     * @return The LongValueResult of the function's value or a failed LongValueResult.
+     * @throws NullPointerException if the DoubleValueResult is successful and mapper is {@code null}.
+     */
+    public abstract LongValueResult<E> mapToLong(DoubleToLongFunction mapper);
+
+    /**
+     * Returns the result of the given function when the DoubleValueResult is successful. The value of
+     * the DoubleValueResult is given to the function.
+     *
+     * @param function A function which takes the value and returns a DoubleValueResult.
+     * @return A DoubleValueResult, but never {@code null}.
+     * @throws NullPointerException if the DoubleValueResult is successful and function is {@code null}.
+     */
+    public abstract DoubleValueResult<E> flatMap(DoubleFunction<? extends DoubleValueResult<? extends E>> function);
+
+    /**
+     * Applies the value of the current DoubleValueResult and the value of the given DoubleValueResult
+     * to the given operator, if both are successful.
+     *
+     * @param operator An operator with two parameters.
+     * @param other    The other DoubleValueResult.
+     * @return A DoubleValueResult.
+     * @throws NullPointerException if the DoubleValueResult is successful and other or operator is {@code null}.
+     */
+    public abstract DoubleValueResult<E> combine(DoubleBinaryOperator operator, DoubleValueResult<? extends E> other);
+
+    /**
+     * Maps the DoubleValueResult to a DoubleValueResult with another error, if the DoubleValueResult is failed.
+     *
+     * @param mapper A function that returns the new error.
+     * @param <F>    The type of result value of the mapper function.
+     * @return A failed DoubleValueResult with the error returned by the function or a successful DoubleValueResult.
+     * @throws NullPointerException if the DoubleValueResult is failed and mapper is {@code null}.
+     */
+    public abstract <F> DoubleValueResult<F> mapError(Function<? super E, ? extends F> mapper);
+
+    public abstract DoubleValueResult<E> onSuccess(Runnable runnable);
+
+    public abstract DoubleValueResult<E> onSuccess(DoubleConsumer consumer);
+
+    public abstract DoubleValueResult<E> onFailure(Runnable runnable);
+
+    public abstract DoubleValueResult<E> onFailure(Consumer<? super E> consumer);
+
+    public abstract DoubleValueResult<E> onBoth(DoubleConsumer success, Consumer<? super E> failure);
+
+    /**
+     * Returns the DoubleValueResult's value if successful, otherwise returns {@code other}.
+     *
+     * @param other the value to be returned if the DoubleValueResult is failed
+     * @return the value, if the DoubleValueResult is successful, otherwise {@code other}
+     */
+    public abstract double orElse(double other);
+
+    /**
+     * Returns the DoubleValueResult's value if successful, otherwise invokes {@code function}
+     * with the error and returns the result of that invocation.
+     *
+     * @param function a function whose result is returned if the DoubleValueResult is failed
+     * @return the value if successful otherwise the result of {@code function}
+     * @throws NullPointerException if the DoubleValueResult is failed and {@code function} is null
+     */
+    public abstract double orElseGet(ToDoubleFunction<? super E> function);
+
+    public abstract <X extends Throwable> double orElseThrow(Supplier<? extends X> exceptionSupplier) throws X;
+
+    public abstract <T> T fold(DoubleFunction<? extends T> success, Function<? super E, ? extends T> failure);
+
+    public abstract OptionalDouble toOptional();
+
+    public abstract VoidResult<E> toVoidResult();
+
+    /**
+     * Returns a {@code ValueResult} with the boxed value if successful,
+     * otherwise a failed {@code ValueResult} with the same error.
+     *
+     * @return a {@code ValueResult} with the same state as this DoubleValueResult
+     */
+    public abstract ValueResult<Double, E> boxed();
+
+}
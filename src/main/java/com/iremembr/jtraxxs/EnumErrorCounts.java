@@ -0,0 +1,179 @@
+package com.iremembr.jtraxxs;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable count of enum errors, with one counter per constant of the enum type.
+ *
+ * <p>{@link ValueResult#sequenceEnumErrors(Iterable)}, {@link VoidResult#sequenceEnumErrors(Iterable)}
+ * and the enum collectors of {@link ResultCollectors} return their errors as an
+ * {@code EnumErrorCounts} instead of a list. Its size depends only on the number of constants of
+ * the enum type, not on the number of failed results:
+ * <pre>{@code
+ *     // = failed ValueResult with NOT_FOUND=2 and CONFLICT=1
+ *     ValueResult.sequenceEnumErrors(Arrays.asList(fail(NOT_FOUND), ok(2), fail(CONFLICT), fail(NOT_FOUND)))
+ * }</pre>
+ *
+ * <p>Two {@code EnumErrorCounts} are equal when they have the same enum type and the same count
+ * for every constant.
+ *
+ * @param <E> the enum type of the errors
+ */
+public final class EnumErrorCounts<E extends Enum<E>> {
+
+    private final Class<E> type;
+    private final long[] counts;
+    private final long total;
+
+    private EnumErrorCounts(Class<E> type, long[] counts, long total) {
+        this.type = type;
+        this.counts = counts;
+        this.total = total;
+    }
+
+    /**
+     * Returns the enum type of the errors.
+     *
+     * @return the enum type, never {@code null}
+     */
+    public Class<E> errorType() {
+        return type;
+    }
+
+    /**
+     * Returns how often the given error occurred.
+     *
+     * @param error the error
+     * @return the number of occurrences, {@code 0} if the error did not occur
+     * @throws NullPointerException if {@code error} is {@code null}
+     */
+    public long count(E error) {
+        requireNonNull(error, "error must not be null");
+        return counts[error.ordinal()];
+    }
+
+    /**
+     * Returns {@code true} if the given error occurred at least once.
+     *
+     * @param error the error
+     * @return {@code true} if the error occurred
+     * @throws NullPointerException if {@code error} is {@code null}
+     */
+    public boolean contains(E error) {
+        return count(error) > 0;
+    }
+
+    /**
+     * Returns the number of all occurrences of all errors.
+     *
+     * @return the total number of errors, always positive
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Returns the distinct errors.
+     *
+     * @return a new EnumSet with every error which occurred at least once
+     */
+    public EnumSet<E> errors() {
+        EnumSet<E> errors = EnumSet.noneOf(type);
+        E[] constants = type.getEnumConstants();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                errors.add(constants[i]);
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Returns the distinct errors with the number of their occurrences.
+     *
+     * @return an unmodifiable map in the order of the enum constants
+     */
+    public Map<E, Long> toMap() {
+        Map<E, Long> map = new EnumMap<>(type);
+        E[] constants = type.getEnumConstants();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                map.put(constants[i], counts[i]);
+            }
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof EnumErrorCounts)) {
+            return false;
+        }
+        EnumErrorCounts<?> other = (EnumErrorCounts<?>) obj;
+        return type == other.type && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * type.hashCode() + Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return "EnumErrorCounts" + toMap();
+    }
+
+    /**
+     * Counts enum errors; the enum type and the counters are created with the first error.
+     */
+    static final class Counter<E extends Enum<E>> {
+
+        private Class<E> type;
+        private long[] counts;
+        private long total;
+
+        void add(E error) {
+            requireNonNull(error, "error must not be null");
+            if (counts == null) {
+                type = error.getDeclaringClass();
+                counts = new long[type.getEnumConstants().length];
+            }
+            counts[error.ordinal()]++;
+            total++;
+        }
+
+        boolean isEmpty() {
+            return total == 0;
+        }
+
+        Counter<E> merge(Counter<E> right) {
+            if (right.counts == null) {
+                return this;
+            }
+            if (counts == null) {
+                return right;
+            }
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += right.counts[i];
+            }
+            total += right.total;
+            return this;
+        }
+
+        /**
+         * Returns the counted errors; must not be called before the first error was added.
+         */
+        EnumErrorCounts<E> build() {
+            return new EnumErrorCounts<>(type, counts.clone(), total);
+        }
+    }
+}
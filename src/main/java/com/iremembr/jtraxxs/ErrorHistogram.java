@@ -0,0 +1,257 @@
+package com.iremembr.jtraxxs;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable histogram of errors, which keeps every distinct error once together with the
+ * number of its occurrences and the indexes of its first occurrences.
+ *
+ * <p>{@link ValueResult#sequenceHistogram(Iterable, int)}, {@link VoidResult#sequenceHistogram(Iterable, int)}
+ * and the histogram collectors of {@link ResultCollectors} return their errors as an
+ * {@code ErrorHistogram} instead of a list. Its size depends on the number of distinct errors and
+ * on the number of indexes kept per error, not on the number of failed results:
+ * <pre>{@code
+ *     // = failed ValueResult with "err1" at 0 and 3, "err2" at 2
+ *     ValueResult.sequenceHistogram(Arrays.asList(fail("err1"), ok(2), fail("err2"), fail("err1")), 10)
+ * }</pre>
+ *
+ * <p>The errors are compared with {@link Object#equals(Object)} and are kept in the order of their
+ * first occurrence. Two {@code ErrorHistogram}s are equal when they contain equal entries in the
+ * same order.
+ *
+ * @param <E> the type of the errors
+ */
+public final class ErrorHistogram<E> {
+
+    private final Map<E, Entry<E>> entries;
+    private final long total;
+
+    private ErrorHistogram(Map<E, Entry<E>> entries, long total) {
+        this.entries = entries;
+        this.total = total;
+    }
+
+    /**
+     * Returns the distinct errors in the order of their first occurrence.
+     *
+     * @return an unmodifiable set of the distinct errors
+     */
+    public Set<E> errors() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Returns an {@link Entry} for every distinct error in the order of their first occurrence.
+     *
+     * @return an unmodifiable collection of the entries
+     */
+    public Collection<Entry<E>> entries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Returns how often the given error occurred.
+     *
+     * @param error the error; can be {@code null}
+     * @return the number of occurrences, {@code 0} if the error did not occur
+     */
+    public long count(E error) {
+        Entry<E> entry = entries.get(error);
+        return entry == null ? 0 : entry.count;
+    }
+
+    /**
+     * Returns the number of distinct errors.
+     *
+     * @return the number of distinct errors, always positive
+     */
+    public int distinct() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of all occurrences of all errors.
+     *
+     * @return the total number of errors, always positive
+     */
+    public long total() {
+        return total;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ErrorHistogram)) {
+            return false;
+        }
+        ErrorHistogram<?> other = (ErrorHistogram<?>) obj;
+        return total == other.total && Arrays.equals(entries.values().toArray(), other.entries.values().toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(entries.values().toArray());
+    }
+
+    @Override
+    public String toString() {
+        return "ErrorHistogram" + entries.values();
+    }
+
+    /**
+     * A distinct error of an {@link ErrorHistogram} with the number of its occurrences and the
+     * indexes of its first occurrences.
+     *
+     * @param <E> the type of the error
+     */
+    public static final class Entry<E> {
+
+        private static final long[] NO_INDEXES = new long[0];
+
+        private final E error;
+        private long count;
+        private long[] indexes = NO_INDEXES;
+        private int indexCount;
+
+        private Entry(E error) {
+            this.error = error;
+        }
+
+        /**
+         * Returns the error.
+         *
+         * @return the error; can be {@code null}
+         */
+        public E error() {
+            return error;
+        }
+
+        /**
+         * Returns how often the error occurred.
+         *
+         * @return the number of occurrences, always positive
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Returns the indexes of the first occurrences of the error in ascending order. At most
+         * as many indexes are kept as the histogram was created with.
+         *
+         * @return a new array with the indexes
+         */
+        public long[] firstIndexes() {
+            return Arrays.copyOf(indexes, indexCount);
+        }
+
+        private void add(long index, int maxIndexes) {
+            count++;
+            if (indexCount < maxIndexes) {
+                if (indexCount == indexes.length) {
+                    indexes = Arrays.copyOf(indexes, Math.min(maxIndexes, Math.max(4, indexCount * 2)));
+                }
+                indexes[indexCount++] = index;
+            }
+        }
+
+        private void addAll(Entry<E> right, long offset, int maxIndexes) {
+            long rightCount = right.count;
+            for (int i = 0; i < right.indexCount && indexCount < maxIndexes; i++) {
+                add(right.indexes[i] + offset, maxIndexes);
+                rightCount--;
+            }
+            count += rightCount;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Entry<?> other = (Entry<?>) obj;
+            return count == other.count
+                    && Objects.equals(error, other.error)
+                    && Arrays.equals(firstIndexes(), other.firstIndexes());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(error, count);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s=%d at %s", error, count, Arrays.toString(firstIndexes()));
+        }
+    }
+
+    /**
+     * Counts errors by their index; the entries are created with the first occurrence of each
+     * distinct error.
+     */
+    static final class Counter<E> {
+
+        private final int maxIndexes;
+        private final Map<E, Entry<E>> entries = new LinkedHashMap<>();
+        private long total;
+
+        Counter(int maxIndexes) {
+            this.maxIndexes = maxIndexes;
+        }
+
+        static void checkMaxIndexes(int maxIndexes) {
+            if (maxIndexes < 0) {
+                throw new IllegalArgumentException(String.format("maxIndexes must not be negative, but was %d", maxIndexes));
+            }
+        }
+
+        void add(E error, long index) {
+            Entry<E> entry = entries.get(error);
+            if (entry == null) {
+                entry = new Entry<>(error);
+                entries.put(error, entry);
+            }
+            entry.add(index, maxIndexes);
+            total++;
+        }
+
+        boolean isEmpty() {
+            return total == 0;
+        }
+
+        /**
+         * Adds the errors of {@code right}, whose indexes start at {@code offset} in this Counter.
+         */
+        Counter<E> merge(Counter<E> right, long offset) {
+            for (Entry<E> rightEntry : right.entries.values()) {
+                Entry<E> entry = entries.get(rightEntry.error);
+                if (entry == null) {
+                    entry = new Entry<>(rightEntry.error);
+                    entries.put(rightEntry.error, entry);
+                }
+                entry.addAll(rightEntry, offset, maxIndexes);
+            }
+            total += right.total;
+            return this;
+        }
+
+        /**
+         * Returns the counted errors; the Counter must not be used afterwards.
+         */
+        ErrorHistogram<E> build() {
+            return new ErrorHistogram<>(entries, total);
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.iremembr.jtraxxs;
+
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, ordered collection of errors which can be extended and concatenated
+ * without copying the errors it already contains.
+ *
+ * <p>An {@code ErrorList} is either a chunk of errors or the concatenation of two other
+ * {@code ErrorList}s. {@link #append(Object)} and {@link #concat(ErrorList)} therefore take
+ * constant time and share the existing {@code ErrorList}s instead of copying them, which makes
+ * it cheap to merge the errors of many sub-batches:
+ * <pre>{@code
+ *     ErrorList<String> errors = ErrorList.<String>empty()
+ *             .concat(firstBatchErrors)
+ *             .concat(secondBatchErrors)
+ *             .append("too many retries");
+ * }</pre>
+ *
+ * <p>{@link ValueResult#sequence(Iterable)} and {@link VoidResult#sequence(Iterable)} return
+ * their errors as an {@code ErrorList}. Two {@code ErrorList}s are equal when they contain
+ * equal errors in the same order.
+ *
+ * @param <E> the type of the errors
+ */
+public final class ErrorList<E> extends AbstractCollection<E> {
+
+    private static final Object[] NO_ERRORS = new Object[0];
+    private static final ErrorList<?> EMPTY = new ErrorList<>(NO_ERRORS, 0);
+
+    private final int size;
+    // a chunk holds its errors in elements[0, size), a concatenation holds left and right
+    private final Object[] elements;
+    private final ErrorList<E> left;
+    private final ErrorList<E> right;
+
+    private ErrorList(Object[] elements, int size) {
+        this.size = size;
+        this.elements = elements;
+        this.left = null;
+        this.right = null;
+    }
+
+    private ErrorList(ErrorList<E> left, ErrorList<E> right) {
+        this.size = left.size + right.size;
+        this.elements = null;
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * Returns an empty {@code ErrorList}.
+     *
+     * @param <E> the type of the errors
+     * @return an empty ErrorList, never {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> ErrorList<E> empty() {
+        return (ErrorList<E>) EMPTY;
+    }
+
+    /**
+     * Returns an {@code ErrorList} with the given error.
+     *
+     * @param error the error; can be {@code null}
+     * @param <E>   the type of the errors
+     * @return an ErrorList with one error, never {@code null}
+     */
+    public static <E> ErrorList<E> of(E error) {
+        return new ErrorList<>(new Object[]{error}, 1);
+    }
+
+    /**
+     * Returns an {@code ErrorList} with the two given errors.
+     *
+     * @param first  the first error; can be {@code null}
+     * @param second the second error; can be {@code null}
+     * @param <E>    the type of the errors
+     * @return an ErrorList with two errors, never {@code null}
+     */
+    public static <E> ErrorList<E> of(E first, E second) {
+        return new ErrorList<>(new Object[]{first, second}, 2);
+    }
+
+    /**
+     * Returns an {@code ErrorList} with the three given errors.
+     *
+     * @param first  the first error; can be {@code null}
+     * @param second the second error; can be {@code null}
+     * @param third  the third error; can be {@code null}
+     * @param <E>    the type of the errors
+     * @return an ErrorList with three errors, never {@code null}
+     */
+    public static <E> ErrorList<E> of(E first, E second, E third) {
+        return new ErrorList<>(new Object[]{first, second, third}, 3);
+    }
+
+    /**
+     * Returns an {@code ErrorList} with the errors of the given collection in its iteration order.
+     *
+     * <p>If {@code errors} is an {@code ErrorList} it is returned as is, otherwise its errors
+     * are copied once.
+     *
+     * @param errors the errors
+     * @param <E>    the type of the errors
+     * @return an ErrorList, never {@code null}
+     * @throws NullPointerException if {@code errors} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> ErrorList<E> copyOf(Collection<? extends E> errors) {
+        requireNonNull(errors, "errors must not be null");
+        if (errors instanceof ErrorList) {
+            return (ErrorList<E>) errors;
+        }
+        Object[] elements = errors.toArray();
+        return elements.length == 0 ? empty() : new ErrorList<>(elements, elements.length);
+    }
+
+    /**
+     * Returns a new {@link Builder} for an {@code ErrorList}.
+     *
+     * @param <E> the type of the errors
+     * @return a new Builder, never {@code null}
+     */
+    public static <E> Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns an {@code ErrorList} with the errors of this {@code ErrorList} followed by the
+     * given error. This {@code ErrorList} is not changed.
+     *
+     * @param error the error; can be {@code null}
+     * @return a new ErrorList, never {@code null}
+     */
+    public ErrorList<E> append(E error) {
+        return concat(of(error));
+    }
+
+    /**
+     * Returns an {@code ErrorList} with the errors of this {@code ErrorList} followed by the
+     * errors of the given {@code ErrorList}. Neither {@code ErrorList} is changed or copied.
+     *
+     * @param other the ErrorList to append
+     * @return a new ErrorList, or one of the two ErrorLists if the other one is empty;
+     * never {@code null}
+     * @throws NullPointerException if {@code other} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public ErrorList<E> concat(ErrorList<? extends E> other) {
+        requireNonNull(other, "other must not be null");
+        if (other.size == 0) {
+            return this;
+        }
+        if (size == 0) {
+            return (ErrorList<E>) other;
+        }
+        return new ErrorList<>(this, (ErrorList<E>) other);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ErrorIterator<>(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ErrorList)) {
+            return false;
+        }
+        ErrorList<?> other = (ErrorList<?>) obj;
+        if (size != other.size) {
+            return false;
+        }
+        Iterator<?> otherErrors = other.iterator();
+        for (E error : this) {
+            if (!Objects.equals(error, otherErrors.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (E error : this) {
+            hashCode = 31 * hashCode + Objects.hashCode(error);
+        }
+        return hashCode;
+    }
+
+    /**
+     * Iterates the chunks of an {@code ErrorList} from left to right with an explicit stack,
+     * so a deep chain of concatenations can not overflow the call stack.
+     */
+    private static final class ErrorIterator<E> implements Iterator<E> {
+
+        private final Deque<ErrorList<E>> pending = new ArrayDeque<>();
+        private Object[] chunk = NO_ERRORS;
+        private int chunkSize;
+        private int index;
+
+        ErrorIterator(ErrorList<E> root) {
+            if (root.size > 0) {
+                pending.push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (index == chunkSize) {
+                if (pending.isEmpty()) {
+                    return false;
+                }
+                ErrorList<E> next = pending.pop();
+                while (next.elements == null) {
+                    pending.push(next.right);
+                    next = next.left;
+                }
+                chunk = next.elements;
+                chunkSize = next.size;
+                index = 0;
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return (E) chunk[index++];
+        }
+    }
+
+    /**
+     * Collects errors into chunks and builds an {@code ErrorList} from them without copying.
+     *
+     * <p>The chunks grow with the number of errors, and {@link #build()} joins them into a
+     * balanced {@code ErrorList}. A {@code Builder} can be reused after {@code build()}; the
+     * {@code ErrorList}s it has built are not affected.
+     *
+     * @param <E> the type of the errors
+     */
+    public static final class Builder<E> {
+
+        private static final int FIRST_CHUNK = 8;
+        private static final int MAX_CHUNK = 1024;
+
+        private ErrorList<E>[] chunks;
+        private int chunkCount;
+        private Object[] chunk = NO_ERRORS;
+        private int chunkSize;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds the given error.
+         *
+         * @param error the error; can be {@code null}
+         * @return this Builder
+         */
+        public Builder<E> add(E error) {
+            if (chunkSize == chunk.length) {
+                flush();
+                chunk = new Object[chunk.length == 0 ? FIRST_CHUNK : Math.min(MAX_CHUNK, chunk.length * 2)];
+            }
+            chunk[chunkSize++] = error;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if no error has been added since the Builder was created or
+         * {@link #build()} was called.
+         *
+         * @return {@code true} if no error has been added
+         */
+        public boolean isEmpty() {
+            return chunkCount == 0 && chunkSize == 0;
+        }
+
+        /**
+         * Returns an {@code ErrorList} with all added errors in the order they were added and
+         * resets the Builder.
+         *
+         * @return an ErrorList, never {@code null}
+         */
+        public ErrorList<E> build() {
+            flush();
+            ErrorList<E> errors = chunkCount == 0 ? empty() : join(0, chunkCount);
+            chunks = null;
+            chunkCount = 0;
+            // the built ErrorList owns the current chunk, the next error starts a new one
+            chunk = NO_ERRORS;
+            return errors;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void flush() {
+            if (chunkSize == 0) {
+                return;
+            }
+            if (chunks == null) {
+                chunks = (ErrorList<E>[]) new ErrorList<?>[8];
+            } else if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            }
+            chunks[chunkCount++] = new ErrorList<>(chunk, chunkSize);
+            chunkSize = 0;
+        }
+
+        private ErrorList<E> join(int from, int to) {
+            if (to - from == 1) {
+                return chunks[from];
+            }
+            int middle = (from + to) >>> 1;
+            return new ErrorList<>(join(from, middle), join(middle, to));
+        }
+    }
+}
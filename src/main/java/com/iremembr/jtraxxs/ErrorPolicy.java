@@ -0,0 +1,115 @@
+package com.iremembr.jtraxxs;
+
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Decides what {@link ValueResult#forEach(java.util.Iterator, Consumer, ErrorPolicy, TraversalProgress)}
+ * does with the error of a failed {@code ValueResult}.
+ *
+ * <p>For every error the policy returns an {@link Action}: the error is either kept in the
+ * returned {@link BoundedErrors} or only counted, and the traversal either continues or stops.
+ * A policy which keeps a bounded number of errors keeps the memory of the traversal constant:
+ * <pre>{@code
+ *     // write every error to a dead letter queue, keep none of them and go on
+ *     ErrorPolicy<String> policy = ErrorPolicy.handling(deadLetters::offer);
+ *
+ *     // keep the first 100 errors and stop after 10,000 failures
+ *     ErrorPolicy<String> policy = ErrorPolicy.within(FailureBudget.keepingFirst(100).stopAfterFailures(10_000));
+ * }</pre>
+ *
+ * @param <E> the type of the errors
+ */
+@FunctionalInterface
+public interface ErrorPolicy<E> {
+
+    /**
+     * What happens to an error and to the traversal.
+     */
+    enum Action {
+        /**
+         * Keep the error and continue.
+         */
+        KEEP,
+        /**
+         * Only count the error and continue.
+         */
+        DROP,
+        /**
+         * Keep the error and stop the traversal.
+         */
+        KEEP_AND_STOP,
+        /**
+         * Only count the error and stop the traversal.
+         */
+        DROP_AND_STOP;
+
+        boolean keeps() {
+            return this == KEEP || this == KEEP_AND_STOP;
+        }
+
+        boolean stops() {
+            return this == KEEP_AND_STOP || this == DROP_AND_STOP;
+        }
+    }
+
+    /**
+     * Decides what happens to the given error.
+     *
+     * @param error    the error of the failed {@code ValueResult}
+     * @param progress the progress of the traversal, which already counts the failed {@code ValueResult}
+     * @return the action, must not be {@code null}
+     */
+    Action onError(E error, TraversalProgress progress);
+
+    /**
+     * Returns an {@code ErrorPolicy} which stops at the first error.
+     *
+     * @param <E> the type of the errors
+     * @return an ErrorPolicy, never {@code null}
+     */
+    static <E> ErrorPolicy<E> failFast() {
+        return (error, progress) -> Action.KEEP_AND_STOP;
+    }
+
+    /**
+     * Returns an {@code ErrorPolicy} which passes every error to {@code handler} and only counts it.
+     *
+     * @param handler the handler of the errors
+     * @param <E>     the type of the errors
+     * @return an ErrorPolicy, never {@code null}
+     * @throws NullPointerException if {@code handler} is {@code null}
+     */
+    static <E> ErrorPolicy<E> handling(Consumer<? super E> handler) {
+        requireNonNull(handler, "handler must not be null");
+        return (error, progress) -> {
+            handler.accept(error);
+            return Action.DROP;
+        };
+    }
+
+    /**
+     * Returns an {@code ErrorPolicy} which keeps and stops like
+     * {@link ValueResult#sequence(Iterable, FailureBudget)} with the given {@link FailureBudget}.
+     *
+     * <p>The budget is checked on every error, so a failure rate which is exceeded only once
+     * {@code minInputs} results have been processed stops the traversal at the next error.
+     *
+     * @param budget the FailureBudget
+     * @param <E>    the type of the errors
+     * @return an ErrorPolicy, never {@code null}
+     * @throws NullPointerException if {@code budget} is {@code null}
+     */
+    static <E> ErrorPolicy<E> within(FailureBudget budget) {
+        requireNonNull(budget, "budget must not be null");
+        return (error, progress) -> {
+            long failed = progress.failed();
+            boolean keep = failed <= budget.maxKeptErrors();
+            if (budget.isExhausted(failed, progress.processed())) {
+                return keep ? Action.KEEP_AND_STOP : Action.DROP_AND_STOP;
+            }
+            return keep ? Action.KEEP : Action.DROP;
+        };
+    }
+}
@@ -0,0 +1,208 @@
+package com.iremembr.jtraxxs;
+
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.*;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+final class FailedDoubleValueResult<E> extends DoubleValueResult<E> {
+
+    private final E error;
+
+    FailedDoubleValueResult(E error) {
+        this.error = error;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FailedDoubleValueResult)) {
+            return false;
+        }
+        FailedDoubleValueResult<?> other = (FailedDoubleValueResult<?>) obj;
+        return Objects.equals(error, other.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(error);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FailedDoubleValueResult{error=%s}", error);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> DoubleValueResult<F> castError(Class<F> clazz) {
+        if (!clazz.isAssignableFrom(error.getClass())) {
+            throw new IllegalArgumentException(String.format(
+                    "Can not cast the error to the given type. The given type is not a superclass of the"
+                            + " type of the error. error type ='%s', given type = '%s', error = '%s'",
+                    error.getClass(), clazz, error
+            ));
+        }
+        return (DoubleValueResult<F>) this;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return false;
+    }
+
+    @Override
+    public double value() {
+        throw new IllegalStateException("Failed DoubleValueResult has no value");
+    }
+
+    @Override
+    public E error() {
+        return error;
+    }
+
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.empty();
+    }
+
+    @Override
+    public Stream<E> errorStream() {
+        return Stream.of(error);
+    }
+
+    @Override
+    public DoubleValueResult<E> onSuccess(Runnable runnable) {
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> onSuccess(DoubleConsumer consumer) {
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> onFailure(Runnable runnable) {
+        requireNonNull(runnable, "runnable must not be null");
+        runnable.run();
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> onFailure(Consumer<? super E> consumer) {
+        requireNonNull(consumer, "consumer must not be null");
+        consumer.accept(error);
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> onBoth(DoubleConsumer success, Consumer<? super E> failure) {
+        requireNonNull(failure, "failure must not be null");
+        failure.accept(error);
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> ensure(boolean flag, E error) {
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> ensure(BooleanSupplier supplier, E error) {
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> ensure(DoublePredicate predicate, E error) {
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> ensure(Result<? extends E> result) {
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> ensure(DoubleFunction<? extends Result<? extends E>> function) {
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> map(DoubleUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <W> ValueResult<W, E> mapToObj(DoubleFunction<? extends W> mapper) {
+        return ValueResult.fail(error);
+    }
+
+    @Override
+    public IntValueResult<E> mapToInt(DoubleToIntFunction mapper) {
+        return IntValueResult.fail(error);
+    }
+
+    @Override
+    public LongValueResult<E> mapToLong(DoubleToLongFunction mapper) {
+        return LongValueResult.fail(error);
+    }
+
+    @Override
+    public DoubleValueResult<E> flatMap(DoubleFunction<? extends DoubleValueResult<? extends E>> function) {
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> combine(DoubleBinaryOperator operator, DoubleValueResult<? extends E> other) {
+        return this;
+    }
+
+    @Override
+    public <F> DoubleValueResult<F> mapError(Function<? super E, ? extends F> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return fail(mapper.apply(error));
+    }
+
+    @Override
+    public double orElse(double other) {
+        return other;
+    }
+
+    @Override
+    public double orElseGet(ToDoubleFunction<? super E> function) {
+        requireNonNull(function, "function must not be null");
+        return function.applyAsDouble(error);
+    }
+
+    @Override
+    public <X extends Throwable> double orElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        requireNonNull(exceptionSupplier, "exceptionSupplier must not be null");
+        throw exceptionSupplier.get();
+    }
+
+    @Override
+    public <T> T fold(DoubleFunction<? extends T> success, Function<? super E, ? extends T> failure) {
+        requireNonNull(failure, "failure must not be null");
+        return failure.apply(error);
+    }
+
+    @Override
+    public OptionalDouble toOptional() {
+        return OptionalDouble.empty();
+    }
+
+    @Override
+    public VoidResult<E> toVoidResult() {
+        return VoidResult.fail(error);
+    }
+
+    @Override
+    public ValueResult<Double, E> boxed() {
+        return ValueResult.fail(error);
+    }
+}
@@ -0,0 +1,208 @@
+package com.iremembr.jtraxxs;
+
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+final class FailedIntValueResult<E> extends IntValueResult<E> {
+
+    private final E error;
+
+    FailedIntValueResult(E error) {
+        this.error = error;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FailedIntValueResult)) {
+            return false;
+        }
+        FailedIntValueResult<?> other = (FailedIntValueResult<?>) obj;
+        return Objects.equals(error, other.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(error);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FailedIntValueResult{error=%s}", error);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> IntValueResult<F> castError(Class<F> clazz) {
+        if (!clazz.isAssignableFrom(error.getClass())) {
+            throw new IllegalArgumentException(String.format(
+                    "Can not cast the error to the given type. The given type is not a superclass of the"
+                            + " type of the error. error type ='%s', given type = '%s', error = '%s'",
+                    error.getClass(), clazz, error
+            ));
+        }
+        return (IntValueResult<F>) this;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return false;
+    }
+
+    @Override
+    public int value() {
+        throw new IllegalStateException("Failed IntValueResult has no value");
+    }
+
+    @Override
+    public E error() {
+        return error;
+    }
+
+    @Override
+    public IntStream stream() {
+        return IntStream.empty();
+    }
+
+    @Override
+    public Stream<E> errorStream() {
+        return Stream.of(error);
+    }
+
+    @Override
+    public IntValueResult<E> onSuccess(Runnable runnable) {
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> onSuccess(IntConsumer consumer) {
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> onFailure(Runnable runnable) {
+        requireNonNull(runnable, "runnable must not be null");
+        runnable.run();
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> onFailure(Consumer<? super E> consumer) {
+        requireNonNull(consumer, "consumer must not be null");
+        consumer.accept(error);
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> onBoth(IntConsumer success, Consumer<? super E> failure) {
+        requireNonNull(failure, "failure must not be null");
+        failure.accept(error);
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> ensure(boolean flag, E error) {
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> ensure(BooleanSupplier supplier, E error) {
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> ensure(IntPredicate predicate, E error) {
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> ensure(Result<? extends E> result) {
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> ensure(IntFunction<? extends Result<? extends E>> function) {
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> map(IntUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <W> ValueResult<W, E> mapToObj(IntFunction<? extends W> mapper) {
+        return ValueResult.fail(error);
+    }
+
+    @Override
+    public LongValueResult<E> mapToLong(IntToLongFunction mapper) {
+        return LongValueResult.fail(error);
+    }
+
+    @Override
+    public DoubleValueResult<E> mapToDouble(IntToDoubleFunction mapper) {
+        return DoubleValueResult.fail(error);
+    }
+
+    @Override
+    public IntValueResult<E> flatMap(IntFunction<? extends IntValueResult<? extends E>> function) {
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> combine(IntBinaryOperator operator, IntValueResult<? extends E> other) {
+        return this;
+    }
+
+    @Override
+    public <F> IntValueResult<F> mapError(Function<? super E, ? extends F> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return fail(mapper.apply(error));
+    }
+
+    @Override
+    public int orElse(int other) {
+        return other;
+    }
+
+    @Override
+    public int orElseGet(ToIntFunction<? super E> function) {
+        requireNonNull(function, "function must not be null");
+        return function.applyAsInt(error);
+    }
+
+    @Override
+    public <X extends Throwable> int orElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        requireNonNull(exceptionSupplier, "exceptionSupplier must not be null");
+        throw exceptionSupplier.get();
+    }
+
+    @Override
+    public <T> T fold(IntFunction<? extends T> success, Function<? super E, ? extends T> failure) {
+        requireNonNull(failure, "failure must not be null");
+        return failure.apply(error);
+    }
+
+    @Override
+    public OptionalInt toOptional() {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public VoidResult<E> toVoidResult() {
+        return VoidResult.fail(error);
+    }
+
+    @Override
+    public ValueResult<Integer, E> boxed() {
+        return ValueResult.fail(error);
+    }
+}
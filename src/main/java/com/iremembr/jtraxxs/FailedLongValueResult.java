@@ -0,0 +1,208 @@
+package com.iremembr.jtraxxs;
+
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.*;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+final class FailedLongValueResult<E> extends LongValueResult<E> {
+
+    private final E error;
+
+    FailedLongValueResult(E error) {
+        this.error = error;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FailedLongValueResult)) {
+            return false;
+        }
+        FailedLongValueResult<?> other = (FailedLongValueResult<?>) obj;
+        return Objects.equals(error, other.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(error);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FailedLongValueResult{error=%s}", error);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> LongValueResult<F> castError(Class<F> clazz) {
+        if (!clazz.isAssignableFrom(error.getClass())) {
+            throw new IllegalArgumentException(String.format(
+                    "Can not cast the error to the given type. The given type is not a superclass of the"
+                            + " type of the error. error type ='%s', given type = '%s', error = '%s'",
+                    error.getClass(), clazz, error
+            ));
+        }
+        return (LongValueResult<F>) this;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return false;
+    }
+
+    @Override
+    public long value() {
+        throw new IllegalStateException("Failed LongValueResult has no value");
+    }
+
+    @Override
+    public E error() {
+        return error;
+    }
+
+    @Override
+    public LongStream stream() {
+        return LongStream.empty();
+    }
+
+    @Override
+    public Stream<E> errorStream() {
+        return Stream.of(error);
+    }
+
+    @Override
+    public LongValueResult<E> onSuccess(Runnable runnable) {
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> onSuccess(LongConsumer consumer) {
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> onFailure(Runnable runnable) {
+        requireNonNull(runnable, "runnable must not be null");
+        runnable.run();
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> onFailure(Consumer<? super E> consumer) {
+        requireNonNull(consumer, "consumer must not be null");
+        consumer.accept(error);
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> onBoth(LongConsumer success, Consumer<? super E> failure) {
+        requireNonNull(failure, "failure must not be null");
+        failure.accept(error);
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> ensure(boolean flag, E error) {
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> ensure(BooleanSupplier supplier, E error) {
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> ensure(LongPredicate predicate, E error) {
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> ensure(Result<? extends E> result) {
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> ensure(LongFunction<? extends Result<? extends E>> function) {
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> map(LongUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <W> ValueResult<W, E> mapToObj(LongFunction<? extends W> mapper) {
+        return ValueResult.fail(error);
+    }
+
+    @Override
+    public IntValueResult<E> mapToInt(LongToIntFunction mapper) {
+        return IntValueResult.fail(error);
+    }
+
+    @Override
+    public DoubleValueResult<E> mapToDouble(LongToDoubleFunction mapper) {
+        return DoubleValueResult.fail(error);
+    }
+
+    @Override
+    public LongValueResult<E> flatMap(LongFunction<? extends LongValueResult<? extends E>> function) {
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> combine(LongBinaryOperator operator, LongValueResult<? extends E> other) {
+        return this;
+    }
+
+    @Override
+    public <F> LongValueResult<F> mapError(Function<? super E, ? extends F> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return fail(mapper.apply(error));
+    }
+
+    @Override
+    public long orElse(long other) {
+        return other;
+    }
+
+    @Override
+    public long orElseGet(ToLongFunction<? super E> function) {
+        requireNonNull(function, "function must not be null");
+        return function.applyAsLong(error);
+    }
+
+    @Override
+    public <X extends Throwable> long orElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        requireNonNull(exceptionSupplier, "exceptionSupplier must not be null");
+        throw exceptionSupplier.get();
+    }
+
+    @Override
+    public <T> T fold(LongFunction<? extends T> success, Function<? super E, ? extends T> failure) {
+        requireNonNull(failure, "failure must not be null");
+        return failure.apply(error);
+    }
+
+    @Override
+    public OptionalLong toOptional() {
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public VoidResult<E> toVoidResult() {
+        return VoidResult.fail(error);
+    }
+
+    @Override
+    public ValueResult<Long, E> boxed() {
+        return ValueResult.fail(error);
+    }
+}
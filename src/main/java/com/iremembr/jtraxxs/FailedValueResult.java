@@ -113,11 +113,36 @@ final class FailedValueResult<V, E> extends ValueResult<V, E> {
         return this;
     }
 
+    @Override
+    public ValueResult<V, E> ensure(BooleanSupplier supplier, E error) {
+        return this;
+    }
+
     @Override
     public ValueResult<V, E> ensure(Predicate<? super V> predicate, E error) {
         return this;
     }
 
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(boolean flag, Supplier<? extends E> errorSupplier) {
+        return this;
+    }
+
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(BooleanSupplier supplier, Supplier<? extends E> errorSupplier) {
+        return this;
+    }
+
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(Predicate<? super V> predicate, Supplier<? extends E> errorSupplier) {
+        return this;
+    }
+
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(Predicate<? super V> predicate, Function<? super V, ? extends E> errorFunction) {
+        return this;
+    }
+
     @Override
     public ValueResult<V, E> ensure(Result<? extends E> result) {
         return this;
@@ -134,23 +159,42 @@ final class FailedValueResult<V, E> extends ValueResult<V, E> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <W> ValueResult<W, E> take(ValueResult<? extends W, ? extends E> result) {
-        return fail(error);
+        return (ValueResult<W, E>) this;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <W> ValueResult<W, E> take(Supplier<? extends ValueResult<? extends W, ? extends E>> supplier) {
-        return fail(error);
+        return (ValueResult<W, E>) this;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <W> ValueResult<W, E> take(Function<? super V, ? extends ValueResult<? extends W, ? extends E>> function) {
-        return fail(error);
+        return (ValueResult<W, E>) this;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <S> ValueResult<S, E> map(Function<? super V, ? extends S> mapper) {
-        return fail(this.error);
+        return (ValueResult<S, E>) this;
+    }
+
+    @Override
+    public IntValueResult<E> mapToInt(ToIntFunction<? super V> mapper) {
+        return IntValueResult.fail(error);
+    }
+
+    @Override
+    public LongValueResult<E> mapToLong(ToLongFunction<? super V> mapper) {
+        return LongValueResult.fail(error);
+    }
+
+    @Override
+    public DoubleValueResult<E> mapToDouble(ToDoubleFunction<? super V> mapper) {
+        return DoubleValueResult.fail(error);
     }
 
     @Override
@@ -160,13 +204,15 @@ final class FailedValueResult<V, E> extends ValueResult<V, E> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <W> ValueResult<W, E> flatMap(Function<? super V, ? extends ValueResult<? extends W, ? extends E>> function) {
-        return fail(this.error());
+        return (ValueResult<W, E>) this;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <W, X> ValueResult<X, E> combine(BiFunction<? super V, ? super W, ? extends X> function, ValueResult<? extends W, ? extends E> other) {
-        return fail(this.error());
+        return (ValueResult<X, E>) this;
     }
 
     @Override
@@ -186,12 +232,35 @@ final class FailedValueResult<V, E> extends ValueResult<V, E> {
         throw exceptionSupplier.get();
     }
 
+    @Override
+    public V orElseThrow() {
+        throw new ResultFailureException(error);
+    }
+
     @Override
     public <T> T fold(Function<? super V, ? extends T> success, Function<? super E, ? extends T> failure) {
         requireNonNull(failure, "failure must not be null");
         return failure.apply(error);
     }
 
+    @Override
+    public int foldToInt(ToIntFunction<? super V> success, ToIntFunction<? super E> failure) {
+        requireNonNull(failure, "failure must not be null");
+        return failure.applyAsInt(error);
+    }
+
+    @Override
+    public long foldToLong(ToLongFunction<? super V> success, ToLongFunction<? super E> failure) {
+        requireNonNull(failure, "failure must not be null");
+        return failure.applyAsLong(error);
+    }
+
+    @Override
+    public double foldToDouble(ToDoubleFunction<? super V> success, ToDoubleFunction<? super E> failure) {
+        requireNonNull(failure, "failure must not be null");
+        return failure.applyAsDouble(error);
+    }
+
     @Override
     public ValueResult<V, E> onBoth(Consumer<? super V> success, Consumer<? super E> failure) {
         requireNonNull(failure, "failure must not be null");
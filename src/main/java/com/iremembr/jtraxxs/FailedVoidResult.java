@@ -1,6 +1,7 @@
 package com.iremembr.jtraxxs;
 
 import java.util.Objects;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -102,6 +103,21 @@ final class FailedVoidResult<E> extends VoidResult<E> {
         return this;
     }
 
+    @Override
+    public VoidResult<E> ensure(BooleanSupplier supplier, E error) {
+        return this;
+    }
+
+    @Override
+    public VoidResult<E> ensureOrElseGet(boolean flag, Supplier<? extends E> errorSupplier) {
+        return this;
+    }
+
+    @Override
+    public VoidResult<E> ensureOrElseGet(BooleanSupplier supplier, Supplier<? extends E> errorSupplier) {
+        return this;
+    }
+
     @Override
     public VoidResult<E> ensure(Result<? extends E> result) {
         return this;
@@ -0,0 +1,102 @@
+package com.iremembr.jtraxxs;
+
+/**
+ * Limits how many errors {@link ValueResult#sequence(Iterable, FailureBudget)} and
+ * {@link VoidResult#sequence(Iterable, FailureBudget)} keep and when they stop consuming their input.
+ *
+ * <p>A {@code FailureBudget} keeps the first {@code n} errors and only counts the others. In
+ * addition it can stop the traversal once an absolute number of failures is reached or once the
+ * share of failed results exceeds a rate:
+ * <pre>{@code
+ *     // keep 100 errors, give up after 10,000 failures or when more than 5% of at least 1,000 inputs failed
+ *     FailureBudget budget = FailureBudget.keepingFirst(100)
+ *             .stopAfterFailures(10_000)
+ *             .stopAtFailureRate(0.05, 1_000);
+ * }</pre>
+ *
+ * <p>A {@code FailureBudget} is immutable; every method returns a new {@code FailureBudget}.
+ */
+public final class FailureBudget {
+
+    private final int maxKeptErrors;
+    private final long maxFailures;
+    private final double maxFailureRate;
+    private final long minInputs;
+
+    private FailureBudget(int maxKeptErrors, long maxFailures, double maxFailureRate, long minInputs) {
+        this.maxKeptErrors = maxKeptErrors;
+        this.maxFailures = maxFailures;
+        this.maxFailureRate = maxFailureRate;
+        this.minInputs = minInputs;
+    }
+
+    /**
+     * Returns a {@code FailureBudget} which keeps the first {@code maxKeptErrors} errors, counts
+     * all others and never stops the traversal.
+     *
+     * @param maxKeptErrors the maximal number of errors to keep
+     * @return a new FailureBudget, never {@code null}
+     * @throws IllegalArgumentException if {@code maxKeptErrors} is negative
+     */
+    public static FailureBudget keepingFirst(int maxKeptErrors) {
+        if (maxKeptErrors < 0) {
+            throw new IllegalArgumentException(String.format("maxKeptErrors must not be negative, but was %d", maxKeptErrors));
+        }
+        return new FailureBudget(maxKeptErrors, Long.MAX_VALUE, 1.0, 0);
+    }
+
+    /**
+     * Returns a copy of this {@code FailureBudget} which stops the traversal as soon as
+     * {@code maxFailures} failed results have been found.
+     *
+     * @param maxFailures the number of failures after which the traversal stops
+     * @return a new FailureBudget, never {@code null}
+     * @throws IllegalArgumentException if {@code maxFailures} is not positive
+     */
+    public FailureBudget stopAfterFailures(long maxFailures) {
+        if (maxFailures <= 0) {
+            throw new IllegalArgumentException(String.format("maxFailures must be positive, but was %d", maxFailures));
+        }
+        return new FailureBudget(maxKeptErrors, maxFailures, maxFailureRate, minInputs);
+    }
+
+    /**
+     * Returns a copy of this {@code FailureBudget} which stops the traversal as soon as at least
+     * {@code minInputs} results have been processed and more than {@code maxFailureRate} of them
+     * have failed.
+     *
+     * <p>{@code minInputs} keeps a few failures at the start of the input from stopping the
+     * traversal; without it the first result alone would decide.
+     *
+     * @param maxFailureRate the share of failed results which is tolerated, from {@code 0.0} to {@code 1.0}
+     * @param minInputs      the number of results which are always processed
+     * @return a new FailureBudget, never {@code null}
+     * @throws IllegalArgumentException if {@code maxFailureRate} is not between {@code 0.0} and
+     *                                  {@code 1.0} or {@code minInputs} is negative
+     */
+    public FailureBudget stopAtFailureRate(double maxFailureRate, long minInputs) {
+        if (!(maxFailureRate >= 0.0 && maxFailureRate <= 1.0)) {
+            throw new IllegalArgumentException(String.format("maxFailureRate must be between 0.0 and 1.0, but was %s", maxFailureRate));
+        }
+        if (minInputs < 0) {
+            throw new IllegalArgumentException(String.format("minInputs must not be negative, but was %d", minInputs));
+        }
+        return new FailureBudget(maxKeptErrors, maxFailures, maxFailureRate, minInputs);
+    }
+
+    int maxKeptErrors() {
+        return maxKeptErrors;
+    }
+
+    boolean isExhausted(long failures, long processed) {
+        return failures >= maxFailures || (processed >= minInputs && failures > maxFailureRate * processed);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "FailureBudget{maxKeptErrors=%d, maxFailures=%d, maxFailureRate=%s, minInputs=%d}",
+                maxKeptErrors, maxFailures, maxFailureRate, minInputs
+        );
+    }
+}
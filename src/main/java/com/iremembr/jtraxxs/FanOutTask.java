@@ -0,0 +1,55 @@
+package com.iremembr.jtraxxs;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs one supplier of a fan-out and enqueues itself once it is done, so the
+ * forking thread can consume the results in completion order while every result
+ * still knows the index of its supplier.
+ */
+final class FanOutTask<V, E> extends FutureTask<ValueResult<? extends V, ? extends E>> {
+
+    private final int index;
+    private final BlockingQueue<? super FanOutTask<V, E>> completed;
+
+    FanOutTask(
+            int index,
+            Supplier<? extends ValueResult<? extends V, ? extends E>> supplier,
+            BlockingQueue<? super FanOutTask<V, E>> completed
+    ) {
+        super(() -> requireNonNull(supplier.get(), "supplier must not return null"));
+        this.index = index;
+        this.completed = completed;
+    }
+
+    int index() {
+        return index;
+    }
+
+    /**
+     * Returns the result of a completed task.
+     *
+     * @throws CompletionException with the exception thrown by the supplier as cause
+     */
+    ValueResult<? extends V, ? extends E> result() {
+        try {
+            return get();
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    @Override
+    protected void done() {
+        completed.add(this);
+    }
+}
@@ -0,0 +1,242 @@
+package com.iremembr.jtraxxs;
+
+import java.util.OptionalInt;
+import java.util.function.*;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents the result of a successful or failed calculation with a primitive
+ * {@code int} value, thus it holds either an {@code int} value or an error object
+ * of type {@code E}.
+ *
+ * <p>It mirrors the API of {@link ValueResult} without boxing the value, so numeric
+ * railways can be chained without allocating a wrapper object per step.
+ *
+ * @param <E> the type of the error object in case of a failure
+ * @see ValueResult#mapToInt(ToIntFunction)
+ */
+public abstract class IntValueResult<E> extends Result<E> {
+
+    /**
+     * Returns a successful {@code IntValueResult} with the given value.
+     *
+     * @param value the value
+     * @param <E>   the type of the error object in case of a failure
+     * @return a successful IntValueResult, never {@code null}
+     */
+    public static <E> IntValueResult<E> ok(int value) {
+        return new SuccessfulIntValueResult<>(value);
+    }
+
+    /**
+     * Returns a failed {@code IntValueResult} with the given error.
+     *
+     * @param error the error; can be {@code null}
+     * @param <E>   the type of the error object in case of a failure
+     * @return a failed IntValueResult; never {@code null}
+     */
+    public static <E> IntValueResult<E> fail(E error) {
+        return new FailedIntValueResult<>(error);
+    }
+
+    /**
+     * Returns a {@code IntValueResult} with the unboxed value of the given
+     * {@code ValueResult} when it is successful, otherwise a failed
+     * {@code IntValueResult} with its error.
+     *
+     * @param result a {@code ValueResult}; must not be {@code null}
+     * @param <E>    the type of the error
+     * @return a {@code IntValueResult} with the same state as the given {@code ValueResult}
+     * @throws NullPointerException if the given {@code result} is {@code null} or it is
+     *                              successful and its value is {@code null}
+     */
+    public static <E> IntValueResult<E> unbox(ValueResult<Integer, ? extends E> result) {
+        requireNonNull(result, "result must not be null");
+        return result.isSuccessful() ? ok(result.value()) : fail(result.error());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E, F extends E> IntValueResult<E> upCast(IntValueResult<F> result) {
+        return (IntValueResult<E>) result;
+    }
+
+    public abstract <F> IntValueResult<F> castError(Class<F> clazz);
+
+    /**
+     * Returns the IntValueResult's value.
+     *
+     * @return the value.
+     * @throws IllegalStateException if the IntValueResult has failed.
+     */
+    public abstract int value();
+
+    public abstract IntStream stream();
+
+    /**
+     * Returns the IntValueResult itself when flag is true otherwise the given error.
+     *
+     * @param flag  A boolean value.
+     * @param error An error.
+     * @return A IntValueResult.
+     */
+    public abstract IntValueResult<E> ensure(boolean flag, E error);
+
+    /**
+     * Returns the IntValueResult itself when the supplier evaluates to true otherwise the given error.
+     * The supplier returns a primitive {@code boolean}, so no {@code Boolean} is boxed for the check.
+     *
+     * @param supplier A supplier which returns a boolean.
+     * @param error    An error.
+     * @return A IntValueResult.
+     * @throws NullPointerException if the IntValueResult is successful and supplier is {@code null}.
+     */
+    public abstract IntValueResult<E> ensure(BooleanSupplier supplier, E error);
+
+    /**
+     * When the IntValueResult is successful it checks the value with the given predicate. When the
+     * predicate evaluates to true, it returns the IntValueResult itself. In all other cases a
+     * failed IntValueResult will be returned.
+     *
+     * @param predicate The predicate for testing the value.
+     * @param error     The Error to return when the predicate evaluates to false.
+     * @return The successful IntValueResult with the value or a failed IntValueResult.
+     * @throws NullPointerException if the IntValueResult is successful and predicate is {@code null}.
+     */
+    public abstract IntValueResult<E> ensure(IntPredicate predicate, E error);
+
+    /**
+     * Returns a failed IntValueResult when either the IntValueResult itself or the argument are failed,
+     * otherwise return itself.
+     *
+     * @param result The other Result.
+     * @return A IntValueResult.
+     * @throws NullPointerException if the IntValueResult is successful and result is {@code null}.
+     */
+    public abstract IntValueResult<E> ensure(Result<? extends E> result);
+
+    /**
+     * Returns a failed IntValueResult when either the IntValueResult itself or the result of the
+     * function are failed, otherwise return itself.
+     *
+     * @param function The function
+     * @return A IntValueResult.
+     * @throws NullPointerException if the IntValueResult is successful and function is {@code null}.
+     */
+    public abstract IntValueResult<E> ensure(IntFunction<? extends Result<? extends E>> function);
+
+    /**
+     * Maps the IntValueResult to a IntValueResult with another value, if the IntValueResult is successful.
+     *
+     * @param mapper A function that returns the new value.
+     * @return The IntValueResult of the function's value or a failed IntValueResult.
+     * @throws NullPointerException if the IntValueResult is successful and mapper is {@code null}.
+     */
+    public abstract IntValueResult<E> map(IntUnaryOperator mapper);
+
+    /**
+     * Maps the IntValueResult to a {@code ValueResult} with an object value, if the IntValueResult
+     * is successful.
+     *
+     * @param mapper A function that returns the new value.
+     * @param <W>    The type of result value of the mapper function.
+     * @return The ValueResult of the function's value or a failed ValueResult.
+     * @throws NullPointerException if the IntValueResult is successful and mapper is {@code null}.
+     */
+    public abstract <W> ValueResult<W, E> mapToObj(IntFunction<? extends W> mapper);
+
+    /**
+     * Maps the IntValueResult to a {@code LongValueResult} with another value, if the IntValueResult is successful.
+     *
+     * @param mapper A function that returns the new long value.
+     * @return The LongValueResult of the function's value or a failed LongValueResult.
+     * @throws NullPointerException if the IntValueResult is successful and mapper is {@code null}.
+     */
+    public abstract LongValueResult<E> mapToLong(IntToLongFunction mapper);
+
+    /**
+     * Maps the IntValueResult to a {@code DoubleValueResult} with another value, if the IntValueResult is successful.
+     *
+     * @param mapper A function that returns the new double value.
+     * @return The DoubleValueResult of the function's value or a failed DoubleValueResult.
+     * @throws NullPointerException if the IntValueResult is successful and mapper is {@code null}.
+     */
+    public abstract DoubleValueResult<E> mapToDouble(IntToDoubleFunction mapper);
+
+    /**
+     * Returns the result of the given function when the IntValueResult is successful. The value of
+     * the IntValueResult is given to the function.
+     *
+     * @param function A function which takes the value and returns a IntValueResult.
+     * @return A IntValueResult, but never {@code null}.
+     * @throws NullPointerException if the IntValueResult is successful and function is {@code null}.
+     */
+    public abstract IntValueResult<E> flatMap(IntFunction<? extends IntValueResult<? extends E>> function);
+
+    /**
+     * Applies the value of the current IntValueResult and the value of the given IntValueResult
+     * to the given operator, if both are successful.
+     *
+     * @param operator An operator with two parameters.
+     * @param other    The other IntValueResult.
+     * @return A IntValueResult.
+     * @throws NullPointerException if the IntValueResult is successful and other or operator is {@code null}.
+     */
+    public abstract IntValueResult<E> combine(IntBinaryOperator operator, IntValueResult<? extends E> other);
+
+    /**
+     * Maps the IntValueResult to a IntValueResult with another error, if the IntValueResult is failed.
+     *
+     * @param mapper A function that returns the new error.
+     * @param <F>    The type of result value of the mapper function.
+     * @return A failed IntValueResult with the error returned by the function or a successful IntValueResult.
+     * @throws NullPointerException if the IntValueResult is failed and mapper is {@code null}.
+     */
+    public abstract <F> IntValueResult<F> mapError(Function<? super E, ? extends F> mapper);
+
+    public abstract IntValueResult<E> onSuccess(Runnable runnable);
+
+    public abstract IntValueResult<E> onSuccess(IntConsumer consumer);
+
+    public abstract IntValueResult<E> onFailure(Runnable runnable);
+
+    public abstract IntValueResult<E> onFailure(Consumer<? super E> consumer);
+
+    public abstract IntValueResult<E> onBoth(IntConsumer success, Consumer<? super E> failure);
+
+    /**
+     * Returns the IntValueResult's value if successful, otherwise returns {@code other}.
+     *
+     * @param other the value to be returned if the IntValueResult is failed
+     * @return the value, if the IntValueResult is successful, otherwise {@code other}
+     */
+    public abstract int orElse(int other);
+
+    /**
+     * Returns the IntValueResult's value if successful, otherwise invokes {@code function}
+     * with the error and returns the result of that invocation.
+     *
+     * @param function a function whose result is returned if the IntValueResult is failed
+     * @return the value if successful otherwise the result of {@code function}
+     * @throws NullPointerException if the IntValueResult is failed and {@code function} is null
+     */
+    public abstract int orElseGet(ToIntFunction<? super E> function);
+
+    public abstract <X extends Throwable> int orElseThrow(Supplier<? extends X> exceptionSupplier) throws X;
+
+    public abstract <T> T fold(IntFunction<? extends T> success, Function<? super E, ? extends T> failure);
+
+    public abstract OptionalInt toOptional();
+
+    public abstract VoidResult<E> toVoidResult();
+
+    /**
+     * Returns a {@code ValueResult} with the boxed value if successful,
+     * otherwise a failed {@code ValueResult} with the same error.
+     *
+     * @return a {@code ValueResult} with the same state as this IntValueResult
+     */
+    public abstract ValueResult<Integer, E> boxed();
+
+}
@@ -0,0 +1,97 @@
+package com.iremembr.jtraxxs;
+
+/**
+ * Shared, immutable results which {@link ValueResult#ok(Object)}, {@link ValueResult#fail(Object)}
+ * and {@link VoidResult#fail(Object)} return instead of allocating a new result.
+ *
+ * <p>A failed result is interned for every enum constant. The results of an enum type are built
+ * together when the first of its constants is used as an error, and are kept in an array indexed
+ * by the ordinal in a {@link ClassValue}, so they do not prevent the enum from being unloaded.
+ * A successful {@code ValueResult} is interned for {@code null}, the two {@link Boolean}s and the
+ * {@link Integer}s cached by {@link Integer#valueOf(int)}; for all of them the interned result
+ * contains the identical value object.
+ */
+final class InternedResults {
+
+    private static final int MIN_INTEGER = -128;
+    private static final int MAX_INTEGER = 127;
+
+    private static final ValueResult<?, ?> NULL = ValueResult.newSuccess(null);
+    private static final ValueResult<?, ?> TRUE = ValueResult.newSuccess(Boolean.TRUE);
+    private static final ValueResult<?, ?> FALSE = ValueResult.newSuccess(Boolean.FALSE);
+    private static final ValueResult<?, ?>[] INTEGERS = new ValueResult<?, ?>[MAX_INTEGER - MIN_INTEGER + 1];
+
+    private static final ClassValue<ValueResult<?, ?>[]> FAILED_VALUE_RESULTS = new ClassValue<ValueResult<?, ?>[]>() {
+        @Override
+        protected ValueResult<?, ?>[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            ValueResult<?, ?>[] results = new ValueResult<?, ?>[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                results[i] = ValueResult.newFailure(constants[i]);
+            }
+            return results;
+        }
+    };
+
+    private static final ClassValue<VoidResult<?>[]> FAILED_VOID_RESULTS = new ClassValue<VoidResult<?>[]>() {
+        @Override
+        protected VoidResult<?>[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            VoidResult<?>[] results = new VoidResult<?>[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                results[i] = VoidResult.newFailure(constants[i]);
+            }
+            return results;
+        }
+    };
+
+    static {
+        for (int i = MIN_INTEGER; i <= MAX_INTEGER; i++) {
+            INTEGERS[i - MIN_INTEGER] = ValueResult.newSuccess(Integer.valueOf(i));
+        }
+    }
+
+    private InternedResults() {
+    }
+
+    /**
+     * Returns the interned successful {@code ValueResult} with the given value, or {@code null}
+     * if the value has none.
+     */
+    @SuppressWarnings("unchecked")
+    static <V, E> ValueResult<V, E> success(V value) {
+        if (value == null) {
+            return (ValueResult<V, E>) NULL;
+        }
+        if (value instanceof Boolean) {
+            // only the two canonical Booleans, so value() stays identical to the given value
+            if (value == Boolean.TRUE) {
+                return (ValueResult<V, E>) TRUE;
+            }
+            return value == Boolean.FALSE ? (ValueResult<V, E>) FALSE : null;
+        }
+        if (value instanceof Integer) {
+            int i = (Integer) value;
+            if (i >= MIN_INTEGER && i <= MAX_INTEGER && value == Integer.valueOf(i)) {
+                return (ValueResult<V, E>) INTEGERS[i - MIN_INTEGER];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the interned failed {@code ValueResult} with the given enum constant as error.
+     */
+    @SuppressWarnings("unchecked")
+    static <V, E> ValueResult<V, E> failure(Enum<?> error) {
+        return (ValueResult<V, E>) FAILED_VALUE_RESULTS.get(error.getDeclaringClass())[error.ordinal()];
+    }
+
+    /**
+     * Returns the interned failed {@code VoidResult} with the given enum constant as error.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> VoidResult<E> voidFailure(Enum<?> error) {
+        return (VoidResult<E>) FAILED_VOID_RESULTS.get(error.getDeclaringClass())[error.ordinal()];
+    }
+}
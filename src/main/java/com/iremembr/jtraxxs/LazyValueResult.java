@@ -0,0 +1,322 @@
+package com.iremembr.jtraxxs;
+
+import java.util.Optional;
+import java.util.function.*;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@code ValueResult} whose outcome is computed by a supplier on first access.
+ *
+ * <p>The supplier is invoked at most once, even if the {@code LazyValueResult} is accessed
+ * by many threads at the same time. Afterwards the computed {@code ValueResult} is read with a
+ * single volatile read and the supplier is released. If the supplier throws an exception,
+ * nothing is memoized and the next access invokes the supplier again.
+ *
+ * <p>{@code map}, {@code flatMap}, {@code ensure}, {@code take}, {@code combine} and
+ * {@code mapError} return new {@code LazyValueResult}s, so a chain which is never consumed does
+ * not invoke any of its functions. All other methods evaluate the {@code LazyValueResult}.
+ *
+ * <p>A {@code LazyValueResult} is only equal to itself, because comparing it with another
+ * {@code ValueResult} would force its evaluation.
+ */
+final class LazyValueResult<V, E> extends ValueResult<V, E> {
+
+    private volatile ValueResult<V, E> result;
+    // guarded by this, null once the result is known
+    private Supplier<? extends ValueResult<? extends V, ? extends E>> supplier;
+
+    LazyValueResult(Supplier<? extends ValueResult<? extends V, ? extends E>> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public String toString() {
+        ValueResult<V, E> current = result;
+        return current == null
+                ? "LazyValueResult{unevaluated}"
+                : String.format("LazyValueResult{result=%s}", current);
+    }
+
+    /**
+     * Returns the memoized {@code ValueResult}, invoking the supplier if this is the first access.
+     */
+    ValueResult<V, E> evaluate() {
+        ValueResult<V, E> current = result;
+        if (current == null) {
+            synchronized (this) {
+                current = result;
+                if (current == null) {
+                    ValueResult<V, E> supplied = upCast(requireNonNull(supplier.get(), "supplier must not return null"));
+                    // unwrap nested lazy results, so later accesses need a single hop only
+                    while (supplied instanceof LazyValueResult) {
+                        supplied = ((LazyValueResult<V, E>) supplied).evaluate();
+                    }
+                    current = supplied;
+                    result = current;
+                    supplier = null;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Returns {@code true} if the supplier has already been invoked successfully.
+     */
+    boolean isEvaluated() {
+        return result != null;
+    }
+
+    private <W, F> ValueResult<W, F> defer(
+            boolean successTrack,
+            Function<? super ValueResult<V, E>, ? extends ValueResult<? extends W, ? extends F>> step
+    ) {
+        ValueResult<V, E> current = result;
+        if (current != null && current.isSuccessful() != successTrack) {
+            // the known result is not on the track of the operator and is passed through unchanged
+            @SuppressWarnings("unchecked")
+            ValueResult<W, F> passThrough = (ValueResult<W, F>) current;
+            return passThrough;
+        }
+        return new LazyValueResult<>(() -> step.apply(evaluate()));
+    }
+
+    @Override
+    public <W> ValueResult<W, E> castValue(Class<W> clazz) {
+        return evaluate().castValue(clazz);
+    }
+
+    @Override
+    public <F> ValueResult<V, F> castError(Class<F> clazz) {
+        return evaluate().castError(clazz);
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return evaluate().isSuccessful();
+    }
+
+    @Override
+    public V value() {
+        return evaluate().value();
+    }
+
+    @Override
+    public E error() {
+        return evaluate().error();
+    }
+
+    @Override
+    public Stream<V> stream() {
+        return evaluate().stream();
+    }
+
+    @Override
+    public Stream<E> errorStream() {
+        return evaluate().errorStream();
+    }
+
+    @Override
+    public ValueResult<V, E> ensure(boolean flag, E error) {
+        return defer(true, current -> current.ensure(flag, error));
+    }
+
+    @Override
+    public ValueResult<V, E> ensure(Supplier<Boolean> supplier, E error) {
+        requireNonNull(supplier, "supplier must not be null");
+        return defer(true, current -> current.ensure(supplier, error));
+    }
+
+    @Override
+    public ValueResult<V, E> ensure(BooleanSupplier supplier, E error) {
+        requireNonNull(supplier, "supplier must not be null");
+        return defer(true, current -> current.ensure(supplier, error));
+    }
+
+    @Override
+    public ValueResult<V, E> ensure(Predicate<? super V> predicate, E error) {
+        requireNonNull(predicate, "predicate must not be null");
+        return defer(true, current -> current.ensure(predicate, error));
+    }
+
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(boolean flag, Supplier<? extends E> errorSupplier) {
+        return defer(true, current -> current.ensureOrElseGet(flag, errorSupplier));
+    }
+
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(BooleanSupplier supplier, Supplier<? extends E> errorSupplier) {
+        requireNonNull(supplier, "supplier must not be null");
+        return defer(true, current -> current.ensureOrElseGet(supplier, errorSupplier));
+    }
+
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(Predicate<? super V> predicate, Supplier<? extends E> errorSupplier) {
+        requireNonNull(predicate, "predicate must not be null");
+        return defer(true, current -> current.ensureOrElseGet(predicate, errorSupplier));
+    }
+
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(Predicate<? super V> predicate, Function<? super V, ? extends E> errorFunction) {
+        requireNonNull(predicate, "predicate must not be null");
+        return defer(true, current -> current.ensureOrElseGet(predicate, errorFunction));
+    }
+
+    @Override
+    public ValueResult<V, E> ensure(Result<? extends E> result) {
+        requireNonNull(result, "result must not be null");
+        return defer(true, current -> current.ensure(result));
+    }
+
+    @Override
+    public ValueResult<V, E> ensure(Supplier<? extends Result<? extends E>> supplier) {
+        requireNonNull(supplier, "supplier must not be null");
+        return defer(true, current -> current.ensure(supplier));
+    }
+
+    @Override
+    public ValueResult<V, E> ensure(Function<? super V, ? extends Result<? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        return defer(true, current -> current.ensure(function));
+    }
+
+    @Override
+    public <W> ValueResult<W, E> take(ValueResult<? extends W, ? extends E> result) {
+        requireNonNull(result, "result must not be null");
+        return defer(true, current -> current.take(result));
+    }
+
+    @Override
+    public <W> ValueResult<W, E> take(Supplier<? extends ValueResult<? extends W, ? extends E>> supplier) {
+        requireNonNull(supplier, "supplier must not be null");
+        return defer(true, current -> current.take(supplier));
+    }
+
+    @Override
+    public <W> ValueResult<W, E> take(Function<? super V, ? extends ValueResult<? extends W, ? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        return defer(true, current -> current.take(function));
+    }
+
+    @Override
+    public <W> ValueResult<W, E> map(Function<? super V, ? extends W> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return defer(true, current -> current.map(mapper));
+    }
+
+    @Override
+    public IntValueResult<E> mapToInt(ToIntFunction<? super V> mapper) {
+        return evaluate().mapToInt(mapper);
+    }
+
+    @Override
+    public LongValueResult<E> mapToLong(ToLongFunction<? super V> mapper) {
+        return evaluate().mapToLong(mapper);
+    }
+
+    @Override
+    public DoubleValueResult<E> mapToDouble(ToDoubleFunction<? super V> mapper) {
+        return evaluate().mapToDouble(mapper);
+    }
+
+    @Override
+    public <W, X> ValueResult<X, E> combine(BiFunction<? super V, ? super W, ? extends X> function, ValueResult<? extends W, ? extends E> other) {
+        requireNonNull(function, "function must not be null");
+        requireNonNull(other, "other must not be null");
+        return defer(true, current -> current.combine(function, other));
+    }
+
+    @Override
+    public <F> ValueResult<V, F> mapError(Function<? super E, ? extends F> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return defer(false, current -> current.mapError(mapper));
+    }
+
+    @Override
+    public <W> ValueResult<W, E> flatMap(Function<? super V, ? extends ValueResult<? extends W, ? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        return defer(true, current -> current.flatMap(function));
+    }
+
+    @Override
+    public ValueResult<V, E> onSuccess(Runnable runnable) {
+        evaluate().onSuccess(runnable);
+        return this;
+    }
+
+    @Override
+    public ValueResult<V, E> onSuccess(Consumer<? super V> consumer) {
+        evaluate().onSuccess(consumer);
+        return this;
+    }
+
+    @Override
+    public ValueResult<V, E> onFailure(Runnable runnable) {
+        evaluate().onFailure(runnable);
+        return this;
+    }
+
+    @Override
+    public ValueResult<V, E> onFailure(Consumer<? super E> consumer) {
+        evaluate().onFailure(consumer);
+        return this;
+    }
+
+    @Override
+    public ValueResult<V, E> onBoth(Consumer<? super V> success, Consumer<? super E> failure) {
+        evaluate().onBoth(success, failure);
+        return this;
+    }
+
+    @Override
+    public V orElse(V other) {
+        return evaluate().orElse(other);
+    }
+
+    @Override
+    public V orElseGet(Function<? super E, ? extends V> function) {
+        return evaluate().orElseGet(function);
+    }
+
+    @Override
+    public <T> T fold(Function<? super V, ? extends T> success, Function<? super E, ? extends T> failure) {
+        return evaluate().fold(success, failure);
+    }
+
+    @Override
+    public int foldToInt(ToIntFunction<? super V> success, ToIntFunction<? super E> failure) {
+        return evaluate().foldToInt(success, failure);
+    }
+
+    @Override
+    public long foldToLong(ToLongFunction<? super V> success, ToLongFunction<? super E> failure) {
+        return evaluate().foldToLong(success, failure);
+    }
+
+    @Override
+    public double foldToDouble(ToDoubleFunction<? super V> success, ToDoubleFunction<? super E> failure) {
+        return evaluate().foldToDouble(success, failure);
+    }
+
+    @Override
+    public <X extends Throwable> V orElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        return evaluate().orElseThrow(exceptionSupplier);
+    }
+
+    @Override
+    public V orElseThrow() {
+        return evaluate().orElseThrow();
+    }
+
+    @Override
+    public Optional<V> toOptional() {
+        return evaluate().toOptional();
+    }
+
+    @Override
+    public VoidResult<E> toVoidResult() {
+        return evaluate().toVoidResult();
+    }
+}
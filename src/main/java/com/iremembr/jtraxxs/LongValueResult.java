@@ -0,0 +1,242 @@
+package com.iremembr.jtraxxs;
+
+import java.util.OptionalLong;
+import java.util.function.*;
+import java.util.stream.LongStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents the result of a successful or failed calculation with a primitive
+ * {@code long} value, thus it holds either a {@code long} value or an error object
+ * of type {@code E}.
+ *
+ * <p>It mirrors the API of {@link ValueResult} without boxing the value, so numeric
+ * railways can be chained without allocating a wrapper object per step.
+ *
+ * @param <E> the type of the error object in case of a failure
+ * @see ValueResult#mapToLong(ToLongFunction)
+ */
+public abstract class LongValueResult<E> extends Result<E> {
+
+    /**
+     * Returns a successful {@code LongValueResult} with the given value.
+     *
+     * @param value the value
+     * @param <E>   the type of the error object in case of a failure
+     * @return a successful LongValueResult, never {@code null}
+     */
+    public static <E> LongValueResult<E> ok(long value) {
+        return new SuccessfulLongValueResult<>(value);
+    }
+
+    /**
+     * Returns a failed {@code LongValueResult} with the given error.
+     *
+     * @param error the error; can be {@code null}
+     * @param <E>   the type of the error object in case of a failure
+     * @return a failed LongValueResult; never {@code null}
+     */
+    public static <E> LongValueResult<E> fail(E error) {
+        return new FailedLongValueResult<>(error);
+    }
+
+    /**
+     * Returns a {@code LongValueResult} with the unboxed value of the given
+     * {@code ValueResult} when it is successful, otherwise a failed
+     * {@code LongValueResult} with its error.
+     *
+     * @param result a {@code ValueResult}; must not be {@code null}
+     * @param <E>    the type of the error
+     * @return a {@code LongValueResult} with the same state as the given {@code ValueResult}
+     * @throws NullPointerException if the given {@code result} is {@code null} or it is
+     *                              successful and its value is {@code null}
+     */
+    public static <E> LongValueResult<E> unbox(ValueResult<Long, ? extends E> result) {
+        requireNonNull(result, "result must not be null");
+        return result.isSuccessful() ? ok(result.value()) : fail(result.error());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E, F extends E> LongValueResult<E> upCast(LongValueResult<F> result) {
+        return (LongValueResult<E>) result;
+    }
+
+    public abstract <F> LongValueResult<F> castError(Class<F> clazz);
+
+    /**
+     * Returns the LongValueResult's value.
+     *
+     * @return the value.
+     * @throws IllegalStateException if the LongValueResult has failed.
+     */
+    public abstract long value();
+
+    public abstract LongStream stream();
+
+    /**
+     * Returns the LongValueResult itself when flag is true otherwise the given error.
+     *
+     * @param flag  A boolean value.
+     * @param error An error.
+     * @return A LongValueResult.
+     */
+    public abstract LongValueResult<E> ensure(boolean flag, E error);
+
+    /**
+     * Returns the LongValueResult itself when the supplier evaluates to true otherwise the given error.
+     * The supplier returns a primitive {@code boolean}, so no {@code Boolean} is boxed for the check.
+     *
+     * @param supplier A supplier which returns a boolean.
+     * @param error    An error.
+     * @return A LongValueResult.
+     * @throws NullPointerException if the LongValueResult is successful and supplier is {@code null}.
+     */
+    public abstract LongValueResult<E> ensure(BooleanSupplier supplier, E error);
+
+    /**
+     * When the LongValueResult is successful it checks the value with the given predicate. When the
+     * predicate evaluates to true, it returns the LongValueResult itself. In all other cases a
+     * failed LongValueResult will be returned.
+     *
+     * @param predicate The predicate for testing the value.
+     * @param error     The Error to return when the predicate evaluates to false.
+     * @return The successful LongValueResult with the value or a failed LongValueResult.
+     * @throws NullPointerException if the LongValueResult is successful and predicate is {@code null}.
+     */
+    public abstract LongValueResult<E> ensure(LongPredicate predicate, E error);
+
+    /**
+     * Returns a failed LongValueResult when either the LongValueResult itself or the argument are failed,
+     * otherwise return itself.
+     *
+     * @param result The other Result.
+     * @return A LongValueResult.
+     * @throws NullPointerException if the LongValueResult is successful and result is {@code null}.
+     */
+    public abstract LongValueResult<E> ensure(Result<? extends E> result);
+
+    /**
+     * Returns a failed LongValueResult when either the LongValueResult itself or the result of the
+     * function are failed, otherwise return itself.
+     *
+     * @param function The function
+     * @return A LongValueResult.
+     * @throws NullPointerException if the LongValueResult is successful and function is {@code null}.
+     */
+    public abstract LongValueResult<E> ensure(LongFunction<? extends Result<? extends E>> function);
+
+    /**
+     * Maps the LongValueResult to a LongValueResult with another value, if the LongValueResult is successful.
+     *
+     * @param mapper A function that returns the new value.
+     * @return The LongValueResult of the function's value or a failed LongValueResult.
+     * @throws NullPointerException if the LongValueResult is successful and mapper is {@code null}.
+     */
+    public abstract LongValueResult<E> map(LongUnaryOperator mapper);
+
+    /**
+     * Maps the LongValueResult to a {@code ValueResult} with an object value, if the LongValueResult
+     * is successful.
+     *
+     * @param mapper A function that returns the new value.
+     * @param <W>    The type of result value of the mapper function.
+     * @return The ValueResult of the function's value or a failed ValueResult.
+     * @throws NullPointerException if the LongValueResult is successful and mapper is {@code null}.
+     */
+    public abstract <W> ValueResult<W, E> mapToObj(LongFunction<? extends W> mapper);
+
+    /**
+     * Maps the LongValueResult to a {@code IntValueResult} with another value, if the LongValueResult is successful.
+     *
+     * @param mapper A function that returns the new int value.
+     * @return The IntValueResult of the function's value or a failed IntValueResult.
+     * @throws NullPointerException if the LongValueResult is successful and mapper is {@code null}.
+     */
+    public abstract IntValueResult<E> mapToInt(LongToIntFunction mapper);
+
+    /**
+     * Maps the LongValueResult to a {@code DoubleValueResult} with another value, if the LongValueResult is successful.
+     *
+     * @param mapper A function that returns the new double value.
+     * @return The DoubleValueResult of the function's value or a failed DoubleValueResult.
+     * @throws NullPointerException if the LongValueResult is successful and mapper is {@code null}.
+     */
+    public abstract DoubleValueResult<E> mapToDouble(LongToDoubleFunction mapper);
+
+    /**
+     * Returns the result of the given function when the LongValueResult is successful. The value of
+     * the LongValueResult is given to the function.
+     *
+     * @param function A function which takes the value and returns a LongValueResult.
+     * @return A LongValueResult, but never {@code null}.
+     * @throws NullPointerException if the LongValueResult is successful and function is {@code null}.
+     */
+    public abstract LongValueResult<E> flatMap(LongFunction<? extends LongValueResult<? extends E>> function);
+
+    /**
+     * Applies the value of the current LongValueResult and the value of the given LongValueResult
+     * to the given operator, if both are successful.
+     *
+     * @param operator An operator with two parameters.
+     * @param other    The other LongValueResult.
+     * @return A LongValueResult.
+     * @throws NullPointerException if the LongValueResult is successful and other or operator is {@code null}.
+     */
+    public abstract LongValueResult<E> combine(LongBinaryOperator operator, LongValueResult<? extends E> other);
+
+    /**
+     * Maps the LongValueResult to a LongValueResult with another error, if the LongValueResult is failed.
+     *
+     * @param mapper A function that returns the new error.
+     * @param <F>    The type of result value of the mapper function.
+     * @return A failed LongValueResult with the error returned by the function or a successful LongValueResult.
+     * @throws NullPointerException if the LongValueResult is failed and mapper is {@code null}.
+     */
+    public abstract <F> LongValueResult<F> mapError(Function<? super E, ? extends F> mapper);
+
+    public abstract LongValueResult<E> onSuccess(Runnable runnable);
+
+    public abstract LongValueResult<E> onSuccess(LongConsumer consumer);
+
+    public abstract LongValueResult<E> onFailure(Runnable runnable);
+
+    public abstract LongValueResult<E> onFailure(Consumer<? super E> consumer);
+
+    public abstract LongValueResult<E> onBoth(LongConsumer success, Consumer<? super E> failure);
+
+    /**
+     * Returns the LongValueResult's value if successful, otherwise returns {@code other}.
+     *
+     * @param other the value to be returned if the LongValueResult is failed
+     * @return the value, if the LongValueResult is successful, otherwise {@code other}
+     */
+    public abstract long orElse(long other);
+
+    /**
+     * Returns the LongValueResult's value if successful, otherwise invokes {@code function}
+     * with the error and returns the result of that invocation.
+     *
+     * @param function a function whose result is returned if the LongValueResult is failed
+     * @return the value if successful otherwise the result of {@code function}
+     * @throws NullPointerException if the LongValueResult is failed and {@code function} is null
+     */
+    public abstract long orElseGet(ToLongFunction<? super E> function);
+
+    public abstract <X extends Throwable> long orElseThrow(Supplier<? extends X> exceptionSupplier) throws X;
+
+    public abstract <T> T fold(LongFunction<? extends T> success, Function<? super E, ? extends T> failure);
+
+    public abstract OptionalLong toOptional();
+
+    public abstract VoidResult<E> toVoidResult();
+
+    /**
+     * Returns a {@code ValueResult} with the boxed value if successful,
+     * otherwise a failed {@code ValueResult} with the same error.
+     *
+     * @return a {@code ValueResult} with the same state as this LongValueResult
+     */
+    public abstract ValueResult<Long, E> boxed();
+
+}
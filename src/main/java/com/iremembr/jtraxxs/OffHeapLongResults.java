@@ -0,0 +1,321 @@
+package com.iremembr.jtraxxs;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A store for a large number of results with a primitive {@code long} value or an {@code int}
+ * error code, which keeps its data outside of the Java heap.
+ *
+ * <p>The results are stored in a direct {@link ByteBuffer} which is allocated once with a fixed
+ * capacity. Every result takes 8 bytes plus one bit: the state of all results is kept in a
+ * bitmap, and a failed result stores its error code in the slot of its value. Adding, querying
+ * and iterating the results does not create any objects on the heap, so the garbage collector
+ * only ever sees the single {@code OffHeapLongResults} instance and its buffer:
+ * <pre>{@code
+ *     OffHeapLongResults results = OffHeapLongResults.allocate(records.size());
+ *     for (Record record : records) {
+ *         if (record.isValid()) {
+ *             results.addOk(record.amount());
+ *         } else {
+ *             results.addFail(record.errorCode());
+ *         }
+ *     }
+ *     results.forEach(total::add, errorCounts::increment);
+ * }</pre>
+ *
+ * <p>The memory of the buffer is released when the {@code OffHeapLongResults} becomes
+ * unreachable. An {@code OffHeapLongResults} is not thread-safe.
+ *
+ * <p>There is no variant on a {@code MemorySegment}, which could address more than
+ * {@link #MAX_CAPACITY} results and release its memory explicitly. The foreign memory API is
+ * final only since Java 22, and jtraxxs runs on Java 8.
+ */
+public final class OffHeapLongResults {
+
+    /**
+     * The largest capacity of an {@code OffHeapLongResults}, limited by the {@code int}
+     * addressing of a {@link ByteBuffer}.
+     */
+    public static final int MAX_CAPACITY = (int) ((Integer.MAX_VALUE - 8L) * 8 / 65);
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    // byte offset of the first value slot, the state bitmap precedes the value slots
+    private final int valuesOffset;
+    private int size;
+    private int failureCount;
+
+    private OffHeapLongResults(int capacity) {
+        this.capacity = capacity;
+        this.valuesOffset = ((capacity + 63) >>> 6) * Long.BYTES;
+        this.buffer = ByteBuffer.allocateDirect(valuesOffset + capacity * Long.BYTES)
+                .order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Returns an empty {@code OffHeapLongResults} which can hold up to {@code capacity} results.
+     *
+     * @param capacity the maximum number of results
+     * @return an empty OffHeapLongResults, never {@code null}
+     * @throws IllegalArgumentException if {@code capacity} is negative or greater than {@link #MAX_CAPACITY}
+     */
+    public static OffHeapLongResults allocate(int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(String.format(
+                    "capacity must be between 0 and %d, but was %d", MAX_CAPACITY, capacity
+            ));
+        }
+        return new OffHeapLongResults(capacity);
+    }
+
+    /**
+     * Appends a successful result with the given value.
+     *
+     * @param value the value
+     * @return the index of the appended result
+     * @throws IllegalStateException if the capacity is exhausted
+     */
+    public int addOk(long value) {
+        int index = nextIndex();
+        buffer.putLong(valuesOffset + index * Long.BYTES, value);
+        return index;
+    }
+
+    /**
+     * Appends a failed result with the given error code.
+     *
+     * @param errorCode the error code
+     * @return the index of the appended result
+     * @throws IllegalStateException if the capacity is exhausted
+     */
+    public int addFail(int errorCode) {
+        int index = nextIndex();
+        int word = (index >>> 6) * Long.BYTES;
+        buffer.putLong(word, buffer.getLong(word) | 1L << index);
+        buffer.putLong(valuesOffset + index * Long.BYTES, errorCode);
+        failureCount++;
+        return index;
+    }
+
+    /**
+     * Appends the given result.
+     *
+     * @param result the result
+     * @return the index of the appended result
+     * @throws NullPointerException  if {@code result} is {@code null} or has a {@code null} error
+     * @throws IllegalStateException if the capacity is exhausted
+     */
+    public int add(LongValueResult<Integer> result) {
+        requireNonNull(result, "result must not be null");
+        return result.isSuccessful() ? addOk(result.value()) : addFail(result.error());
+    }
+
+    /**
+     * Returns the number of results.
+     *
+     * @return the number of results
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of results.
+     *
+     * @return the maximum number of results
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of failed results.
+     *
+     * @return the number of failed results
+     */
+    public int failureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns {@code true} if the result with the given index is successful.
+     *
+     * @param index the index of the result
+     * @return {@code true} if the result is successful
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public boolean isSuccessful(int index) {
+        checkIndex(index);
+        return (buffer.getLong((index >>> 6) * Long.BYTES) & 1L << index) == 0;
+    }
+
+    /**
+     * Returns {@code true} if the result with the given index has failed.
+     *
+     * @param index the index of the result
+     * @return {@code true} if the result has failed
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public boolean hasFailed(int index) {
+        return !isSuccessful(index);
+    }
+
+    /**
+     * Returns the value of the result with the given index.
+     *
+     * @param index the index of the result
+     * @return the value
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws IllegalStateException     if the result has failed
+     */
+    public long value(int index) {
+        if (hasFailed(index)) {
+            throw new IllegalStateException("Failed result has no value");
+        }
+        return buffer.getLong(valuesOffset + index * Long.BYTES);
+    }
+
+    /**
+     * Returns the error code of the result with the given index.
+     *
+     * @param index the index of the result
+     * @return the error code
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws IllegalStateException     if the result is successful
+     */
+    public int errorCode(int index) {
+        if (isSuccessful(index)) {
+            throw new IllegalStateException("Successful result has no error");
+        }
+        return (int) buffer.getLong(valuesOffset + index * Long.BYTES);
+    }
+
+    /**
+     * Returns the value of the result with the given index if it is successful, otherwise
+     * returns {@code other}.
+     *
+     * @param index the index of the result
+     * @param other the value to be returned if the result has failed
+     * @return the value, if the result is successful, otherwise {@code other}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public long orElse(int index, long other) {
+        return isSuccessful(index) ? buffer.getLong(valuesOffset + index * Long.BYTES) : other;
+    }
+
+    /**
+     * Returns the result with the given index as a {@code LongValueResult}.
+     *
+     * <p>This creates a {@code LongValueResult} on the heap; use the other query methods or
+     * {@link #forEach(LongConsumer, IntConsumer)} to access many results.
+     *
+     * @param index the index of the result
+     * @return a LongValueResult with the error code as error, never {@code null}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public LongValueResult<Integer> get(int index) {
+        return isSuccessful(index)
+                ? LongValueResult.ok(value(index))
+                : LongValueResult.fail(errorCode(index));
+    }
+
+    /**
+     * Passes the value of every successful result to {@code success} and the error code of
+     * every failed result to {@code failure}, in the order of the results.
+     *
+     * @param success the consumer of the values
+     * @param failure the consumer of the error codes
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public void forEach(LongConsumer success, IntConsumer failure) {
+        requireNonNull(success, "success must not be null");
+        requireNonNull(failure, "failure must not be null");
+        for (int index = 0; index < size; index += 64) {
+            long failed = buffer.getLong((index >>> 6) * Long.BYTES);
+            int end = Math.min(size, index + 64);
+            for (int i = index; i < end; i++) {
+                long slot = buffer.getLong(valuesOffset + i * Long.BYTES);
+                if ((failed & 1L << i) == 0) {
+                    success.accept(slot);
+                } else {
+                    failure.accept((int) slot);
+                }
+            }
+        }
+    }
+
+    /**
+     * Passes the value of every successful result to {@code consumer}, in the order of the
+     * results. Words of the state bitmap without a successful result are skipped.
+     *
+     * @param consumer the consumer of the values
+     * @throws NullPointerException if {@code consumer} is {@code null}
+     */
+    public void forEachSuccess(LongConsumer consumer) {
+        requireNonNull(consumer, "consumer must not be null");
+        for (int index = 0; index < size; index += 64) {
+            long successful = ~buffer.getLong((index >>> 6) * Long.BYTES);
+            if (size - index < 64) {
+                successful &= (1L << (size - index)) - 1;
+            }
+            while (successful != 0) {
+                int i = index + Long.numberOfTrailingZeros(successful);
+                consumer.accept(buffer.getLong(valuesOffset + i * Long.BYTES));
+                successful &= successful - 1;
+            }
+        }
+    }
+
+    /**
+     * Passes the error code of every failed result to {@code consumer}, in the order of the
+     * results. Words of the state bitmap without a failed result are skipped.
+     *
+     * @param consumer the consumer of the error codes
+     * @throws NullPointerException if {@code consumer} is {@code null}
+     */
+    public void forEachFailure(IntConsumer consumer) {
+        requireNonNull(consumer, "consumer must not be null");
+        for (int index = 0; index < size; index += 64) {
+            long failed = buffer.getLong((index >>> 6) * Long.BYTES);
+            while (failed != 0) {
+                int i = index + Long.numberOfTrailingZeros(failed);
+                consumer.accept((int) buffer.getLong(valuesOffset + i * Long.BYTES));
+                failed &= failed - 1;
+            }
+        }
+    }
+
+    /**
+     * Removes all results. The memory of the buffer is kept for reuse.
+     */
+    public void clear() {
+        for (int word = 0; word < valuesOffset; word += Long.BYTES) {
+            buffer.putLong(word, 0L);
+        }
+        size = 0;
+        failureCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OffHeapLongResults{size=%d, failures=%d, capacity=%d}", size, failureCount, capacity);
+    }
+
+    private int nextIndex() {
+        if (size == capacity) {
+            throw new IllegalStateException(String.format("capacity of %d results is exhausted", capacity));
+        }
+        return size++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.iremembr.jtraxxs;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A reusable chain of {@code ensure}, {@code map} and {@code flatMap} steps which is defined
+ * once and applied to many inputs.
+ *
+ * <p>Applying the same steps through {@link ValueResult} creates an intermediate
+ * {@code ValueResult} for every step. A {@code Railway} passes the plain value from one step
+ * to the next instead and creates a {@code ValueResult} only when the last step has been
+ * applied or when a step fails. The remaining steps are skipped after a failure:
+ * <pre>{@code
+ *     Railway<String, Long, String> parse = Railway.<String, String>start()
+ *             .ensure(s -> !s.isEmpty(), "empty")
+ *             .map(Integer::parseInt)
+ *             .ensure(v -> v > 0, "not positive")
+ *             .flatMap(v -> v < LIMIT ? ValueResult.ok(v) : ValueResult.fail("too large"))
+ *             .map(v -> v * 100L);
+ *
+ *     ValueResult<Long, String> result = parse.apply("42");
+ * }</pre>
+ *
+ * <p>As a {@code Railway} is a {@link Function} it can also be passed to
+ * {@link ValueResult#flatMap(Function)} to continue an existing {@code ValueResult}.
+ *
+ * <p>A {@code Railway} is immutable, every step method returns a new {@code Railway} and
+ * leaves the current one unchanged. It is safe to share a {@code Railway} between threads
+ * as long as its functions are.
+ *
+ * @param <I> the type of the input
+ * @param <O> the type of the value of the returned {@code ValueResult}
+ * @param <E> the type of the error object in case of a failure
+ */
+public final class Railway<I, O, E> implements Function<I, ValueResult<O, E>> {
+
+    private static final Railway<?, ?, ?> EMPTY = new Railway<>(new Step[0]);
+
+    private final Step[] steps;
+
+    private Railway(Step[] steps) {
+        this.steps = steps;
+    }
+
+    /**
+     * Returns a {@code Railway} without any steps, which returns every input as a
+     * successful {@code ValueResult}.
+     *
+     * @param <I> the type of the input
+     * @param <E> the type of the error object in case of a failure
+     * @return a Railway without any steps, never {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <I, E> Railway<I, I, E> start() {
+        return (Railway<I, I, E>) EMPTY;
+    }
+
+    /**
+     * Returns a new {@code Railway} which fails with the given error when the predicate does not
+     * match the current value.
+     *
+     * @param predicate the predicate which checks the value
+     * @param error     the error in case the predicate does not match; can be {@code null}
+     * @return a new Railway, never {@code null}
+     * @throws NullPointerException if {@code predicate} is {@code null}
+     * @see ValueResult#ensure(Predicate, Object)
+     */
+    public Railway<I, O, E> ensure(Predicate<? super O> predicate, E error) {
+        requireNonNull(predicate, "predicate must not be null");
+        return append(new Step(Step.ENSURE_PREDICATE, predicate, error));
+    }
+
+    /**
+     * Returns a new {@code Railway} which fails with the error of the {@code Result} returned by
+     * the function, if that {@code Result} has failed.
+     *
+     * @param function the function which checks the value; must not return {@code null}
+     * @return a new Railway, never {@code null}
+     * @throws NullPointerException if {@code function} is {@code null}
+     * @see ValueResult#ensure(Function)
+     */
+    public Railway<I, O, E> ensure(Function<? super O, ? extends Result<? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        return append(new Step(Step.ENSURE_RESULT, function, null));
+    }
+
+    /**
+     * Returns a new {@code Railway} which maps the current value with the given mapper.
+     *
+     * @param mapper the mapper of the value
+     * @param <P>    the type of the mapped value
+     * @return a new Railway, never {@code null}
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     * @see ValueResult#map(Function)
+     */
+    public <P> Railway<I, P, E> map(Function<? super O, ? extends P> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return append(new Step(Step.MAP, mapper, null));
+    }
+
+    /**
+     * Returns a new {@code Railway} which continues with the value of the {@code ValueResult}
+     * returned by the function, or fails with its error.
+     *
+     * @param function the function which maps the value; must not return {@code null}
+     * @param <P>      the type of the value of the returned ValueResult
+     * @return a new Railway, never {@code null}
+     * @throws NullPointerException if {@code function} is {@code null}
+     * @see ValueResult#flatMap(Function)
+     */
+    public <P> Railway<I, P, E> flatMap(Function<? super O, ? extends ValueResult<? extends P, ? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        return append(new Step(Step.FLAT_MAP, function, null));
+    }
+
+    /**
+     * Returns a new {@code Railway} which applies the steps of the given {@code Railway} after
+     * the steps of this one.
+     *
+     * @param next the Railway to continue with
+     * @param <P>  the type of the value of the returned ValueResult
+     * @return a new Railway, never {@code null}
+     * @throws NullPointerException if {@code next} is {@code null}
+     */
+    public <P> Railway<I, P, E> then(Railway<? super O, ? extends P, ? extends E> next) {
+        requireNonNull(next, "next must not be null");
+        Step[] joined = Arrays.copyOf(steps, steps.length + next.steps.length);
+        System.arraycopy(next.steps, 0, joined, steps.length, next.steps.length);
+        return new Railway<>(joined);
+    }
+
+    /**
+     * Applies all steps to the given input.
+     *
+     * @param input the input; can be {@code null}
+     * @return the successful ValueResult with the value after the last step, or the failed
+     * ValueResult of the first step which failed; never {@code null}
+     * @throws NullPointerException if an {@code ensure} or {@code flatMap} function returned {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ValueResult<O, E> apply(I input) {
+        Object value = input;
+        for (Step step : steps) {
+            switch (step.kind) {
+                case Step.MAP:
+                    value = ((Function<Object, Object>) step.function).apply(value);
+                    break;
+                case Step.ENSURE_PREDICATE:
+                    if (!((Predicate<Object>) step.function).test(value)) {
+                        return ValueResult.fail((E) step.error);
+                    }
+                    break;
+                case Step.ENSURE_RESULT:
+                    Result<? extends E> result = requireNonNull(
+                            ((Function<Object, Result<? extends E>>) step.function).apply(value),
+                            "function must not return null"
+                    );
+                    if (result.hasFailed()) {
+                        return ValueResult.fail(result.error());
+                    }
+                    break;
+                case Step.FLAT_MAP:
+                    ValueResult<?, ? extends E> next = requireNonNull(
+                            ((Function<Object, ValueResult<?, ? extends E>>) step.function).apply(value),
+                            "function must not return null"
+                    );
+                    if (next.hasFailed()) {
+                        // a failed ValueResult has no value, so it can be returned as is
+                        return (ValueResult<O, E>) next;
+                    }
+                    value = next.value();
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown step kind " + step.kind);
+            }
+        }
+        return ValueResult.ok((O) value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Railway{steps=%d}", steps.length);
+    }
+
+    private <P> Railway<I, P, E> append(Step step) {
+        Step[] appended = Arrays.copyOf(steps, steps.length + 1);
+        appended[steps.length] = step;
+        return new Railway<>(appended);
+    }
+
+    private static final class Step {
+
+        static final int MAP = 0;
+        static final int ENSURE_PREDICATE = 1;
+        static final int ENSURE_RESULT = 2;
+        static final int FLAT_MAP = 3;
+
+        final int kind;
+        final Object function;
+        final Object error;
+
+        Step(int kind, Object function, Object error) {
+            this.kind = kind;
+            this.function = function;
+            this.error = error;
+        }
+    }
+}
@@ -5,8 +5,6 @@ import java.util.stream.Stream;
 /**
  * Result of a computation that can be successful or it may have failed.
  *
- * <p>
- *
  * @param <E> the type of the error object in case of a failure
  */
 public abstract class Result<E> {
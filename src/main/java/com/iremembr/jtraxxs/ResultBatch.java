@@ -0,0 +1,450 @@
+package com.iremembr.jtraxxs;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable batch of results which stores the outcomes of many {@code ValueResult}s in
+ * a few arrays instead of one object per element.
+ *
+ * <p>The values are kept in one array, the state of every lane in a bitmap with one bit per
+ * lane and the errors in a sparse side table which only has entries for the failed lanes.
+ * {@link #map(Function)}, {@link #ensure(Predicate, Object)} and {@link #flatMap(Function)}
+ * apply their function to the successful lanes only and skip the failed lanes with the bitmap:
+ * <pre>{@code
+ *     ResultBatch<Integer, String> batch = ResultBatch.<String, String>ofValues(inputs)
+ *             .ensure(s -> !s.isEmpty(), "empty")
+ *             .map(Integer::parseInt)
+ *             .ensure(v -> v > 0, "not positive");
+ *
+ *     ValueResult<Collection<Integer>, Collection<String>> all = batch.sequence();
+ * }</pre>
+ *
+ * <p>Operations which do not change the values, like {@code ensure}, share the value array
+ * with the batch they were called on.
+ *
+ * @param <V> the type of the values of the successful lanes
+ * @param <E> the type of the errors of the failed lanes
+ */
+public final class ResultBatch<V, E> {
+
+    private static final int[] NO_LANES = new int[0];
+    private static final Object[] NO_ERRORS = new Object[0];
+
+    private final int size;
+    private final Object[] values;
+    // bit i is set when lane i has failed
+    private final long[] failed;
+    // lanes of the failed lanes in ascending order and their errors at the same index
+    private final int[] errorLanes;
+    private final Object[] errors;
+
+    private ResultBatch(int size, Object[] values, long[] failed, int[] errorLanes, Object[] errors) {
+        this.size = size;
+        this.values = values;
+        this.failed = failed;
+        this.errorLanes = errorLanes;
+        this.errors = errors;
+    }
+
+    /**
+     * Returns a {@code ResultBatch} with one successful lane for every given value.
+     *
+     * @param values the values; can contain {@code null}
+     * @param <V>    the type of the values
+     * @param <E>    the type of the errors
+     * @return a ResultBatch without failed lanes, never {@code null}
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    public static <V, E> ResultBatch<V, E> ofValues(Collection<? extends V> values) {
+        requireNonNull(values, "values must not be null");
+        Object[] array = values.toArray();
+        return new ResultBatch<>(array.length, array, new long[words(array.length)], NO_LANES, NO_ERRORS);
+    }
+
+    /**
+     * Returns a {@code ResultBatch} with one lane for every given {@code ValueResult}, in the
+     * order of the list.
+     *
+     * @param results the ValueResults; must not contain {@code null}
+     * @param <V>     closure of all success types of the given {@code ValueResult}s
+     * @param <E>     closure of all failure types of the given {@code ValueResult}s
+     * @return a ResultBatch, never {@code null}
+     * @throws NullPointerException if {@code results} is or contains {@code null}
+     */
+    public static <V, E> ResultBatch<V, E> of(List<? extends ValueResult<? extends V, ? extends E>> results) {
+        requireNonNull(results, "results must not be null");
+        int size = results.size();
+        Object[] values = new Object[size];
+        long[] failed = new long[words(size)];
+        ErrorTable table = new ErrorTable(0);
+        int lane = 0;
+        for (ValueResult<? extends V, ? extends E> result : results) {
+            requireNonNull(result, "results must not contain null");
+            if (result.hasFailed()) {
+                failed[lane >>> 6] |= 1L << lane;
+                table.add(lane, result.error());
+            } else {
+                values[lane] = result.value();
+            }
+            lane++;
+        }
+        return table.build(size, values, failed);
+    }
+
+    /**
+     * Returns the number of lanes.
+     *
+     * @return the number of lanes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of failed lanes.
+     *
+     * @return the number of failed lanes
+     */
+    public int failureCount() {
+        return errorLanes.length;
+    }
+
+    /**
+     * Returns {@code true} if the lane with the given index is successful.
+     *
+     * @param index the index of the lane
+     * @return {@code true} if the lane is successful
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public boolean isSuccessful(int index) {
+        checkIndex(index);
+        return (failed[index >>> 6] & (1L << index)) == 0;
+    }
+
+    /**
+     * Returns {@code true} if the lane with the given index has failed.
+     *
+     * @param index the index of the lane
+     * @return {@code true} if the lane has failed
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public boolean hasFailed(int index) {
+        return !isSuccessful(index);
+    }
+
+    /**
+     * Returns the value of the lane with the given index.
+     *
+     * @param index the index of the lane
+     * @return the value
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws IllegalStateException     if the lane has failed
+     */
+    @SuppressWarnings("unchecked")
+    public V value(int index) {
+        if (hasFailed(index)) {
+            throw new IllegalStateException("Failed lane has no value");
+        }
+        return (V) values[index];
+    }
+
+    /**
+     * Returns the error of the lane with the given index.
+     *
+     * @param index the index of the lane
+     * @return the error
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws IllegalStateException     if the lane is successful
+     */
+    @SuppressWarnings("unchecked")
+    public E error(int index) {
+        if (isSuccessful(index)) {
+            throw new IllegalStateException("Successful lane has no error");
+        }
+        return (E) errors[Arrays.binarySearch(errorLanes, index)];
+    }
+
+    /**
+     * Returns the lane with the given index as a {@code ValueResult}.
+     *
+     * @param index the index of the lane
+     * @return a ValueResult, never {@code null}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public ValueResult<V, E> get(int index) {
+        return isSuccessful(index) ? ValueResult.ok(value(index)) : ValueResult.fail(error(index));
+    }
+
+    /**
+     * Maps the values of all successful lanes with the given mapper. Failed lanes keep their error.
+     *
+     * @param mapper the mapper of the values
+     * @param <W>    the type of the mapped values
+     * @return a new ResultBatch, never {@code null}
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     * @see ValueResult#map(Function)
+     */
+    @SuppressWarnings("unchecked")
+    public <W> ResultBatch<W, E> map(Function<? super V, ? extends W> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        Object[] mapped = new Object[size];
+        for (int word = 0; word < failed.length; word++) {
+            long successful = successMask(word);
+            while (successful != 0) {
+                int lane = (word << 6) + Long.numberOfTrailingZeros(successful);
+                mapped[lane] = mapper.apply((V) values[lane]);
+                successful &= successful - 1;
+            }
+        }
+        return new ResultBatch<>(size, mapped, failed, errorLanes, errors);
+    }
+
+    /**
+     * Fails every successful lane whose value does not match the given predicate with the given
+     * error. Failed lanes keep their error.
+     *
+     * @param predicate the predicate which checks the values
+     * @param error     the error of the lanes which do not match; can be {@code null}
+     * @return a new ResultBatch, never {@code null}
+     * @throws NullPointerException if {@code predicate} is {@code null}
+     * @see ValueResult#ensure(Predicate, Object)
+     */
+    @SuppressWarnings("unchecked")
+    public ResultBatch<V, E> ensure(Predicate<? super V> predicate, E error) {
+        requireNonNull(predicate, "predicate must not be null");
+        long[] ensured = null;
+        ErrorTable table = null;
+        int next = 0;
+        for (int word = 0; word < failed.length; word++) {
+            long successful = successMask(word);
+            while (successful != 0) {
+                int lane = (word << 6) + Long.numberOfTrailingZeros(successful);
+                if (!predicate.test((V) values[lane])) {
+                    if (ensured == null) {
+                        // nothing is copied as long as every lane passes
+                        ensured = failed.clone();
+                        table = new ErrorTable(errorLanes.length + 1);
+                    }
+                    next = table.copy(errorLanes, errors, next, lane);
+                    ensured[word] |= 1L << lane;
+                    table.add(lane, error);
+                }
+                successful &= successful - 1;
+            }
+        }
+        if (ensured == null) {
+            return this;
+        }
+        table.copy(errorLanes, errors, next, size);
+        return table.build(size, values, ensured);
+    }
+
+    /**
+     * Fails every successful lane for which the given function returns a failed {@code Result}
+     * with the error of that {@code Result}. Failed lanes keep their error.
+     *
+     * @param function the function which checks the values; must not return {@code null}
+     * @return a new ResultBatch, never {@code null}
+     * @throws NullPointerException if {@code function} is {@code null} or returned {@code null}
+     * @see ValueResult#ensure(Function)
+     */
+    @SuppressWarnings("unchecked")
+    public ResultBatch<V, E> ensure(Function<? super V, ? extends Result<? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        long[] ensured = null;
+        ErrorTable table = null;
+        int next = 0;
+        for (int word = 0; word < failed.length; word++) {
+            long successful = successMask(word);
+            while (successful != 0) {
+                int lane = (word << 6) + Long.numberOfTrailingZeros(successful);
+                Result<? extends E> result = requireNonNull(
+                        function.apply((V) values[lane]),
+                        "function must not return null"
+                );
+                if (result.hasFailed()) {
+                    if (ensured == null) {
+                        ensured = failed.clone();
+                        table = new ErrorTable(errorLanes.length + 1);
+                    }
+                    next = table.copy(errorLanes, errors, next, lane);
+                    ensured[word] |= 1L << lane;
+                    table.add(lane, result.error());
+                }
+                successful &= successful - 1;
+            }
+        }
+        if (ensured == null) {
+            return this;
+        }
+        table.copy(errorLanes, errors, next, size);
+        return table.build(size, values, ensured);
+    }
+
+    /**
+     * Replaces every successful lane with the {@code ValueResult} returned by the given function
+     * for its value. Failed lanes keep their error.
+     *
+     * @param function the function which maps the values; must not return {@code null}
+     * @param <W>      the type of the values of the returned ValueResults
+     * @return a new ResultBatch, never {@code null}
+     * @throws NullPointerException if {@code function} is {@code null} or returned {@code null}
+     * @see ValueResult#flatMap(Function)
+     */
+    @SuppressWarnings("unchecked")
+    public <W> ResultBatch<W, E> flatMap(Function<? super V, ? extends ValueResult<? extends W, ? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        Object[] mapped = new Object[size];
+        long[] flatMapped = failed.clone();
+        ErrorTable table = new ErrorTable(errorLanes.length);
+        int next = 0;
+        for (int word = 0; word < failed.length; word++) {
+            long successful = successMask(word);
+            while (successful != 0) {
+                int lane = (word << 6) + Long.numberOfTrailingZeros(successful);
+                ValueResult<? extends W, ? extends E> result = requireNonNull(
+                        function.apply((V) values[lane]),
+                        "function must not return null"
+                );
+                if (result.hasFailed()) {
+                    next = table.copy(errorLanes, errors, next, lane);
+                    flatMapped[word] |= 1L << lane;
+                    table.add(lane, result.error());
+                } else {
+                    mapped[lane] = result.value();
+                }
+                successful &= successful - 1;
+            }
+        }
+        table.copy(errorLanes, errors, next, size);
+        return table.build(size, mapped, flatMapped);
+    }
+
+    /**
+     * Reduces the batch into a single {@code ValueResult} with the semantics of
+     * {@link ValueResult#sequence(Iterable)}.
+     *
+     * @return a {@code ValueResult} of an unmodifiable {@link Collection} of the values of all
+     * lanes, or of the errors of all failed lanes in the order of the lanes
+     */
+    public ValueResult<Collection<V>, Collection<E>> sequence() {
+        if (errorLanes.length > 0) {
+            @SuppressWarnings("unchecked")
+            List<E> failures = (List<E>) Arrays.asList(errors);
+            return ValueResult.fail(unmodifiableCollection(failures));
+        }
+        @SuppressWarnings("unchecked")
+        List<V> successes = (List<V>) Arrays.asList(values);
+        return ValueResult.ok(unmodifiableCollection(successes));
+    }
+
+    /**
+     * Returns the lanes of the batch as a list of {@code ValueResult}s.
+     *
+     * <p>The returned list is unmodifiable and creates the {@code ValueResult} of a lane on
+     * access; use {@link #toList()} for a list which holds the {@code ValueResult}s.
+     *
+     * @return an unmodifiable view of the lanes, never {@code null}
+     */
+    public List<ValueResult<V, E>> asList() {
+        return new LaneList();
+    }
+
+    /**
+     * Returns the lanes of the batch as a new list of {@code ValueResult}s.
+     *
+     * @return a new modifiable list of ValueResults, never {@code null}
+     */
+    public List<ValueResult<V, E>> toList() {
+        return new ArrayList<>(asList());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ResultBatch{size=%d, failures=%d}", size, errorLanes.length);
+    }
+
+    private long successMask(int word) {
+        long successful = ~failed[word];
+        int remaining = size - (word << 6);
+        return remaining >= 64 ? successful : successful & ((1L << remaining) - 1);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+    }
+
+    private static int words(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    /**
+     * Collects the sparse error table of a new batch in ascending lane order.
+     */
+    private static final class ErrorTable {
+
+        int[] lanes;
+        Object[] errors;
+        int size;
+
+        ErrorTable(int capacity) {
+            lanes = capacity == 0 ? NO_LANES : new int[capacity];
+            errors = capacity == 0 ? NO_ERRORS : new Object[capacity];
+        }
+
+        void add(int lane, Object error) {
+            if (size == lanes.length) {
+                int capacity = Math.max(8, size + (size >> 1));
+                lanes = Arrays.copyOf(lanes, capacity);
+                errors = Arrays.copyOf(errors, capacity);
+            }
+            lanes[size] = lane;
+            errors[size] = error;
+            size++;
+        }
+
+        /**
+         * Copies the entries of the existing table from {@code from} up to the first entry with a
+         * lane of at least {@code lane}, and returns the index of that entry.
+         */
+        int copy(int[] existingLanes, Object[] existingErrors, int from, int lane) {
+            int to = from;
+            while (to < existingLanes.length && existingLanes[to] < lane) {
+                add(existingLanes[to], existingErrors[to]);
+                to++;
+            }
+            return to;
+        }
+
+        <V, E> ResultBatch<V, E> build(int batchSize, Object[] values, long[] failed) {
+            int[] builtLanes = size == lanes.length ? lanes : Arrays.copyOf(lanes, size);
+            Object[] builtErrors = size == errors.length ? errors : Arrays.copyOf(errors, size);
+            return new ResultBatch<>(batchSize, values, failed, builtLanes, builtErrors);
+        }
+    }
+
+    private final class LaneList extends AbstractList<ValueResult<V, E>> implements RandomAccess {
+
+        @Override
+        public ValueResult<V, E> get(int index) {
+            return ResultBatch.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
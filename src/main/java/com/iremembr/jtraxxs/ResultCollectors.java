@@ -0,0 +1,504 @@
+package com.iremembr.jtraxxs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link Collector}s which reduce a {@link java.util.stream.Stream} of {@code ValueResult}s
+ * or {@code VoidResult}s without collecting the results into a list first.
+ *
+ * <p>All collectors keep the encounter order of the stream and merge partial results
+ * correctly, so they can be used with parallel streams as well:
+ * <pre>{@code
+ *     ValueResult<List<Integer>, List<String>> result = inputs.parallelStream()
+ *             .map(this::parse)
+ *             .collect(ResultCollectors.toValueResult());
+ * }</pre>
+ */
+public final class ResultCollectors {
+
+    private ResultCollectors() {
+    }
+
+    /**
+     * Returns a {@code Collector} with the semantics of {@link ValueResult#sequence(Iterable)}.
+     *
+     * <p>The collector returns a successful {@code ValueResult} with an unmodifiable list of
+     * all values when every collected {@code ValueResult} is successful, otherwise a failed
+     * {@code ValueResult} with an unmodifiable list of all errors.
+     *
+     * @param <V> closure of all success types of the collected {@code ValueResult}s
+     * @param <E> closure of all failure types of the collected {@code ValueResult}s
+     * @return a {@code Collector} which reduces {@code ValueResult}s into a single {@code ValueResult}
+     */
+    public static <V, E> Collector<ValueResult<? extends V, ? extends E>, ?, ValueResult<List<V>, List<E>>> toValueResult() {
+        return Collector.of(
+                SequenceAccumulator<V, E>::new,
+                SequenceAccumulator::add,
+                SequenceAccumulator::merge,
+                SequenceAccumulator::finish
+        );
+    }
+
+    /**
+     * Returns a {@code Collector} with the semantics of {@link VoidResult#sequence(Iterable)}.
+     *
+     * @param <E> closure of all failure types of the collected {@code VoidResult}s
+     * @return a {@code Collector} which reduces {@code VoidResult}s into a single {@code VoidResult}
+     * with an unmodifiable list of all errors
+     */
+    public static <E> Collector<VoidResult<? extends E>, ?, VoidResult<List<E>>> toVoidResult() {
+        return Collector.of(
+                ArrayList<E>::new,
+                (errors, result) -> {
+                    if (result.hasFailed()) {
+                        errors.add(result.error());
+                    }
+                },
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                },
+                errors -> errors.isEmpty() ? VoidResult.ok() : VoidResult.fail(unmodifiableList(errors))
+        );
+    }
+
+    /**
+     * Returns a {@code Collector} with the semantics of {@link ValueResult#sequenceEnumErrors(Iterable)}.
+     *
+     * <p>The collector returns a successful {@code ValueResult} with an unmodifiable list of
+     * all values when every collected {@code ValueResult} is successful, otherwise a failed
+     * {@code ValueResult} with the errors counted per enum constant.
+     *
+     * @param <V> closure of all success types of the collected {@code ValueResult}s
+     * @param <E> the enum type of the errors of the collected {@code ValueResult}s
+     * @return a {@code Collector} which reduces {@code ValueResult}s into a single {@code ValueResult}
+     */
+    public static <V, E extends Enum<E>> Collector<ValueResult<? extends V, ? extends E>, ?, ValueResult<List<V>, EnumErrorCounts<E>>> toValueResultEnumErrors() {
+        return Collector.of(
+                EnumSequenceAccumulator<V, E>::new,
+                EnumSequenceAccumulator::add,
+                EnumSequenceAccumulator::merge,
+                EnumSequenceAccumulator::finish
+        );
+    }
+
+    /**
+     * Returns a {@code Collector} with the semantics of {@link VoidResult#sequenceEnumErrors(Iterable)}.
+     *
+     * @param <E> the enum type of the errors of the collected {@code VoidResult}s
+     * @return a {@code Collector} which reduces {@code VoidResult}s into a single {@code VoidResult}
+     * with the errors counted per enum constant
+     */
+    public static <E extends Enum<E>> Collector<VoidResult<? extends E>, ?, VoidResult<EnumErrorCounts<E>>> toVoidResultEnumErrors() {
+        return Collector.of(
+                EnumErrorCounts.Counter<E>::new,
+                (errors, result) -> {
+                    if (result.hasFailed()) {
+                        errors.add(result.error());
+                    }
+                },
+                EnumErrorCounts.Counter::merge,
+                errors -> errors.isEmpty() ? VoidResult.ok() : VoidResult.fail(errors.build())
+        );
+    }
+
+    /**
+     * Returns a {@code Collector} with the semantics of {@link ValueResult#sequenceHistogram(Iterable, int)}.
+     *
+     * <p>The indexes in the returned {@link ErrorHistogram} are the positions of the failed
+     * {@code ValueResult}s in encounter order.
+     *
+     * @param maxIndexes the maximal number of indexes kept per distinct error
+     * @param <V>        closure of all success types of the collected {@code ValueResult}s
+     * @param <E>        closure of all failure types of the collected {@code ValueResult}s
+     * @return a {@code Collector} which reduces {@code ValueResult}s into a single {@code ValueResult}
+     * @throws IllegalArgumentException if {@code maxIndexes} is negative
+     */
+    public static <V, E> Collector<ValueResult<? extends V, ? extends E>, ?, ValueResult<List<V>, ErrorHistogram<E>>> toValueResultHistogram(
+            int maxIndexes
+    ) {
+        ErrorHistogram.Counter.checkMaxIndexes(maxIndexes);
+        return Collector.of(
+                () -> new HistogramAccumulator<V, E>(maxIndexes),
+                HistogramAccumulator::add,
+                HistogramAccumulator::merge,
+                HistogramAccumulator::finish
+        );
+    }
+
+    /**
+     * Returns a {@code Collector} with the semantics of {@link VoidResult#sequenceHistogram(Iterable, int)}.
+     *
+     * @param maxIndexes the maximal number of indexes kept per distinct error
+     * @param <E>        closure of all failure types of the collected {@code VoidResult}s
+     * @return a {@code Collector} which reduces {@code VoidResult}s into a single {@code VoidResult}
+     * with the histogram of the errors
+     * @throws IllegalArgumentException if {@code maxIndexes} is negative
+     */
+    public static <E> Collector<VoidResult<? extends E>, ?, VoidResult<ErrorHistogram<E>>> toVoidResultHistogram(
+            int maxIndexes
+    ) {
+        ErrorHistogram.Counter.checkMaxIndexes(maxIndexes);
+        return Collector.of(
+                () -> new HistogramAccumulator<Void, E>(maxIndexes),
+                HistogramAccumulator::addVoid,
+                HistogramAccumulator::merge,
+                accumulator -> accumulator.errors.isEmpty() ? VoidResult.ok() : VoidResult.fail(accumulator.errors.build())
+        );
+    }
+
+    /**
+     * Returns a {@code Collector} which stops at the first failed {@code ValueResult} like
+     * {@link ValueResult#sequenceFailFast(Iterable)}.
+     *
+     * <p>A {@code Collector} can not stop the stream from supplying elements, but every element
+     * after the first failure is ignored without looking at it. In a parallel stream the error of
+     * the failed {@code ValueResult} which comes first in encounter order is returned.
+     *
+     * @param <V> closure of all success types of the collected {@code ValueResult}s
+     * @param <E> closure of all failure types of the collected {@code ValueResult}s
+     * @return a {@code Collector} which returns a successful {@code ValueResult} with an
+     * unmodifiable list of all values or a failed {@code ValueResult} with the first error
+     */
+    public static <V, E> Collector<ValueResult<? extends V, ? extends E>, ?, ValueResult<List<V>, E>> toValueResultFailFast() {
+        return Collector.of(
+                FailFastAccumulator<V, E>::new,
+                FailFastAccumulator::add,
+                FailFastAccumulator::merge,
+                FailFastAccumulator::finish
+        );
+    }
+
+    /**
+     * Returns a {@code Collector} which partitions the collected {@code ValueResult}s into
+     * their values and their errors in a single pass.
+     *
+     * @param <V> closure of all success types of the collected {@code ValueResult}s
+     * @param <E> closure of all failure types of the collected {@code ValueResult}s
+     * @return a {@code Collector} which returns the values and errors of all {@code ValueResult}s
+     */
+    public static <V, E> Collector<ValueResult<? extends V, ? extends E>, ?, Partition<V, E>> partitioning() {
+        return teeing(
+                Collector.<V, List<V>>of(ArrayList::new, List::add, ResultCollectors::concat),
+                Collector.<E, List<E>>of(ArrayList::new, List::add, ResultCollectors::concat),
+                (values, errors) -> new Partition<>(unmodifiableList(values), unmodifiableList(errors))
+        );
+    }
+
+    /**
+     * Returns a {@code Collector} which feeds the values of successful {@code ValueResult}s into
+     * {@code success} and the errors of failed {@code ValueResult}s into {@code failure} at the
+     * same time and merges both results with {@code merger}.
+     *
+     * <pre>{@code
+     *     // = number of valid entries and the distinct errors
+     *     results.stream().collect(teeing(counting(), toSet(), Report::new))
+     * }</pre>
+     *
+     * @param success the {@code Collector} for the values of the successful {@code ValueResult}s
+     * @param failure the {@code Collector} for the errors of the failed {@code ValueResult}s
+     * @param merger  the function which merges the results of both collectors
+     * @param <V>     closure of all success types of the collected {@code ValueResult}s
+     * @param <E>     closure of all failure types of the collected {@code ValueResult}s
+     * @param <R>     the result type of the {@code success} collector
+     * @param <S>     the result type of the {@code failure} collector
+     * @param <T>     the result type of the returned collector
+     * @return a {@code Collector} which delegates to both given collectors
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <V, E, R, S, T> Collector<ValueResult<? extends V, ? extends E>, ?, T> teeing(
+            Collector<? super V, ?, R> success,
+            Collector<? super E, ?, S> failure,
+            BiFunction<? super R, ? super S, ? extends T> merger
+    ) {
+        requireNonNull(success, "success must not be null");
+        requireNonNull(failure, "failure must not be null");
+        requireNonNull(merger, "merger must not be null");
+        return tee(success, failure, merger);
+    }
+
+    private static <V, E, A, R, B, S, T> Collector<ValueResult<? extends V, ? extends E>, ?, T> tee(
+            Collector<? super V, A, R> success,
+            Collector<? super E, B, S> failure,
+            BiFunction<? super R, ? super S, ? extends T> merger
+    ) {
+        Supplier<A> successSupplier = success.supplier();
+        Supplier<B> failureSupplier = failure.supplier();
+        BiConsumer<A, ? super V> successAccumulator = success.accumulator();
+        BiConsumer<B, ? super E> failureAccumulator = failure.accumulator();
+        BinaryOperator<A> successCombiner = success.combiner();
+        BinaryOperator<B> failureCombiner = failure.combiner();
+        Function<A, R> successFinisher = success.finisher();
+        Function<B, S> failureFinisher = failure.finisher();
+        return Collector.<ValueResult<? extends V, ? extends E>, TeeAccumulator<A, B>, T>of(
+                () -> new TeeAccumulator<>(successSupplier.get(), failureSupplier.get()),
+                (accumulator, result) -> {
+                    if (result.hasFailed()) {
+                        failureAccumulator.accept(accumulator.failure, result.error());
+                    } else {
+                        successAccumulator.accept(accumulator.success, result.value());
+                    }
+                },
+                (left, right) -> new TeeAccumulator<>(
+                        successCombiner.apply(left.success, right.success),
+                        failureCombiner.apply(left.failure, right.failure)
+                ),
+                accumulator -> merger.apply(
+                        successFinisher.apply(accumulator.success),
+                        failureFinisher.apply(accumulator.failure)
+                )
+        );
+    }
+
+    private static <T> List<T> concat(List<T> left, List<T> right) {
+        left.addAll(right);
+        return left;
+    }
+
+    /**
+     * The values and errors of a stream of {@code ValueResult}s in encounter order.
+     *
+     * @param <V> the type of the values
+     * @param <E> the type of the errors
+     */
+    public static final class Partition<V, E> {
+
+        private final List<V> values;
+        private final List<E> errors;
+
+        Partition(List<V> values, List<E> errors) {
+            this.values = values;
+            this.errors = errors;
+        }
+
+        /**
+         * Returns the values of all successful {@code ValueResult}s.
+         *
+         * @return an unmodifiable list of values
+         */
+        public List<V> values() {
+            return values;
+        }
+
+        /**
+         * Returns the errors of all failed {@code ValueResult}s.
+         *
+         * @return an unmodifiable list of errors
+         */
+        public List<E> errors() {
+            return errors;
+        }
+
+        /**
+         * Returns {@code true} if at least one of the {@code ValueResult}s has failed.
+         *
+         * @return {@code true} if there are errors
+         */
+        public boolean hasErrors() {
+            return !errors.isEmpty();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Partition)) {
+                return false;
+            }
+            Partition<?, ?> other = (Partition<?, ?>) obj;
+            return values.equals(other.values) && errors.equals(other.errors);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(values, errors);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Partition{values=%s, errors=%s}", values, errors);
+        }
+    }
+
+    private static final class SequenceAccumulator<V, E> {
+
+        private List<V> values = new ArrayList<>();
+        private List<E> errors;
+
+        void add(ValueResult<? extends V, ? extends E> result) {
+            if (result.hasFailed()) {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                    // the values are of no interest anymore once the first error occurred
+                    values = null;
+                }
+                errors.add(result.error());
+            } else if (errors == null) {
+                values.add(result.value());
+            }
+        }
+
+        SequenceAccumulator<V, E> merge(SequenceAccumulator<V, E> right) {
+            if (errors == null && right.errors == null) {
+                values.addAll(right.values);
+                return this;
+            }
+            if (errors == null) {
+                return right;
+            }
+            if (right.errors != null) {
+                errors.addAll(right.errors);
+            }
+            return this;
+        }
+
+        ValueResult<List<V>, List<E>> finish() {
+            return errors == null
+                    ? ValueResult.ok(unmodifiableList(values))
+                    : ValueResult.fail(unmodifiableList(errors));
+        }
+    }
+
+    private static final class EnumSequenceAccumulator<V, E extends Enum<E>> {
+
+        private List<V> values = new ArrayList<>();
+        private EnumErrorCounts.Counter<E> errors;
+
+        void add(ValueResult<? extends V, ? extends E> result) {
+            if (result.hasFailed()) {
+                if (errors == null) {
+                    errors = new EnumErrorCounts.Counter<>();
+                    // the values are of no interest anymore once the first error occurred
+                    values = null;
+                }
+                errors.add(result.error());
+            } else if (errors == null) {
+                values.add(result.value());
+            }
+        }
+
+        EnumSequenceAccumulator<V, E> merge(EnumSequenceAccumulator<V, E> right) {
+            if (errors == null && right.errors == null) {
+                values.addAll(right.values);
+                return this;
+            }
+            if (errors == null) {
+                return right;
+            }
+            if (right.errors != null) {
+                errors = errors.merge(right.errors);
+            }
+            return this;
+        }
+
+        ValueResult<List<V>, EnumErrorCounts<E>> finish() {
+            return errors == null
+                    ? ValueResult.ok(unmodifiableList(values))
+                    : ValueResult.fail(errors.build());
+        }
+    }
+
+    private static final class HistogramAccumulator<V, E> {
+
+        private final ErrorHistogram.Counter<E> errors;
+        private List<V> values = new ArrayList<>();
+        // the number of results seen, which is the index of the next one
+        private long size;
+
+        HistogramAccumulator(int maxIndexes) {
+            this.errors = new ErrorHistogram.Counter<>(maxIndexes);
+        }
+
+        void add(ValueResult<? extends V, ? extends E> result) {
+            if (result.hasFailed()) {
+                // the values are of no interest anymore once the first error occurred
+                values = null;
+                errors.add(result.error(), size);
+            } else if (values != null) {
+                values.add(result.value());
+            }
+            size++;
+        }
+
+        void addVoid(VoidResult<? extends E> result) {
+            if (result.hasFailed()) {
+                errors.add(result.error(), size);
+            }
+            size++;
+        }
+
+        HistogramAccumulator<V, E> merge(HistogramAccumulator<V, E> right) {
+            if (values != null && right.values != null) {
+                values.addAll(right.values);
+            } else {
+                values = null;
+            }
+            errors.merge(right.errors, size);
+            size += right.size;
+            return this;
+        }
+
+        ValueResult<List<V>, ErrorHistogram<E>> finish() {
+            return errors.isEmpty()
+                    ? ValueResult.ok(unmodifiableList(values))
+                    : ValueResult.fail(errors.build());
+        }
+    }
+
+    private static final class FailFastAccumulator<V, E> {
+
+        private final List<V> values = new ArrayList<>();
+        private boolean failed;
+        private E error;
+
+        void add(ValueResult<? extends V, ? extends E> result) {
+            if (failed) {
+                return;
+            }
+            if (result.hasFailed()) {
+                failed = true;
+                error = result.error();
+            } else {
+                values.add(result.value());
+            }
+        }
+
+        FailFastAccumulator<V, E> merge(FailFastAccumulator<V, E> right) {
+            if (failed) {
+                return this;
+            }
+            if (right.failed) {
+                return right;
+            }
+            values.addAll(right.values);
+            return this;
+        }
+
+        ValueResult<List<V>, E> finish() {
+            return failed ? ValueResult.fail(error) : ValueResult.ok(unmodifiableList(values));
+        }
+    }
+
+    private static final class TeeAccumulator<A, B> {
+
+        private final A success;
+        private final B failure;
+
+        TeeAccumulator(A success, B failure) {
+            this.success = success;
+            this.failure = failure;
+        }
+    }
+}
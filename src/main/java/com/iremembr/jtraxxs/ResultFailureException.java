@@ -0,0 +1,115 @@
+package com.iremembr.jtraxxs;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thrown by {@link ValueResult#orElseThrow()} when the {@code ValueResult} has failed. It
+ * carries the error of the {@code ValueResult}.
+ *
+ * <p>Filling in the stack trace is by far the most expensive part of creating an exception,
+ * and a failed {@code ValueResult} already describes what went wrong. A
+ * {@code ResultFailureException} therefore has no stack trace by default. Stack traces can be
+ * captured for every exception or for every n-th exception with the system property
+ * {@value #STACK_TRACE_INTERVAL_PROPERTY}, which is read once when the class is loaded:
+ * <pre>{@code
+ *     # capture a stack trace for one of 1000 exceptions
+ *     java -Dcom.iremembr.jtraxxs.stackTraceInterval=1000 ...
+ * }</pre>
+ *
+ * <p>The message of the exception is only built from the error when it is requested.
+ *
+ * <p>When the exception is serialized, the error is serialized with it if it is
+ * {@link Serializable}; otherwise its string representation is serialized instead, so the
+ * deserialized exception has the same message and {@link #getError()} returns that string.
+ */
+public final class ResultFailureException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The name of the system property which sets the initial stack trace interval.
+     */
+    public static final String STACK_TRACE_INTERVAL_PROPERTY = "com.iremembr.jtraxxs.stackTraceInterval";
+
+    private static final AtomicLong CREATED = new AtomicLong();
+    private static volatile int stackTraceInterval = Math.max(0, Integer.getInteger(STACK_TRACE_INTERVAL_PROPERTY, 0));
+
+    // serialized by writeObject, because the error need not be Serializable
+    private transient Object error;
+
+    /**
+     * Creates a {@code ResultFailureException} with the given error. Whether it has a stack
+     * trace depends on the current {@link #getStackTraceInterval() stack trace interval}.
+     *
+     * @param error the error of the failed result; can be {@code null}
+     */
+    public ResultFailureException(Object error) {
+        this(error, captureStackTrace());
+    }
+
+    /**
+     * Creates a {@code ResultFailureException} with the given error, which has a stack trace
+     * if {@code writableStackTrace} is {@code true}, regardless of the stack trace interval.
+     *
+     * @param error              the error of the failed result; can be {@code null}
+     * @param writableStackTrace whether the stack trace should be captured
+     */
+    public ResultFailureException(Object error, boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
+        this.error = error;
+    }
+
+    /**
+     * Returns the error of the failed result.
+     *
+     * @return the error; can be {@code null}
+     */
+    public Object getError() {
+        return error;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Result has failed with error: " + error;
+    }
+
+    /**
+     * Returns how often a {@code ResultFailureException} captures its stack trace.
+     *
+     * @return {@code 0} if stack traces are never captured, {@code 1} if they are always
+     * captured, or {@code n} if every n-th exception captures its stack trace
+     */
+    public static int getStackTraceInterval() {
+        return stackTraceInterval;
+    }
+
+    // only for the tests, applications set the interval with the system property
+    static void setStackTraceInterval(int interval) {
+        if (interval < 0) {
+            throw new IllegalArgumentException(String.format("interval must not be negative, but was %d", interval));
+        }
+        stackTraceInterval = interval;
+    }
+
+    private static boolean captureStackTrace() {
+        int interval = stackTraceInterval;
+        if (interval <= 1) {
+            return interval == 1;
+        }
+        return CREATED.getAndIncrement() % interval == 0;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(error == null || error instanceof Serializable ? error : String.valueOf(error));
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        error = in.readObject();
+    }
+}
@@ -0,0 +1,213 @@
+package com.iremembr.jtraxxs;
+
+import java.util.OptionalDouble;
+import java.util.function.*;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+final class SuccessfulDoubleValueResult<E> extends DoubleValueResult<E> {
+
+    private final double value;
+
+    SuccessfulDoubleValueResult(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SuccessfulDoubleValueResult)) {
+            return false;
+        }
+        SuccessfulDoubleValueResult<?> other = (SuccessfulDoubleValueResult<?>) obj;
+        return Double.compare(value, other.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SuccessfulDoubleValueResult{value=%s}", value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> DoubleValueResult<F> castError(Class<F> clazz) {
+        return (DoubleValueResult<F>) this;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return true;
+    }
+
+    @Override
+    public double value() {
+        return value;
+    }
+
+    @Override
+    public E error() {
+        throw new IllegalStateException("Successful DoubleValueResult has no error");
+    }
+
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.of(value);
+    }
+
+    @Override
+    public Stream<E> errorStream() {
+        return Stream.empty();
+    }
+
+    @Override
+    public DoubleValueResult<E> onSuccess(Runnable runnable) {
+        requireNonNull(runnable, "runnable must not be null");
+        runnable.run();
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> onSuccess(DoubleConsumer consumer) {
+        requireNonNull(consumer, "consumer must not be null");
+        consumer.accept(value);
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> onFailure(Runnable runnable) {
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> onFailure(Consumer<? super E> consumer) {
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> onBoth(DoubleConsumer success, Consumer<? super E> failure) {
+        requireNonNull(success, "success must not be null");
+        success.accept(value);
+        return this;
+    }
+
+    @Override
+    public DoubleValueResult<E> ensure(boolean flag, E error) {
+        return flag ? this : fail(error);
+    }
+
+    @Override
+    public DoubleValueResult<E> ensure(BooleanSupplier supplier, E error) {
+        requireNonNull(supplier, "supplier must not be null");
+        return ensure(supplier.getAsBoolean(), error);
+    }
+
+    @Override
+    public DoubleValueResult<E> ensure(DoublePredicate predicate, E error) {
+        requireNonNull(predicate, "predicate must not be null");
+        return predicate.test(value) ? this : fail(error);
+    }
+
+    @Override
+    public DoubleValueResult<E> ensure(Result<? extends E> result) {
+        requireNonNull(result, "result must not be null");
+        return result.hasFailed() ? fail(result.error()) : this;
+    }
+
+    @Override
+    public DoubleValueResult<E> ensure(DoubleFunction<? extends Result<? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        Result<? extends E> result = function.apply(value);
+        return result.hasFailed() ? fail(result.error()) : this;
+    }
+
+    @Override
+    public DoubleValueResult<E> map(DoubleUnaryOperator mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return ok(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    public <W> ValueResult<W, E> mapToObj(DoubleFunction<? extends W> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return ValueResult.ok(mapper.apply(value));
+    }
+
+    @Override
+    public IntValueResult<E> mapToInt(DoubleToIntFunction mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return IntValueResult.ok(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public LongValueResult<E> mapToLong(DoubleToLongFunction mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return LongValueResult.ok(mapper.applyAsLong(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DoubleValueResult<E> flatMap(DoubleFunction<? extends DoubleValueResult<? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        return requireNonNull((DoubleValueResult<E>) function.apply(value));
+    }
+
+    @Override
+    public DoubleValueResult<E> combine(DoubleBinaryOperator operator, DoubleValueResult<? extends E> other) {
+        requireNonNull(operator, "operator must not be null");
+        requireNonNull(other, "other must not be null");
+        return other.isSuccessful()
+                ? ok(operator.applyAsDouble(value, other.value()))
+                : fail(other.error());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> DoubleValueResult<F> mapError(Function<? super E, ? extends F> mapper) {
+        return (DoubleValueResult<F>) this;
+    }
+
+    @Override
+    public double orElse(double other) {
+        return value;
+    }
+
+    @Override
+    public double orElseGet(ToDoubleFunction<? super E> function) {
+        return value;
+    }
+
+    @Override
+    public <X extends Throwable> double orElseThrow(Supplier<? extends X> exceptionSupplier) {
+        return value;
+    }
+
+    @Override
+    public <T> T fold(DoubleFunction<? extends T> success, Function<? super E, ? extends T> failure) {
+        requireNonNull(success, "success must not be null");
+        return success.apply(value);
+    }
+
+    @Override
+    public OptionalDouble toOptional() {
+        return OptionalDouble.of(value);
+    }
+
+    @Override
+    public VoidResult<E> toVoidResult() {
+        return VoidResult.ok();
+    }
+
+    @Override
+    public ValueResult<Double, E> boxed() {
+        return ValueResult.ok(value);
+    }
+}
@@ -0,0 +1,213 @@
+package com.iremembr.jtraxxs;
+
+import java.util.OptionalInt;
+import java.util.function.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+final class SuccessfulIntValueResult<E> extends IntValueResult<E> {
+
+    private final int value;
+
+    SuccessfulIntValueResult(int value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SuccessfulIntValueResult)) {
+            return false;
+        }
+        SuccessfulIntValueResult<?> other = (SuccessfulIntValueResult<?>) obj;
+        return value == other.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SuccessfulIntValueResult{value=%s}", value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> IntValueResult<F> castError(Class<F> clazz) {
+        return (IntValueResult<F>) this;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return true;
+    }
+
+    @Override
+    public int value() {
+        return value;
+    }
+
+    @Override
+    public E error() {
+        throw new IllegalStateException("Successful IntValueResult has no error");
+    }
+
+    @Override
+    public IntStream stream() {
+        return IntStream.of(value);
+    }
+
+    @Override
+    public Stream<E> errorStream() {
+        return Stream.empty();
+    }
+
+    @Override
+    public IntValueResult<E> onSuccess(Runnable runnable) {
+        requireNonNull(runnable, "runnable must not be null");
+        runnable.run();
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> onSuccess(IntConsumer consumer) {
+        requireNonNull(consumer, "consumer must not be null");
+        consumer.accept(value);
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> onFailure(Runnable runnable) {
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> onFailure(Consumer<? super E> consumer) {
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> onBoth(IntConsumer success, Consumer<? super E> failure) {
+        requireNonNull(success, "success must not be null");
+        success.accept(value);
+        return this;
+    }
+
+    @Override
+    public IntValueResult<E> ensure(boolean flag, E error) {
+        return flag ? this : fail(error);
+    }
+
+    @Override
+    public IntValueResult<E> ensure(BooleanSupplier supplier, E error) {
+        requireNonNull(supplier, "supplier must not be null");
+        return ensure(supplier.getAsBoolean(), error);
+    }
+
+    @Override
+    public IntValueResult<E> ensure(IntPredicate predicate, E error) {
+        requireNonNull(predicate, "predicate must not be null");
+        return predicate.test(value) ? this : fail(error);
+    }
+
+    @Override
+    public IntValueResult<E> ensure(Result<? extends E> result) {
+        requireNonNull(result, "result must not be null");
+        return result.hasFailed() ? fail(result.error()) : this;
+    }
+
+    @Override
+    public IntValueResult<E> ensure(IntFunction<? extends Result<? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        Result<? extends E> result = function.apply(value);
+        return result.hasFailed() ? fail(result.error()) : this;
+    }
+
+    @Override
+    public IntValueResult<E> map(IntUnaryOperator mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return ok(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public <W> ValueResult<W, E> mapToObj(IntFunction<? extends W> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return ValueResult.ok(mapper.apply(value));
+    }
+
+    @Override
+    public LongValueResult<E> mapToLong(IntToLongFunction mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return LongValueResult.ok(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public DoubleValueResult<E> mapToDouble(IntToDoubleFunction mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return DoubleValueResult.ok(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public IntValueResult<E> flatMap(IntFunction<? extends IntValueResult<? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        return requireNonNull((IntValueResult<E>) function.apply(value));
+    }
+
+    @Override
+    public IntValueResult<E> combine(IntBinaryOperator operator, IntValueResult<? extends E> other) {
+        requireNonNull(operator, "operator must not be null");
+        requireNonNull(other, "other must not be null");
+        return other.isSuccessful()
+                ? ok(operator.applyAsInt(value, other.value()))
+                : fail(other.error());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> IntValueResult<F> mapError(Function<? super E, ? extends F> mapper) {
+        return (IntValueResult<F>) this;
+    }
+
+    @Override
+    public int orElse(int other) {
+        return value;
+    }
+
+    @Override
+    public int orElseGet(ToIntFunction<? super E> function) {
+        return value;
+    }
+
+    @Override
+    public <X extends Throwable> int orElseThrow(Supplier<? extends X> exceptionSupplier) {
+        return value;
+    }
+
+    @Override
+    public <T> T fold(IntFunction<? extends T> success, Function<? super E, ? extends T> failure) {
+        requireNonNull(success, "success must not be null");
+        return success.apply(value);
+    }
+
+    @Override
+    public OptionalInt toOptional() {
+        return OptionalInt.of(value);
+    }
+
+    @Override
+    public VoidResult<E> toVoidResult() {
+        return VoidResult.ok();
+    }
+
+    @Override
+    public ValueResult<Integer, E> boxed() {
+        return ValueResult.ok(value);
+    }
+}
@@ -0,0 +1,213 @@
+package com.iremembr.jtraxxs;
+
+import java.util.OptionalLong;
+import java.util.function.*;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+final class SuccessfulLongValueResult<E> extends LongValueResult<E> {
+
+    private final long value;
+
+    SuccessfulLongValueResult(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SuccessfulLongValueResult)) {
+            return false;
+        }
+        SuccessfulLongValueResult<?> other = (SuccessfulLongValueResult<?>) obj;
+        return value == other.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SuccessfulLongValueResult{value=%s}", value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> LongValueResult<F> castError(Class<F> clazz) {
+        return (LongValueResult<F>) this;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return true;
+    }
+
+    @Override
+    public long value() {
+        return value;
+    }
+
+    @Override
+    public E error() {
+        throw new IllegalStateException("Successful LongValueResult has no error");
+    }
+
+    @Override
+    public LongStream stream() {
+        return LongStream.of(value);
+    }
+
+    @Override
+    public Stream<E> errorStream() {
+        return Stream.empty();
+    }
+
+    @Override
+    public LongValueResult<E> onSuccess(Runnable runnable) {
+        requireNonNull(runnable, "runnable must not be null");
+        runnable.run();
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> onSuccess(LongConsumer consumer) {
+        requireNonNull(consumer, "consumer must not be null");
+        consumer.accept(value);
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> onFailure(Runnable runnable) {
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> onFailure(Consumer<? super E> consumer) {
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> onBoth(LongConsumer success, Consumer<? super E> failure) {
+        requireNonNull(success, "success must not be null");
+        success.accept(value);
+        return this;
+    }
+
+    @Override
+    public LongValueResult<E> ensure(boolean flag, E error) {
+        return flag ? this : fail(error);
+    }
+
+    @Override
+    public LongValueResult<E> ensure(BooleanSupplier supplier, E error) {
+        requireNonNull(supplier, "supplier must not be null");
+        return ensure(supplier.getAsBoolean(), error);
+    }
+
+    @Override
+    public LongValueResult<E> ensure(LongPredicate predicate, E error) {
+        requireNonNull(predicate, "predicate must not be null");
+        return predicate.test(value) ? this : fail(error);
+    }
+
+    @Override
+    public LongValueResult<E> ensure(Result<? extends E> result) {
+        requireNonNull(result, "result must not be null");
+        return result.hasFailed() ? fail(result.error()) : this;
+    }
+
+    @Override
+    public LongValueResult<E> ensure(LongFunction<? extends Result<? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        Result<? extends E> result = function.apply(value);
+        return result.hasFailed() ? fail(result.error()) : this;
+    }
+
+    @Override
+    public LongValueResult<E> map(LongUnaryOperator mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return ok(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public <W> ValueResult<W, E> mapToObj(LongFunction<? extends W> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return ValueResult.ok(mapper.apply(value));
+    }
+
+    @Override
+    public IntValueResult<E> mapToInt(LongToIntFunction mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return IntValueResult.ok(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public DoubleValueResult<E> mapToDouble(LongToDoubleFunction mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return DoubleValueResult.ok(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public LongValueResult<E> flatMap(LongFunction<? extends LongValueResult<? extends E>> function) {
+        requireNonNull(function, "function must not be null");
+        return requireNonNull((LongValueResult<E>) function.apply(value));
+    }
+
+    @Override
+    public LongValueResult<E> combine(LongBinaryOperator operator, LongValueResult<? extends E> other) {
+        requireNonNull(operator, "operator must not be null");
+        requireNonNull(other, "other must not be null");
+        return other.isSuccessful()
+                ? ok(operator.applyAsLong(value, other.value()))
+                : fail(other.error());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> LongValueResult<F> mapError(Function<? super E, ? extends F> mapper) {
+        return (LongValueResult<F>) this;
+    }
+
+    @Override
+    public long orElse(long other) {
+        return value;
+    }
+
+    @Override
+    public long orElseGet(ToLongFunction<? super E> function) {
+        return value;
+    }
+
+    @Override
+    public <X extends Throwable> long orElseThrow(Supplier<? extends X> exceptionSupplier) {
+        return value;
+    }
+
+    @Override
+    public <T> T fold(LongFunction<? extends T> success, Function<? super E, ? extends T> failure) {
+        requireNonNull(success, "success must not be null");
+        return success.apply(value);
+    }
+
+    @Override
+    public OptionalLong toOptional() {
+        return OptionalLong.of(value);
+    }
+
+    @Override
+    public VoidResult<E> toVoidResult() {
+        return VoidResult.ok();
+    }
+
+    @Override
+    public ValueResult<Long, E> boxed() {
+        return ValueResult.ok(value);
+    }
+}
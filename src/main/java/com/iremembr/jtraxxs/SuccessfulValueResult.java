@@ -121,12 +121,49 @@ final class SuccessfulValueResult<V, E> extends ValueResult<V, E> {
         return ensure(supplier.get(), error);
     }
 
+    @Override
+    public ValueResult<V, E> ensure(BooleanSupplier supplier, E error) {
+        requireNonNull(supplier, "supplier must not be null");
+        return ensure(supplier.getAsBoolean(), error);
+    }
+
     @Override
     public ValueResult<V, E> ensure(Predicate<? super V> predicate, E error) {
         requireNonNull(predicate, "runnable must not be null");
         return predicate.test(value()) ? this : fail(error);
     }
 
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(boolean flag, Supplier<? extends E> errorSupplier) {
+        if (flag) {
+            return this;
+        }
+        requireNonNull(errorSupplier, "errorSupplier must not be null");
+        return fail(errorSupplier.get());
+    }
+
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(BooleanSupplier supplier, Supplier<? extends E> errorSupplier) {
+        requireNonNull(supplier, "supplier must not be null");
+        return ensureOrElseGet(supplier.getAsBoolean(), errorSupplier);
+    }
+
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(Predicate<? super V> predicate, Supplier<? extends E> errorSupplier) {
+        requireNonNull(predicate, "predicate must not be null");
+        return ensureOrElseGet(predicate.test(value), errorSupplier);
+    }
+
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(Predicate<? super V> predicate, Function<? super V, ? extends E> errorFunction) {
+        requireNonNull(predicate, "predicate must not be null");
+        if (predicate.test(value)) {
+            return this;
+        }
+        requireNonNull(errorFunction, "errorFunction must not be null");
+        return fail(errorFunction.apply(value));
+    }
+
     @Override
     public ValueResult<V, E> ensure(Result<? extends E> result) {
         requireNonNull(result, "result must not be null");
@@ -175,8 +212,27 @@ final class SuccessfulValueResult<V, E> extends ValueResult<V, E> {
     }
 
     @Override
+    public IntValueResult<E> mapToInt(ToIntFunction<? super V> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return IntValueResult.ok(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public LongValueResult<E> mapToLong(ToLongFunction<? super V> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return LongValueResult.ok(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public DoubleValueResult<E> mapToDouble(ToDoubleFunction<? super V> mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        return DoubleValueResult.ok(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
     public <W> ValueResult<V, W> mapError(Function<? super E, ? extends W> mapper) {
-        return ok(this.value());
+        return (ValueResult<V, W>) this;
     }
 
     @Override
@@ -211,12 +267,35 @@ final class SuccessfulValueResult<V, E> extends ValueResult<V, E> {
         return value;
     }
 
+    @Override
+    public V orElseThrow() {
+        return value;
+    }
+
     @Override
     public <T> T fold(Function<? super V, ? extends T> success, Function<? super E, ? extends T> failure) {
         requireNonNull(success, "success must not be null");
         return success.apply(value);
     }
 
+    @Override
+    public int foldToInt(ToIntFunction<? super V> success, ToIntFunction<? super E> failure) {
+        requireNonNull(success, "success must not be null");
+        return success.applyAsInt(value);
+    }
+
+    @Override
+    public long foldToLong(ToLongFunction<? super V> success, ToLongFunction<? super E> failure) {
+        requireNonNull(success, "success must not be null");
+        return success.applyAsLong(value);
+    }
+
+    @Override
+    public double foldToDouble(ToDoubleFunction<? super V> success, ToDoubleFunction<? super E> failure) {
+        requireNonNull(success, "success must not be null");
+        return success.applyAsDouble(value);
+    }
+
     @Override
     public Optional<V> toOptional() {
         return Optional.ofNullable(value);
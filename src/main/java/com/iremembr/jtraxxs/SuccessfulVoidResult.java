@@ -1,5 +1,6 @@
 package com.iremembr.jtraxxs;
 
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -9,7 +10,9 @@ import static java.util.Objects.requireNonNull;
 
 final class SuccessfulVoidResult<E> extends VoidResult<E> {
 
-    SuccessfulVoidResult() {
+    static final SuccessfulVoidResult<?> INSTANCE = new SuccessfulVoidResult<>();
+
+    private SuccessfulVoidResult() {
     }
 
     @Override
@@ -82,6 +85,27 @@ final class SuccessfulVoidResult<E> extends VoidResult<E> {
         return ensure(supplier.get(), error);
     }
 
+    @Override
+    public VoidResult<E> ensure(BooleanSupplier supplier, E error) {
+        requireNonNull(supplier, "supplier must not be null");
+        return ensure(supplier.getAsBoolean(), error);
+    }
+
+    @Override
+    public VoidResult<E> ensureOrElseGet(boolean flag, Supplier<? extends E> errorSupplier) {
+        if (flag) {
+            return this;
+        }
+        requireNonNull(errorSupplier, "errorSupplier must not be null");
+        return fail(errorSupplier.get());
+    }
+
+    @Override
+    public VoidResult<E> ensureOrElseGet(BooleanSupplier supplier, Supplier<? extends E> errorSupplier) {
+        requireNonNull(supplier, "supplier must not be null");
+        return ensureOrElseGet(supplier.getAsBoolean(), errorSupplier);
+    }
+
     @Override
     public VoidResult<E> ensure(Result<? extends E> result) {
         requireNonNull(result, "result must not be null");
@@ -96,8 +120,9 @@ final class SuccessfulVoidResult<E> extends VoidResult<E> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <S> VoidResult<S> mapError(Function<? super E, ? extends S> function) {
-        return ok();
+        return (VoidResult<S>) this;
     }
 
     @Override
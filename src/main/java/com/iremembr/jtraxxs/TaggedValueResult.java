@@ -0,0 +1,468 @@
+package com.iremembr.jtraxxs;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.*;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A successful or failed {@code ValueResult} in a single class, which is used instead of
+ * {@link SuccessfulValueResult} and {@link FailedValueResult} when the tagged representation
+ * is enabled.
+ *
+ * <p>The state is kept in the {@code failed} tag and every operator branches on it. A call site
+ * which receives successful and failed {@code ValueResult}s therefore only sees this class and
+ * stays monomorphic. The behaviour, {@code toString()} included, is the same as the one of the
+ * polymorphic implementations.
+ */
+final class TaggedValueResult<V, E> extends ValueResult<V, E> {
+
+    static final String PROPERTY = "com.iremembr.jtraxxs.taggedResults";
+    // read once, so the JIT folds the choice of the representation in ok() and fail()
+    static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    private final boolean failed;
+    // the value of a successful result or the error of a failed result
+    private final Object payload;
+
+    private TaggedValueResult(boolean failed, Object payload) {
+        this.failed = failed;
+        this.payload = payload;
+    }
+
+    static <V, E> TaggedValueResult<V, E> success(V value) {
+        return new TaggedValueResult<>(false, value);
+    }
+
+    static <V, E> TaggedValueResult<V, E> failure(E error) {
+        return new TaggedValueResult<>(true, error);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V unsafeValue() {
+        return (V) payload;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E unsafeError() {
+        return (E) payload;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <W, F> ValueResult<W, F> self() {
+        return (ValueResult<W, F>) this;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof TaggedValueResult)) {
+            return false;
+        }
+        TaggedValueResult<?, ?> other = (TaggedValueResult<?, ?>) obj;
+        return failed == other.failed && Objects.equals(payload, other.payload);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Boolean.hashCode(failed) + Objects.hashCode(payload);
+    }
+
+    @Override
+    public String toString() {
+        return failed
+                ? String.format("FailedValueResult{error=%s}", payload)
+                : String.format("SuccessfulValueResult{value=%s}", payload);
+    }
+
+    @Override
+    public <W> ValueResult<W, E> castValue(Class<W> clazz) {
+        if (!failed && !clazz.isAssignableFrom(payload.getClass())) {
+            throw new IllegalArgumentException(String.format(
+                    "Can not cast the value to the given type. The given type is not a superclass of the"
+                    + " type of the value. value type ='%s', given type = '%s', value = '%s'",
+                    payload.getClass(), clazz, payload
+            ));
+        }
+        return self();
+    }
+
+    @Override
+    public <F> ValueResult<V, F> castError(Class<F> clazz) {
+        if (failed && !clazz.isAssignableFrom(payload.getClass())) {
+            throw new IllegalArgumentException(String.format(
+                    "Can not cast the error to the given type. The given type is not a superclass of the"
+                    + " type of the error. error type ='%s', given type = '%s', error = '%s'",
+                    payload.getClass(), clazz, payload
+            ));
+        }
+        return self();
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return !failed;
+    }
+
+    @Override
+    public boolean hasFailed() {
+        return failed;
+    }
+
+    @Override
+    public V value() {
+        if (failed) {
+            throw new IllegalStateException("Failed ValueResult has no value");
+        }
+        return unsafeValue();
+    }
+
+    @Override
+    public E error() {
+        if (!failed) {
+            throw new IllegalStateException("Successful ValueResult has no error");
+        }
+        return unsafeError();
+    }
+
+    @Override
+    public Stream<V> stream() {
+        return failed ? Stream.empty() : Stream.of(unsafeValue());
+    }
+
+    @Override
+    public Stream<E> errorStream() {
+        return failed ? Stream.of(unsafeError()) : Stream.empty();
+    }
+
+    @Override
+    public ValueResult<V, E> onSuccess(Runnable runnable) {
+        if (!failed) {
+            requireNonNull(runnable, "runnable must not be null");
+            runnable.run();
+        }
+        return this;
+    }
+
+    @Override
+    public ValueResult<V, E> onSuccess(Consumer<? super V> consumer) {
+        if (!failed) {
+            requireNonNull(consumer, "consumer must not be null");
+            consumer.accept(unsafeValue());
+        }
+        return this;
+    }
+
+    @Override
+    public ValueResult<V, E> onFailure(Runnable runnable) {
+        if (failed) {
+            requireNonNull(runnable, "runnable must not be null");
+            runnable.run();
+        }
+        return this;
+    }
+
+    @Override
+    public ValueResult<V, E> onFailure(Consumer<? super E> consumer) {
+        if (failed) {
+            requireNonNull(consumer, "consumer must not be null");
+            consumer.accept(unsafeError());
+        }
+        return this;
+    }
+
+    @Override
+    public ValueResult<V, E> onBoth(Consumer<? super V> success, Consumer<? super E> failure) {
+        if (failed) {
+            requireNonNull(failure, "failure must not be null");
+            failure.accept(unsafeError());
+        } else {
+            requireNonNull(success, "success must not be null");
+            success.accept(unsafeValue());
+        }
+        return this;
+    }
+
+    @Override
+    public ValueResult<V, E> ensure(boolean flag, E error) {
+        return failed || flag ? this : failure(error);
+    }
+
+    @Override
+    public ValueResult<V, E> ensure(Supplier<Boolean> supplier, E error) {
+        if (failed) {
+            return this;
+        }
+        requireNonNull(supplier, "supplier must not be null");
+        return supplier.get() ? this : failure(error);
+    }
+
+    @Override
+    public ValueResult<V, E> ensure(BooleanSupplier supplier, E error) {
+        if (failed) {
+            return this;
+        }
+        requireNonNull(supplier, "supplier must not be null");
+        return supplier.getAsBoolean() ? this : failure(error);
+    }
+
+    @Override
+    public ValueResult<V, E> ensure(Predicate<? super V> predicate, E error) {
+        if (failed) {
+            return this;
+        }
+        requireNonNull(predicate, "predicate must not be null");
+        return predicate.test(unsafeValue()) ? this : failure(error);
+    }
+
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(boolean flag, Supplier<? extends E> errorSupplier) {
+        if (failed || flag) {
+            return this;
+        }
+        requireNonNull(errorSupplier, "errorSupplier must not be null");
+        return failure(errorSupplier.get());
+    }
+
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(BooleanSupplier supplier, Supplier<? extends E> errorSupplier) {
+        if (failed) {
+            return this;
+        }
+        requireNonNull(supplier, "supplier must not be null");
+        return ensureOrElseGet(supplier.getAsBoolean(), errorSupplier);
+    }
+
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(Predicate<? super V> predicate, Supplier<? extends E> errorSupplier) {
+        if (failed) {
+            return this;
+        }
+        requireNonNull(predicate, "predicate must not be null");
+        return ensureOrElseGet(predicate.test(unsafeValue()), errorSupplier);
+    }
+
+    @Override
+    public ValueResult<V, E> ensureOrElseGet(Predicate<? super V> predicate, Function<? super V, ? extends E> errorFunction) {
+        if (failed) {
+            return this;
+        }
+        requireNonNull(predicate, "predicate must not be null");
+        if (predicate.test(unsafeValue())) {
+            return this;
+        }
+        requireNonNull(errorFunction, "errorFunction must not be null");
+        return failure(errorFunction.apply(unsafeValue()));
+    }
+
+    @Override
+    public ValueResult<V, E> ensure(Result<? extends E> result) {
+        if (failed) {
+            return this;
+        }
+        requireNonNull(result, "result must not be null");
+        return result.hasFailed() ? failure(result.error()) : this;
+    }
+
+    @Override
+    public ValueResult<V, E> ensure(Supplier<? extends Result<? extends E>> supplier) {
+        if (failed) {
+            return this;
+        }
+        requireNonNull(supplier, "supplier must not be null");
+        Result<? extends E> result = supplier.get();
+        return result.hasFailed() ? failure(result.error()) : this;
+    }
+
+    @Override
+    public ValueResult<V, E> ensure(Function<? super V, ? extends Result<? extends E>> function) {
+        if (failed) {
+            return this;
+        }
+        requireNonNull(function, "function must not be null");
+        Result<? extends E> result = function.apply(unsafeValue());
+        return result.hasFailed() ? failure(result.error()) : this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <W> ValueResult<W, E> take(ValueResult<? extends W, ? extends E> other) {
+        if (failed) {
+            return self();
+        }
+        requireNonNull(other, "other must not be null");
+        return (ValueResult<W, E>) other;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <W> ValueResult<W, E> take(Supplier<? extends ValueResult<? extends W, ? extends E>> supplier) {
+        if (failed) {
+            return self();
+        }
+        requireNonNull(supplier, "supplier must not be null");
+        return (ValueResult<W, E>) supplier.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <W> ValueResult<W, E> take(Function<? super V, ? extends ValueResult<? extends W, ? extends E>> function) {
+        if (failed) {
+            return self();
+        }
+        requireNonNull(function, "function must not be null");
+        return (ValueResult<W, E>) function.apply(unsafeValue());
+    }
+
+    @Override
+    public <W> ValueResult<W, E> map(Function<? super V, ? extends W> mapper) {
+        if (failed) {
+            return self();
+        }
+        requireNonNull(mapper, "mapper must not be null");
+        return success(mapper.apply(unsafeValue()));
+    }
+
+    @Override
+    public IntValueResult<E> mapToInt(ToIntFunction<? super V> mapper) {
+        if (failed) {
+            return IntValueResult.fail(unsafeError());
+        }
+        requireNonNull(mapper, "mapper must not be null");
+        return IntValueResult.ok(mapper.applyAsInt(unsafeValue()));
+    }
+
+    @Override
+    public LongValueResult<E> mapToLong(ToLongFunction<? super V> mapper) {
+        if (failed) {
+            return LongValueResult.fail(unsafeError());
+        }
+        requireNonNull(mapper, "mapper must not be null");
+        return LongValueResult.ok(mapper.applyAsLong(unsafeValue()));
+    }
+
+    @Override
+    public DoubleValueResult<E> mapToDouble(ToDoubleFunction<? super V> mapper) {
+        if (failed) {
+            return DoubleValueResult.fail(unsafeError());
+        }
+        requireNonNull(mapper, "mapper must not be null");
+        return DoubleValueResult.ok(mapper.applyAsDouble(unsafeValue()));
+    }
+
+    @Override
+    public <F> ValueResult<V, F> mapError(Function<? super E, ? extends F> mapper) {
+        if (!failed) {
+            return self();
+        }
+        requireNonNull(mapper, "mapper must not be null");
+        return failure(mapper.apply(unsafeError()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <W> ValueResult<W, E> flatMap(Function<? super V, ? extends ValueResult<? extends W, ? extends E>> function) {
+        if (failed) {
+            return self();
+        }
+        requireNonNull(function, "function must not be null");
+        return requireNonNull((ValueResult<W, E>) function.apply(unsafeValue()));
+    }
+
+    @Override
+    public <W, X> ValueResult<X, E> combine(BiFunction<? super V, ? super W, ? extends X> function, ValueResult<? extends W, ? extends E> other) {
+        if (failed) {
+            return self();
+        }
+        requireNonNull(function, "function must not be null");
+        requireNonNull(other, "other must not be null");
+        return other.isSuccessful()
+                ? success(function.apply(unsafeValue(), other.value()))
+                : failure(other.error());
+    }
+
+    @Override
+    public V orElse(V other) {
+        return failed ? other : unsafeValue();
+    }
+
+    @Override
+    public V orElseGet(Function<? super E, ? extends V> function) {
+        if (!failed) {
+            return unsafeValue();
+        }
+        requireNonNull(function, "function must not be null");
+        return function.apply(unsafeError());
+    }
+
+    @Override
+    public <X extends Throwable> V orElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        if (!failed) {
+            return unsafeValue();
+        }
+        requireNonNull(exceptionSupplier, "exceptionSupplier must not be null");
+        throw exceptionSupplier.get();
+    }
+
+    @Override
+    public V orElseThrow() {
+        if (failed) {
+            throw new ResultFailureException(payload);
+        }
+        return unsafeValue();
+    }
+
+    @Override
+    public <T> T fold(Function<? super V, ? extends T> success, Function<? super E, ? extends T> failure) {
+        if (failed) {
+            requireNonNull(failure, "failure must not be null");
+            return failure.apply(unsafeError());
+        }
+        requireNonNull(success, "success must not be null");
+        return success.apply(unsafeValue());
+    }
+
+    @Override
+    public int foldToInt(ToIntFunction<? super V> success, ToIntFunction<? super E> failure) {
+        if (failed) {
+            requireNonNull(failure, "failure must not be null");
+            return failure.applyAsInt(unsafeError());
+        }
+        requireNonNull(success, "success must not be null");
+        return success.applyAsInt(unsafeValue());
+    }
+
+    @Override
+    public long foldToLong(ToLongFunction<? super V> success, ToLongFunction<? super E> failure) {
+        if (failed) {
+            requireNonNull(failure, "failure must not be null");
+            return failure.applyAsLong(unsafeError());
+        }
+        requireNonNull(success, "success must not be null");
+        return success.applyAsLong(unsafeValue());
+    }
+
+    @Override
+    public double foldToDouble(ToDoubleFunction<? super V> success, ToDoubleFunction<? super E> failure) {
+        if (failed) {
+            requireNonNull(failure, "failure must not be null");
+            return failure.applyAsDouble(unsafeError());
+        }
+        requireNonNull(success, "success must not be null");
+        return success.applyAsDouble(unsafeValue());
+    }
+
+    @Override
+    public Optional<V> toOptional() {
+        return failed ? Optional.empty() : Optional.ofNullable(unsafeValue());
+    }
+
+    @Override
+    public VoidResult<E> toVoidResult() {
+        return failed ? VoidResult.fail(unsafeError()) : VoidResult.ok();
+    }
+}
@@ -0,0 +1,213 @@
+package com.iremembr.jtraxxs;
+
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A successful or failed {@code VoidResult} in a single class, which is used instead of
+ * {@link SuccessfulVoidResult} and {@link FailedVoidResult} when the tagged representation
+ * is enabled.
+ *
+ * @see TaggedValueResult
+ */
+final class TaggedVoidResult<E> extends VoidResult<E> {
+
+    static final TaggedVoidResult<?> OK = new TaggedVoidResult<>(false, null);
+
+    private final boolean failed;
+    private final E error;
+
+    private TaggedVoidResult(boolean failed, E error) {
+        this.failed = failed;
+        this.error = error;
+    }
+
+    static <E> TaggedVoidResult<E> failure(E error) {
+        return new TaggedVoidResult<>(true, error);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <F> VoidResult<F> self() {
+        return (VoidResult<F>) this;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof TaggedVoidResult)) {
+            return false;
+        }
+        TaggedVoidResult<?> other = (TaggedVoidResult<?>) obj;
+        return failed == other.failed && Objects.equals(error, other.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return failed ? Objects.hashCode(error) : 4711;
+    }
+
+    @Override
+    public String toString() {
+        return failed ? String.format("FailedVoidResult{error=%s}", error) : "SuccessfulVoidResult";
+    }
+
+    @Override
+    public <F> VoidResult<F> castError(Class<F> clazz) {
+        if (failed && !clazz.isAssignableFrom(error.getClass())) {
+            throw new IllegalArgumentException(String.format(
+                    "Can not cast the error to the given type. The given type is not a superclass of the"
+                    + " type of the error. error type ='%s', given type = '%s', error = '%s'",
+                    error.getClass(), clazz, error
+            ));
+        }
+        return self();
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return !failed;
+    }
+
+    @Override
+    public boolean hasFailed() {
+        return failed;
+    }
+
+    @Override
+    public E error() {
+        if (!failed) {
+            throw new IllegalStateException("Successful ValueResult has no error");
+        }
+        return error;
+    }
+
+    @Override
+    public Stream<E> errorStream() {
+        return failed ? Stream.of(error) : Stream.empty();
+    }
+
+    @Override
+    public VoidResult<E> onSuccess(Runnable runnable) {
+        if (!failed) {
+            requireNonNull(runnable, "runnable must not be null");
+            runnable.run();
+        }
+        return this;
+    }
+
+    @Override
+    public VoidResult<E> onFailure(Runnable runnable) {
+        if (failed) {
+            requireNonNull(runnable, "runnable must not be null");
+            runnable.run();
+        }
+        return this;
+    }
+
+    @Override
+    public VoidResult<E> onFailure(Consumer<? super E> consumer) {
+        if (failed) {
+            requireNonNull(consumer, "consumer must not be null");
+            consumer.accept(error);
+        }
+        return this;
+    }
+
+    @Override
+    public VoidResult<E> onBoth(Runnable success, Consumer<? super E> failure) {
+        if (failed) {
+            requireNonNull(failure, "failure must not be null");
+            failure.accept(error);
+        } else {
+            success.run();
+        }
+        return this;
+    }
+
+    @Override
+    public VoidResult<E> ensure(boolean flag, E error) {
+        return failed || flag ? this : failure(error);
+    }
+
+    @Override
+    public VoidResult<E> ensure(Supplier<Boolean> supplier, E error) {
+        if (failed) {
+            return this;
+        }
+        requireNonNull(supplier, "supplier must not be null");
+        return supplier.get() ? this : failure(error);
+    }
+
+    @Override
+    public VoidResult<E> ensure(BooleanSupplier supplier, E error) {
+        if (failed) {
+            return this;
+        }
+        requireNonNull(supplier, "supplier must not be null");
+        return supplier.getAsBoolean() ? this : failure(error);
+    }
+
+    @Override
+    public VoidResult<E> ensureOrElseGet(boolean flag, Supplier<? extends E> errorSupplier) {
+        if (failed || flag) {
+            return this;
+        }
+        requireNonNull(errorSupplier, "errorSupplier must not be null");
+        return failure(errorSupplier.get());
+    }
+
+    @Override
+    public VoidResult<E> ensureOrElseGet(BooleanSupplier supplier, Supplier<? extends E> errorSupplier) {
+        if (failed) {
+            return this;
+        }
+        requireNonNull(supplier, "supplier must not be null");
+        return ensureOrElseGet(supplier.getAsBoolean(), errorSupplier);
+    }
+
+    @Override
+    public VoidResult<E> ensure(Result<? extends E> result) {
+        if (failed) {
+            return this;
+        }
+        requireNonNull(result, "result must not be null");
+        return result.hasFailed() ? failure(result.error()) : this;
+    }
+
+    @Override
+    public VoidResult<E> ensure(Supplier<? extends Result<? extends E>> supplier) {
+        if (failed) {
+            return this;
+        }
+        requireNonNull(supplier, "supplier must not be null");
+        Result<? extends E> result = supplier.get();
+        return result.hasFailed() ? failure(result.error()) : this;
+    }
+
+    @Override
+    public <F> VoidResult<F> mapError(Function<? super E, ? extends F> mapper) {
+        if (!failed) {
+            return self();
+        }
+        requireNonNull(mapper, "mapper must not be null");
+        return failure(mapper.apply(error));
+    }
+
+    @Override
+    public <T> T fold(Supplier<? extends T> success, Function<? super E, ? extends T> failure) {
+        if (failed) {
+            requireNonNull(failure, "failure must not be null");
+            return failure.apply(error);
+        }
+        requireNonNull(success, "success must not be null");
+        return success.get();
+    }
+}
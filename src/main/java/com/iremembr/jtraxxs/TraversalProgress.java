@@ -0,0 +1,71 @@
+package com.iremembr.jtraxxs;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The number of processed and failed results of a running
+ * {@link ValueResult#forEach(java.util.Iterator, java.util.function.Consumer, ErrorPolicy, TraversalProgress)}.
+ *
+ * <p>The traversal updates the counters on its own thread; other threads can read them at any
+ * time to monitor a long run:
+ * <pre>{@code
+ *     TraversalProgress progress = new TraversalProgress();
+ *     scheduler.scheduleAtFixedRate(() -> log.info("{}", progress), 1, 1, TimeUnit.MINUTES);
+ *     ValueResult.forEach(records, sink::write, ErrorPolicy.handling(deadLetters::offer), progress);
+ * }</pre>
+ *
+ * <p>The counters are written with ordered stores instead of full volatile writes, so a reader
+ * may see values which are a few results behind, but never values which decrease. A
+ * {@code TraversalProgress} counts a single traversal; {@code forEach} rejects one which has
+ * already counted results, because its {@link ErrorPolicy} decides on these counts.
+ */
+public final class TraversalProgress {
+
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    /**
+     * Returns the number of results processed so far.
+     *
+     * @return the number of processed results
+     */
+    public long processed() {
+        return processed.get();
+    }
+
+    /**
+     * Returns the number of failed results processed so far.
+     *
+     * @return the number of failed results
+     */
+    public long failed() {
+        return failed.get();
+    }
+
+    /**
+     * Returns the number of successful results processed so far.
+     *
+     * @return the number of successful results
+     */
+    public long succeeded() {
+        // read failed first, so a concurrent update can not make the difference negative
+        long failedCount = failed.get();
+        return processed.get() - failedCount;
+    }
+
+    void succeed() {
+        processed.lazySet(processed.get() + 1);
+    }
+
+    void fail() {
+        // processed first, so a reader which sees the new failed count also sees the new processed count
+        processed.lazySet(processed.get() + 1);
+        failed.lazySet(failed.get() + 1);
+    }
+
+    @Override
+    public String toString() {
+        long failedCount = failed.get();
+        return String.format("TraversalProgress{processed=%d, failed=%d}", processed.get(), failedCount);
+    }
+}
@@ -0,0 +1,58 @@
+package com.iremembr.jtraxxs;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Applies a function to a range of inputs and stores the returned results at the
+ * index of their input, splitting the range in halves until it is not larger
+ * than the threshold.
+ *
+ * <p>Storing every result at the index of its input keeps the encounter order
+ * independent of the order in which the forked subtasks complete.
+ */
+final class TraverseTask<T, V, E> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<? extends T> inputs;
+    private final Function<? super T, ? extends ValueResult<? extends V, ? extends E>> function;
+    private final ValueResult<? extends V, ? extends E>[] results;
+    private final int threshold;
+    private final int from;
+    private final int to;
+
+    TraverseTask(
+            List<? extends T> inputs,
+            Function<? super T, ? extends ValueResult<? extends V, ? extends E>> function,
+            ValueResult<? extends V, ? extends E>[] results,
+            int threshold,
+            int from,
+            int to
+    ) {
+        this.inputs = inputs;
+        this.function = function;
+        this.results = results;
+        this.threshold = threshold;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            for (int i = from; i < to; i++) {
+                results[i] = requireNonNull(function.apply(inputs.get(i)), "function must not return null");
+            }
+        } else {
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                    new TraverseTask<>(inputs, function, results, threshold, from, middle),
+                    new TraverseTask<>(inputs, function, results, threshold, middle, to)
+            );
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.iremembr.jtraxxs;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.*;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import static java.util.Collections.unmodifiableCollection;
@@ -14,33 +19,59 @@ import static java.util.Objects.requireNonNull;
  * Represents the result of a successful or failed calculation, thus it holds
  * either a value object of type {@code V} or an error object of type {@code E}.
  *
+ * <p>By default successful and failed {@code ValueResult}s are instances of different classes.
+ * When the system property {@code com.iremembr.jtraxxs.taggedResults} is {@code true} at
+ * startup, both are instances of a single class which keeps the state in a tag instead. Call
+ * sites which see successful and failed results then stay monomorphic, at the cost of a
+ * branch in every operator. The behaviour of both representations is the same.
+ *
  * @param <V> the type of the contained value in case of a successful computation
  * @param <E> the type of the error object in case of a failure
  */
 public abstract class ValueResult<V, E> extends Result<E> {
 
+    /**
+     * The number of inputs up to which {@link #traverseParallel(List, Function)}
+     * does not split the work.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+
     /**
      * Returns a successful {@code ValueResult} with the given value.
      *
+     * <p>For {@code null}, {@link Boolean#TRUE}, {@link Boolean#FALSE} and the {@link Integer}s
+     * cached by {@link Integer#valueOf(int)} a shared instance is returned instead of a new one.
+     *
      * @param value the value; can be {@code null}
      * @param <V>   the type of the contained value
      * @param <E>   the type of the error object in case of a failure
      * @return a successful ValueResult, never {@code null}
      */
     public static <V, E> ValueResult<V, E> ok(V value) {
-        return new SuccessfulValueResult<>(value);
+        ValueResult<V, E> interned = InternedResults.success(value);
+        return interned != null ? interned : newSuccess(value);
     }
 
     /**
      * Returns a failed {@code ValueResult} with the given error.
      *
+     * <p>If the error is an enum constant a shared instance is returned instead of a new one.
+     *
      * @param error the error; can be {@code null}
      * @param <V>   the type of the contained value
      * @param <E>   the type of the error object in case of a failure
      * @return a failed ValueResult; never {@code null}
      */
     public static <V, E> ValueResult<V, E> fail(E error) {
-        return new FailedValueResult<>(error);
+        return error instanceof Enum ? InternedResults.failure((Enum<?>) error) : newFailure(error);
+    }
+
+    static <V, E> ValueResult<V, E> newSuccess(V value) {
+        return TaggedValueResult.ENABLED ? TaggedValueResult.success(value) : new SuccessfulValueResult<>(value);
+    }
+
+    static <V, E> ValueResult<V, E> newFailure(E error) {
+        return TaggedValueResult.ENABLED ? TaggedValueResult.failure(error) : new FailedValueResult<>(error);
     }
 
     /**
@@ -78,6 +109,372 @@ public abstract class ValueResult<V, E> extends Result<E> {
         return value == null ? fail(error) : ok(value);
     }
 
+    /**
+     * Returns a new successful {@code ValueResult} with the value of the given {@link Optional}
+     * when it is not empty, otherwise returns a failed {@code ValueResult} with the error of
+     * the given supplier.
+     *
+     * <p>The supplier is only invoked when the {@code Optional} is empty, so an expensive error
+     * is not created on the success path.
+     *
+     * @param optional      an {@code Optional}; must not be {@code null}
+     * @param errorSupplier the supplier of the error; must not be {@code null}
+     * @param <V>           the type of the value of the {@code Optional}
+     * @param <E>           the type of the error
+     * @return a successful {@code ValueResult} when the given {@code Optional}
+     * is nonempty, otherwise a failed {@code ValueResult}
+     * @throws NullPointerException if {@code optional} or {@code errorSupplier} is {@code null}
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    public static <V, E> ValueResult<V, E> fromOptionalOrElseGet(Optional<V> optional, Supplier<? extends E> errorSupplier) {
+        requireNonNull(optional, "optional must not be null");
+        requireNonNull(errorSupplier, "errorSupplier must not be null");
+        return optional.isPresent() ? ok(optional.get()) : fail(errorSupplier.get());
+    }
+
+    /**
+     * Returns a successful {@code ValueResult} with the given value when it is not {@code null},
+     * otherwise returns a failed {@code ValueResult} with the error of the given supplier.
+     *
+     * <p>The supplier is only invoked when the value is {@code null}.
+     *
+     * @param value         the value to wrap in a {@code ValueResult}; can be {@code null}
+     * @param errorSupplier the supplier of the error; must not be {@code null}
+     * @param <V>           the type of value
+     * @param <E>           the type of the error
+     * @return a failed {@code ValueResult} when the given value is {@code null},
+     * otherwise a successful {@code ValueResult}
+     * @throws NullPointerException if {@code errorSupplier} is {@code null}
+     */
+    public static <V, E> ValueResult<V, E> fromNullableOrElseGet(V value, Supplier<? extends E> errorSupplier) {
+        requireNonNull(errorSupplier, "errorSupplier must not be null");
+        return value == null ? fail(errorSupplier.get()) : ok(value);
+    }
+
+    /**
+     * Returns a {@code ValueResult} whose outcome is computed by the given supplier on first access.
+     *
+     * <p>The supplier is invoked at most once, also when the returned {@code ValueResult} is
+     * accessed concurrently. {@code map}, {@code flatMap}, {@code ensure}, {@code take},
+     * {@code combine} and {@code mapError} do not invoke the supplier, they return lazy
+     * {@code ValueResult}s as well:
+     * <pre>{@code
+     *     // neither loadDefaults() nor the mapper run unless fallback is accessed
+     *     ValueResult<Settings, String> fallback = ValueResult.lazy(() -> loadDefaults())
+     *             .map(Settings::withDebugInfo);
+     * }</pre>
+     *
+     * <p>A lazy {@code ValueResult} is only equal to itself.
+     *
+     * @param supplier the supplier of the {@code ValueResult}; must not return {@code null}
+     * @param <V>      the type of the contained value
+     * @param <E>      the type of the error object in case of a failure
+     * @return a lazy ValueResult, never {@code null}
+     * @throws NullPointerException if {@code supplier} is {@code null}
+     */
+    public static <V, E> ValueResult<V, E> lazy(Supplier<? extends ValueResult<? extends V, ? extends E>> supplier) {
+        requireNonNull(supplier, "supplier must not be null");
+        return new LazyValueResult<>(supplier);
+    }
+
+    /**
+     * Returns a successful {@code ValueResult} with the value of the given supplier, or a failed
+     * {@code ValueResult} with the exception the supplier has thrown.
+     *
+     * @param supplier the supplier of the value
+     * @param <V>      the type of the contained value
+     * @return a ValueResult, never {@code null}
+     * @throws NullPointerException if {@code supplier} is {@code null}
+     * @see #attempt(CheckedSupplier, Function)
+     */
+    public static <V> ValueResult<V, Exception> attempt(CheckedSupplier<? extends V> supplier) {
+        return attempt(supplier, Function.identity());
+    }
+
+    /**
+     * Returns a successful {@code ValueResult} with the value of the given supplier, or a failed
+     * {@code ValueResult} with the error the mapper returns for the exception the supplier has
+     * thrown.
+     *
+     * <p>This replaces a {@code try}/{@code catch} block around a call which throws. The
+     * exception is handed to the mapper as is, it is neither wrapped nor rethrown:
+     * <pre>{@code
+     *     ValueResult<byte[], String> content = ValueResult.attempt(
+     *             () -> Files.readAllBytes(path),
+     *             e -> "can not read " + path + ": " + e.getMessage()
+     *     );
+     * }</pre>
+     *
+     * <p>Only {@link Exception}s are caught, {@link Error}s are propagated. If the supplier
+     * is interrupted, the interrupt status of the current thread is restored.
+     *
+     * @param supplier the supplier of the value
+     * @param mapper   the mapper of the exception to the error
+     * @param <V>      the type of the contained value
+     * @param <E>      the type of the error object in case of a failure
+     * @return a ValueResult, never {@code null}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <V, E> ValueResult<V, E> attempt(CheckedSupplier<? extends V> supplier, Function<? super Exception, ? extends E> mapper) {
+        requireNonNull(supplier, "supplier must not be null");
+        requireNonNull(mapper, "mapper must not be null");
+        V value;
+        try {
+            value = supplier.get();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return fail(mapper.apply(e));
+        }
+        return ok(value);
+    }
+
+    /**
+     * Returns the given {@code ValueResult}s prepared to be combined by a function which takes
+     * all of their values, see {@link #zip(ValueResult, ValueResult, ValueResult)}.
+     *
+     * <p>Unlike {@link #combine(BiFunction, ValueResult)}, which returns the first error, this
+     * keeps the errors of both {@code ValueResult}s.
+     *
+     * @param r1   the first {@code ValueResult}
+     * @param r2   the second {@code ValueResult}
+     * @param <T1> the value type of the first {@code ValueResult}
+     * @param <T2> the value type of the second {@code ValueResult}
+     * @param <E>  closure of the failure types of the given {@code ValueResult}s
+     * @return the {@code ValueResult}s to be combined, never {@code null}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <T1, T2, E> Zip.Of2<T1, T2, E> zip(
+            ValueResult<? extends T1, ? extends E> r1,
+            ValueResult<? extends T2, ? extends E> r2
+    ) {
+        requireNonNull(r1, "r1 must not be null");
+        requireNonNull(r2, "r2 must not be null");
+        return new Zip.Of2<>(r1, r2);
+    }
+
+    /**
+     * Returns the given {@code ValueResult}s prepared to be combined by a function which takes
+     * all of their values.
+     *
+     * <p>In contrast to {@link #combine(BiFunction, ValueResult)} the errors of all failed
+     * {@code ValueResult}s are kept:
+     * <pre>{@code
+     * // = failed ValueResult with an ErrorList containing "no street" and "no city"
+     * ValueResult.zip(fail("no street"), ok("12345"), fail("no city")).apply(Address::new)
+     *
+     * // = failed ValueResult with the error "no street; no city"
+     * ValueResult.zip(fail("no street"), ok("12345"), fail("no city"))
+     *         .apply(Address::new, (first, second) -> first + "; " + second)
+     * }</pre>
+     *
+     * @param r1   the first {@code ValueResult}
+     * @param r2   the second {@code ValueResult}
+     * @param r3   the third {@code ValueResult}
+     * @param <T1> the value type of the first {@code ValueResult}
+     * @param <T2> the value type of the second {@code ValueResult}
+     * @param <T3> the value type of the third {@code ValueResult}
+     * @param <E>  closure of the failure types of the given {@code ValueResult}s
+     * @return the {@code ValueResult}s to be combined, never {@code null}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <T1, T2, T3, E> Zip.Of3<T1, T2, T3, E> zip(
+            ValueResult<? extends T1, ? extends E> r1,
+            ValueResult<? extends T2, ? extends E> r2,
+            ValueResult<? extends T3, ? extends E> r3
+    ) {
+        requireNonNull(r1, "r1 must not be null");
+        requireNonNull(r2, "r2 must not be null");
+        requireNonNull(r3, "r3 must not be null");
+        return new Zip.Of3<>(r1, r2, r3);
+    }
+
+    /**
+     * Returns the given {@code ValueResult}s prepared to be combined by a function which takes
+     * all of their values, see {@link #zip(ValueResult, ValueResult, ValueResult)}.
+     *
+     * @param r1   the first {@code ValueResult}
+     * @param r2   the second {@code ValueResult}
+     * @param r3   the third {@code ValueResult}
+     * @param r4   the fourth {@code ValueResult}
+     * @param <T1> the value type of the first {@code ValueResult}
+     * @param <T2> the value type of the second {@code ValueResult}
+     * @param <T3> the value type of the third {@code ValueResult}
+     * @param <T4> the value type of the fourth {@code ValueResult}
+     * @param <E>  closure of the failure types of the given {@code ValueResult}s
+     * @return the {@code ValueResult}s to be combined, never {@code null}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <T1, T2, T3, T4, E> Zip.Of4<T1, T2, T3, T4, E> zip(
+            ValueResult<? extends T1, ? extends E> r1,
+            ValueResult<? extends T2, ? extends E> r2,
+            ValueResult<? extends T3, ? extends E> r3,
+            ValueResult<? extends T4, ? extends E> r4
+    ) {
+        requireNonNull(r1, "r1 must not be null");
+        requireNonNull(r2, "r2 must not be null");
+        requireNonNull(r3, "r3 must not be null");
+        requireNonNull(r4, "r4 must not be null");
+        return new Zip.Of4<>(r1, r2, r3, r4);
+    }
+
+    /**
+     * Returns the given {@code ValueResult}s prepared to be combined by a function which takes
+     * all of their values, see {@link #zip(ValueResult, ValueResult, ValueResult)}.
+     *
+     * @param r1   the first {@code ValueResult}
+     * @param r2   the second {@code ValueResult}
+     * @param r3   the third {@code ValueResult}
+     * @param r4   the fourth {@code ValueResult}
+     * @param r5   the fifth {@code ValueResult}
+     * @param <T1> the value type of the first {@code ValueResult}
+     * @param <T2> the value type of the second {@code ValueResult}
+     * @param <T3> the value type of the third {@code ValueResult}
+     * @param <T4> the value type of the fourth {@code ValueResult}
+     * @param <T5> the value type of the fifth {@code ValueResult}
+     * @param <E>  closure of the failure types of the given {@code ValueResult}s
+     * @return the {@code ValueResult}s to be combined, never {@code null}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, E> Zip.Of5<T1, T2, T3, T4, T5, E> zip(
+            ValueResult<? extends T1, ? extends E> r1,
+            ValueResult<? extends T2, ? extends E> r2,
+            ValueResult<? extends T3, ? extends E> r3,
+            ValueResult<? extends T4, ? extends E> r4,
+            ValueResult<? extends T5, ? extends E> r5
+    ) {
+        requireNonNull(r1, "r1 must not be null");
+        requireNonNull(r2, "r2 must not be null");
+        requireNonNull(r3, "r3 must not be null");
+        requireNonNull(r4, "r4 must not be null");
+        requireNonNull(r5, "r5 must not be null");
+        return new Zip.Of5<>(r1, r2, r3, r4, r5);
+    }
+
+    /**
+     * Returns the given {@code ValueResult}s prepared to be combined by a function which takes
+     * all of their values, see {@link #zip(ValueResult, ValueResult, ValueResult)}.
+     *
+     * @param r1   the first {@code ValueResult}
+     * @param r2   the second {@code ValueResult}
+     * @param r3   the third {@code ValueResult}
+     * @param r4   the fourth {@code ValueResult}
+     * @param r5   the fifth {@code ValueResult}
+     * @param r6   the sixth {@code ValueResult}
+     * @param <T1> the value type of the first {@code ValueResult}
+     * @param <T2> the value type of the second {@code ValueResult}
+     * @param <T3> the value type of the third {@code ValueResult}
+     * @param <T4> the value type of the fourth {@code ValueResult}
+     * @param <T5> the value type of the fifth {@code ValueResult}
+     * @param <T6> the value type of the sixth {@code ValueResult}
+     * @param <E>  closure of the failure types of the given {@code ValueResult}s
+     * @return the {@code ValueResult}s to be combined, never {@code null}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, E> Zip.Of6<T1, T2, T3, T4, T5, T6, E> zip(
+            ValueResult<? extends T1, ? extends E> r1,
+            ValueResult<? extends T2, ? extends E> r2,
+            ValueResult<? extends T3, ? extends E> r3,
+            ValueResult<? extends T4, ? extends E> r4,
+            ValueResult<? extends T5, ? extends E> r5,
+            ValueResult<? extends T6, ? extends E> r6
+    ) {
+        requireNonNull(r1, "r1 must not be null");
+        requireNonNull(r2, "r2 must not be null");
+        requireNonNull(r3, "r3 must not be null");
+        requireNonNull(r4, "r4 must not be null");
+        requireNonNull(r5, "r5 must not be null");
+        requireNonNull(r6, "r6 must not be null");
+        return new Zip.Of6<>(r1, r2, r3, r4, r5, r6);
+    }
+
+    /**
+     * Returns the given {@code ValueResult}s prepared to be combined by a function which takes
+     * all of their values, see {@link #zip(ValueResult, ValueResult, ValueResult)}.
+     *
+     * @param r1   the first {@code ValueResult}
+     * @param r2   the second {@code ValueResult}
+     * @param r3   the third {@code ValueResult}
+     * @param r4   the fourth {@code ValueResult}
+     * @param r5   the fifth {@code ValueResult}
+     * @param r6   the sixth {@code ValueResult}
+     * @param r7   the seventh {@code ValueResult}
+     * @param <T1> the value type of the first {@code ValueResult}
+     * @param <T2> the value type of the second {@code ValueResult}
+     * @param <T3> the value type of the third {@code ValueResult}
+     * @param <T4> the value type of the fourth {@code ValueResult}
+     * @param <T5> the value type of the fifth {@code ValueResult}
+     * @param <T6> the value type of the sixth {@code ValueResult}
+     * @param <T7> the value type of the seventh {@code ValueResult}
+     * @param <E>  closure of the failure types of the given {@code ValueResult}s
+     * @return the {@code ValueResult}s to be combined, never {@code null}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, E> Zip.Of7<T1, T2, T3, T4, T5, T6, T7, E> zip(
+            ValueResult<? extends T1, ? extends E> r1,
+            ValueResult<? extends T2, ? extends E> r2,
+            ValueResult<? extends T3, ? extends E> r3,
+            ValueResult<? extends T4, ? extends E> r4,
+            ValueResult<? extends T5, ? extends E> r5,
+            ValueResult<? extends T6, ? extends E> r6,
+            ValueResult<? extends T7, ? extends E> r7
+    ) {
+        requireNonNull(r1, "r1 must not be null");
+        requireNonNull(r2, "r2 must not be null");
+        requireNonNull(r3, "r3 must not be null");
+        requireNonNull(r4, "r4 must not be null");
+        requireNonNull(r5, "r5 must not be null");
+        requireNonNull(r6, "r6 must not be null");
+        requireNonNull(r7, "r7 must not be null");
+        return new Zip.Of7<>(r1, r2, r3, r4, r5, r6, r7);
+    }
+
+    /**
+     * Returns the given {@code ValueResult}s prepared to be combined by a function which takes
+     * all of their values, see {@link #zip(ValueResult, ValueResult, ValueResult)}.
+     *
+     * @param r1   the first {@code ValueResult}
+     * @param r2   the second {@code ValueResult}
+     * @param r3   the third {@code ValueResult}
+     * @param r4   the fourth {@code ValueResult}
+     * @param r5   the fifth {@code ValueResult}
+     * @param r6   the sixth {@code ValueResult}
+     * @param r7   the seventh {@code ValueResult}
+     * @param r8   the eighth {@code ValueResult}
+     * @param <T1> the value type of the first {@code ValueResult}
+     * @param <T2> the value type of the second {@code ValueResult}
+     * @param <T3> the value type of the third {@code ValueResult}
+     * @param <T4> the value type of the fourth {@code ValueResult}
+     * @param <T5> the value type of the fifth {@code ValueResult}
+     * @param <T6> the value type of the sixth {@code ValueResult}
+     * @param <T7> the value type of the seventh {@code ValueResult}
+     * @param <T8> the value type of the eighth {@code ValueResult}
+     * @param <E>  closure of the failure types of the given {@code ValueResult}s
+     * @return the {@code ValueResult}s to be combined, never {@code null}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, E> Zip.Of8<T1, T2, T3, T4, T5, T6, T7, T8, E> zip(
+            ValueResult<? extends T1, ? extends E> r1,
+            ValueResult<? extends T2, ? extends E> r2,
+            ValueResult<? extends T3, ? extends E> r3,
+            ValueResult<? extends T4, ? extends E> r4,
+            ValueResult<? extends T5, ? extends E> r5,
+            ValueResult<? extends T6, ? extends E> r6,
+            ValueResult<? extends T7, ? extends E> r7,
+            ValueResult<? extends T8, ? extends E> r8
+    ) {
+        requireNonNull(r1, "r1 must not be null");
+        requireNonNull(r2, "r2 must not be null");
+        requireNonNull(r3, "r3 must not be null");
+        requireNonNull(r4, "r4 must not be null");
+        requireNonNull(r5, "r5 must not be null");
+        requireNonNull(r6, "r6 must not be null");
+        requireNonNull(r7, "r7 must not be null");
+        requireNonNull(r8, "r8 must not be null");
+        return new Zip.Of8<>(r1, r2, r3, r4, r5, r6, r7, r8);
+    }
+
     @SuppressWarnings("unchecked")
     public static <V, E, W extends V, F extends E> ValueResult<V, E> upCast(ValueResult<W, F> result) {
         return (ValueResult<V, E>) result;
@@ -88,8 +485,9 @@ public abstract class ValueResult<V, E> extends Result<E> {
      * {@code Iterable<ValueResult<V, E>>} into a {@code ValueResult<Collection<V>>, Collection<E>>}.
      *
      * <p>If any of the given {@code ValueResult}s has failed then {@code sequence}
-     * returns an failed {@code ValueResult} containing a non-empty ensure unmodifiable
-     * {@link Collection} of the error values of all failed {@code ValueResult}s.
+     * returns an failed {@code ValueResult} containing a non-empty {@link ErrorList}
+     * of the error values of all failed {@code ValueResult}s. The {@code ErrorList}s of
+     * several calls can be concatenated without copying their errors.
      *
      * <p>If all of the given {@code ValueResult}s are successful then {@code sequence}
      * returns a successful {@code ValueResult} containing an unmodifiable (ensure possibly empty)
@@ -115,15 +513,566 @@ public abstract class ValueResult<V, E> extends Result<E> {
             Iterable<? extends ValueResult<? extends V, ? extends E>> results
     ) {
         requireNonNull(results, "results must not be null");
-        List<V> values = new ArrayList<>();
-        List<E> errors = new ArrayList<>();
+        List<V> values = results instanceof Collection
+                ? new ArrayList<>(((Collection<?>) results).size())
+                : new ArrayList<>();
+        ErrorList.Builder<E> errors = null;
         for (ValueResult<? extends V, ? extends E> result : results) {
-            result.onSuccess(values::add);
-            result.onFailure(errors::add);
+            if (result.hasFailed()) {
+                if (errors == null) {
+                    errors = ErrorList.builder();
+                }
+                errors.add(result.error());
+            } else if (errors == null) {
+                // the values are of no interest anymore once the first error occurred
+                values.add(result.value());
+            }
         }
-        return errors.isEmpty()
+        return errors == null
                 ? ok(unmodifiableCollection(values))
-                : fail(unmodifiableCollection(errors));
+                : fail(errors.build());
+    }
+
+    /**
+     * Reduces many {@code ValueResult}s into a single {@code ValueResult} by collecting the
+     * values with {@code valueCollector} and the errors with {@code errorCollector}.
+     *
+     * <p>Has the same semantics as {@link #sequence(Iterable)}, but the values and errors end
+     * up directly in the structures built by the given {@link Collector}s. Once the first failed
+     * {@code ValueResult} is found, no further values are passed to {@code valueCollector}.
+     *
+     * <pre>{@code
+     * // = failed ValueResult with a Set containing "err1" and "err2"
+     * ValueResult.sequence(Arrays.asList(fail("err1"), ok(2), fail("err2"), fail("err1")), toList(), toSet())
+     * }</pre>
+     *
+     * @param results        an {@link Iterable} of {@code ValueResult}s
+     * @param valueCollector the {@code Collector} for the values of the successful {@code ValueResult}s
+     * @param errorCollector the {@code Collector} for the errors of the failed {@code ValueResult}s
+     * @param <V>            closure of all success types of the given {@code ValueResult}s
+     * @param <E>            closure of all failure types of the given {@code ValueResult}s
+     * @param <R>            the result type of the {@code valueCollector}
+     * @param <S>            the result type of the {@code errorCollector}
+     * @return a successful {@code ValueResult} with the collected values or a failed one with
+     * the collected errors
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <V, E, R, S> ValueResult<R, S> sequence(
+            Iterable<? extends ValueResult<? extends V, ? extends E>> results,
+            Collector<? super V, ?, R> valueCollector,
+            Collector<? super E, ?, S> errorCollector
+    ) {
+        requireNonNull(results, "results must not be null");
+        requireNonNull(valueCollector, "valueCollector must not be null");
+        requireNonNull(errorCollector, "errorCollector must not be null");
+        return collect(results, valueCollector, errorCollector);
+    }
+
+    /**
+     * Reduces many {@code ValueResult}s into a single {@code ValueResult} like {@link #sequence(Iterable)},
+     * but keeps only as many errors as the given {@link FailureBudget} allows and stops once the
+     * budget is exhausted.
+     *
+     * <p>The errors of the returned {@code ValueResult} contain the first errors, the number of all
+     * failures and how many {@code ValueResult}s were processed and skipped. The remaining
+     * {@code ValueResult}s of {@code results} are not iterated once the budget is exhausted.
+     *
+     * <pre>{@code
+     * // = failed ValueResult with the errors "err1" and "err2", 3 failures and 1 skipped input
+     * ValueResult.sequence(
+     *         Arrays.asList(fail("err1"), ok(2), fail("err2"), fail("err3"), fail("err4")),
+     *         FailureBudget.keepingFirst(2).stopAfterFailures(3)
+     * )
+     * }</pre>
+     *
+     * @param results an {@link Iterable} of {@code ValueResult}s
+     * @param budget  the {@code FailureBudget}
+     * @param <V>     closure of all success types of the given {@code ValueResult}s
+     * @param <E>     closure of all failure types of the given {@code ValueResult}s
+     * @return a successful {@code ValueResult} of an unmodifiable {@link Collection} of all values
+     * or a failed {@code ValueResult} with the bounded errors
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <V, E> ValueResult<Collection<V>, BoundedErrors<E>> sequence(
+            Iterable<? extends ValueResult<? extends V, ? extends E>> results,
+            FailureBudget budget
+    ) {
+        requireNonNull(results, "results must not be null");
+        requireNonNull(budget, "budget must not be null");
+        List<V> values = results instanceof Collection
+                ? new ArrayList<>(((Collection<?>) results).size())
+                : new ArrayList<>();
+        BoundedErrors.Counter<E> errors = new BoundedErrors.Counter<>(budget);
+        Iterator<? extends ValueResult<? extends V, ? extends E>> iterator = results.iterator();
+        while (!errors.isExhausted() && iterator.hasNext()) {
+            ValueResult<? extends V, ? extends E> result = iterator.next();
+            if (result.hasFailed()) {
+                // the values are of no interest anymore once the first error occurred
+                values = null;
+                errors.fail(result.error());
+            } else {
+                if (values != null) {
+                    values.add(result.value());
+                }
+                errors.succeed();
+            }
+        }
+        return errors.hasFailed()
+                ? fail(errors.build(results, iterator))
+                : ok(unmodifiableCollection(values));
+    }
+
+    /**
+     * Reduces many {@code ValueResult}s into a single {@code ValueResult} like {@link #sequence(Iterable)},
+     * but stops at the first failed {@code ValueResult} and returns its error.
+     *
+     * <p>The remaining {@code ValueResult}s of {@code results} are not iterated.
+     *
+     * <pre>{@code
+     * // = failed ValueResult with the error "err1"
+     * ValueResult.sequenceFailFast(Arrays.asList(ok(1), fail("err1"), fail("err2")))
+     * }</pre>
+     *
+     * @param results an {@link Iterable} of {@code ValueResult}s
+     * @param <V>     closure of all success types of the given {@code ValueResult}s
+     * @param <E>     closure of all failure types of the given {@code ValueResult}s
+     * @return a successful {@code ValueResult} of an unmodifiable {@link Collection} of all values
+     * or a failed {@code ValueResult} with the first error
+     * @throws NullPointerException if {@code results} is {@code null}
+     */
+    public static <V, E> ValueResult<Collection<V>, E> sequenceFailFast(
+            Iterable<? extends ValueResult<? extends V, ? extends E>> results
+    ) {
+        requireNonNull(results, "results must not be null");
+        List<V> values = results instanceof Collection
+                ? new ArrayList<>(((Collection<?>) results).size())
+                : new ArrayList<>();
+        for (ValueResult<? extends V, ? extends E> result : results) {
+            if (result.hasFailed()) {
+                return fail(result.error());
+            }
+            values.add(result.value());
+        }
+        return ok(unmodifiableCollection(values));
+    }
+
+    /**
+     * Reduces many {@code ValueResult}s into a single {@code ValueResult} like
+     * {@link #sequenceFailFast(Iterable)}, but collects the values with the given {@link Collector}.
+     *
+     * @param results        an {@link Iterable} of {@code ValueResult}s
+     * @param valueCollector the {@code Collector} for the values of the successful {@code ValueResult}s
+     * @param <V>            closure of all success types of the given {@code ValueResult}s
+     * @param <E>            closure of all failure types of the given {@code ValueResult}s
+     * @param <R>            the result type of the {@code valueCollector}
+     * @return a successful {@code ValueResult} with the collected values or a failed
+     * {@code ValueResult} with the first error
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <V, E, R> ValueResult<R, E> sequenceFailFast(
+            Iterable<? extends ValueResult<? extends V, ? extends E>> results,
+            Collector<? super V, ?, R> valueCollector
+    ) {
+        requireNonNull(results, "results must not be null");
+        requireNonNull(valueCollector, "valueCollector must not be null");
+        return collectFailFast(results, valueCollector);
+    }
+
+    /**
+     * Reduces many {@code ValueResult}s with enum errors into a single {@code ValueResult} like
+     * {@link #sequence(Iterable)}, but counts the errors per enum constant instead of keeping them
+     * in a list.
+     *
+     * <p>The errors of the returned {@code ValueResult} take the same space for ten or for a
+     * million failed {@code ValueResult}s, only the number of constants of the enum matters.
+     *
+     * <pre>{@code
+     * // = failed ValueResult with NOT_FOUND=2 and CONFLICT=1
+     * ValueResult.sequenceEnumErrors(Arrays.asList(fail(NOT_FOUND), ok(2), fail(CONFLICT), fail(NOT_FOUND)))
+     * }</pre>
+     *
+     * @param results an {@link Iterable} of {@code ValueResult}s
+     * @param <V>     closure of all success types of the given {@code ValueResult}s
+     * @param <E>     the enum type of the errors of the given {@code ValueResult}s
+     * @return a successful {@code ValueResult} of an unmodifiable {@link Collection} of all values
+     * or a failed {@code ValueResult} with the counted errors
+     * @throws NullPointerException if {@code results} is {@code null} or a failed
+     *                              {@code ValueResult} has a {@code null} error
+     */
+    public static <V, E extends Enum<E>> ValueResult<Collection<V>, EnumErrorCounts<E>> sequenceEnumErrors(
+            Iterable<? extends ValueResult<? extends V, ? extends E>> results
+    ) {
+        requireNonNull(results, "results must not be null");
+        List<V> values = results instanceof Collection
+                ? new ArrayList<>(((Collection<?>) results).size())
+                : new ArrayList<>();
+        EnumErrorCounts.Counter<E> errors = null;
+        for (ValueResult<? extends V, ? extends E> result : results) {
+            if (result.hasFailed()) {
+                if (errors == null) {
+                    errors = new EnumErrorCounts.Counter<>();
+                    // the values are of no interest anymore once the first error occurred
+                    values = null;
+                }
+                errors.add(result.error());
+            } else if (errors == null) {
+                values.add(result.value());
+            }
+        }
+        return errors == null
+                ? ok(unmodifiableCollection(values))
+                : fail(errors.build());
+    }
+
+    /**
+     * Reduces many {@code ValueResult}s into a single {@code ValueResult} like
+     * {@link #sequence(Iterable)}, but keeps every distinct error only once in an
+     * {@link ErrorHistogram} with the number of its occurrences.
+     *
+     * <p>For every distinct error the histogram keeps the indexes of its first
+     * {@code maxIndexes} occurrences in {@code results}, so the size of the errors of the returned
+     * {@code ValueResult} depends on the number of distinct errors, not on the number of failed
+     * {@code ValueResult}s.
+     *
+     * <pre>{@code
+     * // = failed ValueResult with "err1" at 0 and 3, "err2" at 2
+     * ValueResult.sequenceHistogram(Arrays.asList(fail("err1"), ok(2), fail("err2"), fail("err1")), 10)
+     * }</pre>
+     *
+     * @param results    an {@link Iterable} of {@code ValueResult}s
+     * @param maxIndexes the maximal number of indexes kept per distinct error
+     * @param <V>        closure of all success types of the given {@code ValueResult}s
+     * @param <E>        closure of all failure types of the given {@code ValueResult}s
+     * @return a successful {@code ValueResult} of an unmodifiable {@link Collection} of all values
+     * or a failed {@code ValueResult} with the histogram of the errors
+     * @throws NullPointerException     if {@code results} is {@code null}
+     * @throws IllegalArgumentException if {@code maxIndexes} is negative
+     */
+    public static <V, E> ValueResult<Collection<V>, ErrorHistogram<E>> sequenceHistogram(
+            Iterable<? extends ValueResult<? extends V, ? extends E>> results,
+            int maxIndexes
+    ) {
+        requireNonNull(results, "results must not be null");
+        ErrorHistogram.Counter.checkMaxIndexes(maxIndexes);
+        List<V> values = results instanceof Collection
+                ? new ArrayList<>(((Collection<?>) results).size())
+                : new ArrayList<>();
+        ErrorHistogram.Counter<E> errors = null;
+        long index = 0;
+        for (ValueResult<? extends V, ? extends E> result : results) {
+            if (result.hasFailed()) {
+                if (errors == null) {
+                    errors = new ErrorHistogram.Counter<>(maxIndexes);
+                    // the values are of no interest anymore once the first error occurred
+                    values = null;
+                }
+                errors.add(result.error(), index);
+            } else if (errors == null) {
+                values.add(result.value());
+            }
+            index++;
+        }
+        return errors == null
+                ? ok(unmodifiableCollection(values))
+                : fail(errors.build());
+    }
+
+    /**
+     * Applies {@code function} to every element of {@code inputs} in parallel on the
+     * {@link ForkJoinPool#commonPool() common pool} and reduces the returned {@code ValueResult}s
+     * like {@link #sequence(Iterable)}.
+     *
+     * <p>Lists with at most {@value #DEFAULT_PARALLEL_THRESHOLD} elements are traversed
+     * sequentially on the calling thread.
+     *
+     * @param inputs   the inputs; must not be {@code null}
+     * @param function the function applied to every input; must not return {@code null}
+     * @param <T>      the type of the inputs
+     * @param <V>      closure of all success types of the returned {@code ValueResult}s
+     * @param <E>      closure of all failure types of the returned {@code ValueResult}s
+     * @return a {@code ValueResult} of an unmodifiable {@link Collection} of success or failure
+     * values in the order of the inputs
+     * @throws NullPointerException if any of the arguments is {@code null}
+     * @see #traverseParallel(List, Function, int, ForkJoinPool)
+     */
+    public static <T, V, E> ValueResult<Collection<V>, Collection<E>> traverseParallel(
+            List<? extends T> inputs,
+            Function<? super T, ? extends ValueResult<? extends V, ? extends E>> function
+    ) {
+        return traverseParallel(inputs, function, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies {@code function} to every element of {@code inputs} in parallel on the
+     * {@link ForkJoinPool#commonPool() common pool} and reduces the returned {@code ValueResult}s
+     * like {@link #sequence(Iterable)}.
+     *
+     * @param inputs    the inputs; must not be {@code null}
+     * @param function  the function applied to every input; must not return {@code null}
+     * @param threshold the maximal number of inputs processed by a single task
+     * @param <T>       the type of the inputs
+     * @param <V>       closure of all success types of the returned {@code ValueResult}s
+     * @param <E>       closure of all failure types of the returned {@code ValueResult}s
+     * @return a {@code ValueResult} of an unmodifiable {@link Collection} of success or failure
+     * values in the order of the inputs
+     * @throws NullPointerException     if any of the arguments is {@code null}
+     * @throws IllegalArgumentException if {@code threshold} is not positive
+     * @see #traverseParallel(List, Function, int, ForkJoinPool)
+     */
+    public static <T, V, E> ValueResult<Collection<V>, Collection<E>> traverseParallel(
+            List<? extends T> inputs,
+            Function<? super T, ? extends ValueResult<? extends V, ? extends E>> function,
+            int threshold
+    ) {
+        return traverseParallel(inputs, function, threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies {@code function} to every element of {@code inputs} in parallel on the given
+     * {@link ForkJoinPool} and reduces the returned {@code ValueResult}s like {@link #sequence(Iterable)}.
+     *
+     * <p>The inputs are split in halves until a part contains at most {@code threshold}
+     * elements; idle workers of the pool steal the remaining parts. Lists with at most
+     * {@code threshold} elements are traversed sequentially on the calling thread. The values
+     * and errors of the returned {@code ValueResult} are in the order of the inputs regardless
+     * of the order in which the parts complete.
+     *
+     * @param inputs    the inputs; must not be {@code null}
+     * @param function  the function applied to every input; must be thread-safe and must
+     *                  not return {@code null}
+     * @param threshold the maximal number of inputs processed by a single task
+     * @param pool      the pool which runs the tasks
+     * @param <T>       the type of the inputs
+     * @param <V>       closure of all success types of the returned {@code ValueResult}s
+     * @param <E>       closure of all failure types of the returned {@code ValueResult}s
+     * @return a {@code ValueResult} of an unmodifiable {@link Collection} of success or failure
+     * values in the order of the inputs
+     * @throws NullPointerException     if any of the arguments is {@code null}
+     * @throws IllegalArgumentException if {@code threshold} is not positive
+     */
+    public static <T, V, E> ValueResult<Collection<V>, Collection<E>> traverseParallel(
+            List<? extends T> inputs,
+            Function<? super T, ? extends ValueResult<? extends V, ? extends E>> function,
+            int threshold,
+            ForkJoinPool pool
+    ) {
+        requireNonNull(inputs, "inputs must not be null");
+        requireNonNull(function, "function must not be null");
+        requireNonNull(pool, "pool must not be null");
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be positive but was " + threshold);
+        }
+        List<? extends T> source = inputs instanceof RandomAccess ? inputs : new ArrayList<>(inputs);
+        @SuppressWarnings("unchecked")
+        ValueResult<? extends V, ? extends E>[] results = (ValueResult<? extends V, ? extends E>[]) new ValueResult<?, ?>[source.size()];
+        TraverseTask<T, V, E> task = new TraverseTask<>(source, function, results, threshold, 0, results.length);
+        if (results.length <= threshold) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+        return sequence(Arrays.asList(results));
+    }
+
+    /**
+     * Passes the values of the successful {@code ValueResult}s of {@code results} to
+     * {@code consumer} as they arrive and handles the errors of the failed ones with
+     * {@code errorPolicy}.
+     *
+     * @param results     an {@link Iterator} of {@code ValueResult}s
+     * @param consumer    the consumer of the values
+     * @param errorPolicy the {@code ErrorPolicy} for the errors
+     * @param <V>         closure of all success types of the given {@code ValueResult}s
+     * @param <E>         closure of all failure types of the given {@code ValueResult}s
+     * @return a successful {@code VoidResult} if no {@code ValueResult} has failed, otherwise a
+     * failed {@code VoidResult} with the errors kept by the {@code errorPolicy}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     * @see #forEach(Iterator, Consumer, ErrorPolicy, TraversalProgress)
+     */
+    public static <V, E> VoidResult<BoundedErrors<E>> forEach(
+            Iterator<? extends ValueResult<? extends V, ? extends E>> results,
+            Consumer<? super V> consumer,
+            ErrorPolicy<? super E> errorPolicy
+    ) {
+        return forEach(results, consumer, errorPolicy, new TraversalProgress());
+    }
+
+    /**
+     * Passes the values of the successful {@code ValueResult}s of {@code results} to
+     * {@code consumer} as they arrive and handles the errors of the failed ones with
+     * {@code errorPolicy}, while counting the processed {@code ValueResult}s in {@code progress}.
+     *
+     * <p>Unlike {@link #sequence(Iterable)} neither the values nor the {@code ValueResult}s are
+     * collected: every {@code ValueResult} is taken from {@code results} only when the previous one
+     * has been handled, and the values of successful {@code ValueResult}s are passed to
+     * {@code consumer} even after a failure. The only memory which grows with the input is the
+     * errors the {@code errorPolicy} keeps, so an {@code ErrorPolicy} which keeps a bounded number
+     * of errors traverses any number of {@code ValueResult}s in constant memory.
+     *
+     * <p>When the {@code errorPolicy} stops the traversal the remaining {@code ValueResult}s are not
+     * taken from {@code results}, and the number of skipped inputs of the returned errors is unknown.
+     * The returned errors are terminated early even if there were no more {@code ValueResult}s,
+     * because {@code results} is not asked for them.
+     *
+     * <pre>{@code
+     * // writes every record, logs the first 100 errors, stops after 10,000 failures
+     * VoidResult<BoundedErrors<String>> result = ValueResult.forEach(
+     *         records, sink::write,
+     *         ErrorPolicy.within(FailureBudget.keepingFirst(100).stopAfterFailures(10_000)),
+     *         progress
+     * );
+     * }</pre>
+     *
+     * @param results     an {@link Iterator} of {@code ValueResult}s
+     * @param consumer    the consumer of the values
+     * @param errorPolicy the {@code ErrorPolicy} for the errors
+     * @param progress    a new {@code TraversalProgress}, which can be read by other threads
+     * @param <V>         closure of all success types of the given {@code ValueResult}s
+     * @param <E>         closure of all failure types of the given {@code ValueResult}s
+     * @return a successful {@code VoidResult} if no {@code ValueResult} has failed, otherwise a
+     * failed {@code VoidResult} with the errors kept by the {@code errorPolicy}
+     * @throws NullPointerException     if any of the arguments is {@code null} or the
+     *                                  {@code errorPolicy} returns {@code null}
+     * @throws IllegalArgumentException if {@code progress} has already counted results
+     */
+    public static <V, E> VoidResult<BoundedErrors<E>> forEach(
+            Iterator<? extends ValueResult<? extends V, ? extends E>> results,
+            Consumer<? super V> consumer,
+            ErrorPolicy<? super E> errorPolicy,
+            TraversalProgress progress
+    ) {
+        requireNonNull(results, "results must not be null");
+        requireNonNull(consumer, "consumer must not be null");
+        requireNonNull(errorPolicy, "errorPolicy must not be null");
+        requireNonNull(progress, "progress must not be null");
+        long alreadyProcessed = progress.processed();
+        if (alreadyProcessed != 0) {
+            // the ErrorPolicy decides on the counts of the progress, which have to match this traversal
+            throw new IllegalArgumentException(String.format(
+                    "progress must not have counted results, but has counted %d", alreadyProcessed
+            ));
+        }
+        ErrorList.Builder<E> errors = null;
+        long failureCount = 0;
+        long processedInputs = 0;
+        boolean stopped = false;
+        while (!stopped && results.hasNext()) {
+            ValueResult<? extends V, ? extends E> result = results.next();
+            processedInputs++;
+            if (result.hasFailed()) {
+                E error = result.error();
+                failureCount++;
+                progress.fail();
+                ErrorPolicy.Action action = requireNonNull(errorPolicy.onError(error, progress), "action must not be null");
+                if (action.keeps()) {
+                    if (errors == null) {
+                        errors = ErrorList.builder();
+                    }
+                    errors.add(error);
+                }
+                stopped = action.stops();
+            } else {
+                consumer.accept(result.value());
+                progress.succeed();
+            }
+        }
+        if (failureCount == 0) {
+            return VoidResult.ok();
+        }
+        // results is not asked for more after a stop, its hasNext() may block or compute the next result
+        boolean terminatedEarly = stopped;
+        return VoidResult.fail(new BoundedErrors<>(
+                errors == null ? ErrorList.empty() : errors.build(),
+                failureCount,
+                processedInputs,
+                terminatedEarly ? -1 : 0,
+                terminatedEarly
+        ));
+    }
+
+    /**
+     * Traverses the {@code ValueResult}s of a sequential {@link Stream} like
+     * {@link #forEach(Iterator, Consumer, ErrorPolicy)}; the stream is not closed.
+     *
+     * @param results     a {@link Stream} of {@code ValueResult}s
+     * @param consumer    the consumer of the values
+     * @param errorPolicy the {@code ErrorPolicy} for the errors
+     * @param <V>         closure of all success types of the given {@code ValueResult}s
+     * @param <E>         closure of all failure types of the given {@code ValueResult}s
+     * @return a successful {@code VoidResult} if no {@code ValueResult} has failed, otherwise a
+     * failed {@code VoidResult} with the errors kept by the {@code errorPolicy}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <V, E> VoidResult<BoundedErrors<E>> forEach(
+            Stream<? extends ValueResult<? extends V, ? extends E>> results,
+            Consumer<? super V> consumer,
+            ErrorPolicy<? super E> errorPolicy
+    ) {
+        return forEach(results, consumer, errorPolicy, new TraversalProgress());
+    }
+
+    /**
+     * Traverses the {@code ValueResult}s of a sequential {@link Stream} like
+     * {@link #forEach(Iterator, Consumer, ErrorPolicy, TraversalProgress)}; the stream is not closed.
+     *
+     * @param results     a {@link Stream} of {@code ValueResult}s
+     * @param consumer    the consumer of the values
+     * @param errorPolicy the {@code ErrorPolicy} for the errors
+     * @param progress    a new {@code TraversalProgress}, which can be read by other threads
+     * @param <V>         closure of all success types of the given {@code ValueResult}s
+     * @param <E>         closure of all failure types of the given {@code ValueResult}s
+     * @return a successful {@code VoidResult} if no {@code ValueResult} has failed, otherwise a
+     * failed {@code VoidResult} with the errors kept by the {@code errorPolicy}
+     * @throws NullPointerException     if any of the arguments is {@code null}
+     * @throws IllegalArgumentException if {@code progress} has already counted results
+     */
+    public static <V, E> VoidResult<BoundedErrors<E>> forEach(
+            Stream<? extends ValueResult<? extends V, ? extends E>> results,
+            Consumer<? super V> consumer,
+            ErrorPolicy<? super E> errorPolicy,
+            TraversalProgress progress
+    ) {
+        requireNonNull(results, "results must not be null");
+        return forEach(results.iterator(), consumer, errorPolicy, progress);
+    }
+
+    private static <V, E, A, R, B, S> ValueResult<R, S> collect(
+            Iterable<? extends ValueResult<? extends V, ? extends E>> results,
+            Collector<? super V, A, R> valueCollector,
+            Collector<? super E, B, S> errorCollector
+    ) {
+        A values = valueCollector.supplier().get();
+        BiConsumer<A, ? super V> valueAccumulator = valueCollector.accumulator();
+        BiConsumer<B, ? super E> errorAccumulator = errorCollector.accumulator();
+        B errors = null;
+        for (ValueResult<? extends V, ? extends E> result : results) {
+            if (result.hasFailed()) {
+                if (errors == null) {
+                    errors = errorCollector.supplier().get();
+                }
+                errorAccumulator.accept(errors, result.error());
+            } else if (errors == null) {
+                valueAccumulator.accept(values, result.value());
+            }
+        }
+        return errors == null
+                ? ok(valueCollector.finisher().apply(values))
+                : fail(errorCollector.finisher().apply(errors));
+    }
+
+    private static <V, E, A, R> ValueResult<R, E> collectFailFast(
+            Iterable<? extends ValueResult<? extends V, ? extends E>> results,
+            Collector<? super V, A, R> valueCollector
+    ) {
+        A values = valueCollector.supplier().get();
+        BiConsumer<A, ? super V> accumulator = valueCollector.accumulator();
+        for (ValueResult<? extends V, ? extends E> result : results) {
+            if (result.hasFailed()) {
+                return fail(result.error());
+            }
+            accumulator.accept(values, result.value());
+        }
+        return ok(valueCollector.finisher().apply(values));
     }
 
     public abstract <W> ValueResult<W, E> castValue(Class<W> clazz);
@@ -139,7 +1088,6 @@ public abstract class ValueResult<V, E> extends Result<E> {
      */
     public abstract V value();
 
-
     public abstract Stream<V> stream();
 
     /**
@@ -163,6 +1111,18 @@ public abstract class ValueResult<V, E> extends Result<E> {
      */
     public abstract ValueResult<V, E> ensure(Supplier<Boolean> supplier, E error);
 
+    /**
+     * Returns the ValueResult itself when the supplier evaluates to true otherwise the given error.
+     * In contrast to {@link #ensure(Supplier, Object)} the supplier returns a primitive
+     * {@code boolean}, so no {@code Boolean} is boxed for the check.
+     *
+     * @param supplier A supplier which returns a boolean.
+     * @param error    An error.
+     * @return A ValueResult.
+     * @throws NullPointerException if the ValueResult is successful ensure supplier is {@code null}.
+     */
+    public abstract ValueResult<V, E> ensure(BooleanSupplier supplier, E error);
+
     /**
      * When the ValueResult is successful it checks the value with the given predicate. When the
      * predicate evaluates to true, it returns a successful ValueResult. In all other cases a
@@ -177,6 +1137,53 @@ public abstract class ValueResult<V, E> extends Result<E> {
      */
     public abstract ValueResult<V, E> ensure(Predicate<? super V> predicate, E error);
 
+    /**
+     * Returns the ValueResult itself when flag is true, otherwise a failed ValueResult with the
+     * error of the given supplier. The supplier is only invoked on the failure branch.
+     *
+     * @param flag          A boolean value.
+     * @param errorSupplier The supplier of the error.
+     * @return A ValueResult.
+     * @throws NullPointerException if the ValueResult is successful, flag is false and errorSupplier is {@code null}.
+     */
+    public abstract ValueResult<V, E> ensureOrElseGet(boolean flag, Supplier<? extends E> errorSupplier);
+
+    /**
+     * Returns the ValueResult itself when the supplier evaluates to true, otherwise a failed
+     * ValueResult with the error of the given error supplier. The supplier returns a primitive
+     * {@code boolean} and the error supplier is only invoked on the failure branch.
+     *
+     * @param supplier      A supplier which returns a boolean.
+     * @param errorSupplier The supplier of the error.
+     * @return A ValueResult.
+     * @throws NullPointerException if the ValueResult is successful and supplier is {@code null}.
+     */
+    public abstract ValueResult<V, E> ensureOrElseGet(BooleanSupplier supplier, Supplier<? extends E> errorSupplier);
+
+    /**
+     * When the ValueResult is successful it checks the value with the given predicate. When the
+     * predicate evaluates to false, it returns a failed ValueResult with the error of the given
+     * supplier. The supplier is only invoked on the failure branch.
+     *
+     * @param predicate     The predicate for testing the value.
+     * @param errorSupplier The supplier of the error to return when the predicate evaluates to false.
+     * @return The successful ValueResult with the value or a failed ValueResult.
+     * @throws NullPointerException if the ValueResult is successful and predicate is {@code null}.
+     */
+    public abstract ValueResult<V, E> ensureOrElseGet(Predicate<? super V> predicate, Supplier<? extends E> errorSupplier);
+
+    /**
+     * When the ValueResult is successful it checks the value with the given predicate. When the
+     * predicate evaluates to false, it returns a failed ValueResult with the error the given
+     * function creates from the value. The function is only invoked on the failure branch.
+     *
+     * @param predicate     The predicate for testing the value.
+     * @param errorFunction The function which creates the error from the rejected value.
+     * @return The successful ValueResult with the value or a failed ValueResult.
+     * @throws NullPointerException if the ValueResult is successful and predicate is {@code null}.
+     */
+    public abstract ValueResult<V, E> ensureOrElseGet(Predicate<? super V> predicate, Function<? super V, ? extends E> errorFunction);
+
     /**
      * Returns a failed ValueResult when either the ValueResult itself or the argument are failed,
      * otherwise return itself.
@@ -253,6 +1260,39 @@ public abstract class ValueResult<V, E> extends Result<E> {
      */
     public abstract <W> ValueResult<W, E> map(Function<? super V, ? extends W> mapper);
 
+    /**
+     * Maps the ValueResult to an {@link IntValueResult} with a primitive {@code int} value,
+     * if the ValueResult is successful.
+     *
+     * @param mapper A function that returns the new value.
+     * @return The IntValueResult of the function's value or a failed IntValueResult.
+     * @throws IllegalStateException if the ValueResult is successful ensure does not have a value.
+     * @throws NullPointerException  if the ValueResult is successful, has a value ensure mapper is {@code null}.
+     */
+    public abstract IntValueResult<E> mapToInt(ToIntFunction<? super V> mapper);
+
+    /**
+     * Maps the ValueResult to a {@link LongValueResult} with a primitive {@code long} value,
+     * if the ValueResult is successful.
+     *
+     * @param mapper A function that returns the new value.
+     * @return The LongValueResult of the function's value or a failed LongValueResult.
+     * @throws IllegalStateException if the ValueResult is successful ensure does not have a value.
+     * @throws NullPointerException  if the ValueResult is successful, has a value ensure mapper is {@code null}.
+     */
+    public abstract LongValueResult<E> mapToLong(ToLongFunction<? super V> mapper);
+
+    /**
+     * Maps the ValueResult to a {@link DoubleValueResult} with a primitive {@code double} value,
+     * if the ValueResult is successful.
+     *
+     * @param mapper A function that returns the new value.
+     * @return The DoubleValueResult of the function's value or a failed DoubleValueResult.
+     * @throws IllegalStateException if the ValueResult is successful ensure does not have a value.
+     * @throws NullPointerException  if the ValueResult is successful, has a value ensure mapper is {@code null}.
+     */
+    public abstract DoubleValueResult<E> mapToDouble(ToDoubleFunction<? super V> mapper);
+
     /**
      * Takes the value of the current ValueResult und the value of the given ValueResult ensure
      * applies both to the given function. The result of the function is wrapped in
@@ -328,10 +1368,8 @@ public abstract class ValueResult<V, E> extends Result<E> {
      */
     public abstract ValueResult<V, E> onFailure(Consumer<? super E> consumer);
 
-
     public abstract ValueResult<V, E> onBoth(Consumer<? super V> success, Consumer<? super E> failure);
 
-
     /**
      * Returns the ValueResult's value if successful, otherwise returns {@code other}.
      *
@@ -351,9 +1389,41 @@ public abstract class ValueResult<V, E> extends Result<E> {
      */
     public abstract V orElseGet(Function<? super E, ? extends V> function);
 
-
     public abstract <T> T fold(Function<? super V, ? extends T> success, Function<? super E, ? extends T> failure);
 
+    /**
+     * Applies {@code success} to the value if the ValueResult is successful, otherwise applies
+     * {@code failure} to the error, and returns the {@code int} result without boxing it.
+     *
+     * @param success the function applied to the value; must not be {@code null} if the ValueResult is successful
+     * @param failure the function applied to the error; must not be {@code null} if the ValueResult has failed
+     * @return the result of {@code success} or {@code failure}
+     * @throws NullPointerException if the function to be applied is {@code null}
+     */
+    public abstract int foldToInt(ToIntFunction<? super V> success, ToIntFunction<? super E> failure);
+
+    /**
+     * Applies {@code success} to the value if the ValueResult is successful, otherwise applies
+     * {@code failure} to the error, and returns the {@code long} result without boxing it.
+     *
+     * @param success the function applied to the value; must not be {@code null} if the ValueResult is successful
+     * @param failure the function applied to the error; must not be {@code null} if the ValueResult has failed
+     * @return the result of {@code success} or {@code failure}
+     * @throws NullPointerException if the function to be applied is {@code null}
+     */
+    public abstract long foldToLong(ToLongFunction<? super V> success, ToLongFunction<? super E> failure);
+
+    /**
+     * Applies {@code success} to the value if the ValueResult is successful, otherwise applies
+     * {@code failure} to the error, and returns the {@code double} result without boxing it.
+     *
+     * @param success the function applied to the value; must not be {@code null} if the ValueResult is successful
+     * @param failure the function applied to the error; must not be {@code null} if the ValueResult has failed
+     * @return the result of {@code success} or {@code failure}
+     * @throws NullPointerException if the function to be applied is {@code null}
+     */
+    public abstract double foldToDouble(ToDoubleFunction<? super V> success, ToDoubleFunction<? super E> failure);
+
     /**
      * Returns the ValueResult's value if successful, otherwise throw an exception
      * to be created by the provided supplier.
@@ -370,6 +1440,19 @@ public abstract class ValueResult<V, E> extends Result<E> {
      */
     public abstract <X extends Throwable> V orElseThrow(Supplier<? extends X> exceptionSupplier) throws X;
 
+    /**
+     * Returns the ValueResult's value if successful, otherwise throws a
+     * {@link ResultFailureException} with the error.
+     *
+     * <p>The {@code ResultFailureException} has no stack trace unless stack traces have been
+     * enabled with the system property {@value ResultFailureException#STACK_TRACE_INTERVAL_PROPERTY},
+     * so throwing it is cheap even when many ValueResults fail.
+     *
+     * @return the value
+     * @throws ResultFailureException if the ValueResult is failed
+     */
+    public abstract V orElseThrow();
+
     /**
      * Returns the value of the ValueResult wrapped in an {@code Optional} if successful,
      * other an empty {@code Optional}.
@@ -0,0 +1,200 @@
+package com.iremembr.jtraxxs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs independent computations which return {@code ValueResult}s concurrently and
+ * combines their outcomes into a single {@code ValueResult}.
+ *
+ * <p>Every supplier runs as a task on the given {@link Executor}. The calling thread
+ * waits until the outcome is known and cancels all tasks which are still pending or
+ * running before it returns, so no supplier is started after the call has returned.
+ * Running suppliers are cancelled by interrupting their thread; suppliers which
+ * ignore interruption run to completion, but their results are discarded.
+ *
+ * <pre>{@code
+ *     ValueResult<Collection<Object>, String> lookups = ValueResults.allOfFailFast(executor,
+ *             () -> customers.find(customerId),
+ *             () -> products.find(productId),
+ *             () -> stock.reserve(productId, quantity));
+ * }</pre>
+ */
+public final class ValueResults {
+
+    private ValueResults() {
+    }
+
+    /**
+     * Runs all suppliers concurrently on the given executor, waits for all of them and
+     * reduces their {@code ValueResult}s like {@link ValueResult#sequence(Iterable)}.
+     *
+     * @param executor  the executor which runs the suppliers
+     * @param suppliers the suppliers; none of them must return {@code null}
+     * @param <V>       closure of all success types of the supplied {@code ValueResult}s
+     * @param <E>       closure of all failure types of the supplied {@code ValueResult}s
+     * @return a {@code ValueResult} of an unmodifiable {@link Collection} of success or failure
+     * values in the order of the suppliers
+     * @throws NullPointerException if any of the arguments is {@code null}
+     * @throws CompletionException  if a supplier threw an exception or the calling thread was
+     *                              interrupted while waiting; all other suppliers are cancelled
+     * @see #allOf(Executor, List)
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <V, E> ValueResult<Collection<V>, Collection<E>> allOf(
+            Executor executor,
+            Supplier<? extends ValueResult<? extends V, ? extends E>>... suppliers
+    ) {
+        requireNonNull(suppliers, "suppliers must not be null");
+        return allOf(executor, Arrays.asList(suppliers));
+    }
+
+    /**
+     * Runs all suppliers concurrently on the given executor, waits for all of them and
+     * reduces their {@code ValueResult}s like {@link ValueResult#sequence(Iterable)}.
+     *
+     * <p>The values or errors of the returned {@code ValueResult} are in the order of the
+     * suppliers, regardless of the order in which the suppliers complete.
+     *
+     * @param executor  the executor which runs the suppliers
+     * @param suppliers the suppliers; none of them must return {@code null}
+     * @param <V>       closure of all success types of the supplied {@code ValueResult}s
+     * @param <E>       closure of all failure types of the supplied {@code ValueResult}s
+     * @return a {@code ValueResult} of an unmodifiable {@link Collection} of success or failure
+     * values in the order of the suppliers
+     * @throws NullPointerException if any of the arguments is {@code null}
+     * @throws CompletionException  if a supplier threw an exception or the calling thread was
+     *                              interrupted while waiting; all other suppliers are cancelled
+     */
+    public static <V, E> ValueResult<Collection<V>, Collection<E>> allOf(
+            Executor executor,
+            List<? extends Supplier<? extends ValueResult<? extends V, ? extends E>>> suppliers
+    ) {
+        requireNonNull(executor, "executor must not be null");
+        requireNonNull(suppliers, "suppliers must not be null");
+        BlockingQueue<FanOutTask<V, E>> completed = new LinkedBlockingQueue<>();
+        List<FanOutTask<V, E>> tasks = new ArrayList<>(suppliers.size());
+        try {
+            fork(executor, suppliers, completed, tasks);
+            @SuppressWarnings("unchecked")
+            ValueResult<? extends V, ? extends E>[] results = (ValueResult<? extends V, ? extends E>[]) new ValueResult<?, ?>[tasks.size()];
+            for (int i = 0; i < results.length; i++) {
+                FanOutTask<V, E> task = take(completed);
+                results[task.index()] = task.result();
+            }
+            return ValueResult.sequence(Arrays.asList(results));
+        } finally {
+            cancel(tasks);
+        }
+    }
+
+    /**
+     * Runs all suppliers concurrently on the given executor and returns the first failed
+     * {@code ValueResult}, cancelling all suppliers which have not completed yet.
+     *
+     * @param executor  the executor which runs the suppliers
+     * @param suppliers the suppliers; none of them must return {@code null}
+     * @param <V>       closure of all success types of the supplied {@code ValueResult}s
+     * @param <E>       closure of all failure types of the supplied {@code ValueResult}s
+     * @return a successful {@code ValueResult} of an unmodifiable {@link Collection} of all values
+     * in the order of the suppliers or a failed {@code ValueResult} with the first error
+     * @throws NullPointerException if any of the arguments is {@code null}
+     * @throws CompletionException  if a supplier threw an exception or the calling thread was
+     *                              interrupted while waiting; all other suppliers are cancelled
+     * @see #allOfFailFast(Executor, List)
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <V, E> ValueResult<Collection<V>, E> allOfFailFast(
+            Executor executor,
+            Supplier<? extends ValueResult<? extends V, ? extends E>>... suppliers
+    ) {
+        requireNonNull(suppliers, "suppliers must not be null");
+        return allOfFailFast(executor, Arrays.asList(suppliers));
+    }
+
+    /**
+     * Runs all suppliers concurrently on the given executor and returns the first failed
+     * {@code ValueResult}, cancelling all suppliers which have not completed yet.
+     *
+     * <p>"First" refers to the order of completion: the error of the supplier which fails
+     * first is returned as soon as it is known, without waiting for the remaining suppliers.
+     * If all suppliers succeed, the values are in the order of the suppliers.
+     *
+     * @param executor  the executor which runs the suppliers
+     * @param suppliers the suppliers; none of them must return {@code null}
+     * @param <V>       closure of all success types of the supplied {@code ValueResult}s
+     * @param <E>       closure of all failure types of the supplied {@code ValueResult}s
+     * @return a successful {@code ValueResult} of an unmodifiable {@link Collection} of all values
+     * in the order of the suppliers or a failed {@code ValueResult} with the first error
+     * @throws NullPointerException if any of the arguments is {@code null}
+     * @throws CompletionException  if a supplier threw an exception or the calling thread was
+     *                              interrupted while waiting; all other suppliers are cancelled
+     */
+    public static <V, E> ValueResult<Collection<V>, E> allOfFailFast(
+            Executor executor,
+            List<? extends Supplier<? extends ValueResult<? extends V, ? extends E>>> suppliers
+    ) {
+        requireNonNull(executor, "executor must not be null");
+        requireNonNull(suppliers, "suppliers must not be null");
+        BlockingQueue<FanOutTask<V, E>> completed = new LinkedBlockingQueue<>();
+        List<FanOutTask<V, E>> tasks = new ArrayList<>(suppliers.size());
+        try {
+            fork(executor, suppliers, completed, tasks);
+            @SuppressWarnings("unchecked")
+            ValueResult<? extends V, ? extends E>[] results = (ValueResult<? extends V, ? extends E>[]) new ValueResult<?, ?>[tasks.size()];
+            for (int i = 0; i < results.length; i++) {
+                FanOutTask<V, E> task = take(completed);
+                ValueResult<? extends V, ? extends E> result = task.result();
+                if (result.hasFailed()) {
+                    return ValueResult.fail(result.error());
+                }
+                results[task.index()] = result;
+            }
+            return ValueResult.sequenceFailFast(Arrays.asList(results));
+        } finally {
+            cancel(tasks);
+        }
+    }
+
+    private static <V, E> void fork(
+            Executor executor,
+            List<? extends Supplier<? extends ValueResult<? extends V, ? extends E>>> suppliers,
+            BlockingQueue<FanOutTask<V, E>> completed,
+            List<FanOutTask<V, E>> tasks
+    ) {
+        int index = 0;
+        for (Supplier<? extends ValueResult<? extends V, ? extends E>> supplier : suppliers) {
+            requireNonNull(supplier, "suppliers must not contain null");
+            FanOutTask<V, E> task = new FanOutTask<>(index++, supplier, completed);
+            tasks.add(task);
+            executor.execute(task);
+        }
+    }
+
+    private static <T> T take(BlockingQueue<T> completed) {
+        try {
+            return completed.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private static void cancel(List<? extends FanOutTask<?, ?>> tasks) {
+        // cancelling a completed task has no effect
+        for (FanOutTask<?, ?> task : tasks) {
+            task.cancel(true);
+        }
+    }
+}
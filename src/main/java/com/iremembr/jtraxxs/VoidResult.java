@@ -1,15 +1,13 @@
 package com.iremembr.jtraxxs;
 
 import java.util.Collection;
-import java.util.List;
+import java.util.Iterator;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.StreamSupport;
 
-import static java.util.Collections.unmodifiableCollection;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 /**
  * Represents the outcome of an computation that does not return any values but
@@ -19,6 +17,10 @@ import static java.util.stream.Collectors.toList;
  * otherwise it represents a successful computation without holding any additional
  * values.
  *
+ * <p>Like {@link ValueResult}, successful and failed {@code VoidResult}s are instances of a
+ * single class when the system property {@code com.iremembr.jtraxxs.taggedResults} is
+ * {@code true} at startup.
+ *
  * @param <E> the type of the error object in case of a failure
  */
 public abstract class VoidResult<E> extends Result<E> {
@@ -31,32 +33,333 @@ public abstract class VoidResult<E> extends Result<E> {
     public abstract <F> VoidResult<F> castError(Class<F> clazz);
 
     /**
-     * Returns a successful {@code VoidResult} with the given value.
+     * Returns a successful {@code VoidResult}.
+     *
+     * <p>A successful {@code VoidResult} holds no state, so the same shared
+     * instance is returned by every call.
      *
      * @param <E> the type of the error object in case of a failure
      * @return a successful {@code VoidResult}
      */
+    @SuppressWarnings("unchecked")
     public static <E> VoidResult<E> ok() {
-        return new SuccessfulVoidResult<>();
+        return (VoidResult<E>) (TaggedValueResult.ENABLED ? TaggedVoidResult.OK : SuccessfulVoidResult.INSTANCE);
     }
 
     /**
      * Returns a failed {@code VoidResult} with the given error.
      *
+     * <p>If the error is an enum constant a shared instance is returned instead of a new one.
+     *
      * @param error the error; can be {@code null}
      * @param <E>   the type of the error object in case of a failure
      * @return a failed VoidResult; never {@code null}
      */
     public static <E> VoidResult<E> fail(E error) {
-        return new FailedVoidResult<>(error);
+        return error instanceof Enum ? InternedResults.voidFailure((Enum<?>) error) : newFailure(error);
+    }
+
+    static <E> VoidResult<E> newFailure(E error) {
+        return TaggedValueResult.ENABLED ? TaggedVoidResult.failure(error) : new FailedVoidResult<>(error);
     }
 
+    /**
+     * Runs the given action and returns a successful {@code VoidResult}, or a failed
+     * {@code VoidResult} with the exception the action has thrown.
+     *
+     * @param runnable the action
+     * @return a VoidResult, never {@code null}
+     * @throws NullPointerException if {@code runnable} is {@code null}
+     * @see #attempt(CheckedRunnable, Function)
+     */
+    public static VoidResult<Exception> attempt(CheckedRunnable runnable) {
+        return attempt(runnable, Function.identity());
+    }
+
+    /**
+     * Runs the given action and returns a successful {@code VoidResult}, or a failed
+     * {@code VoidResult} with the error the mapper returns for the exception the action has
+     * thrown.
+     *
+     * <p>Only {@link Exception}s are caught, {@link Error}s are propagated. If the action is
+     * interrupted, the interrupt status of the current thread is restored.
+     *
+     * @param runnable the action
+     * @param mapper   the mapper of the exception to the error
+     * @param <E>      the type of the error object in case of a failure
+     * @return a VoidResult, never {@code null}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     * @see ValueResult#attempt(CheckedSupplier, Function)
+     */
+    public static <E> VoidResult<E> attempt(CheckedRunnable runnable, Function<? super Exception, ? extends E> mapper) {
+        requireNonNull(runnable, "runnable must not be null");
+        requireNonNull(mapper, "mapper must not be null");
+        try {
+            runnable.run();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return fail(mapper.apply(e));
+        }
+        return ok();
+    }
+
+    /**
+     * Reduces many {@code VoidResult}s into a single {@code VoidResult}.
+     *
+     * <p>If any of the given {@code VoidResult}s has failed then {@code sequence} returns a
+     * failed {@code VoidResult} containing a non-empty {@link ErrorList} of the errors of all
+     * failed {@code VoidResult}s, otherwise a successful {@code VoidResult}.
+     *
+     * @param results an {@link Iterable} of {@code VoidResult}s
+     * @param <E>     closure of all failure types of the given {@code VoidResult}s
+     * @return a {@code VoidResult} of an unmodifiable {@link Collection} of errors
+     * @throws NullPointerException if {@code results} is {@code null}
+     */
     public static <E> VoidResult<Collection<E>> sequence(Iterable<? extends VoidResult<? extends E>> results) {
         requireNonNull(results, "results must not be null");
-        List<? extends E> errors = StreamSupport.stream(results.spliterator(), false)
-                .flatMap(Result::errorStream)
-                .collect(toList());
-        return errors.isEmpty() ? VoidResult.ok() : VoidResult.fail(unmodifiableCollection(errors));
+        ErrorList.Builder<E> errors = null;
+        for (VoidResult<? extends E> result : results) {
+            if (result.hasFailed()) {
+                if (errors == null) {
+                    errors = ErrorList.builder();
+                }
+                errors.add(result.error());
+            }
+        }
+        return errors == null ? ok() : fail(errors.build());
+    }
+
+    /**
+     * Reduces many {@code VoidResult}s with enum errors into a single {@code VoidResult} like
+     * {@link #sequence(Iterable)}, but counts the errors per enum constant instead of keeping them
+     * in a list.
+     *
+     * @param results an {@link Iterable} of {@code VoidResult}s
+     * @param <E>     the enum type of the errors of the given {@code VoidResult}s
+     * @return a successful {@code VoidResult} or a failed {@code VoidResult} with the counted errors
+     * @throws NullPointerException if {@code results} is {@code null} or a failed
+     *                              {@code VoidResult} has a {@code null} error
+     * @see ValueResult#sequenceEnumErrors(Iterable)
+     */
+    public static <E extends Enum<E>> VoidResult<EnumErrorCounts<E>> sequenceEnumErrors(
+            Iterable<? extends VoidResult<? extends E>> results
+    ) {
+        requireNonNull(results, "results must not be null");
+        EnumErrorCounts.Counter<E> errors = null;
+        for (VoidResult<? extends E> result : results) {
+            if (result.hasFailed()) {
+                if (errors == null) {
+                    errors = new EnumErrorCounts.Counter<>();
+                }
+                errors.add(result.error());
+            }
+        }
+        return errors == null ? ok() : fail(errors.build());
+    }
+
+    /**
+     * Reduces many {@code VoidResult}s into a single {@code VoidResult} like
+     * {@link #sequence(Iterable)}, but keeps every distinct error only once in an
+     * {@link ErrorHistogram} with the number of its occurrences and the indexes of its first
+     * {@code maxIndexes} occurrences in {@code results}.
+     *
+     * @param results    an {@link Iterable} of {@code VoidResult}s
+     * @param maxIndexes the maximal number of indexes kept per distinct error
+     * @param <E>        closure of all failure types of the given {@code VoidResult}s
+     * @return a successful {@code VoidResult} or a failed {@code VoidResult} with the histogram
+     * of the errors
+     * @throws NullPointerException     if {@code results} is {@code null}
+     * @throws IllegalArgumentException if {@code maxIndexes} is negative
+     * @see ValueResult#sequenceHistogram(Iterable, int)
+     */
+    public static <E> VoidResult<ErrorHistogram<E>> sequenceHistogram(
+            Iterable<? extends VoidResult<? extends E>> results,
+            int maxIndexes
+    ) {
+        requireNonNull(results, "results must not be null");
+        ErrorHistogram.Counter.checkMaxIndexes(maxIndexes);
+        ErrorHistogram.Counter<E> errors = null;
+        long index = 0;
+        for (VoidResult<? extends E> result : results) {
+            if (result.hasFailed()) {
+                if (errors == null) {
+                    errors = new ErrorHistogram.Counter<>(maxIndexes);
+                }
+                errors.add(result.error(), index);
+            }
+            index++;
+        }
+        return errors == null ? ok() : fail(errors.build());
+    }
+
+    /**
+     * Reduces many {@code VoidResult}s into a single {@code VoidResult} like {@link #sequence(Iterable)},
+     * but keeps only as many errors as the given {@link FailureBudget} allows and stops once the
+     * budget is exhausted.
+     *
+     * @param results an {@link Iterable} of {@code VoidResult}s
+     * @param budget  the {@code FailureBudget}
+     * @param <E>     closure of all failure types of the given {@code VoidResult}s
+     * @return a successful {@code VoidResult} or a failed {@code VoidResult} with the bounded errors
+     * @throws NullPointerException if any of the arguments is {@code null}
+     * @see ValueResult#sequence(Iterable, FailureBudget)
+     */
+    public static <E> VoidResult<BoundedErrors<E>> sequence(
+            Iterable<? extends VoidResult<? extends E>> results,
+            FailureBudget budget
+    ) {
+        requireNonNull(results, "results must not be null");
+        requireNonNull(budget, "budget must not be null");
+        BoundedErrors.Counter<E> errors = new BoundedErrors.Counter<>(budget);
+        Iterator<? extends VoidResult<? extends E>> iterator = results.iterator();
+        while (!errors.isExhausted() && iterator.hasNext()) {
+            VoidResult<? extends E> result = iterator.next();
+            if (result.hasFailed()) {
+                errors.fail(result.error());
+            } else {
+                errors.succeed();
+            }
+        }
+        return errors.hasFailed() ? fail(errors.build(results, iterator)) : ok();
+    }
+
+    /**
+     * Combines two {@code VoidResult}s like {@link #sequence(Iterable)} without creating
+     * an {@code Iterable}.
+     *
+     * @param first  the first {@code VoidResult}
+     * @param second the second {@code VoidResult}
+     * @param <E>    closure of the failure types of the given {@code VoidResult}s
+     * @return a successful {@code VoidResult} if both are successful, otherwise a failed
+     * {@code VoidResult} with an unmodifiable {@link Collection} of all errors
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <E> VoidResult<Collection<E>> allOf(VoidResult<? extends E> first, VoidResult<? extends E> second) {
+        requireNonNull(first, "first must not be null");
+        requireNonNull(second, "second must not be null");
+        if (first.isSuccessful()) {
+            return second.isSuccessful() ? ok() : fail(ErrorList.<E>of(second.error()));
+        }
+        return fail(second.isSuccessful()
+                ? ErrorList.<E>of(first.error())
+                : ErrorList.<E>of(first.error(), second.error()));
+    }
+
+    /**
+     * Combines three {@code VoidResult}s like {@link #sequence(Iterable)} without creating
+     * an {@code Iterable}.
+     *
+     * @param first  the first {@code VoidResult}
+     * @param second the second {@code VoidResult}
+     * @param third  the third {@code VoidResult}
+     * @param <E>    closure of the failure types of the given {@code VoidResult}s
+     * @return a successful {@code VoidResult} if all are successful, otherwise a failed
+     * {@code VoidResult} with an unmodifiable {@link Collection} of all errors
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <E> VoidResult<Collection<E>> allOf(
+            VoidResult<? extends E> first, VoidResult<? extends E> second, VoidResult<? extends E> third
+    ) {
+        requireNonNull(first, "first must not be null");
+        requireNonNull(second, "second must not be null");
+        requireNonNull(third, "third must not be null");
+        if (first.isSuccessful()) {
+            return allOf(second, third);
+        }
+        if (second.isSuccessful()) {
+            return fail(third.isSuccessful()
+                    ? ErrorList.<E>of(first.error())
+                    : ErrorList.<E>of(first.error(), third.error()));
+        }
+        return fail(third.isSuccessful()
+                ? ErrorList.<E>of(first.error(), second.error())
+                : ErrorList.<E>of(first.error(), second.error(), third.error()));
+    }
+
+    /**
+     * Combines the given {@code VoidResult}s like {@link #sequence(Iterable)} without creating
+     * an {@code Iterable}.
+     *
+     * @param results the {@code VoidResult}s
+     * @param <E>     closure of the failure types of the given {@code VoidResult}s
+     * @return a successful {@code VoidResult} if all are successful, otherwise a failed
+     * {@code VoidResult} with an unmodifiable {@link Collection} of all errors
+     * @throws NullPointerException if {@code results} or any of its elements is {@code null}
+     */
+    @SafeVarargs
+    public static <E> VoidResult<Collection<E>> allOf(VoidResult<? extends E>... results) {
+        requireNonNull(results, "results must not be null");
+        ErrorList.Builder<E> errors = null;
+        for (VoidResult<? extends E> result : results) {
+            if (result.hasFailed()) {
+                if (errors == null) {
+                    errors = ErrorList.builder();
+                }
+                errors.add(result.error());
+            }
+        }
+        return errors == null ? ok() : fail(errors.build());
+    }
+
+    /**
+     * Returns the first of the two {@code VoidResult}s which has failed, otherwise a successful
+     * {@code VoidResult}.
+     *
+     * @param first  the first {@code VoidResult}
+     * @param second the second {@code VoidResult}
+     * @param <E>    closure of the failure types of the given {@code VoidResult}s
+     * @return the first failed {@code VoidResult} or a successful {@code VoidResult}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <E> VoidResult<E> firstFailure(VoidResult<? extends E> first, VoidResult<? extends E> second) {
+        requireNonNull(first, "first must not be null");
+        requireNonNull(second, "second must not be null");
+        return first.hasFailed() ? upCast(first) : upCast(second);
+    }
+
+    /**
+     * Returns the first of the three {@code VoidResult}s which has failed, otherwise a successful
+     * {@code VoidResult}.
+     *
+     * @param first  the first {@code VoidResult}
+     * @param second the second {@code VoidResult}
+     * @param third  the third {@code VoidResult}
+     * @param <E>    closure of the failure types of the given {@code VoidResult}s
+     * @return the first failed {@code VoidResult} or a successful {@code VoidResult}
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public static <E> VoidResult<E> firstFailure(
+            VoidResult<? extends E> first, VoidResult<? extends E> second, VoidResult<? extends E> third
+    ) {
+        requireNonNull(first, "first must not be null");
+        requireNonNull(second, "second must not be null");
+        requireNonNull(third, "third must not be null");
+        if (first.hasFailed()) {
+            return upCast(first);
+        }
+        return second.hasFailed() ? upCast(second) : upCast(third);
+    }
+
+    /**
+     * Returns the first of the given {@code VoidResult}s which has failed, otherwise a successful
+     * {@code VoidResult}. The {@code VoidResult}s after the first failed one are not inspected.
+     *
+     * @param results the {@code VoidResult}s
+     * @param <E>     closure of the failure types of the given {@code VoidResult}s
+     * @return the first failed {@code VoidResult} or a successful {@code VoidResult}
+     * @throws NullPointerException if {@code results} or any inspected element is {@code null}
+     */
+    @SafeVarargs
+    public static <E> VoidResult<E> firstFailure(VoidResult<? extends E>... results) {
+        requireNonNull(results, "results must not be null");
+        for (VoidResult<? extends E> result : results) {
+            if (result.hasFailed()) {
+                return upCast(result);
+            }
+        }
+        return ok();
     }
 
     /**
@@ -100,6 +403,41 @@ public abstract class VoidResult<E> extends Result<E> {
      */
     public abstract VoidResult<E> ensure(Supplier<Boolean> supplier, E error);
 
+    /**
+     * Returns the VoidResult itself when the supplier evaluates to true otherwise the given error.
+     * In contrast to {@link #ensure(Supplier, Object)} the supplier returns a primitive
+     * {@code boolean}, so no {@code Boolean} is boxed for the check.
+     *
+     * @param supplier A supplier which returns a boolean.
+     * @param error    An error.
+     * @return A VoidResult.
+     * @throws NullPointerException if the VoidResult is successful ensure supplier is {@code null}.
+     */
+    public abstract VoidResult<E> ensure(BooleanSupplier supplier, E error);
+
+    /**
+     * Returns the VoidResult itself when flag is true, otherwise a failed VoidResult with the
+     * error of the given supplier. The supplier is only invoked on the failure branch.
+     *
+     * @param flag          A boolean value.
+     * @param errorSupplier The supplier of the error.
+     * @return A VoidResult.
+     * @throws NullPointerException if the VoidResult is successful, flag is false and errorSupplier is {@code null}.
+     */
+    public abstract VoidResult<E> ensureOrElseGet(boolean flag, Supplier<? extends E> errorSupplier);
+
+    /**
+     * Returns the VoidResult itself when the supplier evaluates to true, otherwise a failed
+     * VoidResult with the error of the given error supplier. The supplier returns a primitive
+     * {@code boolean} and the error supplier is only invoked on the failure branch.
+     *
+     * @param supplier      A supplier which returns a boolean.
+     * @param errorSupplier The supplier of the error.
+     * @return A VoidResult.
+     * @throws NullPointerException if the VoidResult is successful and supplier is {@code null}.
+     */
+    public abstract VoidResult<E> ensureOrElseGet(BooleanSupplier supplier, Supplier<? extends E> errorSupplier);
+
     /**
      * Maps the VoidResult to a VoidResult with another error, if the VoidResult is failed.
      *
@@ -137,10 +475,8 @@ public abstract class VoidResult<E> extends Result<E> {
      */
     public abstract VoidResult<E> onFailure(Consumer<? super E> consumer);
 
-
     public abstract VoidResult<E> onBoth(Runnable success, Consumer<? super E> failure);
 
-
     public abstract <T> T fold(Supplier<? extends T> success, Function<? super E, ? extends T> failure);
 
 }
@@ -0,0 +1,737 @@
+package com.iremembr.jtraxxs;
+
+import java.util.Collection;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Combines two to eight {@code ValueResult}s with a function which takes all of their values,
+ * see {@link ValueResult#zip(ValueResult, ValueResult, ValueResult)}.
+ *
+ * <p>Unlike {@link ValueResult#combine(BiFunction, ValueResult)}, a zip does not stop at the
+ * first failed {@code ValueResult}. It reports the errors of all failed {@code ValueResult}s,
+ * either as an {@link ErrorList} or merged into a single error with a {@link BinaryOperator}:
+ * <pre>{@code
+ *     ValueResult<Address, String> address = ValueResult.zip(street, zipCode, city)
+ *             .apply(Address::new, (first, second) -> first + "; " + second);
+ * }</pre>
+ *
+ * <p>The function receives the values directly, no intermediate pairs or tuples are created.
+ */
+public final class Zip {
+
+    private Zip() {
+    }
+
+    /**
+     * A function which takes 3 arguments.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <R>  the type of the result
+     */
+    @FunctionalInterface
+    public interface Function3<T1, T2, T3, R> {
+
+        /**
+         * Applies the function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @return the result
+         */
+        R apply(T1 t1, T2 t2, T3 t3);
+    }
+
+    /**
+     * A function which takes 4 arguments.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <T4> the type of the fourth argument
+     * @param <R>  the type of the result
+     */
+    @FunctionalInterface
+    public interface Function4<T1, T2, T3, T4, R> {
+
+        /**
+         * Applies the function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @param t4 the fourth argument
+         * @return the result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4);
+    }
+
+    /**
+     * A function which takes 5 arguments.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <T4> the type of the fourth argument
+     * @param <T5> the type of the fifth argument
+     * @param <R>  the type of the result
+     */
+    @FunctionalInterface
+    public interface Function5<T1, T2, T3, T4, T5, R> {
+
+        /**
+         * Applies the function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @param t4 the fourth argument
+         * @param t5 the fifth argument
+         * @return the result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5);
+    }
+
+    /**
+     * A function which takes 6 arguments.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <T4> the type of the fourth argument
+     * @param <T5> the type of the fifth argument
+     * @param <T6> the type of the sixth argument
+     * @param <R>  the type of the result
+     */
+    @FunctionalInterface
+    public interface Function6<T1, T2, T3, T4, T5, T6, R> {
+
+        /**
+         * Applies the function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @param t4 the fourth argument
+         * @param t5 the fifth argument
+         * @param t6 the sixth argument
+         * @return the result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6);
+    }
+
+    /**
+     * A function which takes 7 arguments.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <T4> the type of the fourth argument
+     * @param <T5> the type of the fifth argument
+     * @param <T6> the type of the sixth argument
+     * @param <T7> the type of the seventh argument
+     * @param <R>  the type of the result
+     */
+    @FunctionalInterface
+    public interface Function7<T1, T2, T3, T4, T5, T6, T7, R> {
+
+        /**
+         * Applies the function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @param t4 the fourth argument
+         * @param t5 the fifth argument
+         * @param t6 the sixth argument
+         * @param t7 the seventh argument
+         * @return the result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7);
+    }
+
+    /**
+     * A function which takes 8 arguments.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <T4> the type of the fourth argument
+     * @param <T5> the type of the fifth argument
+     * @param <T6> the type of the sixth argument
+     * @param <T7> the type of the seventh argument
+     * @param <T8> the type of the eighth argument
+     * @param <R>  the type of the result
+     */
+    @FunctionalInterface
+    public interface Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> {
+
+        /**
+         * Applies the function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @param t4 the fourth argument
+         * @param t5 the fifth argument
+         * @param t6 the sixth argument
+         * @param t7 the seventh argument
+         * @param t8 the eighth argument
+         * @return the result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8);
+    }
+
+    /**
+     * 2 {@code ValueResult}s which are combined by one of the {@code apply} methods.
+     *
+     * @param <T1> the value type of the first {@code ValueResult}
+     * @param <T2> the value type of the second {@code ValueResult}
+     * @param <E>  closure of the failure types of the {@code ValueResult}s
+     */
+    public static final class Of2<T1, T2, E> {
+
+        private final ValueResult<? extends T1, ? extends E> r1;
+        private final ValueResult<? extends T2, ? extends E> r2;
+
+        Of2(ValueResult<? extends T1, ? extends E> r1, ValueResult<? extends T2, ? extends E> r2) {
+            this.r1 = r1;
+            this.r2 = r2;
+        }
+
+        /**
+         * Returns a successful {@code ValueResult} with the result of the function if all
+         * {@code ValueResult}s are successful, otherwise a failed {@code ValueResult} with the
+         * errors of all failed {@code ValueResult}s in order.
+         *
+         * @param function the function which combines the values
+         * @param <R>      the type of the combined value
+         * @return a ValueResult with the combined value or an ErrorList of all errors, never {@code null}
+         * @throws NullPointerException if {@code function} is {@code null}
+         */
+        public <R> ValueResult<R, Collection<E>> apply(BiFunction<? super T1, ? super T2, ? extends R> function) {
+            requireNonNull(function, "function must not be null");
+            return r1.isSuccessful() && r2.isSuccessful()
+                    ? ValueResult.ok(function.apply(r1.value(), r2.value()))
+                    : ValueResult.fail(collectErrors(r1, r2));
+        }
+
+        /**
+         * Returns a successful {@code ValueResult} with the result of the function if all
+         * {@code ValueResult}s are successful, otherwise a failed {@code ValueResult} with the
+         * errors of all failed {@code ValueResult}s merged from left to right.
+         *
+         * @param function    the function which combines the values
+         * @param mergeErrors the function which merges two errors into one
+         * @param <R>         the type of the combined value
+         * @return a ValueResult with the combined value or the merged error, never {@code null}
+         * @throws NullPointerException if any of the arguments is {@code null}
+         */
+        public <R> ValueResult<R, E> apply(BiFunction<? super T1, ? super T2, ? extends R> function, BinaryOperator<E> mergeErrors) {
+            requireNonNull(function, "function must not be null");
+            requireNonNull(mergeErrors, "mergeErrors must not be null");
+            return r1.isSuccessful() && r2.isSuccessful()
+                    ? ValueResult.ok(function.apply(r1.value(), r2.value()))
+                    : ValueResult.fail(mergeErrors(mergeErrors, r1, r2));
+        }
+    }
+
+    /**
+     * 3 {@code ValueResult}s which are combined by one of the {@code apply} methods.
+     *
+     * @param <T1> the value type of the first {@code ValueResult}
+     * @param <T2> the value type of the second {@code ValueResult}
+     * @param <T3> the value type of the third {@code ValueResult}
+     * @param <E>  closure of the failure types of the {@code ValueResult}s
+     */
+    public static final class Of3<T1, T2, T3, E> {
+
+        private final ValueResult<? extends T1, ? extends E> r1;
+        private final ValueResult<? extends T2, ? extends E> r2;
+        private final ValueResult<? extends T3, ? extends E> r3;
+
+        Of3(
+                ValueResult<? extends T1, ? extends E> r1,
+                ValueResult<? extends T2, ? extends E> r2,
+                ValueResult<? extends T3, ? extends E> r3
+        ) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+        }
+
+        /**
+         * Returns a successful {@code ValueResult} with the result of the function if all
+         * {@code ValueResult}s are successful, otherwise a failed {@code ValueResult} with the
+         * errors of all failed {@code ValueResult}s in order.
+         *
+         * @param function the function which combines the values
+         * @param <R>      the type of the combined value
+         * @return a ValueResult with the combined value or an ErrorList of all errors, never {@code null}
+         * @throws NullPointerException if {@code function} is {@code null}
+         */
+        public <R> ValueResult<R, Collection<E>> apply(Function3<? super T1, ? super T2, ? super T3, ? extends R> function) {
+            requireNonNull(function, "function must not be null");
+            return r1.isSuccessful() && r2.isSuccessful() && r3.isSuccessful()
+                    ? ValueResult.ok(function.apply(r1.value(), r2.value(), r3.value()))
+                    : ValueResult.fail(collectErrors(r1, r2, r3));
+        }
+
+        /**
+         * Returns a successful {@code ValueResult} with the result of the function if all
+         * {@code ValueResult}s are successful, otherwise a failed {@code ValueResult} with the
+         * errors of all failed {@code ValueResult}s merged from left to right.
+         *
+         * @param function    the function which combines the values
+         * @param mergeErrors the function which merges two errors into one
+         * @param <R>         the type of the combined value
+         * @return a ValueResult with the combined value or the merged error, never {@code null}
+         * @throws NullPointerException if any of the arguments is {@code null}
+         */
+        public <R> ValueResult<R, E> apply(Function3<? super T1, ? super T2, ? super T3, ? extends R> function, BinaryOperator<E> mergeErrors) {
+            requireNonNull(function, "function must not be null");
+            requireNonNull(mergeErrors, "mergeErrors must not be null");
+            return r1.isSuccessful() && r2.isSuccessful() && r3.isSuccessful()
+                    ? ValueResult.ok(function.apply(r1.value(), r2.value(), r3.value()))
+                    : ValueResult.fail(mergeErrors(mergeErrors, r1, r2, r3));
+        }
+    }
+
+    /**
+     * 4 {@code ValueResult}s which are combined by one of the {@code apply} methods.
+     *
+     * @param <T1> the value type of the first {@code ValueResult}
+     * @param <T2> the value type of the second {@code ValueResult}
+     * @param <T3> the value type of the third {@code ValueResult}
+     * @param <T4> the value type of the fourth {@code ValueResult}
+     * @param <E>  closure of the failure types of the {@code ValueResult}s
+     */
+    public static final class Of4<T1, T2, T3, T4, E> {
+
+        private final ValueResult<? extends T1, ? extends E> r1;
+        private final ValueResult<? extends T2, ? extends E> r2;
+        private final ValueResult<? extends T3, ? extends E> r3;
+        private final ValueResult<? extends T4, ? extends E> r4;
+
+        Of4(
+                ValueResult<? extends T1, ? extends E> r1,
+                ValueResult<? extends T2, ? extends E> r2,
+                ValueResult<? extends T3, ? extends E> r3,
+                ValueResult<? extends T4, ? extends E> r4
+        ) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+        }
+
+        /**
+         * Returns a successful {@code ValueResult} with the result of the function if all
+         * {@code ValueResult}s are successful, otherwise a failed {@code ValueResult} with the
+         * errors of all failed {@code ValueResult}s in order.
+         *
+         * @param function the function which combines the values
+         * @param <R>      the type of the combined value
+         * @return a ValueResult with the combined value or an ErrorList of all errors, never {@code null}
+         * @throws NullPointerException if {@code function} is {@code null}
+         */
+        public <R> ValueResult<R, Collection<E>> apply(Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> function) {
+            requireNonNull(function, "function must not be null");
+            return r1.isSuccessful() && r2.isSuccessful() && r3.isSuccessful() && r4.isSuccessful()
+                    ? ValueResult.ok(function.apply(r1.value(), r2.value(), r3.value(), r4.value()))
+                    : ValueResult.fail(collectErrors(r1, r2, r3, r4));
+        }
+
+        /**
+         * Returns a successful {@code ValueResult} with the result of the function if all
+         * {@code ValueResult}s are successful, otherwise a failed {@code ValueResult} with the
+         * errors of all failed {@code ValueResult}s merged from left to right.
+         *
+         * @param function    the function which combines the values
+         * @param mergeErrors the function which merges two errors into one
+         * @param <R>         the type of the combined value
+         * @return a ValueResult with the combined value or the merged error, never {@code null}
+         * @throws NullPointerException if any of the arguments is {@code null}
+         */
+        public <R> ValueResult<R, E> apply(Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> function, BinaryOperator<E> mergeErrors) {
+            requireNonNull(function, "function must not be null");
+            requireNonNull(mergeErrors, "mergeErrors must not be null");
+            return r1.isSuccessful() && r2.isSuccessful() && r3.isSuccessful() && r4.isSuccessful()
+                    ? ValueResult.ok(function.apply(r1.value(), r2.value(), r3.value(), r4.value()))
+                    : ValueResult.fail(mergeErrors(mergeErrors, r1, r2, r3, r4));
+        }
+    }
+
+    /**
+     * 5 {@code ValueResult}s which are combined by one of the {@code apply} methods.
+     *
+     * @param <T1> the value type of the first {@code ValueResult}
+     * @param <T2> the value type of the second {@code ValueResult}
+     * @param <T3> the value type of the third {@code ValueResult}
+     * @param <T4> the value type of the fourth {@code ValueResult}
+     * @param <T5> the value type of the fifth {@code ValueResult}
+     * @param <E>  closure of the failure types of the {@code ValueResult}s
+     */
+    public static final class Of5<T1, T2, T3, T4, T5, E> {
+
+        private final ValueResult<? extends T1, ? extends E> r1;
+        private final ValueResult<? extends T2, ? extends E> r2;
+        private final ValueResult<? extends T3, ? extends E> r3;
+        private final ValueResult<? extends T4, ? extends E> r4;
+        private final ValueResult<? extends T5, ? extends E> r5;
+
+        Of5(
+                ValueResult<? extends T1, ? extends E> r1,
+                ValueResult<? extends T2, ? extends E> r2,
+                ValueResult<? extends T3, ? extends E> r3,
+                ValueResult<? extends T4, ? extends E> r4,
+                ValueResult<? extends T5, ? extends E> r5
+        ) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+        }
+
+        /**
+         * Returns a successful {@code ValueResult} with the result of the function if all
+         * {@code ValueResult}s are successful, otherwise a failed {@code ValueResult} with the
+         * errors of all failed {@code ValueResult}s in order.
+         *
+         * @param function the function which combines the values
+         * @param <R>      the type of the combined value
+         * @return a ValueResult with the combined value or an ErrorList of all errors, never {@code null}
+         * @throws NullPointerException if {@code function} is {@code null}
+         */
+        public <R> ValueResult<R, Collection<E>> apply(Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> function) {
+            requireNonNull(function, "function must not be null");
+            return r1.isSuccessful()
+                    && r2.isSuccessful()
+                    && r3.isSuccessful()
+                    && r4.isSuccessful()
+                    && r5.isSuccessful()
+                    ? ValueResult.ok(function.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value()))
+                    : ValueResult.fail(collectErrors(r1, r2, r3, r4, r5));
+        }
+
+        /**
+         * Returns a successful {@code ValueResult} with the result of the function if all
+         * {@code ValueResult}s are successful, otherwise a failed {@code ValueResult} with the
+         * errors of all failed {@code ValueResult}s merged from left to right.
+         *
+         * @param function    the function which combines the values
+         * @param mergeErrors the function which merges two errors into one
+         * @param <R>         the type of the combined value
+         * @return a ValueResult with the combined value or the merged error, never {@code null}
+         * @throws NullPointerException if any of the arguments is {@code null}
+         */
+        public <R> ValueResult<R, E> apply(Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> function, BinaryOperator<E> mergeErrors) {
+            requireNonNull(function, "function must not be null");
+            requireNonNull(mergeErrors, "mergeErrors must not be null");
+            return r1.isSuccessful()
+                    && r2.isSuccessful()
+                    && r3.isSuccessful()
+                    && r4.isSuccessful()
+                    && r5.isSuccessful()
+                    ? ValueResult.ok(function.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value()))
+                    : ValueResult.fail(mergeErrors(mergeErrors, r1, r2, r3, r4, r5));
+        }
+    }
+
+    /**
+     * 6 {@code ValueResult}s which are combined by one of the {@code apply} methods.
+     *
+     * @param <T1> the value type of the first {@code ValueResult}
+     * @param <T2> the value type of the second {@code ValueResult}
+     * @param <T3> the value type of the third {@code ValueResult}
+     * @param <T4> the value type of the fourth {@code ValueResult}
+     * @param <T5> the value type of the fifth {@code ValueResult}
+     * @param <T6> the value type of the sixth {@code ValueResult}
+     * @param <E>  closure of the failure types of the {@code ValueResult}s
+     */
+    public static final class Of6<T1, T2, T3, T4, T5, T6, E> {
+
+        private final ValueResult<? extends T1, ? extends E> r1;
+        private final ValueResult<? extends T2, ? extends E> r2;
+        private final ValueResult<? extends T3, ? extends E> r3;
+        private final ValueResult<? extends T4, ? extends E> r4;
+        private final ValueResult<? extends T5, ? extends E> r5;
+        private final ValueResult<? extends T6, ? extends E> r6;
+
+        Of6(
+                ValueResult<? extends T1, ? extends E> r1,
+                ValueResult<? extends T2, ? extends E> r2,
+                ValueResult<? extends T3, ? extends E> r3,
+                ValueResult<? extends T4, ? extends E> r4,
+                ValueResult<? extends T5, ? extends E> r5,
+                ValueResult<? extends T6, ? extends E> r6
+        ) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+        }
+
+        /**
+         * Returns a successful {@code ValueResult} with the result of the function if all
+         * {@code ValueResult}s are successful, otherwise a failed {@code ValueResult} with the
+         * errors of all failed {@code ValueResult}s in order.
+         *
+         * @param function the function which combines the values
+         * @param <R>      the type of the combined value
+         * @return a ValueResult with the combined value or an ErrorList of all errors, never {@code null}
+         * @throws NullPointerException if {@code function} is {@code null}
+         */
+        public <R> ValueResult<R, Collection<E>> apply(Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> function) {
+            requireNonNull(function, "function must not be null");
+            return r1.isSuccessful()
+                    && r2.isSuccessful()
+                    && r3.isSuccessful()
+                    && r4.isSuccessful()
+                    && r5.isSuccessful()
+                    && r6.isSuccessful()
+                    ? ValueResult.ok(function.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value(), r6.value()))
+                    : ValueResult.fail(collectErrors(r1, r2, r3, r4, r5, r6));
+        }
+
+        /**
+         * Returns a successful {@code ValueResult} with the result of the function if all
+         * {@code ValueResult}s are successful, otherwise a failed {@code ValueResult} with the
+         * errors of all failed {@code ValueResult}s merged from left to right.
+         *
+         * @param function    the function which combines the values
+         * @param mergeErrors the function which merges two errors into one
+         * @param <R>         the type of the combined value
+         * @return a ValueResult with the combined value or the merged error, never {@code null}
+         * @throws NullPointerException if any of the arguments is {@code null}
+         */
+        public <R> ValueResult<R, E> apply(Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> function, BinaryOperator<E> mergeErrors) {
+            requireNonNull(function, "function must not be null");
+            requireNonNull(mergeErrors, "mergeErrors must not be null");
+            return r1.isSuccessful()
+                    && r2.isSuccessful()
+                    && r3.isSuccessful()
+                    && r4.isSuccessful()
+                    && r5.isSuccessful()
+                    && r6.isSuccessful()
+                    ? ValueResult.ok(function.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value(), r6.value()))
+                    : ValueResult.fail(mergeErrors(mergeErrors, r1, r2, r3, r4, r5, r6));
+        }
+    }
+
+    /**
+     * 7 {@code ValueResult}s which are combined by one of the {@code apply} methods.
+     *
+     * @param <T1> the value type of the first {@code ValueResult}
+     * @param <T2> the value type of the second {@code ValueResult}
+     * @param <T3> the value type of the third {@code ValueResult}
+     * @param <T4> the value type of the fourth {@code ValueResult}
+     * @param <T5> the value type of the fifth {@code ValueResult}
+     * @param <T6> the value type of the sixth {@code ValueResult}
+     * @param <T7> the value type of the seventh {@code ValueResult}
+     * @param <E>  closure of the failure types of the {@code ValueResult}s
+     */
+    public static final class Of7<T1, T2, T3, T4, T5, T6, T7, E> {
+
+        private final ValueResult<? extends T1, ? extends E> r1;
+        private final ValueResult<? extends T2, ? extends E> r2;
+        private final ValueResult<? extends T3, ? extends E> r3;
+        private final ValueResult<? extends T4, ? extends E> r4;
+        private final ValueResult<? extends T5, ? extends E> r5;
+        private final ValueResult<? extends T6, ? extends E> r6;
+        private final ValueResult<? extends T7, ? extends E> r7;
+
+        Of7(
+                ValueResult<? extends T1, ? extends E> r1,
+                ValueResult<? extends T2, ? extends E> r2,
+                ValueResult<? extends T3, ? extends E> r3,
+                ValueResult<? extends T4, ? extends E> r4,
+                ValueResult<? extends T5, ? extends E> r5,
+                ValueResult<? extends T6, ? extends E> r6,
+                ValueResult<? extends T7, ? extends E> r7
+        ) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+            this.r7 = r7;
+        }
+
+        /**
+         * Returns a successful {@code ValueResult} with the result of the function if all
+         * {@code ValueResult}s are successful, otherwise a failed {@code ValueResult} with the
+         * errors of all failed {@code ValueResult}s in order.
+         *
+         * @param function the function which combines the values
+         * @param <R>      the type of the combined value
+         * @return a ValueResult with the combined value or an ErrorList of all errors, never {@code null}
+         * @throws NullPointerException if {@code function} is {@code null}
+         */
+        public <R> ValueResult<R, Collection<E>> apply(Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> function) {
+            requireNonNull(function, "function must not be null");
+            return r1.isSuccessful()
+                    && r2.isSuccessful()
+                    && r3.isSuccessful()
+                    && r4.isSuccessful()
+                    && r5.isSuccessful()
+                    && r6.isSuccessful()
+                    && r7.isSuccessful()
+                    ? ValueResult.ok(function.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value(), r6.value(), r7.value()))
+                    : ValueResult.fail(collectErrors(r1, r2, r3, r4, r5, r6, r7));
+        }
+
+        /**
+         * Returns a successful {@code ValueResult} with the result of the function if all
+         * {@code ValueResult}s are successful, otherwise a failed {@code ValueResult} with the
+         * errors of all failed {@code ValueResult}s merged from left to right.
+         *
+         * @param function    the function which combines the values
+         * @param mergeErrors the function which merges two errors into one
+         * @param <R>         the type of the combined value
+         * @return a ValueResult with the combined value or the merged error, never {@code null}
+         * @throws NullPointerException if any of the arguments is {@code null}
+         */
+        public <R> ValueResult<R, E> apply(Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> function, BinaryOperator<E> mergeErrors) {
+            requireNonNull(function, "function must not be null");
+            requireNonNull(mergeErrors, "mergeErrors must not be null");
+            return r1.isSuccessful()
+                    && r2.isSuccessful()
+                    && r3.isSuccessful()
+                    && r4.isSuccessful()
+                    && r5.isSuccessful()
+                    && r6.isSuccessful()
+                    && r7.isSuccessful()
+                    ? ValueResult.ok(function.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value(), r6.value(), r7.value()))
+                    : ValueResult.fail(mergeErrors(mergeErrors, r1, r2, r3, r4, r5, r6, r7));
+        }
+    }
+
+    /**
+     * 8 {@code ValueResult}s which are combined by one of the {@code apply} methods.
+     *
+     * @param <T1> the value type of the first {@code ValueResult}
+     * @param <T2> the value type of the second {@code ValueResult}
+     * @param <T3> the value type of the third {@code ValueResult}
+     * @param <T4> the value type of the fourth {@code ValueResult}
+     * @param <T5> the value type of the fifth {@code ValueResult}
+     * @param <T6> the value type of the sixth {@code ValueResult}
+     * @param <T7> the value type of the seventh {@code ValueResult}
+     * @param <T8> the value type of the eighth {@code ValueResult}
+     * @param <E>  closure of the failure types of the {@code ValueResult}s
+     */
+    public static final class Of8<T1, T2, T3, T4, T5, T6, T7, T8, E> {
+
+        private final ValueResult<? extends T1, ? extends E> r1;
+        private final ValueResult<? extends T2, ? extends E> r2;
+        private final ValueResult<? extends T3, ? extends E> r3;
+        private final ValueResult<? extends T4, ? extends E> r4;
+        private final ValueResult<? extends T5, ? extends E> r5;
+        private final ValueResult<? extends T6, ? extends E> r6;
+        private final ValueResult<? extends T7, ? extends E> r7;
+        private final ValueResult<? extends T8, ? extends E> r8;
+
+        Of8(
+                ValueResult<? extends T1, ? extends E> r1,
+                ValueResult<? extends T2, ? extends E> r2,
+                ValueResult<? extends T3, ? extends E> r3,
+                ValueResult<? extends T4, ? extends E> r4,
+                ValueResult<? extends T5, ? extends E> r5,
+                ValueResult<? extends T6, ? extends E> r6,
+                ValueResult<? extends T7, ? extends E> r7,
+                ValueResult<? extends T8, ? extends E> r8
+        ) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+            this.r7 = r7;
+            this.r8 = r8;
+        }
+
+        /**
+         * Returns a successful {@code ValueResult} with the result of the function if all
+         * {@code ValueResult}s are successful, otherwise a failed {@code ValueResult} with the
+         * errors of all failed {@code ValueResult}s in order.
+         *
+         * @param function the function which combines the values
+         * @param <R>      the type of the combined value
+         * @return a ValueResult with the combined value or an ErrorList of all errors, never {@code null}
+         * @throws NullPointerException if {@code function} is {@code null}
+         */
+        public <R> ValueResult<R, Collection<E>> apply(Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> function) {
+            requireNonNull(function, "function must not be null");
+            return r1.isSuccessful()
+                    && r2.isSuccessful()
+                    && r3.isSuccessful()
+                    && r4.isSuccessful()
+                    && r5.isSuccessful()
+                    && r6.isSuccessful()
+                    && r7.isSuccessful()
+                    && r8.isSuccessful()
+                    ? ValueResult.ok(function.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value(), r6.value(), r7.value(), r8.value()))
+                    : ValueResult.fail(collectErrors(r1, r2, r3, r4, r5, r6, r7, r8));
+        }
+
+        /**
+         * Returns a successful {@code ValueResult} with the result of the function if all
+         * {@code ValueResult}s are successful, otherwise a failed {@code ValueResult} with the
+         * errors of all failed {@code ValueResult}s merged from left to right.
+         *
+         * @param function    the function which combines the values
+         * @param mergeErrors the function which merges two errors into one
+         * @param <R>         the type of the combined value
+         * @return a ValueResult with the combined value or the merged error, never {@code null}
+         * @throws NullPointerException if any of the arguments is {@code null}
+         */
+        public <R> ValueResult<R, E> apply(Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> function, BinaryOperator<E> mergeErrors) {
+            requireNonNull(function, "function must not be null");
+            requireNonNull(mergeErrors, "mergeErrors must not be null");
+            return r1.isSuccessful()
+                    && r2.isSuccessful()
+                    && r3.isSuccessful()
+                    && r4.isSuccessful()
+                    && r5.isSuccessful()
+                    && r6.isSuccessful()
+                    && r7.isSuccessful()
+                    && r8.isSuccessful()
+                    ? ValueResult.ok(function.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value(), r6.value(), r7.value(), r8.value()))
+                    : ValueResult.fail(mergeErrors(mergeErrors, r1, r2, r3, r4, r5, r6, r7, r8));
+        }
+    }
+
+    @SafeVarargs
+    private static <E> ErrorList<E> collectErrors(Result<? extends E>... results) {
+        ErrorList.Builder<E> errors = ErrorList.builder();
+        for (Result<? extends E> result : results) {
+            if (result.hasFailed()) {
+                errors.add(result.error());
+            }
+        }
+        return errors.build();
+    }
+
+    @SafeVarargs
+    private static <E> E mergeErrors(BinaryOperator<E> mergeErrors, Result<? extends E>... results) {
+        boolean failed = false;
+        E merged = null;
+        for (Result<? extends E> result : results) {
+            if (result.hasFailed()) {
+                merged = failed ? mergeErrors.apply(merged, result.error()) : result.error();
+                failed = true;
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,221 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AsyncValueResult")
+class AsyncValueResultTest {
+
+    private CountingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new CountingExecutor();
+    }
+
+    private AsyncValueResult<Integer, String> success() {
+        return AsyncValueResult.completed(ValueResult.ok(42), executor);
+    }
+
+    private AsyncValueResult<Integer, String> failure() {
+        return AsyncValueResult.completed(ValueResult.fail("error"), executor);
+    }
+
+    @Nested
+    @DisplayName("factories")
+    class factories {
+        @Test
+        @DisplayName("WHEN supplyAsync() THEN the supplier runs on the executor")
+        void supplyAsync() {
+            AsyncValueResult<Integer, String> result = AsyncValueResult.supplyAsync(() -> ValueResult.ok(42), executor);
+
+            assertThat(result.join()).isSuccessful().withValue(42);
+            assertThat(executor.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("WHEN of() with an incomplete stage THEN it completes with the stage")
+        void of() {
+            CompletableFuture<ValueResult<Integer, String>> stage = new CompletableFuture<>();
+            AsyncValueResult<Integer, String> result = AsyncValueResult.of(stage, executor);
+
+            assertThat(result.isDone()).isFalse();
+            stage.complete(ValueResult.fail("error"));
+            assertThat(result.join()).hasFailed().withError("error");
+        }
+
+        @Test
+        @DisplayName("WHEN the supplier throws THEN join() throws a CompletionException")
+        void supplierThrows() {
+            AsyncValueResult<Integer, String> result = AsyncValueResult.supplyAsync(() -> {
+                throw new IllegalStateException("boom");
+            }, executor);
+
+            assertThatThrownBy(result::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("of a successful result")
+    class successful {
+        @Test
+        @DisplayName("WHEN map() THEN the mapper runs on the executor")
+        void map() {
+            assertThat(success().map(v -> v + 1).join()).isSuccessful().withValue(43);
+            assertThat(executor.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("WHEN flatMap() THEN it completes with the returned AsyncValueResult")
+        void flatMap() {
+            AsyncValueResult<String, String> result = success()
+                    .flatMap(v -> AsyncValueResult.supplyAsync(() -> ValueResult.ok("v" + v), executor));
+
+            assertThat(result.join()).isSuccessful().withValue("v42");
+        }
+
+        @Test
+        @DisplayName("WHEN flatMap() returns a failure THEN it completes with the failure")
+        void flatMapFailure() {
+            AsyncValueResult<String, String> result = success()
+                    .flatMap(v -> AsyncValueResult.completed(ValueResult.fail("other"), executor));
+
+            assertThat(result.join()).hasFailed().withError("other");
+        }
+
+        @Test
+        @DisplayName("WHEN take() THEN it completes with the returned ValueResult")
+        void take() {
+            assertThat(success().take(v -> ValueResult.ok(v * 2)).join()).isSuccessful().withValue(84);
+        }
+
+        @Test
+        @DisplayName("WHEN ensure() with an unsatisfied predicate THEN it fails")
+        void ensurePredicate() {
+            assertThat(success().ensure(v -> v > 100, "too small").join()).hasFailed().withError("too small");
+            assertThat(success().ensure(v -> v > 0, "too small").join()).isSuccessful().withValue(42);
+        }
+
+        @Test
+        @DisplayName("WHEN ensure() with a failed Result THEN it fails")
+        void ensureFunction() {
+            assertThat(success().ensure(v -> VoidResult.fail("nope")).join()).hasFailed().withError("nope");
+        }
+
+        @Test
+        @DisplayName("WHEN onSuccess() THEN the consumer runs with the value")
+        void onSuccess() {
+            AtomicReference<Integer> seen = new AtomicReference<>();
+
+            assertThat(success().onSuccess(seen::set).join()).isSuccessful().withValue(42);
+            assertThat(seen.get()).isEqualTo(42);
+        }
+
+        @Test
+        @DisplayName("WHEN mapError() or onFailure() THEN it is returned unchanged without scheduling")
+        void failureTrack() {
+            AsyncValueResult<Integer, String> success = success();
+
+            assertThat(success.mapError(String::length)).isSameAs(success);
+            assertThat(success.onFailure(e -> {
+            })).isSameAs(success);
+            assertThat(executor.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("WHEN the mapper throws THEN join() throws a CompletionException")
+        void mapperThrows() {
+            AsyncValueResult<Integer, String> result = success().map(v -> {
+                throw new IllegalArgumentException("boom");
+            });
+
+            assertThatThrownBy(result::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("of a failed result")
+    class failed {
+        @Test
+        @DisplayName("WHEN success track operators THEN it is returned unchanged without scheduling")
+        void successTrack() {
+            AsyncValueResult<Integer, String> failure = failure();
+
+            assertThat(failure.map(v -> v + 1)).isSameAs(failure);
+            assertThat(failure.flatMap(v -> success())).isSameAs(failure);
+            assertThat(failure.take(v -> ValueResult.ok(v))).isSameAs(failure);
+            assertThat(failure.ensure(v -> false, "other")).isSameAs(failure);
+            assertThat(failure.onSuccess(v -> {
+            })).isSameAs(failure);
+            assertThat(failure.join()).hasFailed().withError("error");
+            assertThat(executor.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("WHEN the failure completes later THEN success track operators schedule no work")
+        void pendingFailure() {
+            CompletableFuture<ValueResult<Integer, String>> stage = new CompletableFuture<>();
+            AsyncValueResult<Integer, String> result = AsyncValueResult.<Integer, String>of(stage, executor)
+                    .map(v -> v + 1)
+                    .ensure(v -> v > 0, "negative")
+                    .flatMap(v -> success());
+
+            stage.complete(ValueResult.fail("error"));
+
+            assertThat(result.join()).hasFailed().withError("error");
+            assertThat(executor.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("WHEN mapError() THEN the error is mapped on the executor")
+        void mapError() {
+            assertThat(failure().mapError(String::length).join()).hasFailed().withError(5);
+            assertThat(executor.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("WHEN onFailure() THEN the consumer runs with the error")
+        void onFailure() {
+            AtomicReference<String> seen = new AtomicReference<>();
+
+            assertThat(failure().onFailure(seen::set).join()).hasFailed().withError("error");
+            assertThat(seen.get()).isEqualTo("error");
+        }
+    }
+
+    @Test
+    @DisplayName("WHEN toCompletableFuture() THEN it completes with the ValueResult")
+    void toCompletableFuture() {
+        assertThat(success().map(v -> v + 1).toCompletableFuture().join()).isSuccessful().withValue(43);
+    }
+
+    private static final class CountingExecutor implements Executor {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void execute(Runnable command) {
+            count.incrementAndGet();
+            command.run();
+        }
+
+        int count() {
+            return count.get();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.iremembr.jtraxxs;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.*;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("A DoubleValueResult")
+class DoubleValueResultTest {
+
+    private final DoubleValueResult<Message> success = DoubleValueResult.ok(4.5);
+    private final DoubleValueResult<Message> failed = DoubleValueResult.fail(Message.INSTANCE);
+
+    @Nested
+    @DisplayName("equalsContract")
+    class equalsContract {
+        @Test
+        @DisplayName("equals() and hashCode() of a successful DoubleValueResult adhere to the equals contract")
+        void successful() {
+            EqualsVerifier.forClass(SuccessfulDoubleValueResult.class).verify();
+        }
+
+        @Test
+        @DisplayName("equals() and hashCode() of a failed DoubleValueResult adhere to the equals contract")
+        void failed() {
+            EqualsVerifier.forClass(FailedDoubleValueResult.class).verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("Properties")
+    class properties {
+        @Test
+        @DisplayName("a successful DoubleValueResult returns its value")
+        void successfulValue() {
+            assertThat(success.isSuccessful()).isTrue();
+            assertThat(success.value()).isEqualTo(4.5);
+        }
+
+        @Test
+        @DisplayName("a failed DoubleValueResult returns its error AND value() throws an IllegalStateException")
+        void failedError() {
+            assertThat(failed.hasFailed()).isTrue();
+            assertThat(failed.error()).isSameAs(Message.INSTANCE);
+            assertThat(catchThrowable(failed::value))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Failed DoubleValueResult has no value");
+        }
+
+        @Test
+        @DisplayName("toString() returns a proper representation")
+        void toStringMethod() {
+            assertThat(success.toString()).isEqualTo("SuccessfulDoubleValueResult{value=" + 4.5 + "}");
+            assertThat(failed.toString()).isEqualTo("FailedDoubleValueResult{error=Message}");
+        }
+    }
+
+    @Nested
+    @DisplayName("map()")
+    class map {
+        @Test
+        @DisplayName("WHEN successful THEN the mapper will be applied to the value")
+        void successful() {
+            assertThat(success.map(v -> v * 2).value()).isEqualTo(9.0);
+        }
+
+        @Test
+        @DisplayName("WHEN failed THEN the mapper will not be invoked AND the result will be passed through")
+        void failed(@Mock DoubleUnaryOperator mapper) {
+            assertThat(failed.map(mapper)).isSameAs(failed);
+            verify(mapper, never()).applyAsDouble(anyDouble());
+        }
+    }
+
+    @Nested
+    @DisplayName("ensure()")
+    class ensure {
+        @Test
+        @DisplayName("WHEN the predicate holds THEN the DoubleValueResult will be passed through")
+        void predicateHolds() {
+            assertThat(success.ensure(v -> v > 0, SubMessage.INSTANCE)).isSameAs(success);
+        }
+
+        @Test
+        @DisplayName("WHEN the predicate does not hold THEN a failed DoubleValueResult with the given error will be returned")
+        void predicateFails() {
+            assertThat(success.ensure(v -> v < 0, SubMessage.INSTANCE).error()).isSameAs(SubMessage.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("WHEN given a BooleanSupplier THEN the DoubleValueResult will be passed through only while it returns true")
+        void withBooleanSupplier() {
+            assertThat(success.ensure(() -> true, SubMessage.INSTANCE)).isSameAs(success);
+            assertThat(success.ensure(() -> false, SubMessage.INSTANCE).error()).isSameAs(SubMessage.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("WHEN failed THEN the BooleanSupplier will not be invoked")
+        void failedWithBooleanSupplier(@Mock BooleanSupplier supplier) {
+            assertThat(failed.ensure(supplier, SubMessage.INSTANCE)).isSameAs(failed);
+            verify(supplier, never()).getAsBoolean();
+        }
+
+        @Test
+        @DisplayName("WHEN failed THEN the predicate will not be invoked")
+        void failed(@Mock DoublePredicate predicate) {
+            assertThat(failed.ensure(predicate, SubMessage.INSTANCE)).isSameAs(failed);
+            verify(predicate, never()).test(anyDouble());
+        }
+
+        @Test
+        @DisplayName("WHEN given a failed Result THEN a failed DoubleValueResult with its error will be returned")
+        void withFailedResult() {
+            assertThat(success.ensure(VoidResult.fail(SubMessage.INSTANCE)).error()).isSameAs(SubMessage.INSTANCE);
+            assertThat(success.ensure(v -> VoidResult.fail(SubMessage.INSTANCE)).error()).isSameAs(SubMessage.INSTANCE);
+        }
+    }
+
+    @Nested
+    @DisplayName("flatMap() and combine()")
+    class flatMapAndCombine {
+        @Test
+        @DisplayName("WHEN successful THEN flatMap returns the result of the function")
+        void flatMap() {
+            assertThat(success.flatMap(v -> DoubleValueResult.ok(5.5)).value()).isEqualTo(5.5);
+            assertThat(success.flatMap(v -> DoubleValueResult.fail(SubMessage.INSTANCE)).error()).isSameAs(SubMessage.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("WHEN both are successful THEN combine applies the operator to both values")
+        void combine() {
+            assertThat(success.combine((double a, double b) -> a + b, DoubleValueResult.ok(0.5)).value()).isEqualTo(5.0);
+        }
+
+        @Test
+        @DisplayName("WHEN the other result has failed THEN combine returns its error")
+        void combineWithFailed() {
+            assertThat(success.combine((double a, double b) -> a + b, failed).error()).isSameAs(Message.INSTANCE);
+            assertThat(failed.combine((double a, double b) -> a + b, success)).isSameAs(failed);
+        }
+    }
+
+    @Nested
+    @DisplayName("conversions")
+    class conversions {
+        @Test
+        @DisplayName("mapToObj() bridges to a ValueResult")
+        void mapToObj() {
+            assertThat(success.mapToObj(String::valueOf)).isSuccessful().withValue(String.valueOf(4.5));
+            assertThat(failed.mapToObj(String::valueOf)).hasFailed().withError(Message.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("mapToInt() and mapToLong() bridge to the other primitive results")
+        void mapToPrimitive() {
+            assertThat(success.mapToInt(v -> (int) (v * 2)).value()).isEqualTo(9);
+            assertThat(success.mapToLong(v -> (long) (v * 2)).value()).isEqualTo(9L);
+            assertThat(failed.mapToInt(v -> (int) (v * 2)).error()).isSameAs(Message.INSTANCE);
+            assertThat(failed.mapToLong(v -> (long) (v * 2)).error()).isSameAs(Message.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("boxed() and unbox() convert between DoubleValueResult and ValueResult")
+        void boxedAndUnbox() {
+            ValueResult<Double, Message> boxed = success.boxed();
+            assertThat(boxed).isSuccessful().withValue(4.5);
+            assertThat(DoubleValueResult.unbox(boxed)).isEqualTo(success);
+            assertThat(DoubleValueResult.unbox(failed.boxed())).isEqualTo(failed);
+        }
+
+        @Test
+        @DisplayName("ValueResult.mapToDouble() converts a ValueResult into a DoubleValueResult")
+        void fromValueResult() {
+            assertThat(ValueResult.<String, Message>ok("x").mapToDouble(s -> 4.5)).isEqualTo(success);
+            assertThat(ValueResult.<String, Message>fail(Message.INSTANCE).mapToDouble(s -> 4.5)).isEqualTo(failed);
+        }
+    }
+
+    @Nested
+    @DisplayName("terminal operations")
+    class terminal {
+        @Test
+        @DisplayName("orElse() returns the value or the given default")
+        void orElse() {
+            assertThat(success.orElse(-1.0)).isEqualTo(4.5);
+            assertThat(failed.orElse(-1.0)).isEqualTo(-1.0);
+        }
+
+        @Test
+        @DisplayName("orElseGet() only invokes the function when failed")
+        void orElseGet(@Mock ToDoubleFunction<Message> function) {
+            assertThat(success.orElseGet(function)).isEqualTo(4.5);
+            verify(function, never()).applyAsDouble(any());
+            assertThat(failed.orElseGet(e -> -1.0)).isEqualTo(-1.0);
+        }
+
+        @Test
+        @DisplayName("fold() applies the matching function")
+        void fold() {
+            assertThat(success.<String>fold(v -> "value", e -> "error")).isEqualTo("value");
+            assertThat(failed.<String>fold(v -> "value", e -> "error")).isEqualTo("error");
+        }
+
+        @Test
+        @DisplayName("toOptional() and stream() contain the value only when successful")
+        void toOptionalAndStream() {
+            assertThat(success.toOptional().isPresent()).isTrue();
+            assertThat(failed.toOptional().isPresent()).isFalse();
+            assertThat(success.stream().count()).isEqualTo(1);
+            assertThat(failed.stream().count()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("onSuccess() and onFailure() invoke the matching consumer")
+        void onSuccessAndOnFailure(@Mock DoubleConsumer consumer, @Mock Consumer<Message> errorConsumer) {
+            success.onSuccess(consumer).onFailure(errorConsumer);
+            failed.onSuccess(consumer).onFailure(errorConsumer);
+            verify(consumer, only()).accept(4.5);
+            verify(errorConsumer, only()).accept(Message.INSTANCE);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Map;
+
+import static com.iremembr.jtraxxs.ErrorCode.CONFLICT;
+import static com.iremembr.jtraxxs.ErrorCode.NOT_FOUND;
+import static com.iremembr.jtraxxs.ErrorCode.TIMEOUT;
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("EnumErrorCounts")
+class EnumErrorCountsTest {
+
+    private static EnumErrorCounts<ErrorCode> count(ErrorCode... errors) {
+        EnumErrorCounts.Counter<ErrorCode> counter = new EnumErrorCounts.Counter<>();
+        for (ErrorCode error : errors) {
+            counter.add(error);
+        }
+        return counter.build();
+    }
+
+    @Test
+    @DisplayName("Counts every error per enum constant")
+    void counts() {
+        EnumErrorCounts<ErrorCode> counts = count(CONFLICT, NOT_FOUND, CONFLICT);
+
+        assertThat(counts.errorType()).isEqualTo(ErrorCode.class);
+        assertThat(counts.total()).isEqualTo(3);
+        assertThat(counts.count(CONFLICT)).isEqualTo(2);
+        assertThat(counts.count(TIMEOUT)).isZero();
+        assertThat(counts.contains(NOT_FOUND)).isTrue();
+        assertThat(counts.contains(TIMEOUT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Returns the distinct errors in the order of the enum constants")
+    void errorsAndMap() {
+        EnumErrorCounts<ErrorCode> counts = count(TIMEOUT, NOT_FOUND, TIMEOUT);
+
+        assertThat(counts.errors()).isEqualTo(EnumSet.of(NOT_FOUND, TIMEOUT));
+        Map<ErrorCode, Long> map = counts.toMap();
+        assertThat(map).containsExactly(entry(NOT_FOUND, 1L), entry(TIMEOUT, 2L));
+        assertThat(counts).hasToString("EnumErrorCounts{NOT_FOUND=1, TIMEOUT=2}");
+    }
+
+    @Test
+    @DisplayName("Merges the counters of two Counters")
+    void merge() {
+        EnumErrorCounts.Counter<ErrorCode> left = new EnumErrorCounts.Counter<>();
+        left.add(NOT_FOUND);
+        EnumErrorCounts.Counter<ErrorCode> right = new EnumErrorCounts.Counter<>();
+        right.add(NOT_FOUND);
+        right.add(CONFLICT);
+
+        assertThat(left.merge(right).build()).isEqualTo(count(NOT_FOUND, CONFLICT, NOT_FOUND));
+        assertThat(new EnumErrorCounts.Counter<ErrorCode>().merge(right).build()).isEqualTo(count(NOT_FOUND, CONFLICT));
+    }
+
+    @Test
+    @DisplayName("Is equal to an EnumErrorCounts with the same counts")
+    void equality() {
+        assertThat(count(NOT_FOUND, CONFLICT))
+                .isEqualTo(count(CONFLICT, NOT_FOUND))
+                .hasSameHashCodeAs(count(CONFLICT, NOT_FOUND))
+                .isNotEqualTo(count(NOT_FOUND, NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("WHEN a null error is added THEN a NullPointerException will be thrown")
+    void withNullError() {
+        assertThatThrownBy(() -> new EnumErrorCounts.Counter<ErrorCode>().add(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("error must not be null");
+    }
+}
@@ -0,0 +1,7 @@
+package com.iremembr.jtraxxs;
+
+public enum ErrorCode {
+    NOT_FOUND,
+    CONFLICT,
+    TIMEOUT
+}
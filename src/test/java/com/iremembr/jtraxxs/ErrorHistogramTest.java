@@ -0,0 +1,78 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ErrorHistogram")
+class ErrorHistogramTest {
+
+    private static ErrorHistogram<String> histogram(int maxIndexes, String... errors) {
+        ErrorHistogram.Counter<String> counter = new ErrorHistogram.Counter<>(maxIndexes);
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] != null) {
+                counter.add(errors[i], i);
+            }
+        }
+        return counter.build();
+    }
+
+    @Test
+    @DisplayName("Keeps every distinct error once in the order of its first occurrence")
+    void distinctErrors() {
+        ErrorHistogram<String> histogram = histogram(10, "err2", "err1", "err2", "err2");
+
+        assertThat(histogram.errors()).containsExactly("err2", "err1");
+        assertThat(histogram.distinct()).isEqualTo(2);
+        assertThat(histogram.total()).isEqualTo(4);
+        assertThat(histogram.count("err2")).isEqualTo(3);
+        assertThat(histogram.count("err3")).isZero();
+        assertThat(histogram).hasToString("ErrorHistogram[err2=3 at [0, 2, 3], err1=1 at [1]]");
+    }
+
+    @Test
+    @DisplayName("Keeps at most maxIndexes indexes per distinct error")
+    void maxIndexes() {
+        ErrorHistogram<String> histogram = histogram(2, "err1", null, "err1", "err1", "err1");
+
+        ErrorHistogram.Entry<String> entry = histogram.entries().iterator().next();
+        assertThat(entry.error()).isEqualTo("err1");
+        assertThat(entry.count()).isEqualTo(4);
+        assertThat(entry.firstIndexes()).containsExactly(0, 2);
+        assertThat(histogram(0, "err1").entries().iterator().next().firstIndexes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Merges a Counter by offsetting its indexes")
+    void merge() {
+        ErrorHistogram.Counter<String> left = new ErrorHistogram.Counter<>(2);
+        left.add("err1", 1);
+        ErrorHistogram.Counter<String> right = new ErrorHistogram.Counter<>(2);
+        right.add("err2", 0);
+        right.add("err1", 1);
+        right.add("err1", 2);
+
+        assertThat(left.merge(right, 3).build()).isEqualTo(histogram(2, null, "err1", null, "err2", "err1", "err1"));
+    }
+
+    @Test
+    @DisplayName("Is equal to an ErrorHistogram with the same entries in the same order")
+    void equality() {
+        assertThat(histogram(2, "err1", "err2"))
+                .isEqualTo(histogram(2, "err1", "err2"))
+                .hasSameHashCodeAs(histogram(2, "err1", "err2"))
+                .isNotEqualTo(histogram(2, "err2", "err1"))
+                .isNotEqualTo(histogram(2, "err1", "err2", "err2"));
+    }
+
+    @Test
+    @DisplayName("WHEN maxIndexes is negative THEN an IllegalArgumentException will be thrown")
+    void withNegativeMaxIndexes() {
+        assertThatThrownBy(() -> ValueResult.sequenceHistogram(emptyList(), -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxIndexes must not be negative, but was -1");
+    }
+}
@@ -0,0 +1,155 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static com.iremembr.jtraxxs.ValueResult.fail;
+import static com.iremembr.jtraxxs.ValueResult.ok;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ErrorList")
+class ErrorListTest {
+
+    @Nested
+    @DisplayName("factories")
+    class factories {
+        @Test
+        @DisplayName("WHEN empty() THEN it has no errors")
+        void empty() {
+            assertThat(ErrorList.empty()).isEmpty();
+            assertThat(ErrorList.empty().iterator().hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("WHEN of() THEN it contains the given errors in order")
+        void of() {
+            assertThat(ErrorList.of("err1")).containsExactly("err1");
+            assertThat(ErrorList.of("err1", null)).containsExactly("err1", null);
+            assertThat(ErrorList.of("err1", "err2", "err3")).containsExactly("err1", "err2", "err3");
+        }
+
+        @Test
+        @DisplayName("WHEN copyOf() an ErrorList THEN it is returned as is")
+        void copyOfErrorList() {
+            ErrorList<String> errors = ErrorList.of("err1");
+
+            assertThat(ErrorList.copyOf(errors)).isSameAs(errors);
+            assertThat(ErrorList.copyOf(asList("err1", "err2"))).containsExactly("err1", "err2");
+        }
+
+        @Test
+        @DisplayName("WHEN built THEN it contains the added errors in order")
+        void builder() {
+            ErrorList.Builder<Integer> builder = ErrorList.builder();
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                builder.add(i);
+                expected.add(i);
+            }
+
+            assertThat(builder.build()).containsExactlyElementsOf(expected);
+            assertThat(builder.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("WHEN the builder is reused THEN the ErrorList built before is unchanged")
+        void builderReuse() {
+            ErrorList.Builder<String> builder = ErrorList.builder();
+            ErrorList<String> first = builder.add("err1").build();
+
+            ErrorList<String> second = builder.add("err2").build();
+
+            assertThat(first).containsExactly("err1");
+            assertThat(second).containsExactly("err2");
+        }
+    }
+
+    @Nested
+    @DisplayName("append() and concat()")
+    class appendAndConcat {
+        @Test
+        @DisplayName("WHEN append() THEN the original ErrorList is unchanged")
+        void append() {
+            ErrorList<String> errors = ErrorList.of("err1");
+
+            ErrorList<String> appended = errors.append("err2");
+
+            assertThat(errors).containsExactly("err1");
+            assertThat(appended).containsExactly("err1", "err2");
+        }
+
+        @Test
+        @DisplayName("WHEN concat() THEN the errors of both ErrorLists are in order")
+        void concat() {
+            ErrorList<String> left = ErrorList.<String>of("err1").append("err2");
+            ErrorList<String> right = ErrorList.<String>of("err3").append("err4");
+
+            assertThat(left.concat(right)).containsExactly("err1", "err2", "err3", "err4");
+            assertThat(left.concat(ErrorList.empty())).isSameAs(left);
+            assertThat(ErrorList.<String>empty().concat(right)).isSameAs(right);
+        }
+
+        @Test
+        @DisplayName("WHEN many errors are appended one by one THEN iterating does not overflow the stack")
+        void deepChain() {
+            ErrorList<Integer> errors = ErrorList.empty();
+            for (int i = 0; i < 100_000; i++) {
+                errors = errors.append(i);
+            }
+
+            int count = 0;
+            for (Integer error : errors) {
+                assertThat(error).isEqualTo(count++);
+            }
+            assertThat(count).isEqualTo(100_000);
+        }
+
+        @Test
+        @DisplayName("WHEN the iterator is exhausted THEN next() throws a NoSuchElementException")
+        void exhausted() {
+            Iterator<String> iterator = ErrorList.of("err1").iterator();
+            iterator.next();
+
+            assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("equals()")
+    class equality {
+        @Test
+        @DisplayName("WHEN two ErrorLists contain the same errors in the same order THEN they are equal")
+        void equal() {
+            ErrorList<String> appended = ErrorList.<String>of("err1").append("err2");
+            ErrorList<String> copied = ErrorList.copyOf(asList("err1", "err2"));
+
+            assertThat(appended).isEqualTo(copied).hasSameHashCodeAs(copied);
+            assertThat(appended).isNotEqualTo(ErrorList.copyOf(asList("err2", "err1")));
+        }
+    }
+
+    @Nested
+    @DisplayName("sequence()")
+    class sequence {
+        @Test
+        @DisplayName("WHEN sequence() fails THEN its errors are an ErrorList which can be concatenated")
+        void sequence() {
+            ValueResult<Collection<Integer>, Collection<String>> first = ValueResult.sequence(asList(fail("err1"), ok(2)));
+            VoidResult<Collection<String>> second = VoidResult.sequence(asList(VoidResult.ok(), VoidResult.fail("err2")));
+
+            assertThat(first.error()).isInstanceOf(ErrorList.class);
+            assertThat(second.error()).isInstanceOf(ErrorList.class);
+            assertThat(ErrorList.copyOf(first.error()).concat(ErrorList.copyOf(second.error())))
+                    .containsExactly("err1", "err2");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Consumer;
+
+import static com.iremembr.jtraxxs.ErrorPolicy.Action.DROP;
+import static com.iremembr.jtraxxs.ErrorPolicy.Action.DROP_AND_STOP;
+import static com.iremembr.jtraxxs.ErrorPolicy.Action.KEEP;
+import static com.iremembr.jtraxxs.ErrorPolicy.Action.KEEP_AND_STOP;
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("An ErrorPolicy")
+class ErrorPolicyTest {
+
+    @Mock
+    private Consumer<String> handler;
+
+    private static TraversalProgress progress(int succeeded, int failed) {
+        TraversalProgress progress = new TraversalProgress();
+        for (int i = 0; i < succeeded; i++) {
+            progress.succeed();
+        }
+        for (int i = 0; i < failed; i++) {
+            progress.fail();
+        }
+        return progress;
+    }
+
+    @Test
+    @DisplayName("failFast() keeps the first error and stops")
+    void failFast() {
+        assertThat(ErrorPolicy.<String>failFast().onError("err1", progress(0, 1))).isEqualTo(KEEP_AND_STOP);
+    }
+
+    @Test
+    @DisplayName("handling() passes the error to the handler and drops it")
+    void handling() {
+        assertThat(ErrorPolicy.handling(handler).onError("err1", progress(0, 1))).isEqualTo(DROP);
+        verify(handler, only()).accept("err1");
+    }
+
+    @Test
+    @DisplayName("within() keeps the errors allowed by the FailureBudget and stops when it is exhausted")
+    void within() {
+        ErrorPolicy<String> policy = ErrorPolicy.within(FailureBudget.keepingFirst(1).stopAfterFailures(3));
+
+        assertThat(policy.onError("err1", progress(5, 1))).isEqualTo(KEEP);
+        assertThat(policy.onError("err2", progress(5, 2))).isEqualTo(DROP);
+        assertThat(policy.onError("err3", progress(5, 3))).isEqualTo(DROP_AND_STOP);
+        assertThat(ErrorPolicy.<String>within(FailureBudget.keepingFirst(1).stopAfterFailures(1)).onError("err1", progress(0, 1)))
+                .isEqualTo(KEEP_AND_STOP);
+    }
+
+    @Test
+    @DisplayName("TraversalProgress counts the processed, failed and successful results")
+    void traversalProgress() {
+        TraversalProgress progress = progress(3, 2);
+
+        assertThat(progress.processed()).isEqualTo(5);
+        assertThat(progress.failed()).isEqualTo(2);
+        assertThat(progress.succeeded()).isEqualTo(3);
+        assertThat(progress).hasToString("TraversalProgress{processed=5, failed=2}");
+    }
+}
@@ -217,6 +217,15 @@ class FailedValueResultTest {
             verify(supplier, never()).get();
         }
 
+        @Test
+        @DisplayName("WHEN given a BooleanSupplier THEN the BooleanSupplier will not be invoked AND the ValueResult will be passed through")
+        void withBooleanSupplier(@Mock BooleanSupplier supplier, @Mock Supplier<SubMessage> errorSupplier) {
+            assertThat(base.ensure(supplier, SubMessage.INSTANCE)).hasFailed().withError(Message.INSTANCE);
+            assertThat(base.ensureOrElseGet(supplier, errorSupplier)).hasFailed().withError(Message.INSTANCE);
+            verify(supplier, never()).getAsBoolean();
+            verify(errorSupplier, never()).get();
+        }
+
         @Test
         @DisplayName("WHEN given a predicate THEN the Supplier will not be invoked AND the ValueResult will be passed through")
         void withPredicate(@Mock Predicate<ParentValue> predicate) {
@@ -389,6 +398,17 @@ class FailedValueResultTest {
                     .isInstanceOf(RuntimeException.class)
                     .hasMessageContaining("from supplier");
         }
+
+        @Test
+        @DisplayName("WHEN given no supplier THEN a ResultFailureException with the error will be thrown")
+        void throwsResultFailureException() {
+            Throwable thrown = catchThrowable(() -> base.orElseThrow());
+
+            assertThat(thrown)
+                    .isInstanceOf(ResultFailureException.class)
+                    .hasMessageContaining(Message.INSTANCE.toString());
+            assertThat(((ResultFailureException) thrown).getError()).isEqualTo(Message.INSTANCE);
+        }
     }
 
     @Nested
@@ -409,6 +429,27 @@ class FailedValueResultTest {
         }
     }
 
+    @Nested
+    @DisplayName("foldToInt(), foldToLong() and foldToDouble()")
+    class foldToPrimitive {
+        @Test
+        @DisplayName("Returns the primitive value mapped by the failure function")
+        void returnsFailure(@Mock ToIntFunction<ParentValue> success) {
+            assertThat(base.foldToInt(success, m -> -1)).isEqualTo(-1);
+            assertThat(base.foldToLong(v -> 42L, m -> -1L)).isEqualTo(-1L);
+            assertThat(base.foldToDouble(v -> 4.2, m -> -1.0)).isEqualTo(-1.0);
+            verify(success, never()).applyAsInt(any());
+        }
+
+        @Test
+        @DisplayName("WHEN given a null failure function THEN a NullPointerException will be thrown")
+        void withNullFailure() {
+            Throwable thrown = catchThrowable(() -> base.foldToLong(v -> 42L, null));
+
+            assertThat(thrown).isInstanceOf(NullPointerException.class).hasMessageContaining("failure must not be null");
+        }
+    }
+
     @Nested
     @DisplayName("toOptional()")
     class toOptional {
@@ -10,6 +10,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -173,6 +174,13 @@ class FailedVoidResultTest {
             verify(supplier, never()).get();
         }
 
+        @Test
+        @DisplayName("WHEN given a BooleanSupplier THEN the BooleanSupplier will not be invoked AND the VoidResult will be passed through")
+        void withBooleanSupplier(@Mock BooleanSupplier supplier) {
+            assertThat(base.ensure(supplier, SubMessage.INSTANCE)).hasFailed().withError(Message.INSTANCE);
+            verify(supplier, never()).getAsBoolean();
+        }
+
         @Test
         @DisplayName("WHEN given a successful VoidResult THEN the returned VoidResult has failed with the error of base Result")
         void successfulVoidResult() {
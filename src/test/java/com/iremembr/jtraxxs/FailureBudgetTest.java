@@ -0,0 +1,150 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("A FailureBudget")
+class FailureBudgetTest {
+
+    // fails every 10th result starting with the 500th
+    private static List<ValueResult<Integer, String>> results() {
+        return IntStream.range(0, 10_000)
+                .mapToObj(i -> i >= 500 && i % 10 == 0 ? ValueResult.<Integer, String>fail("err" + i) : ValueResult.<Integer, String>ok(i))
+                .collect(toList());
+    }
+
+    @Nested
+    @DisplayName("keepingFirst()")
+    class keepingFirst {
+        @Test
+        @DisplayName("WHEN the budget only limits the kept errors THEN all results will be processed AND the other errors will be counted")
+        void withoutThreshold() {
+            BoundedErrors<String> errors = ValueResult.sequence(results(), FailureBudget.keepingFirst(2)).error();
+
+            assertThat(errors.errors()).containsExactly("err500", "err510");
+            assertThat(errors.failureCount()).isEqualTo(950);
+            assertThat(errors.droppedErrors()).isEqualTo(948);
+            assertThat(errors.processedInputs()).isEqualTo(10_000);
+            assertThat(errors.skippedInputs()).hasValue(0);
+            assertThat(errors.isTerminatedEarly()).isFalse();
+        }
+
+        @Test
+        @DisplayName("WHEN maxKeptErrors is negative THEN an IllegalArgumentException will be thrown")
+        void withNegativeMaxKeptErrors() {
+            assertThatThrownBy(() -> FailureBudget.keepingFirst(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("maxKeptErrors must not be negative, but was -1");
+        }
+    }
+
+    @Nested
+    @DisplayName("stopAfterFailures()")
+    class stopAfterFailures {
+        @Test
+        @DisplayName("WHEN maxFailures is reached THEN the traversal will stop AND the skipped inputs will be reported")
+        void whenReached() {
+            BoundedErrors<String> errors = ValueResult.sequence(results(), FailureBudget.keepingFirst(1).stopAfterFailures(3)).error();
+
+            assertThat(errors.errors()).containsExactly("err500");
+            assertThat(errors.failureCount()).isEqualTo(3);
+            assertThat(errors.processedInputs()).isEqualTo(521);
+            assertThat(errors.skippedInputs()).hasValue(10_000 - 521);
+            assertThat(errors.isTerminatedEarly()).isTrue();
+        }
+
+        @Test
+        @DisplayName("WHEN the input is no Collection THEN the number of skipped inputs will be unknown")
+        void withIterable() {
+            List<ValueResult<Integer, String>> results = results();
+            Iterable<ValueResult<Integer, String>> iterable = results::iterator;
+
+            BoundedErrors<String> errors = ValueResult.sequence(iterable, FailureBudget.keepingFirst(1).stopAfterFailures(3)).error();
+
+            assertThat(errors.processedInputs()).isEqualTo(521);
+            assertThat(errors.skippedInputs()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("WHEN the last input of an Iterable exhausts the budget THEN the traversal is not terminated early AND the Iterator is asked only once more")
+        void withIterableExhaustedAtEnd() {
+            List<ValueResult<Integer, String>> results = asList(ValueResult.ok(1), ValueResult.fail("err1"), ValueResult.fail("err2"));
+            AtomicInteger hasNextCalls = new AtomicInteger();
+            Iterable<ValueResult<Integer, String>> iterable = () -> {
+                Iterator<ValueResult<Integer, String>> iterator = results.iterator();
+                return new Iterator<ValueResult<Integer, String>>() {
+                    @Override
+                    public boolean hasNext() {
+                        hasNextCalls.incrementAndGet();
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public ValueResult<Integer, String> next() {
+                        return iterator.next();
+                    }
+                };
+            };
+
+            BoundedErrors<String> errors = ValueResult.sequence(iterable, FailureBudget.keepingFirst(1).stopAfterFailures(2)).error();
+
+            assertThat(errors.processedInputs()).isEqualTo(3);
+            assertThat(errors.skippedInputs()).hasValue(0);
+            assertThat(errors.isTerminatedEarly()).isFalse();
+            assertThat(hasNextCalls.get()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("WHEN maxFailures is not positive THEN an IllegalArgumentException will be thrown")
+        void withZeroMaxFailures() {
+            assertThatThrownBy(() -> FailureBudget.keepingFirst(1).stopAfterFailures(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("maxFailures must be positive, but was 0");
+        }
+    }
+
+    @Nested
+    @DisplayName("stopAtFailureRate()")
+    class stopAtFailureRate {
+        @Test
+        @DisplayName("WHEN the failure rate is exceeded after minInputs THEN the traversal will stop")
+        void whenExceeded() {
+            BoundedErrors<String> errors = ValueResult.sequence(results(), FailureBudget.keepingFirst(1).stopAtFailureRate(0.05, 100)).error();
+
+            // 50 of 991 results have failed, which is more than 5%
+            assertThat(errors.failureCount()).isEqualTo(50);
+            assertThat(errors.processedInputs()).isEqualTo(991);
+            assertThat(errors.isTerminatedEarly()).isTrue();
+        }
+
+        @Test
+        @DisplayName("WHEN the failure rate is never exceeded THEN all results will be processed")
+        void whenNotExceeded() {
+            BoundedErrors<String> errors = ValueResult.sequence(results(), FailureBudget.keepingFirst(1).stopAtFailureRate(0.1, 100)).error();
+
+            assertThat(errors.processedInputs()).isEqualTo(10_000);
+            assertThat(errors.isTerminatedEarly()).isFalse();
+        }
+
+        @Test
+        @DisplayName("WHEN the rate is not between 0.0 and 1.0 THEN an IllegalArgumentException will be thrown")
+        void withInvalidRate() {
+            assertThatThrownBy(() -> FailureBudget.keepingFirst(1).stopAtFailureRate(1.5, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("maxFailureRate must be between 0.0 and 1.0, but was 1.5");
+            assertThatThrownBy(() -> FailureBudget.keepingFirst(1).stopAtFailureRate(Double.NaN, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+
+@DisplayName("Interned results")
+class InternedResultsTest {
+
+    enum Failure {
+        NOT_FOUND,
+        CONFLICT {
+            @Override
+            public String toString() {
+                return "conflict";
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("ValueResult.fail()")
+    class valueResultFail {
+        @Test
+        @DisplayName("WHEN given an enum constant THEN the same failed ValueResult will be returned every time")
+        void withEnumConstant() {
+            ValueResult<String, Failure> result = ValueResult.fail(Failure.NOT_FOUND);
+
+            assertThat(result).hasFailed().withError(Failure.NOT_FOUND);
+            assertThat(ValueResult.<String, Failure>fail(Failure.NOT_FOUND)).isSameAs(result);
+        }
+
+        @Test
+        @DisplayName("WHEN given an enum constant with a body THEN the same failed ValueResult will be returned every time")
+        void withEnumConstantWithBody() {
+            ValueResult<String, Failure> result = ValueResult.fail(Failure.CONFLICT);
+
+            assertThat(result).hasFailed().withError(Failure.CONFLICT);
+            assertThat(ValueResult.<String, Failure>fail(Failure.CONFLICT)).isSameAs(result);
+        }
+
+        @Test
+        @DisplayName("WHEN given an error which is no enum constant THEN a new failed ValueResult will be returned")
+        void withOtherError() {
+            assertThat(ValueResult.fail("error")).isNotSameAs(ValueResult.fail("error"));
+        }
+    }
+
+    @Nested
+    @DisplayName("VoidResult.fail()")
+    class voidResultFail {
+        @Test
+        @DisplayName("WHEN given an enum constant THEN the same failed VoidResult will be returned every time")
+        void withEnumConstant() {
+            VoidResult<Failure> result = VoidResult.fail(Failure.NOT_FOUND);
+
+            assertThat(result).hasFailed().withError(Failure.NOT_FOUND);
+            assertThat(VoidResult.fail(Failure.NOT_FOUND)).isSameAs(result);
+        }
+    }
+
+    @Nested
+    @DisplayName("ValueResult.ok()")
+    class valueResultOk {
+        @Test
+        @DisplayName("WHEN given null or a Boolean THEN the same successful ValueResult will be returned every time")
+        void withNullAndBoolean() {
+            assertThat(ValueResult.ok(null)).isSameAs(ValueResult.ok(null));
+            assertThat(ValueResult.ok(true)).isSameAs(ValueResult.ok(Boolean.TRUE));
+            assertThat(ValueResult.ok(false)).isSameAs(ValueResult.ok(Boolean.FALSE));
+        }
+
+        @Test
+        @DisplayName("WHEN given a small Integer THEN the same successful ValueResult will be returned every time")
+        void withSmallInteger() {
+            assertThat(ValueResult.ok(-128)).isSameAs(ValueResult.ok(-128));
+            assertThat(ValueResult.ok(127)).isSameAs(ValueResult.ok(127));
+            assertThat(ValueResult.ok(42).value()).isEqualTo(42);
+        }
+
+        @Test
+        @DisplayName("WHEN given an Integer which is not cached THEN a new ValueResult with the identical value will be returned")
+        @SuppressWarnings({"deprecation", "UnnecessaryBoxing"})
+        void withUncachedInteger() {
+            Integer large = 128;
+            Integer uncached = new Integer(42);
+
+            assertThat(ValueResult.ok(large)).isNotSameAs(ValueResult.ok(large));
+            assertThat(ValueResult.ok(uncached).value()).isSameAs(uncached);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LazyValueResult")
+class LazyValueResultTest {
+
+    @Nested
+    @DisplayName("lazy()")
+    class lazy {
+        @Test
+        @DisplayName("WHEN created THEN the supplier is not invoked")
+        void notInvoked() {
+            AtomicInteger calls = new AtomicInteger();
+
+            ValueResult.lazy(() -> {
+                calls.incrementAndGet();
+                return ValueResult.ok(42);
+            });
+
+            assertThat(calls.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("WHEN accessed repeatedly THEN the supplier is invoked once")
+        void invokedOnce() {
+            AtomicInteger calls = new AtomicInteger();
+            ValueResult<Integer, String> result = ValueResult.lazy(() -> {
+                calls.incrementAndGet();
+                return ValueResult.ok(42);
+            });
+
+            assertThat(result).isSuccessful().withValue(42);
+            assertThat(result.value()).isEqualTo(42);
+            assertThat(result.orElse(0)).isEqualTo(42);
+            assertThat(calls.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("WHEN the supplier returns a failure THEN the lazy result fails")
+        void failure() {
+            ValueResult<Integer, String> result = ValueResult.lazy(() -> ValueResult.fail("error"));
+
+            assertThat(result).hasFailed().withError("error");
+        }
+
+        @Test
+        @DisplayName("WHEN the supplier throws THEN the next access invokes it again")
+        void supplierThrows() {
+            AtomicInteger calls = new AtomicInteger();
+            ValueResult<Integer, String> result = ValueResult.lazy(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IllegalStateException("boom");
+                }
+                return ValueResult.ok(42);
+            });
+
+            assertThatThrownBy(result::isSuccessful).isInstanceOf(IllegalStateException.class);
+            assertThat(result).isSuccessful().withValue(42);
+            assertThat(calls.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("WHEN the supplier returns null THEN a NullPointerException is thrown on access")
+        void supplierReturnsNull() {
+            ValueResult<Integer, String> result = ValueResult.lazy(() -> null);
+
+            assertThatThrownBy(result::isSuccessful).isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        @DisplayName("WHEN the supplier is null THEN a NullPointerException is thrown")
+        void nullSupplier() {
+            assertThatThrownBy(() -> ValueResult.lazy(null)).isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        @DisplayName("WHEN accessed concurrently THEN the supplier is invoked once")
+        void concurrent() throws Exception {
+            AtomicInteger calls = new AtomicInteger();
+            ValueResult<Integer, String> result = ValueResult.lazy(() -> {
+                calls.incrementAndGet();
+                return ValueResult.ok(42);
+            });
+            int threads = 8;
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<Integer>> futures = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return result.value();
+                    }));
+                }
+                start.countDown();
+                for (Future<Integer> future : futures) {
+                    assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo(42);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(calls.get()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("composition")
+    class composition {
+        @Test
+        @DisplayName("WHEN map(), flatMap() and ensure() are chained THEN nothing is invoked until accessed")
+        void deferred() {
+            AtomicInteger calls = new AtomicInteger();
+            ValueResult<String, String> result = ValueResult.<Integer, String>lazy(() -> {
+                calls.incrementAndGet();
+                return ValueResult.ok(42);
+            })
+                    .map(v -> {
+                        calls.incrementAndGet();
+                        return v + 1;
+                    })
+                    .ensure(v -> {
+                        calls.incrementAndGet();
+                        return v > 0;
+                    }, "negative")
+                    .flatMap(v -> {
+                        calls.incrementAndGet();
+                        return ValueResult.ok("v" + v);
+                    });
+
+            assertThat(calls.get()).isZero();
+            assertThat(result).isSuccessful().withValue("v43");
+            assertThat(calls.get()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("WHEN a known failure is mapped THEN it is passed through unchanged")
+        void knownFailure() {
+            ValueResult<Integer, String> result = ValueResult.lazy(() -> ValueResult.fail("error"));
+            assertThat(result).hasFailed();
+
+            ValueResult<Integer, String> mapped = result.map(v -> v + 1);
+
+            assertThat(mapped).isNotInstanceOf(LazyValueResult.class).hasFailed().withError("error");
+        }
+
+        @Test
+        @DisplayName("WHEN mapError() on a lazy failure THEN the error is mapped on access")
+        void mapError() {
+            ValueResult<Integer, Integer> result = ValueResult.<Integer, String>lazy(() -> ValueResult.fail("error"))
+                    .mapError(String::length);
+
+            assertThat(result).hasFailed().withError(5);
+        }
+
+        @Test
+        @DisplayName("WHEN the supplier returns a lazy result THEN it is unwrapped")
+        void nested() {
+            ValueResult<Integer, String> result = ValueResult.lazy(() -> ValueResult.<Integer, String>lazy(() -> ValueResult.ok(42)));
+
+            assertThat(result).isSuccessful().withValue(42);
+            assertThat(((LazyValueResult<Integer, String>) result).evaluate()).isNotInstanceOf(LazyValueResult.class);
+        }
+    }
+}
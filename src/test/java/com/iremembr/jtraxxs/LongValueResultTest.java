@@ -0,0 +1,233 @@
+package com.iremembr.jtraxxs;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.*;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("A LongValueResult")
+class LongValueResultTest {
+
+    private final LongValueResult<Message> success = LongValueResult.ok(42L);
+    private final LongValueResult<Message> failed = LongValueResult.fail(Message.INSTANCE);
+
+    @Nested
+    @DisplayName("equalsContract")
+    class equalsContract {
+        @Test
+        @DisplayName("equals() and hashCode() of a successful LongValueResult adhere to the equals contract")
+        void successful() {
+            EqualsVerifier.forClass(SuccessfulLongValueResult.class).verify();
+        }
+
+        @Test
+        @DisplayName("equals() and hashCode() of a failed LongValueResult adhere to the equals contract")
+        void failed() {
+            EqualsVerifier.forClass(FailedLongValueResult.class).verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("Properties")
+    class properties {
+        @Test
+        @DisplayName("a successful LongValueResult returns its value")
+        void successfulValue() {
+            assertThat(success.isSuccessful()).isTrue();
+            assertThat(success.value()).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("a failed LongValueResult returns its error AND value() throws an IllegalStateException")
+        void failedError() {
+            assertThat(failed.hasFailed()).isTrue();
+            assertThat(failed.error()).isSameAs(Message.INSTANCE);
+            assertThat(catchThrowable(failed::value))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Failed LongValueResult has no value");
+        }
+
+        @Test
+        @DisplayName("toString() returns a proper representation")
+        void toStringMethod() {
+            assertThat(success.toString()).isEqualTo("SuccessfulLongValueResult{value=" + 42L + "}");
+            assertThat(failed.toString()).isEqualTo("FailedLongValueResult{error=Message}");
+        }
+    }
+
+    @Nested
+    @DisplayName("map()")
+    class map {
+        @Test
+        @DisplayName("WHEN successful THEN the mapper will be applied to the value")
+        void successful() {
+            assertThat(success.map(v -> v * 2).value()).isEqualTo(84L);
+        }
+
+        @Test
+        @DisplayName("WHEN failed THEN the mapper will not be invoked AND the result will be passed through")
+        void failed(@Mock LongUnaryOperator mapper) {
+            assertThat(failed.map(mapper)).isSameAs(failed);
+            verify(mapper, never()).applyAsLong(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("ensure()")
+    class ensure {
+        @Test
+        @DisplayName("WHEN the predicate holds THEN the LongValueResult will be passed through")
+        void predicateHolds() {
+            assertThat(success.ensure(v -> v > 0, SubMessage.INSTANCE)).isSameAs(success);
+        }
+
+        @Test
+        @DisplayName("WHEN the predicate does not hold THEN a failed LongValueResult with the given error will be returned")
+        void predicateFails() {
+            assertThat(success.ensure(v -> v < 0, SubMessage.INSTANCE).error()).isSameAs(SubMessage.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("WHEN given a BooleanSupplier THEN the LongValueResult will be passed through only while it returns true")
+        void withBooleanSupplier() {
+            assertThat(success.ensure(() -> true, SubMessage.INSTANCE)).isSameAs(success);
+            assertThat(success.ensure(() -> false, SubMessage.INSTANCE).error()).isSameAs(SubMessage.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("WHEN failed THEN the BooleanSupplier will not be invoked")
+        void failedWithBooleanSupplier(@Mock BooleanSupplier supplier) {
+            assertThat(failed.ensure(supplier, SubMessage.INSTANCE)).isSameAs(failed);
+            verify(supplier, never()).getAsBoolean();
+        }
+
+        @Test
+        @DisplayName("WHEN failed THEN the predicate will not be invoked")
+        void failed(@Mock LongPredicate predicate) {
+            assertThat(failed.ensure(predicate, SubMessage.INSTANCE)).isSameAs(failed);
+            verify(predicate, never()).test(anyLong());
+        }
+
+        @Test
+        @DisplayName("WHEN given a failed Result THEN a failed LongValueResult with its error will be returned")
+        void withFailedResult() {
+            assertThat(success.ensure(VoidResult.fail(SubMessage.INSTANCE)).error()).isSameAs(SubMessage.INSTANCE);
+            assertThat(success.ensure(v -> VoidResult.fail(SubMessage.INSTANCE)).error()).isSameAs(SubMessage.INSTANCE);
+        }
+    }
+
+    @Nested
+    @DisplayName("flatMap() and combine()")
+    class flatMapAndCombine {
+        @Test
+        @DisplayName("WHEN successful THEN flatMap returns the result of the function")
+        void flatMap() {
+            assertThat(success.flatMap(v -> LongValueResult.ok(43L)).value()).isEqualTo(43L);
+            assertThat(success.flatMap(v -> LongValueResult.fail(SubMessage.INSTANCE)).error()).isSameAs(SubMessage.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("WHEN both are successful THEN combine applies the operator to both values")
+        void combine() {
+            assertThat(success.combine((long a, long b) -> a + b, LongValueResult.ok(7L)).value()).isEqualTo(49L);
+        }
+
+        @Test
+        @DisplayName("WHEN the other result has failed THEN combine returns its error")
+        void combineWithFailed() {
+            assertThat(success.combine((long a, long b) -> a + b, failed).error()).isSameAs(Message.INSTANCE);
+            assertThat(failed.combine((long a, long b) -> a + b, success)).isSameAs(failed);
+        }
+    }
+
+    @Nested
+    @DisplayName("conversions")
+    class conversions {
+        @Test
+        @DisplayName("mapToObj() bridges to a ValueResult")
+        void mapToObj() {
+            assertThat(success.mapToObj(String::valueOf)).isSuccessful().withValue(String.valueOf(42L));
+            assertThat(failed.mapToObj(String::valueOf)).hasFailed().withError(Message.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("mapToInt() and mapToDouble() bridge to the other primitive results")
+        void mapToPrimitive() {
+            assertThat(success.mapToInt(v -> (int) v * 2).value()).isEqualTo(84);
+            assertThat(success.mapToDouble(v -> v / 2.0).value()).isEqualTo(21.0);
+            assertThat(failed.mapToInt(v -> (int) v * 2).error()).isSameAs(Message.INSTANCE);
+            assertThat(failed.mapToDouble(v -> v / 2.0).error()).isSameAs(Message.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("boxed() and unbox() convert between LongValueResult and ValueResult")
+        void boxedAndUnbox() {
+            ValueResult<Long, Message> boxed = success.boxed();
+            assertThat(boxed).isSuccessful().withValue(42L);
+            assertThat(LongValueResult.unbox(boxed)).isEqualTo(success);
+            assertThat(LongValueResult.unbox(failed.boxed())).isEqualTo(failed);
+        }
+
+        @Test
+        @DisplayName("ValueResult.mapToLong() converts a ValueResult into a LongValueResult")
+        void fromValueResult() {
+            assertThat(ValueResult.<String, Message>ok("x").mapToLong(s -> 42L)).isEqualTo(success);
+            assertThat(ValueResult.<String, Message>fail(Message.INSTANCE).mapToLong(s -> 42L)).isEqualTo(failed);
+        }
+    }
+
+    @Nested
+    @DisplayName("terminal operations")
+    class terminal {
+        @Test
+        @DisplayName("orElse() returns the value or the given default")
+        void orElse() {
+            assertThat(success.orElse(-1L)).isEqualTo(42L);
+            assertThat(failed.orElse(-1L)).isEqualTo(-1L);
+        }
+
+        @Test
+        @DisplayName("orElseGet() only invokes the function when failed")
+        void orElseGet(@Mock ToLongFunction<Message> function) {
+            assertThat(success.orElseGet(function)).isEqualTo(42L);
+            verify(function, never()).applyAsLong(any());
+            assertThat(failed.orElseGet(e -> -1L)).isEqualTo(-1L);
+        }
+
+        @Test
+        @DisplayName("fold() applies the matching function")
+        void fold() {
+            assertThat(success.<String>fold(v -> "value", e -> "error")).isEqualTo("value");
+            assertThat(failed.<String>fold(v -> "value", e -> "error")).isEqualTo("error");
+        }
+
+        @Test
+        @DisplayName("toOptional() and stream() contain the value only when successful")
+        void toOptionalAndStream() {
+            assertThat(success.toOptional().isPresent()).isTrue();
+            assertThat(failed.toOptional().isPresent()).isFalse();
+            assertThat(success.stream().count()).isEqualTo(1);
+            assertThat(failed.stream().count()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("onSuccess() and onFailure() invoke the matching consumer")
+        void onSuccessAndOnFailure(@Mock LongConsumer consumer, @Mock Consumer<Message> errorConsumer) {
+            success.onSuccess(consumer).onFailure(errorConsumer);
+            failed.onSuccess(consumer).onFailure(errorConsumer);
+            verify(consumer, only()).accept(42L);
+            verify(errorConsumer, only()).accept(Message.INSTANCE);
+        }
+    }
+}
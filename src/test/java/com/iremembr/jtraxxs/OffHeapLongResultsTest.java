@@ -0,0 +1,115 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OffHeapLongResults")
+class OffHeapLongResultsTest {
+
+    private OffHeapLongResults results;
+
+    @BeforeEach
+    void setUp() {
+        // more than two words of the state bitmap, the last one partially used
+        results = OffHeapLongResults.allocate(200);
+        for (int i = 0; i < 150; i++) {
+            if (i % 7 == 0) {
+                results.addFail(-i);
+            } else {
+                results.addOk(i * 1000L);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("queries")
+    class queries {
+        @Test
+        @DisplayName("WHEN results are added THEN their state, value and error code are kept")
+        void state() {
+            assertThat(results.size()).isEqualTo(150);
+            assertThat(results.failureCount()).isEqualTo(22);
+            assertThat(results.hasFailed(140)).isTrue();
+            assertThat(results.errorCode(140)).isEqualTo(-140);
+            assertThat(results.isSuccessful(141)).isTrue();
+            assertThat(results.value(141)).isEqualTo(141_000L);
+            assertThat(results.orElse(140, -1L)).isEqualTo(-1L);
+        }
+
+        @Test
+        @DisplayName("WHEN get() THEN it returns the result as a LongValueResult")
+        void get() {
+            assertThat(results.get(14)).isEqualTo(LongValueResult.fail(-14));
+            assertThat(results.get(15)).isEqualTo(LongValueResult.ok(15_000L));
+        }
+
+        @Test
+        @DisplayName("WHEN a result is accessed on the wrong track THEN an IllegalStateException is thrown")
+        void wrongTrack() {
+            assertThatThrownBy(() -> results.value(0)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> results.errorCode(1)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> results.isSuccessful(150)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        @DisplayName("WHEN the capacity is exhausted THEN an IllegalStateException is thrown")
+        void capacity() {
+            OffHeapLongResults full = OffHeapLongResults.allocate(1);
+            full.add(LongValueResult.ok(1L));
+
+            assertThatThrownBy(() -> full.addOk(2L)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> OffHeapLongResults.allocate(-1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("iteration")
+    class iteration {
+        @Test
+        @DisplayName("WHEN forEach() THEN every result is passed in order")
+        void forEach() {
+            List<Long> values = new ArrayList<>();
+            List<Integer> errorCodes = new ArrayList<>();
+
+            results.forEach(values::add, errorCodes::add);
+
+            assertThat(values).hasSize(128).startsWith(1000L, 2000L).endsWith(149_000L);
+            assertThat(errorCodes).hasSize(22).startsWith(0, -7).endsWith(-147);
+        }
+
+        @Test
+        @DisplayName("WHEN forEachSuccess() and forEachFailure() THEN they see the same results as forEach()")
+        void forEachTrack() {
+            List<Long> values = new ArrayList<>();
+            List<Integer> errorCodes = new ArrayList<>();
+            List<Long> successes = new ArrayList<>();
+            List<Integer> failures = new ArrayList<>();
+
+            results.forEach(values::add, errorCodes::add);
+            results.forEachSuccess(successes::add);
+            results.forEachFailure(failures::add);
+
+            assertThat(successes).isEqualTo(values);
+            assertThat(failures).isEqualTo(errorCodes);
+        }
+
+        @Test
+        @DisplayName("WHEN clear() THEN all results are removed and the capacity is reused")
+        void clear() {
+            results.clear();
+            results.addOk(42L);
+
+            assertThat(results.size()).isEqualTo(1);
+            assertThat(results.failureCount()).isZero();
+            assertThat(results.get(0)).isEqualTo(LongValueResult.ok(42L));
+        }
+    }
+}
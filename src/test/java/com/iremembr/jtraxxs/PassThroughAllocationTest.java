@@ -0,0 +1,260 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Verifies that operators which pass a result through unchanged do not allocate.
+ *
+ * <p>Every operator is invoked {@value #ITERATIONS} times and the bytes allocated by
+ * the current thread are compared with an empty run. A single allocation per call
+ * would add at least 16 bytes per iteration, which is far above the tolerated noise.
+ */
+@DisplayName("Pass-through operators")
+class PassThroughAllocationTest {
+
+    private static final int ITERATIONS = 10_000;
+    private static final long TOLERATED_BYTES = 1024;
+
+    private static final Function<Object, Object> FUNCTION = v -> v;
+    private static final BiFunction<Object, Object, Object> BI_FUNCTION = (v, w) -> v;
+    private static final Consumer<Object> CONSUMER = v -> {
+    };
+    private static final Predicate<Object> PREDICATE = v -> true;
+    private static final Supplier<Boolean> BOOLEAN_SUPPLIER = () -> true;
+    private static final BooleanSupplier PRIMITIVE_BOOLEAN_SUPPLIER = () -> true;
+    private static final ToIntFunction<Object> TO_INT = v -> 1_000_000;
+    private static final ToLongFunction<Object> TO_LONG = v -> 1_000_000L;
+    private static final ToDoubleFunction<Object> TO_DOUBLE = v -> 1_000_000.5;
+    private static final Supplier<String> ERROR_SUPPLIER = () -> String.format("error %d", 42);
+    private static final Function<Object, String> ERROR_FUNCTION = v -> String.format("error %s", v);
+    private static final Supplier<Result<String>> RESULT_SUPPLIER = VoidResult::ok;
+    private static final Function<Object, Result<String>> RESULT_FUNCTION = v -> VoidResult.ok();
+    private static final Supplier<ValueResult<Object, String>> VALUE_RESULT_SUPPLIER = () -> ValueResult.ok("other");
+    private static final Function<Object, ValueResult<Object, String>> VALUE_RESULT_FUNCTION = v -> ValueResult.ok("other");
+    private static final Runnable RUNNABLE = () -> {
+    };
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+
+    private final ValueResult<Object, String> success = ValueResult.ok("value");
+    private final ValueResult<Object, String> failure = ValueResult.fail("error");
+    private final VoidResult<String> ok = VoidResult.ok();
+    private final VoidResult<String> bad = VoidResult.fail("error");
+
+    private Object sink;
+    private double primitiveSink;
+
+    @BeforeAll
+    static void setUpThreadMXBean() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "per-thread allocation counters are not available");
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(),
+                "per-thread allocation counters are not supported");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private void assertNoAllocation(Runnable operation) {
+        // the first runs resolve and link everything the operation touches
+        allocatedBytes(operation);
+        allocatedBytes(operation);
+        long baseline = allocatedBytes(RUNNABLE);
+        long allocated = allocatedBytes(operation);
+        assertThat(allocated - baseline)
+                .as("bytes allocated by %d invocations", ITERATIONS)
+                .isLessThan(TOLERATED_BYTES);
+    }
+
+    private static long allocatedBytes(Runnable operation) {
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    @Nested
+    @DisplayName("of a failed ValueResult")
+    class failedValueResult {
+        @Test
+        @DisplayName("map() does not allocate")
+        void map() {
+            assertNoAllocation(() -> sink = failure.map(FUNCTION));
+        }
+
+        @Test
+        @DisplayName("flatMap() does not allocate")
+        void flatMap() {
+            assertNoAllocation(() -> sink = failure.flatMap(VALUE_RESULT_FUNCTION));
+        }
+
+        @Test
+        @DisplayName("take() does not allocate")
+        void take() {
+            assertNoAllocation(() -> sink = failure.take(success));
+            assertNoAllocation(() -> sink = failure.take(VALUE_RESULT_SUPPLIER));
+            assertNoAllocation(() -> sink = failure.take(VALUE_RESULT_FUNCTION));
+        }
+
+        @Test
+        @DisplayName("combine() does not allocate")
+        void combine() {
+            assertNoAllocation(() -> sink = failure.combine(BI_FUNCTION, success));
+        }
+
+        @Test
+        @DisplayName("ensure() does not allocate")
+        void ensure() {
+            assertNoAllocation(() -> sink = failure.ensure(false, "other"));
+            assertNoAllocation(() -> sink = failure.ensure(BOOLEAN_SUPPLIER, "other"));
+            assertNoAllocation(() -> sink = failure.ensure(PREDICATE, "other"));
+            assertNoAllocation(() -> sink = failure.ensureOrElseGet(false, ERROR_SUPPLIER));
+            assertNoAllocation(() -> sink = failure.ensure(PRIMITIVE_BOOLEAN_SUPPLIER, "other"));
+            assertNoAllocation(() -> sink = failure.ensureOrElseGet(PRIMITIVE_BOOLEAN_SUPPLIER, ERROR_SUPPLIER));
+            assertNoAllocation(() -> sink = failure.ensureOrElseGet(PREDICATE, ERROR_SUPPLIER));
+            assertNoAllocation(() -> sink = failure.ensureOrElseGet(PREDICATE, ERROR_FUNCTION));
+            assertNoAllocation(() -> sink = failure.ensure(bad));
+            assertNoAllocation(() -> sink = failure.ensure(RESULT_SUPPLIER));
+            assertNoAllocation(() -> sink = failure.ensure(RESULT_FUNCTION));
+        }
+
+        @Test
+        @DisplayName("onSuccess() and castValue() do not allocate")
+        void onSuccessAndCastValue() {
+            assertNoAllocation(() -> sink = failure.onSuccess(RUNNABLE));
+            assertNoAllocation(() -> sink = failure.onSuccess(CONSUMER));
+            assertNoAllocation(() -> sink = failure.castValue(Integer.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("of a successful ValueResult")
+    class successfulValueResult {
+        @Test
+        @DisplayName("mapError() does not allocate")
+        void mapError() {
+            assertNoAllocation(() -> sink = success.mapError(FUNCTION));
+        }
+
+        @Test
+        @DisplayName("ensure() with a satisfied condition does not allocate")
+        void ensure() {
+            assertNoAllocation(() -> sink = success.ensure(true, "error"));
+            assertNoAllocation(() -> sink = success.ensure(PREDICATE, "error"));
+            assertNoAllocation(() -> sink = success.ensure(PRIMITIVE_BOOLEAN_SUPPLIER, "error"));
+            assertNoAllocation(() -> sink = success.ensure(ok));
+        }
+
+        @Test
+        @DisplayName("ensure() with a satisfied condition does not create the error")
+        void ensureWithErrorFactory() {
+            assertNoAllocation(() -> sink = success.ensureOrElseGet(true, ERROR_SUPPLIER));
+            assertNoAllocation(() -> sink = success.ensureOrElseGet(PRIMITIVE_BOOLEAN_SUPPLIER, ERROR_SUPPLIER));
+            assertNoAllocation(() -> sink = success.ensureOrElseGet(PREDICATE, ERROR_SUPPLIER));
+            assertNoAllocation(() -> sink = success.ensureOrElseGet(PREDICATE, ERROR_FUNCTION));
+        }
+
+        @Test
+        @DisplayName("ok() with null, a Boolean or a small Integer does not allocate")
+        void okWithInternedValue() {
+            assertNoAllocation(() -> sink = ValueResult.ok(null));
+            assertNoAllocation(() -> sink = ValueResult.ok(Boolean.TRUE));
+            assertNoAllocation(() -> sink = ValueResult.ok(42));
+        }
+
+        @Test
+        @DisplayName("fail() with an enum error does not allocate")
+        void failWithEnumError() {
+            assertNoAllocation(() -> sink = ValueResult.fail(Thread.State.BLOCKED));
+        }
+
+        @Test
+        @DisplayName("foldToInt(), foldToLong() and foldToDouble() do not box the result")
+        void foldToPrimitive() {
+            assertNoAllocation(() -> primitiveSink = success.foldToInt(TO_INT, TO_INT));
+            assertNoAllocation(() -> primitiveSink = success.foldToLong(TO_LONG, TO_LONG));
+            assertNoAllocation(() -> primitiveSink = success.foldToDouble(TO_DOUBLE, TO_DOUBLE));
+        }
+
+        @Test
+        @DisplayName("onFailure(), castError() and toVoidResult() do not allocate")
+        void onFailureCastErrorAndToVoidResult() {
+            assertNoAllocation(() -> sink = success.onFailure(RUNNABLE));
+            assertNoAllocation(() -> sink = success.castError(Integer.class));
+            assertNoAllocation(() -> sink = success.toVoidResult());
+        }
+    }
+
+    @Nested
+    @DisplayName("of a failed VoidResult")
+    class failedVoidResult {
+        @Test
+        @DisplayName("ensure() does not allocate")
+        void ensure() {
+            assertNoAllocation(() -> sink = bad.ensure(false, "other"));
+            assertNoAllocation(() -> sink = bad.ensure(BOOLEAN_SUPPLIER, "other"));
+            assertNoAllocation(() -> sink = bad.ensureOrElseGet(false, ERROR_SUPPLIER));
+            assertNoAllocation(() -> sink = bad.ensure(PRIMITIVE_BOOLEAN_SUPPLIER, "other"));
+            assertNoAllocation(() -> sink = bad.ensureOrElseGet(PRIMITIVE_BOOLEAN_SUPPLIER, ERROR_SUPPLIER));
+            assertNoAllocation(() -> sink = bad.ensure(bad));
+            assertNoAllocation(() -> sink = bad.ensure(RESULT_SUPPLIER));
+        }
+
+        @Test
+        @DisplayName("onSuccess() does not allocate")
+        void onSuccess() {
+            assertNoAllocation(() -> sink = bad.onSuccess(RUNNABLE));
+        }
+    }
+
+    @Nested
+    @DisplayName("of a successful VoidResult")
+    class successfulVoidResult {
+        @Test
+        @DisplayName("ok() does not allocate")
+        void ok() {
+            assertNoAllocation(() -> sink = VoidResult.ok());
+        }
+
+        @Test
+        @DisplayName("fail() with an enum error does not allocate")
+        void failWithEnumError() {
+            assertNoAllocation(() -> sink = VoidResult.fail(Thread.State.BLOCKED));
+        }
+
+        @Test
+        @DisplayName("mapError() and castError() do not allocate")
+        void mapErrorAndCastError() {
+            assertNoAllocation(() -> sink = ok.mapError(FUNCTION));
+            assertNoAllocation(() -> sink = ok.castError(Integer.class));
+        }
+
+        @Test
+        @DisplayName("ensure() with a satisfied condition does not allocate")
+        void ensure() {
+            assertNoAllocation(() -> sink = ok.ensure(true, "error"));
+            assertNoAllocation(() -> sink = ok.ensure(ok));
+            assertNoAllocation(() -> sink = ok.ensureOrElseGet(true, ERROR_SUPPLIER));
+            assertNoAllocation(() -> sink = ok.ensure(PRIMITIVE_BOOLEAN_SUPPLIER, "error"));
+            assertNoAllocation(() -> sink = ok.ensureOrElseGet(PRIMITIVE_BOOLEAN_SUPPLIER, ERROR_SUPPLIER));
+        }
+    }
+}
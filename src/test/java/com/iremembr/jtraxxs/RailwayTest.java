@@ -0,0 +1,121 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Railway")
+class RailwayTest {
+
+    private static final Railway<String, Long, String> PARSE = Railway.<String, String>start()
+            .ensure(s -> !s.isEmpty(), "empty")
+            .map(Integer::parseInt)
+            .ensure(v -> v > 0, "not positive")
+            .flatMap(v -> v < 100 ? ValueResult.ok(v) : ValueResult.fail("too large"))
+            .ensure(v -> v % 2 == 0 ? VoidResult.ok() : VoidResult.fail("odd"))
+            .map(v -> v * 10L);
+
+    @Nested
+    @DisplayName("apply()")
+    class apply {
+        @Test
+        @DisplayName("WHEN all steps succeed THEN it returns the value after the last step")
+        void success() {
+            assertThat(PARSE.apply("42")).isSuccessful().withValue(420L);
+        }
+
+        @Test
+        @DisplayName("WHEN a step fails THEN it returns the error of that step")
+        void failure() {
+            assertThat(PARSE.apply("")).hasFailed().withError("empty");
+            assertThat(PARSE.apply("-1")).hasFailed().withError("not positive");
+            assertThat(PARSE.apply("100")).hasFailed().withError("too large");
+            assertThat(PARSE.apply("41")).hasFailed().withError("odd");
+        }
+
+        @Test
+        @DisplayName("WHEN a step fails THEN the remaining steps are skipped")
+        void skipsRemainingSteps() {
+            AtomicInteger calls = new AtomicInteger();
+            Railway<Integer, Integer, String> railway = Railway.<Integer, String>start()
+                    .ensure(v -> v > 0, "not positive")
+                    .map(v -> calls.incrementAndGet());
+
+            assertThat(railway.apply(-1)).hasFailed().withError("not positive");
+            assertThat(calls.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("WHEN it has no steps THEN it returns the input")
+        void noSteps() {
+            assertThat(Railway.<String, String>start().apply("input")).isSuccessful().withValue("input");
+        }
+
+        @Test
+        @DisplayName("WHEN applied many times THEN every input is processed independently")
+        void reusable() {
+            for (int i = 0; i < 100; i += 2) {
+                assertThat(PARSE.apply(String.valueOf(i == 0 ? 2 : i))).isSuccessful();
+            }
+            assertThat(PARSE.apply("")).hasFailed();
+            assertThat(PARSE.apply("42")).isSuccessful().withValue(420L);
+        }
+
+        @Test
+        @DisplayName("WHEN a flatMap() function returns null THEN a NullPointerException is thrown")
+        void flatMapReturnsNull() {
+            Railway<String, String, String> railway = Railway.<String, String>start().flatMap(v -> null);
+
+            assertThatThrownBy(() -> railway.apply("input")).isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        @DisplayName("WHEN passed to flatMap() THEN it continues the ValueResult")
+        void asFunction() {
+            assertThat(ValueResult.<String, String>ok("42").flatMap(PARSE)).isSuccessful().withValue(420L);
+            assertThat(ValueResult.<String, String>fail("error").flatMap(PARSE)).hasFailed().withError("error");
+        }
+    }
+
+    @Nested
+    @DisplayName("steps")
+    class steps {
+        @Test
+        @DisplayName("WHEN a step is added THEN the existing Railway is unchanged")
+        void immutable() {
+            Railway<Integer, Integer, String> start = Railway.start();
+            Railway<Integer, Integer, String> doubled = start.map(v -> v * 2);
+
+            assertThat(start.apply(1)).isSuccessful().withValue(1);
+            assertThat(doubled.apply(1)).isSuccessful().withValue(2);
+        }
+
+        @Test
+        @DisplayName("WHEN then() THEN the steps of both Railways are applied")
+        void then() {
+            Railway<String, Integer, String> length = Railway.<String, String>start().map(String::length);
+            Railway<Integer, Integer, String> positive = Railway.<Integer, String>start().ensure(v -> v > 0, "empty");
+
+            assertThat(length.then(positive).apply("abc")).isSuccessful().withValue(3);
+            assertThat(length.then(positive).apply("")).hasFailed().withError("empty");
+        }
+
+        @Test
+        @DisplayName("WHEN a step function is null THEN a NullPointerException is thrown")
+        void nullFunction() {
+            Railway<String, String, String> start = Railway.start();
+
+            assertThatThrownBy(() -> start.map(null)).isInstanceOf(NullPointerException.class);
+            assertThatThrownBy(() -> start.flatMap(null)).isInstanceOf(NullPointerException.class);
+            assertThatThrownBy(() -> start.ensure((Predicate<String>) null, "error"))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatThrownBy(() -> start.then(null)).isInstanceOf(NullPointerException.class);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static com.iremembr.jtraxxs.ValueResult.fail;
+import static com.iremembr.jtraxxs.ValueResult.ok;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ResultBatch")
+class ResultBatchTest {
+
+    private static List<ValueResult<Integer, String>> mixed(int size) {
+        List<ValueResult<Integer, String>> results = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            results.add(i % 3 == 0 ? fail("err" + i) : ok(i));
+        }
+        return results;
+    }
+
+    @Nested
+    @DisplayName("of()")
+    class of {
+        @Test
+        @DisplayName("WHEN created from ValueResults THEN every lane has the state of its ValueResult")
+        void lanes() {
+            List<ValueResult<Integer, String>> results = mixed(200);
+
+            ResultBatch<Integer, String> batch = ResultBatch.of(results);
+
+            assertThat(batch.size()).isEqualTo(200);
+            assertThat(batch.failureCount()).isEqualTo(67);
+            assertThat(batch.toList()).isEqualTo(results);
+        }
+
+        @Test
+        @DisplayName("WHEN created from values THEN every lane is successful")
+        void ofValues() {
+            ResultBatch<Integer, String> batch = ResultBatch.ofValues(Arrays.asList(1, null, 3));
+
+            assertThat(batch.failureCount()).isZero();
+            assertThat(batch.get(1)).isSuccessful().withValue(null);
+        }
+
+        @Test
+        @DisplayName("WHEN a lane is accessed on the wrong track THEN an IllegalStateException is thrown")
+        void wrongTrack() {
+            ResultBatch<Integer, String> batch = ResultBatch.of(Arrays.asList(ok(1), fail("error")));
+
+            assertThatThrownBy(() -> batch.error(0)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> batch.value(1)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> batch.isSuccessful(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("operators")
+    class operators {
+        @Test
+        @DisplayName("WHEN map() THEN only successful lanes are mapped")
+        void map() {
+            AtomicInteger calls = new AtomicInteger();
+            ResultBatch<Integer, String> batch = ResultBatch.of(mixed(130));
+
+            ResultBatch<Integer, String> mapped = batch.map(v -> {
+                calls.incrementAndGet();
+                return v * 2;
+            });
+
+            assertThat(calls.get()).isEqualTo(86);
+            for (int i = 0; i < 130; i++) {
+                assertThat(mapped.get(i)).isEqualTo(batch.get(i).map(v -> v * 2));
+            }
+        }
+
+        @Test
+        @DisplayName("WHEN ensure() THEN failing lanes are merged with existing failures in lane order")
+        void ensure() {
+            List<ValueResult<Integer, String>> results = mixed(130);
+            List<ValueResult<Integer, String>> expected = new ArrayList<>();
+            for (ValueResult<Integer, String> result : results) {
+                expected.add(result.ensure(v -> v % 2 == 0, "odd"));
+            }
+
+            ResultBatch<Integer, String> ensured = ResultBatch.of(results).ensure(v -> v % 2 == 0, "odd");
+
+            assertThat(ensured.toList()).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("WHEN ensure() and every lane passes THEN the batch is returned unchanged")
+        void ensureUnchanged() {
+            ResultBatch<Integer, String> batch = ResultBatch.of(mixed(10));
+
+            assertThat(batch.ensure(v -> true, "error")).isSameAs(batch);
+            assertThat(batch.ensure(v -> VoidResult.ok())).isSameAs(batch);
+        }
+
+        @Test
+        @DisplayName("WHEN ensure() with a Result THEN failing lanes get the error of the Result")
+        void ensureResult() {
+            ResultBatch<Integer, String> ensured = ResultBatch.of(mixed(5))
+                    .ensure(v -> v == 2 ? VoidResult.fail("two") : VoidResult.ok());
+
+            assertThat(ensured.toList())
+                    .containsExactly(fail("err0"), ok(1), fail("two"), fail("err3"), ok(4));
+        }
+
+        @Test
+        @DisplayName("WHEN flatMap() THEN successful lanes take the state of the returned ValueResult")
+        void flatMap() {
+            List<ValueResult<Integer, String>> results = mixed(130);
+            List<ValueResult<String, String>> expected = new ArrayList<>();
+            for (ValueResult<Integer, String> result : results) {
+                expected.add(result.flatMap(v -> v % 5 == 0 ? fail("five") : ok("v" + v)));
+            }
+
+            ResultBatch<String, String> flatMapped = ResultBatch.of(results)
+                    .flatMap(v -> v % 5 == 0 ? fail("five") : ok("v" + v));
+
+            assertThat(flatMapped.toList()).isEqualTo(expected);
+        }
+    }
+
+    @Nested
+    @DisplayName("sequence()")
+    class sequence {
+        @Test
+        @DisplayName("WHEN all lanes are successful THEN it returns all values")
+        void success() {
+            ValueResult<Collection<Integer>, Collection<String>> result =
+                    ResultBatch.<Integer, String>ofValues(Arrays.asList(1, 2, 3)).sequence();
+
+            assertThat(result).isSuccessful();
+            assertThat(result.value()).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("WHEN lanes have failed THEN it returns the errors like ValueResult.sequence()")
+        void failure() {
+            List<ValueResult<Integer, String>> results = mixed(10);
+
+            ValueResult<Collection<Integer>, Collection<String>> result = ResultBatch.of(results).sequence();
+
+            assertThat(result).hasFailed();
+            assertThat(result.error()).containsExactlyElementsOf(ValueResult.sequence(results).error());
+        }
+    }
+}
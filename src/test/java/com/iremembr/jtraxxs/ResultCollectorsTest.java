@@ -0,0 +1,173 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+@DisplayName("ResultCollectors")
+class ResultCollectorsTest {
+
+    private static final int SIZE = 100_000;
+
+    private static Stream<ValueResult<Integer, String>> results(boolean parallel, int failEvery) {
+        IntStream range = IntStream.range(0, SIZE);
+        return (parallel ? range.parallel() : range)
+                .mapToObj(i -> failEvery > 0 && i % failEvery == 0 ? ValueResult.fail("err" + i) : ValueResult.ok(i));
+    }
+
+    private static List<Integer> values() {
+        return IntStream.range(0, SIZE).boxed().collect(toList());
+    }
+
+    private static List<String> errors(int failEvery) {
+        return IntStream.range(0, SIZE).filter(i -> i % failEvery == 0).mapToObj(i -> "err" + i).collect(toList());
+    }
+
+    @Nested
+    @DisplayName("toValueResult()")
+    class toValueResult {
+        @Test
+        @DisplayName("WHEN all results are successful THEN a successful ValueResult with all values in encounter order will be returned")
+        void withSuccessfulResults() {
+            assertThat(results(false, 0).collect(ResultCollectors.toValueResult())).withValue(values());
+            assertThat(results(true, 0).collect(ResultCollectors.toValueResult())).withValue(values());
+        }
+
+        @Test
+        @DisplayName("WHEN some results have failed THEN a failed ValueResult with all errors in encounter order will be returned")
+        void withFailedResults() {
+            assertThat(results(false, 997).collect(ResultCollectors.toValueResult())).withError(errors(997));
+            assertThat(results(true, 997).collect(ResultCollectors.toValueResult())).withError(errors(997));
+        }
+    }
+
+    @Nested
+    @DisplayName("toVoidResult()")
+    class toVoidResult {
+        @Test
+        @DisplayName("WHEN given successful and failed VoidResults THEN all errors will be collected")
+        void withFailedResults() {
+            VoidResult<List<String>> result = Stream.of(VoidResult.<String>ok(), VoidResult.fail("err1"), VoidResult.fail("err2"))
+                    .parallel()
+                    .collect(ResultCollectors.toVoidResult());
+            assertThat(result).withError(asList("err1", "err2"));
+        }
+
+        @Test
+        @DisplayName("WHEN given only successful VoidResults THEN a successful VoidResult will be returned")
+        void withSuccessfulResults() {
+            assertThat(Stream.of(VoidResult.<String>ok(), VoidResult.ok()).collect(ResultCollectors.toVoidResult()))
+                    .isSuccessful();
+        }
+    }
+
+    @Nested
+    @DisplayName("toValueResultEnumErrors() and toVoidResultEnumErrors()")
+    class enumErrors {
+        @Test
+        @DisplayName("WHEN some results have failed THEN the errors will be counted per enum constant")
+        void withFailedResults() {
+            ValueResult<List<Integer>, EnumErrorCounts<ErrorCode>> result = IntStream.range(0, SIZE).parallel()
+                    .mapToObj(i -> i % 10 == 0 ? ValueResult.<Integer, ErrorCode>fail(ErrorCode.values()[i % 3]) : ValueResult.<Integer, ErrorCode>ok(i))
+                    .collect(ResultCollectors.toValueResultEnumErrors());
+            assertThat(result).hasFailed();
+            assertThat(result.error().total()).isEqualTo(SIZE / 10);
+            assertThat(result.error().count(ErrorCode.NOT_FOUND)).isEqualTo(IntStream.range(0, SIZE).filter(i -> i % 30 == 0).count());
+
+            VoidResult<EnumErrorCounts<ErrorCode>> voidResult = Stream.of(VoidResult.<ErrorCode>ok(), VoidResult.fail(ErrorCode.TIMEOUT))
+                    .parallel()
+                    .collect(ResultCollectors.toVoidResultEnumErrors());
+            assertThat(voidResult).hasFailed();
+            assertThat(voidResult.error().errors()).containsExactly(ErrorCode.TIMEOUT);
+        }
+
+        @Test
+        @DisplayName("WHEN all results are successful THEN all values will be returned in encounter order")
+        void withSuccessfulResults() {
+            assertThat(results(true, 0).map(result -> result.castError(ErrorCode.class))
+                    .collect(ResultCollectors.toValueResultEnumErrors())).withValue(values());
+        }
+    }
+
+    @Nested
+    @DisplayName("toValueResultHistogram() and toVoidResultHistogram()")
+    class histogram {
+        @Test
+        @DisplayName("WHEN some results have failed THEN the distinct errors will be counted with their first indexes in encounter order")
+        void withFailedResults() {
+            ValueResult<List<Integer>, ErrorHistogram<String>> result = IntStream.range(0, SIZE).parallel()
+                    .mapToObj(i -> i % 10 == 0 ? ValueResult.<Integer, String>fail("err" + i % 3) : ValueResult.<Integer, String>ok(i))
+                    .collect(ResultCollectors.toValueResultHistogram(2));
+            assertThat(result).hasFailed();
+            assertThat(result.error().total()).isEqualTo(SIZE / 10);
+            assertThat(result.error()).hasToString("ErrorHistogram[err0=3334 at [0, 30], err1=3333 at [10, 40], err2=3333 at [20, 50]]");
+
+            VoidResult<ErrorHistogram<String>> voidResult = Stream.of(VoidResult.<String>ok(), VoidResult.fail("err1"))
+                    .parallel()
+                    .collect(ResultCollectors.toVoidResultHistogram(2));
+            assertThat(voidResult).hasFailed();
+            assertThat(voidResult.error().entries().iterator().next().firstIndexes()).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("WHEN all results are successful THEN all values will be returned in encounter order")
+        void withSuccessfulResults() {
+            assertThat(results(true, 0).collect(ResultCollectors.toValueResultHistogram(2))).withValue(values());
+        }
+    }
+
+    @Nested
+    @DisplayName("toValueResultFailFast()")
+    class toValueResultFailFast {
+        @Test
+        @DisplayName("WHEN some results have failed THEN the first error in encounter order will be returned")
+        void withFailedResults() {
+            assertThat(results(false, 997).skip(1).collect(ResultCollectors.toValueResultFailFast())).withError("err997");
+            assertThat(results(true, 997).skip(1).collect(ResultCollectors.toValueResultFailFast())).withError("err997");
+        }
+
+        @Test
+        @DisplayName("WHEN all results are successful THEN all values will be returned in encounter order")
+        void withSuccessfulResults() {
+            assertThat(results(true, 0).collect(ResultCollectors.toValueResultFailFast())).withValue(values());
+        }
+    }
+
+    @Nested
+    @DisplayName("partitioning()")
+    class partitioning {
+        @Test
+        @DisplayName("Returns the values and the errors in encounter order")
+        void partition() {
+            ResultCollectors.Partition<Integer, String> partition = results(true, 997)
+                    .collect(ResultCollectors.partitioning());
+            assertThat(partition.hasErrors()).isTrue();
+            assertThat(partition.errors()).isEqualTo(errors(997));
+            assertThat(partition.values()).hasSize(SIZE - errors(997).size());
+            assertThat(partition.values()).isSorted();
+        }
+    }
+
+    @Nested
+    @DisplayName("teeing()")
+    class teeing {
+        @Test
+        @DisplayName("Feeds the values and the errors into the given collectors")
+        void tee() {
+            String report = results(true, 10_000)
+                    .collect(ResultCollectors.teeing(counting(), toSet(), (Long count, Set<String> errors) -> count + ":" + errors.size()));
+            assertThat(report).isEqualTo((SIZE - 10) + ":10");
+        }
+    }
+}
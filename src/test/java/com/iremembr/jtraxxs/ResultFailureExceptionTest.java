@@ -0,0 +1,127 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.stream.IntStream;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("A ResultFailureException")
+class ResultFailureExceptionTest {
+
+    private final int initialInterval = ResultFailureException.getStackTraceInterval();
+
+    @AfterEach
+    void restoreStackTraceInterval() {
+        ResultFailureException.setStackTraceInterval(initialInterval);
+    }
+
+    @Nested
+    @DisplayName("properties")
+    class properties {
+        @Test
+        @DisplayName("The error and a message describing it will be returned")
+        void errorAndMessage() {
+            ResultFailureException exception = new ResultFailureException("error");
+
+            assertThat(exception.getError()).isEqualTo("error");
+            assertThat(exception).hasMessage("Result has failed with error: error");
+        }
+    }
+
+    @Nested
+    @DisplayName("serialization")
+    class serialization {
+        @Test
+        @DisplayName("WHEN the error is Serializable THEN the deserialized exception will have the same error")
+        void withSerializableError() throws Exception {
+            ResultFailureException exception = roundTrip(new ResultFailureException(42));
+
+            assertThat(exception.getError()).isEqualTo(42);
+            assertThat(exception).hasMessage("Result has failed with error: 42");
+        }
+
+        @Test
+        @DisplayName("WHEN the error is not Serializable THEN the deserialized exception will have its string representation as error")
+        void withNonSerializableError() throws Exception {
+            ResultFailureException exception = roundTrip(new ResultFailureException(Message.INSTANCE));
+
+            assertThat(exception.getError()).isEqualTo(Message.INSTANCE.toString());
+            assertThat(exception).hasMessage("Result has failed with error: " + Message.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("WHEN the error is null THEN the deserialized exception will have a null error")
+        void withNullError() throws Exception {
+            assertThat(roundTrip(new ResultFailureException(null)).getError()).isNull();
+        }
+
+        private ResultFailureException roundTrip(ResultFailureException exception) throws IOException, ClassNotFoundException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(exception);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return (ResultFailureException) in.readObject();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("stack trace")
+    class stackTrace {
+        @Test
+        @DisplayName("WHEN the interval is 0 THEN no stack trace will be captured")
+        void withIntervalZero() {
+            ResultFailureException.setStackTraceInterval(0);
+
+            assertThat(new ResultFailureException("error").getStackTrace()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("WHEN the interval is 1 THEN every stack trace will be captured")
+        void withIntervalOne() {
+            ResultFailureException.setStackTraceInterval(1);
+
+            assertThat(new ResultFailureException("error").getStackTrace()).isNotEmpty();
+        }
+
+        @Test
+        @DisplayName("WHEN the interval is n THEN the stack trace of every n-th exception will be captured")
+        void withIntervalN() {
+            ResultFailureException.setStackTraceInterval(4);
+
+            long captured = IntStream.range(0, 40)
+                    .mapToObj(i -> new ResultFailureException("error"))
+                    .filter(exception -> exception.getStackTrace().length > 0)
+                    .count();
+
+            assertThat(captured).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("WHEN a stack trace is explicitly requested THEN it will be captured regardless of the interval")
+        void withExplicitRequest() {
+            ResultFailureException.setStackTraceInterval(0);
+
+            assertThat(new ResultFailureException("error", true).getStackTrace()).isNotEmpty();
+        }
+
+        @Test
+        @DisplayName("WHEN given a negative interval THEN an IllegalArgumentException will be thrown")
+        void withNegativeInterval() {
+            assertThatThrownBy(() -> ResultFailureException.setStackTraceInterval(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("interval must not be negative");
+        }
+    }
+}
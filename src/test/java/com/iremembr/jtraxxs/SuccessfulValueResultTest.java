@@ -410,6 +410,104 @@ class SuccessfulValueResultTest {
             assertThat(result).hasFailed().withError(SubMessage.INSTANCE);
             verify(function, only()).apply(any());
         }
+
+        @Test
+        @DisplayName("WHEN given a null error THEN the eager ensure() is chosen without a cast")
+        void withNullError() {
+            ValueResult<Value, Message> result = base.ensure(true, null);
+            ValueResult<Value, Message> other = base.ensure(v -> v == null, null);
+
+            assertThat(result).isSuccessful().withValue(Value.INSTANCE);
+            assertThat(other).hasFailed().withError(null);
+        }
+
+        @Test
+        @DisplayName("WHEN given a BooleanSupplier returning true THEN the base ValueResult will be passed through")
+        void withBooleanSupplierReturningTrue(@Mock BooleanSupplier supplier) {
+            // Given
+            when(supplier.getAsBoolean()).thenReturn(true);
+
+            // When
+            ValueResult<Value, Message> result = base.ensure(supplier, SubMessage.INSTANCE);
+
+            // Then
+            assertThat(result).isSuccessful().withValue(Value.INSTANCE);
+            verify(supplier, only()).getAsBoolean();
+        }
+
+        @Test
+        @DisplayName("WHEN given a BooleanSupplier returning false THEN a failed ValueResult with the given error will be returned")
+        void withBooleanSupplierReturningFalse(@Mock BooleanSupplier supplier) {
+            // Given
+            when(supplier.getAsBoolean()).thenReturn(false);
+
+            // When
+            ValueResult<Value, Message> result = base.ensure(supplier, SubMessage.INSTANCE);
+
+            // Then
+            assertThat(result).hasFailed().withError(SubMessage.INSTANCE);
+            verify(supplier, only()).getAsBoolean();
+        }
+
+        @Test
+        @DisplayName("WHEN given a null BooleanSupplier THEN a NullPointerException will be thrown")
+        void withNullBooleanSupplier() {
+            Throwable thrown = catchThrowable(() -> base.ensure((BooleanSupplier) null, SubMessage.INSTANCE));
+
+            assertThat(thrown).isInstanceOf(NullPointerException.class).hasMessageContaining("supplier must not be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("ensureOrElseGet()")
+    class ensureWithErrorFactory {
+        @Test
+        @DisplayName("WHEN given true THEN the error Supplier will not be invoked")
+        void withTrue(@Mock Supplier<SubMessage> errorSupplier) {
+            ValueResult<Value, Message> result = base.ensureOrElseGet(true, errorSupplier);
+
+            assertThat(result).isSuccessful().withValue(Value.INSTANCE);
+            verify(errorSupplier, never()).get();
+        }
+
+        @Test
+        @DisplayName("WHEN given false THEN a failed ValueResult with the error of the Supplier will be returned")
+        void withFalse() {
+            ValueResult<Value, Message> result = base.ensureOrElseGet(false, () -> SubMessage.INSTANCE);
+
+            assertThat(result).hasFailed().withError(SubMessage.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("WHEN given a Supplier returning false THEN a failed ValueResult with the error of the error Supplier will be returned")
+        void withSupplierReturningFalse() {
+            ValueResult<Value, Message> result = base.ensureOrElseGet(() -> false, () -> SubMessage.INSTANCE);
+
+            assertThat(result).hasFailed().withError(SubMessage.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("WHEN given a Predicate returning true THEN neither the error Supplier nor the error Function will be invoked")
+        void withPredicateReturningTrue(@Mock Supplier<SubMessage> errorSupplier, @Mock Function<Value, SubMessage> errorFunction) {
+            assertThat(base.ensureOrElseGet(v -> true, errorSupplier)).isSuccessful().withValue(Value.INSTANCE);
+            assertThat(base.ensureOrElseGet(v -> true, errorFunction)).isSuccessful().withValue(Value.INSTANCE);
+            verify(errorSupplier, never()).get();
+            verify(errorFunction, never()).apply(any());
+        }
+
+        @Test
+        @DisplayName("WHEN given a Predicate returning false THEN the error Function will be invoked with the value")
+        void withPredicateReturningFalse(@Mock Function<Value, SubMessage> errorFunction) {
+            // Given
+            when(errorFunction.apply(Value.INSTANCE)).thenReturn(SubMessage.INSTANCE);
+
+            // When
+            ValueResult<Value, Message> result = base.ensureOrElseGet(v -> false, errorFunction);
+
+            // Then
+            assertThat(result).hasFailed().withError(SubMessage.INSTANCE);
+            verify(errorFunction, only()).apply(Value.INSTANCE);
+        }
     }
 
     @Nested
@@ -584,6 +682,12 @@ class SuccessfulValueResultTest {
             assertThat(base.orElseThrow(supplier)).isEqualTo(Value.INSTANCE);
             verify(supplier, never()).get();
         }
+
+        @Test
+        @DisplayName("WHEN given no supplier THEN the value will be returned")
+        void returnsValue() {
+            assertThat(base.orElseThrow()).isEqualTo(Value.INSTANCE);
+        }
     }
 
     @Nested
@@ -604,6 +708,27 @@ class SuccessfulValueResultTest {
         }
     }
 
+    @Nested
+    @DisplayName("foldToInt(), foldToLong() and foldToDouble()")
+    class foldToPrimitive {
+        @Test
+        @DisplayName("Returns the primitive value mapped by the success function")
+        void returnsSuccess(@Mock ToIntFunction<ParentMessage> failure) {
+            assertThat(base.foldToInt(v -> 42, failure)).isEqualTo(42);
+            assertThat(base.foldToLong(v -> 42L, m -> -1L)).isEqualTo(42L);
+            assertThat(base.foldToDouble(v -> 4.2, m -> -1.0)).isEqualTo(4.2);
+            verify(failure, never()).applyAsInt(any());
+        }
+
+        @Test
+        @DisplayName("WHEN given a null success function THEN a NullPointerException will be thrown")
+        void withNullSuccess() {
+            Throwable thrown = catchThrowable(() -> base.foldToInt(null, m -> -1));
+
+            assertThat(thrown).isInstanceOf(NullPointerException.class).hasMessageContaining("success must not be null");
+        }
+    }
+
     @Nested
     @DisplayName("toOptional()")
     class toOptional {
@@ -10,6 +10,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -157,9 +158,61 @@ class SuccessfulVoidResultTest {
         }
     }
 
+    @Nested
+    @DisplayName("ensureOrElseGet()")
+    class ensureWithErrorFactory {
+        @Test
+        @DisplayName("WHEN given true THEN the error Supplier will not be invoked")
+        void withTrue(@Mock Supplier<SubMessage> errorSupplier) {
+            VoidResult<Message> result = base.ensureOrElseGet(true, errorSupplier);
+
+            assertThat(result).isSuccessful();
+            verify(errorSupplier, never()).get();
+        }
+
+        @Test
+        @DisplayName("WHEN given a Supplier returning false THEN a failed VoidResult with the error of the error Supplier will be returned")
+        void withSupplierReturningFalse() {
+            VoidResult<Message> result = base.ensureOrElseGet(() -> false, () -> SubMessage.INSTANCE);
+
+            assertThat(result).hasFailed().withError(SubMessage.INSTANCE);
+        }
+    }
+
     @Nested
     @DisplayName("ensure()")
     class ensure {
+        @Test
+        @DisplayName("WHEN given a BooleanSupplier returning true THEN the base VoidResult will be passed through")
+        void withBooleanSupplierReturningTrue(@Mock BooleanSupplier supplier) {
+            // Given
+            when(supplier.getAsBoolean()).thenReturn(true);
+
+            // When
+            VoidResult<Message> result = base.ensure(supplier, SubMessage.INSTANCE);
+
+            // Then
+            assertThat(result).isSuccessful();
+            verify(supplier, only()).getAsBoolean();
+        }
+
+        @Test
+        @DisplayName("WHEN given a BooleanSupplier returning false THEN a failed VoidResult with the given error will be returned")
+        void withBooleanSupplierReturningFalse(@Mock BooleanSupplier supplier, @Mock Supplier<SubMessage> errorSupplier) {
+            // Given
+            when(supplier.getAsBoolean()).thenReturn(false);
+            when(errorSupplier.get()).thenReturn(SubMessage.INSTANCE);
+
+            // When
+            VoidResult<Message> result = base.ensure(supplier, SubMessage.INSTANCE);
+            VoidResult<Message> lazyResult = base.ensureOrElseGet(supplier, errorSupplier);
+
+            // Then
+            assertThat(result).hasFailed().withError(SubMessage.INSTANCE);
+            assertThat(lazyResult).hasFailed().withError(SubMessage.INSTANCE);
+            verify(errorSupplier, only()).get();
+        }
+
         @Test
         @DisplayName("WHEN given true THEN the base ValueResult will be passed through")
         void withTrue() {
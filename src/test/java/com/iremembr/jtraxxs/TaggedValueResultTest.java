@@ -0,0 +1,109 @@
+package com.iremembr.jtraxxs;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayName("A TaggedValueResult")
+class TaggedValueResultTest {
+
+    private final ValueResult<Value, Message> success = TaggedValueResult.success(Value.INSTANCE);
+    private final ValueResult<Value, Message> failure = TaggedValueResult.failure(Message.INSTANCE);
+
+    @Nested
+    @DisplayName("properties")
+    class properties {
+        @Test
+        @DisplayName("A successful TaggedValueResult has the value and no error")
+        void successful() {
+            assertThat(success).isSuccessful().withValue(Value.INSTANCE);
+            assertThat(success.hasFailed()).isFalse();
+            assertThat(catchThrowable(success::error)).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("A failed TaggedValueResult has the error and no value")
+        void failed() {
+            assertThat(failure).hasFailed().withError(Message.INSTANCE);
+            assertThat(failure.isSuccessful()).isFalse();
+            assertThat(catchThrowable(failure::value)).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("toString() is the same as the one of the polymorphic implementations")
+        void toStringMatchesPolymorphicImplementations() {
+            assertThat(success.toString()).isEqualTo("SuccessfulValueResult{value=Value}");
+            assertThat(failure.toString()).isEqualTo("FailedValueResult{error=Message}");
+        }
+
+        @Test
+        @DisplayName("equals() and hashCode() adhere to the equals contract")
+        void equalsContract() {
+            EqualsVerifier.forClass(TaggedValueResult.class).verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("operators on the successful track")
+    class successfulTrack {
+        @Test
+        @DisplayName("ensure(), map() and flatMap() continue with the value")
+        void continuesWithValue() {
+            ValueResult<String, Message> result = success
+                    .ensure(v -> true, Message.INSTANCE)
+                    .map(v -> "mapped")
+                    .flatMap(v -> TaggedValueResult.success(v + " twice"));
+
+            assertThat(result).isSuccessful().withValue("mapped twice");
+        }
+
+        @Test
+        @DisplayName("ensure() with an unsatisfied condition switches to the failed track")
+        void ensureFails() {
+            assertThat(success.ensure(false, Message.INSTANCE)).hasFailed().withError(Message.INSTANCE);
+            assertThat(success.ensureOrElseGet(v -> false, v -> Message.INSTANCE)).hasFailed().withError(Message.INSTANCE);
+            assertThat(success.ensure(failure)).hasFailed().withError(Message.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("fold() and orElse() use the value")
+        void foldUsesValue() {
+            assertThat(success.<String>fold(v -> "value", e -> "error")).isEqualTo("value");
+            assertThat(success.foldToInt(v -> 1, e -> -1)).isEqualTo(1);
+            assertThat(success.orElse(null)).isEqualTo(Value.INSTANCE);
+            assertThat(success.toVoidResult()).isSuccessful();
+        }
+    }
+
+    @Nested
+    @DisplayName("operators on the failed track")
+    class failedTrack {
+        @Test
+        @DisplayName("ensure(), map() and flatMap() pass the TaggedValueResult through")
+        void passesThrough() {
+            assertThat(failure.ensure(true, SubMessage.INSTANCE)).isSameAs(failure);
+            assertThat(failure.map(v -> "mapped")).isSameAs(failure);
+            assertThat(failure.flatMap(v -> TaggedValueResult.success("other"))).isSameAs(failure);
+        }
+
+        @Test
+        @DisplayName("mapError() maps the error")
+        void mapErrorMapsError() {
+            assertThat(failure.mapError(e -> "mapped")).hasFailed().withError("mapped");
+        }
+
+        @Test
+        @DisplayName("fold() and orElse() use the error")
+        void foldUsesError() {
+            assertThat(failure.<String>fold(v -> "value", e -> "error")).isEqualTo("error");
+            assertThat(failure.foldToInt(v -> 1, e -> -1)).isEqualTo(-1);
+            assertThat(failure.orElse(null)).isNull();
+            assertThat(failure.toVoidResult()).hasFailed().withError(Message.INSTANCE);
+            assertThat(catchThrowable(failure::orElseThrow)).isInstanceOf(ResultFailureException.class);
+        }
+    }
+}
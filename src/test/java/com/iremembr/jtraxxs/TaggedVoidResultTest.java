@@ -0,0 +1,68 @@
+package com.iremembr.jtraxxs;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+
+@DisplayName("A TaggedVoidResult")
+class TaggedVoidResultTest {
+
+    @SuppressWarnings("unchecked")
+    private final VoidResult<Message> ok = (VoidResult<Message>) TaggedVoidResult.OK;
+    private final VoidResult<Message> bad = TaggedVoidResult.failure(Message.INSTANCE);
+
+    @Nested
+    @DisplayName("properties")
+    class properties {
+        @Test
+        @DisplayName("A successful and a failed TaggedVoidResult report their state")
+        void state() {
+            assertThat(ok).isSuccessful();
+            assertThat(bad).hasFailed().withError(Message.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("toString() is the same as the one of the polymorphic implementations")
+        void toStringMatchesPolymorphicImplementations() {
+            assertThat(ok.toString()).isEqualTo("SuccessfulVoidResult");
+            assertThat(bad.toString()).isEqualTo("FailedVoidResult{error=Message}");
+        }
+
+        @Test
+        @DisplayName("equals() and hashCode() adhere to the equals contract")
+        void equalsContract() {
+            EqualsVerifier.forClass(TaggedVoidResult.class).verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("operators")
+    class operators {
+        @Test
+        @DisplayName("ensure() switches a successful TaggedVoidResult to the failed track")
+        void ensureFails() {
+            assertThat(ok.ensure(true, Message.INSTANCE)).isSameAs(ok);
+            assertThat(ok.ensure(false, Message.INSTANCE)).hasFailed().withError(Message.INSTANCE);
+            assertThat(ok.ensure(bad)).hasFailed().withError(Message.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("ensure() passes a failed TaggedVoidResult through")
+        void ensurePassesThrough() {
+            assertThat(bad.ensure(false, SubMessage.INSTANCE)).isSameAs(bad);
+            assertThat(bad.ensureOrElseGet(() -> false, () -> SubMessage.INSTANCE)).isSameAs(bad);
+        }
+
+        @Test
+        @DisplayName("mapError() and fold() use the error of a failed TaggedVoidResult")
+        void mapErrorAndFold() {
+            assertThat(bad.mapError(e -> "mapped")).hasFailed().withError("mapped");
+            assertThat(ok.mapError(e -> "mapped")).isSuccessful();
+            assertThat(bad.fold(() -> "ok", e -> "error")).isEqualTo("error");
+            assertThat(ok.fold(() -> "ok", e -> "error")).isEqualTo("ok");
+        }
+    }
+}
@@ -5,14 +5,26 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
 import static com.iremembr.jtraxxs.ValueResult.fail;
 import static com.iremembr.jtraxxs.ValueResult.ok;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 
 @DisplayName("A ValueResult")
@@ -50,6 +62,59 @@ class ValueResultTest {
         }
     }
 
+    @Nested
+    @DisplayName("attempt()")
+    class attempt {
+        @Test
+        @DisplayName("WHEN the supplier returns a value THEN a successful ValueResult with the value will be returned")
+        void withValue() {
+            assertThat(ValueResult.attempt(() -> "value")).isSuccessful().withValue("value");
+        }
+
+        @Test
+        @DisplayName("WHEN the supplier throws THEN a failed ValueResult with the exception will be returned")
+        void withException() {
+            IOException exception = new IOException("can not read");
+
+            ValueResult<String, Exception> result = ValueResult.attempt(() -> {
+                throw exception;
+            });
+
+            assertThat(result).hasFailed().withError(exception);
+        }
+
+        @Test
+        @DisplayName("WHEN the supplier throws and a mapper is given THEN a failed ValueResult with the mapped exception will be returned")
+        void withExceptionAndMapper() {
+            ValueResult<String, String> result = ValueResult.attempt(() -> {
+                throw new IOException("can not read");
+            }, Exception::getMessage);
+
+            assertThat(result).hasFailed().withError("can not read");
+        }
+
+        @Test
+        @DisplayName("WHEN the supplier is interrupted THEN the interrupt status of the thread will be restored")
+        void withInterruptedException() {
+            ValueResult<String, Exception> result = ValueResult.attempt(() -> {
+                throw new InterruptedException();
+            });
+
+            assertThat(result).hasFailed();
+            assertThat(Thread.interrupted()).isTrue();
+        }
+
+        @Test
+        @DisplayName("WHEN the supplier throws an Error THEN the Error will be propagated")
+        void withError() {
+            Throwable thrown = Assertions.catchThrowable(() -> ValueResult.attempt(() -> {
+                throw new AssertionError("fatal");
+            }));
+
+            assertThat(thrown).isInstanceOf(AssertionError.class).hasMessage("fatal");
+        }
+    }
+
     @Nested
     @DisplayName("fromOptional()")
     class fromOptional {
@@ -72,6 +137,24 @@ class ValueResultTest {
                     .isInstanceOf(NullPointerException.class)
                     .hasMessageContaining("optional must not be null");
         }
+
+        @Test
+        @DisplayName("WHEN given a nonempty Optional and an error Supplier THEN the Supplier will not be invoked")
+        void withNonEmptyOptionalAndErrorSupplier() {
+            AtomicInteger calls = new AtomicInteger();
+            ValueResult<String, String> result = ValueResult.fromOptionalOrElseGet(Optional.of("success"), () -> "error" + calls.incrementAndGet());
+
+            assertThat(result).isSuccessful().withValue("success");
+            assertThat(calls.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("WHEN given an empty Optional and an error Supplier THEN the error of the Supplier will be returned")
+        void withEmptyOptionalAndErrorSupplier() {
+            ValueResult<String, String> result = ValueResult.fromOptionalOrElseGet(Optional.empty(), () -> "error");
+
+            assertThat(result).hasFailed().withError("error");
+        }
     }
 
     @Nested
@@ -88,6 +171,24 @@ class ValueResultTest {
         void withNull() {
             assertThat(ValueResult.fromNullable(null, "error").error()).isEqualTo("error");
         }
+
+        @Test
+        @DisplayName("WHEN given a non-null value and an error Supplier THEN the Supplier will not be invoked")
+        void withValueAndErrorSupplier() {
+            AtomicInteger calls = new AtomicInteger();
+            ValueResult<String, String> result = ValueResult.fromNullableOrElseGet("success", () -> "error" + calls.incrementAndGet());
+
+            assertThat(result).isSuccessful().withValue("success");
+            assertThat(calls.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("WHEN given null and an error Supplier THEN the error of the Supplier will be returned")
+        void withNullAndErrorSupplier() {
+            ValueResult<String, String> result = ValueResult.fromNullableOrElseGet(null, () -> "error");
+
+            assertThat(result).hasFailed().withError("error");
+        }
     }
 
     @Nested
@@ -139,4 +240,296 @@ class ValueResultTest {
             assertThat(result.error()).containsExactly("err1", "err2");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("sequence() with Collectors")
+    class sequenceWithCollectors {
+        @Test
+        @DisplayName("WHEN given only successful Results THEN the values will be collected with the value Collector")
+        void withSuccessfulResults() {
+            ValueResult<Set<Integer>, List<String>> result = ValueResult.sequence(asList(ok(1), ok(2), ok(1)), toSet(), toList());
+            assertThat(result).isSuccessful();
+            assertThat(result.value()).containsExactlyInAnyOrder(1, 2);
+        }
+
+        @Test
+        @DisplayName("WHEN given failed Results THEN the errors will be collected with the error Collector")
+        void withFailedResults() {
+            ValueResult<List<Integer>, Set<String>> result = ValueResult.sequence(
+                    asList(fail("err1"), ok(2), fail("err2"), fail("err1")), toList(), toSet()
+            );
+            assertThat(result).hasFailed();
+            assertThat(result.error()).containsExactlyInAnyOrder("err1", "err2");
+        }
+    }
+
+    @Nested
+    @DisplayName("sequence() with a FailureBudget")
+    class sequenceWithFailureBudget {
+        @Test
+        @DisplayName("WHEN given only successful Results THEN a successful ValueResult with all values will be returned")
+        void withSuccessfulResults() {
+            ValueResult<Collection<Integer>, BoundedErrors<String>> result = ValueResult.sequence(
+                    asList(ok(1), ok(2)), FailureBudget.keepingFirst(1).stopAfterFailures(1)
+            );
+            assertThat(result).isSuccessful();
+            assertThat(result.value()).containsExactly(1, 2);
+        }
+
+        @Test
+        @DisplayName("WHEN the budget is exhausted THEN the remaining Results will not be iterated")
+        void withExhaustedBudget() {
+            Iterator<ValueResult<Integer, String>> iterator = Arrays.<ValueResult<Integer, String>>asList(ok(1), fail("err1"), fail("err2")).iterator();
+            Iterable<ValueResult<Integer, String>> results = () -> new Iterator<ValueResult<Integer, String>>() {
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public ValueResult<Integer, String> next() {
+                    if (!iterator.hasNext()) {
+                        throw new AssertionError("iterated beyond the exhausted budget");
+                    }
+                    return iterator.next();
+                }
+            };
+            ValueResult<Collection<Integer>, BoundedErrors<String>> result = ValueResult.sequence(
+                    results, FailureBudget.keepingFirst(1).stopAfterFailures(2)
+            );
+            assertThat(result).hasFailed();
+            assertThat(result.error().errors()).containsExactly("err1");
+            assertThat(result.error().failureCount()).isEqualTo(2);
+            assertThat(result.error().isTerminatedEarly()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("sequenceFailFast()")
+    class sequenceFailFast {
+        @Test
+        @DisplayName("WHEN given only successful Results THEN a successful ValueResult with all values will be returned")
+        void withSuccessfulResults() {
+            ValueResult<Collection<Integer>, String> result = ValueResult.sequenceFailFast(asList(ok(1), ok(2)));
+            assertThat(result).isSuccessful();
+            assertThat(result.value()).containsExactly(1, 2);
+        }
+
+        @Test
+        @DisplayName("WHEN given failed Results THEN the first error will be returned AND the remaining Results will not be iterated")
+        void withFailedResults() {
+            Iterator<ValueResult<Integer, String>> iterator = Arrays.<ValueResult<Integer, String>>asList(ok(1), fail("err1")).iterator();
+            Iterable<ValueResult<Integer, String>> results = () -> new Iterator<ValueResult<Integer, String>>() {
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public ValueResult<Integer, String> next() {
+                    if (!iterator.hasNext()) {
+                        throw new AssertionError("iterated beyond the first failure");
+                    }
+                    return iterator.next();
+                }
+            };
+            assertThat(ValueResult.sequenceFailFast(results)).hasFailed().withError("err1");
+        }
+
+        @Test
+        @DisplayName("WHEN given a Collector THEN the values will be collected with it")
+        void withCollector() {
+            ValueResult<Set<Integer>, String> result = ValueResult.sequenceFailFast(asList(ok(1), ok(1)), toSet());
+            assertThat(result).isSuccessful();
+            assertThat(result.value()).containsExactly(1);
+            assertThat(ValueResult.sequenceFailFast(asList(ok(1), fail("err1"), fail("err2")), toSet()))
+                    .hasFailed().withError("err1");
+        }
+    }
+
+    @Nested
+    @DisplayName("sequenceEnumErrors()")
+    class sequenceEnumErrors {
+        @Test
+        @DisplayName("WHEN given only successful Results THEN a successful ValueResult with all values will be returned")
+        void withSuccessfulResults() {
+            ValueResult<Collection<Integer>, EnumErrorCounts<ErrorCode>> result = ValueResult.sequenceEnumErrors(asList(ValueResult.<Integer, ErrorCode>ok(1), ValueResult.<Integer, ErrorCode>ok(2)));
+            assertThat(result).isSuccessful();
+            assertThat(result.value()).containsExactly(1, 2);
+        }
+
+        @Test
+        @DisplayName("WHEN given failed Results THEN a failed ValueResult with the errors counted per enum constant will be returned")
+        void withFailedResults() {
+            ValueResult<Collection<Integer>, EnumErrorCounts<ErrorCode>> result = ValueResult.sequenceEnumErrors(asList(
+                    fail(ErrorCode.NOT_FOUND), ok(2), fail(ErrorCode.TIMEOUT), fail(ErrorCode.NOT_FOUND)
+            ));
+            assertThat(result).hasFailed();
+            assertThat(result.error().total()).isEqualTo(3);
+            assertThat(result.error().count(ErrorCode.NOT_FOUND)).isEqualTo(2);
+            assertThat(result.error().errors()).containsExactly(ErrorCode.NOT_FOUND, ErrorCode.TIMEOUT);
+        }
+    }
+
+    @Nested
+    @DisplayName("sequenceHistogram()")
+    class sequenceHistogram {
+        @Test
+        @DisplayName("WHEN given only successful Results THEN a successful ValueResult with all values will be returned")
+        void withSuccessfulResults() {
+            ValueResult<Collection<Integer>, ErrorHistogram<String>> result = ValueResult.sequenceHistogram(asList(ok(1), ok(2)), 10);
+            assertThat(result).isSuccessful();
+            assertThat(result.value()).containsExactly(1, 2);
+        }
+
+        @Test
+        @DisplayName("WHEN given failed Results THEN a failed ValueResult with every distinct error, its count and its first indexes will be returned")
+        void withFailedResults() {
+            ValueResult<Collection<Integer>, ErrorHistogram<String>> result = ValueResult.sequenceHistogram(
+                    asList(fail("err1"), ok(2), fail("err2"), fail("err1"), fail("err1")), 2
+            );
+            assertThat(result).hasFailed();
+            assertThat(result.error()).hasToString("ErrorHistogram[err1=3 at [0, 3], err2=1 at [2]]");
+        }
+    }
+
+    @Nested
+    @DisplayName("forEach()")
+    class forEach {
+        @Test
+        @DisplayName("WHEN given only successful Results THEN all values will be passed to the consumer AND a successful VoidResult will be returned")
+        void withSuccessfulResults() {
+            List<Integer> values = new ArrayList<>();
+            TraversalProgress progress = new TraversalProgress();
+
+            VoidResult<BoundedErrors<String>> result = ValueResult.forEach(
+                    Arrays.<ValueResult<Integer, String>>asList(ok(1), ok(2)).iterator(), values::add, ErrorPolicy.failFast(), progress
+            );
+
+            assertThat(result).isSuccessful();
+            assertThat(values).containsExactly(1, 2);
+            assertThat(progress.processed()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("WHEN the ErrorPolicy continues THEN the values after a failure will be passed to the consumer as well")
+        void withContinuingErrorPolicy() {
+            List<Integer> values = new ArrayList<>();
+
+            VoidResult<BoundedErrors<String>> result = ValueResult.forEach(
+                    Stream.of(ok(1), fail("err1"), ok(2), fail("err2")),
+                    values::add,
+                    ErrorPolicy.within(FailureBudget.keepingFirst(1))
+            );
+
+            assertThat(values).containsExactly(1, 2);
+            assertThat(result).hasFailed();
+            assertThat(result.error().errors()).containsExactly("err1");
+            assertThat(result.error().failureCount()).isEqualTo(2);
+            assertThat(result.error().isTerminatedEarly()).isFalse();
+        }
+
+        @Test
+        @DisplayName("WHEN the ErrorPolicy stops THEN the remaining Results will not be taken from the Iterator")
+        void withStoppingErrorPolicy() {
+            Iterator<ValueResult<Integer, String>> iterator = IntStream.range(0, 1_000_000)
+                    .mapToObj(i -> i == 2 ? ValueResult.<Integer, String>fail("err" + i) : ValueResult.<Integer, String>ok(i))
+                    .iterator();
+            TraversalProgress progress = new TraversalProgress();
+
+            VoidResult<BoundedErrors<String>> result = ValueResult.forEach(iterator, value -> {
+            }, ErrorPolicy.failFast(), progress);
+
+            assertThat(result).hasFailed();
+            assertThat(result.error().errors()).containsExactly("err2");
+            assertThat(result.error().isTerminatedEarly()).isTrue();
+            assertThat(result.error().skippedInputs()).isEmpty();
+            assertThat(progress.processed()).isEqualTo(3);
+            assertThat(iterator.next().value()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("WHEN the ErrorPolicy stops THEN the Iterator will not be asked for more Results")
+        void withStoppingErrorPolicyDoesNotProbeIterator() {
+            Iterator<ValueResult<Integer, String>> results = Arrays.<ValueResult<Integer, String>>asList(ok(1), fail("err")).iterator();
+            AtomicInteger hasNextCalls = new AtomicInteger();
+            Iterator<ValueResult<Integer, String>> iterator = new Iterator<ValueResult<Integer, String>>() {
+                @Override
+                public boolean hasNext() {
+                    hasNextCalls.incrementAndGet();
+                    return results.hasNext();
+                }
+
+                @Override
+                public ValueResult<Integer, String> next() {
+                    return results.next();
+                }
+            };
+
+            VoidResult<BoundedErrors<String>> result = ValueResult.forEach(iterator, value -> {
+            }, ErrorPolicy.failFast());
+
+            assertThat(result.error().isTerminatedEarly()).isTrue();
+            assertThat(hasNextCalls.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("WHEN given a TraversalProgress of an earlier traversal THEN an IllegalArgumentException will be thrown")
+        void withUsedProgress() {
+            TraversalProgress progress = new TraversalProgress();
+            ValueResult.forEach(Arrays.<ValueResult<Integer, String>>asList(ok(1), fail("err")).iterator(), value -> {
+            }, ErrorPolicy.handling(error -> {
+            }), progress);
+
+            Assertions.assertThatThrownBy(() -> ValueResult.forEach(
+                    Arrays.<ValueResult<Integer, String>>asList(ok(2)).iterator(), value -> {
+                    }, ErrorPolicy.within(FailureBudget.keepingFirst(1).stopAfterFailures(1)), progress
+            ))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("progress must not have counted results");
+        }
+    }
+
+    @Nested
+    @DisplayName("traverseParallel()")
+    class traverseParallel {
+
+        private final List<Integer> inputs = IntStream.range(0, 10_000).boxed().collect(toList());
+
+        @Test
+        @DisplayName("WHEN all results are successful THEN the values will be returned in the order of the inputs")
+        void withSuccessfulResults() {
+            ValueResult<Collection<Integer>, Collection<String>> result = ValueResult.traverseParallel(inputs, i -> ok(i * 2), 16);
+            assertThat(result).isSuccessful();
+            assertThat(result.value()).containsExactlyElementsOf(inputs.stream().map(i -> i * 2).collect(toList()));
+        }
+
+        @Test
+        @DisplayName("WHEN some results have failed THEN the errors will be returned in the order of the inputs")
+        void withFailedResults() {
+            ValueResult<Collection<Integer>, Collection<Integer>> result = ValueResult.traverseParallel(
+                    inputs, i -> i % 1000 == 7 ? fail(i) : ok(i), 16, new ForkJoinPool(4)
+            );
+            assertThat(result).hasFailed();
+            assertThat(result.error()).containsExactly(7, 1007, 2007, 3007, 4007, 5007, 6007, 7007, 8007, 9007);
+        }
+
+        @Test
+        @DisplayName("WHEN the inputs do not exceed the threshold THEN they will be traversed on the calling thread")
+        void belowThreshold() {
+            Thread caller = Thread.currentThread();
+            ValueResult<Collection<Boolean>, Collection<String>> result = ValueResult.traverseParallel(
+                    asList(1, 2, 3), i -> ok(Thread.currentThread() == caller)
+            );
+            assertThat(result.value()).containsExactly(true, true, true);
+        }
+
+        @Test
+        @DisplayName("WHEN given a non-positive threshold THEN an IllegalArgumentException will be thrown")
+        void withInvalidThreshold() {
+            Assertions.assertThatThrownBy(() -> ValueResult.traverseParallel(inputs, ValueResult::ok, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("threshold must be positive");
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ValueResults")
+class ValueResultsTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static Supplier<ValueResult<Integer, String>> ok(int value) {
+        return () -> ValueResult.ok(value);
+    }
+
+    private static Supplier<ValueResult<Integer, String>> fail(String error) {
+        return () -> ValueResult.fail(error);
+    }
+
+    /**
+     * Returns a supplier which blocks until it is interrupted and counts down the given latch then.
+     */
+    private static Supplier<ValueResult<Integer, String>> blocking(CountDownLatch interrupted) {
+        return blocking(new CountDownLatch(1), interrupted);
+    }
+
+    private static Supplier<ValueResult<Integer, String>> blocking(CountDownLatch started, CountDownLatch interrupted) {
+        return () -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return ValueResult.ok(-1);
+        };
+    }
+
+    /**
+     * Returns a supplier which waits for the given latch, so it completes after the supplier
+     * counting it down.
+     */
+    private static Supplier<ValueResult<Integer, String>> after(CountDownLatch latch, ValueResult<Integer, String> result) {
+        return () -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result;
+        };
+    }
+
+    private static Supplier<ValueResult<Integer, String>> before(CountDownLatch latch, ValueResult<Integer, String> result) {
+        return () -> {
+            latch.countDown();
+            return result;
+        };
+    }
+
+    @Nested
+    @DisplayName("allOf()")
+    class allOf {
+        @Test
+        @DisplayName("WHEN no suppliers THEN successful with an empty collection")
+        void empty() {
+            ValueResult<Collection<Integer>, Collection<String>> result =
+                    ValueResults.allOf(executor, Collections.<Supplier<ValueResult<Integer, String>>>emptyList());
+
+            assertThat(result).isSuccessful();
+            assertThat(result.value()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("WHEN all suppliers succeed THEN the values are in the order of the suppliers")
+        void allSuccessful() {
+            CountDownLatch latch = new CountDownLatch(1);
+
+            ValueResult<Collection<Integer>, Collection<String>> result = ValueResults.allOf(executor,
+                    after(latch, ValueResult.ok(1)), before(latch, ValueResult.ok(2)), ok(3));
+
+            assertThat(result).isSuccessful();
+            assertThat(result.value()).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("WHEN some suppliers fail THEN all errors are collected in the order of the suppliers")
+        void accumulatesErrors() {
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicInteger calls = new AtomicInteger();
+
+            ValueResult<Collection<Integer>, Collection<String>> result = ValueResults.allOf(executor,
+                    after(latch, ValueResult.fail("err1")), ok(2), before(latch, ValueResult.fail("err2")),
+                    () -> ValueResult.ok(calls.incrementAndGet()));
+
+            assertThat(result).hasFailed();
+            assertThat(result.error()).containsExactly("err1", "err2");
+            assertThat(calls.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("WHEN a supplier throws THEN a CompletionException is thrown and the others are cancelled")
+        void supplierThrows() throws InterruptedException {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+
+            assertThatThrownBy(() -> ValueResults.allOf(executor, blocking(started, interrupted), () -> {
+                after(started, ValueResult.ok(2)).get();
+                throw new IllegalStateException("boom");
+            }))
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("WHEN a supplier returns null THEN a CompletionException is thrown")
+        void supplierReturnsNull() {
+            assertThatThrownBy(() -> ValueResults.allOf(executor, ok(1), () -> null))
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(NullPointerException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("allOfFailFast()")
+    class allOfFailFast {
+        @Test
+        @DisplayName("WHEN no suppliers THEN successful with an empty collection")
+        void empty() {
+            ValueResult<Collection<Integer>, String> result =
+                    ValueResults.allOfFailFast(executor, Collections.<Supplier<ValueResult<Integer, String>>>emptyList());
+
+            assertThat(result).isSuccessful();
+            assertThat(result.value()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("WHEN all suppliers succeed THEN the values are in the order of the suppliers")
+        void allSuccessful() {
+            CountDownLatch latch = new CountDownLatch(1);
+
+            ValueResult<Collection<Integer>, String> result = ValueResults.allOfFailFast(executor,
+                    asList(after(latch, ValueResult.ok(1)), before(latch, ValueResult.ok(2)), ok(3)));
+
+            assertThat(result).isSuccessful();
+            assertThat(result.value()).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("WHEN a supplier fails THEN its error is returned and the running siblings are interrupted")
+        void cancelsSiblings() throws InterruptedException {
+            CountDownLatch started = new CountDownLatch(2);
+            CountDownLatch interrupted = new CountDownLatch(2);
+
+            ValueResult<Collection<Integer>, String> result = ValueResults.allOfFailFast(executor,
+                    blocking(started, interrupted), blocking(started, interrupted),
+                    after(started, ValueResult.fail("error")));
+
+            assertThat(result).hasFailed().withError("error");
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("WHEN a supplier fails THEN queued siblings never run")
+        void skipsQueuedSiblings() throws InterruptedException {
+            ExecutorService single = Executors.newSingleThreadExecutor();
+            AtomicInteger calls = new AtomicInteger();
+            try {
+                ValueResult<Collection<Integer>, String> result = ValueResults.allOfFailFast(single,
+                        fail("error"), () -> ValueResult.ok(calls.incrementAndGet()));
+
+                assertThat(result).hasFailed().withError("error");
+            } finally {
+                single.shutdown();
+                single.awaitTermination(5, TimeUnit.SECONDS);
+            }
+            assertThat(calls.get()).isLessThanOrEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("WHEN the caller is interrupted THEN a CompletionException is thrown and the suppliers are cancelled")
+        void callerInterrupted() throws InterruptedException {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+            Thread caller = Thread.currentThread();
+            new Thread(() -> {
+                try {
+                    started.await();
+                    caller.interrupt();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }).start();
+            try {
+                assertThatThrownBy(() -> ValueResults.allOfFailFast(executor, blocking(started, interrupted)))
+                        .isInstanceOf(CompletionException.class)
+                        .hasCauseInstanceOf(InterruptedException.class);
+                assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            } finally {
+                Thread.interrupted();
+            }
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+}
@@ -4,11 +4,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.entry;
 
 @DisplayName("A VoidResult")
 class VoidResultTest {
@@ -29,6 +32,41 @@ class VoidResultTest {
         }
     }
 
+    @Nested
+    @DisplayName("attempt()")
+    class attempt {
+        @Test
+        @DisplayName("WHEN the action completes THEN a successful VoidResult will be returned")
+        void withCompletingAction() {
+            AtomicBoolean ran = new AtomicBoolean();
+
+            assertThat(VoidResult.attempt(() -> ran.set(true))).isSuccessful();
+            assertThat(ran).isTrue();
+        }
+
+        @Test
+        @DisplayName("WHEN the action throws THEN a failed VoidResult with the exception will be returned")
+        void withException() {
+            IOException exception = new IOException("can not write");
+
+            VoidResult<Exception> result = VoidResult.attempt(() -> {
+                throw exception;
+            });
+
+            assertThat(result).hasFailed().withError(exception);
+        }
+
+        @Test
+        @DisplayName("WHEN the action throws and a mapper is given THEN a failed VoidResult with the mapped exception will be returned")
+        void withExceptionAndMapper() {
+            VoidResult<String> result = VoidResult.attempt(() -> {
+                throw new IOException("can not write");
+            }, Exception::getMessage);
+
+            assertThat(result).hasFailed().withError("can not write");
+        }
+    }
+
     @Nested
     @DisplayName("upCast()")
     class upCast {
@@ -77,4 +115,128 @@ class VoidResultTest {
             assertThat(result.error()).containsExactly("err1", "err2");
         }
     }
+
+    @Nested
+    @DisplayName("sequenceEnumErrors()")
+    class sequenceEnumErrors {
+        @Test
+        @DisplayName("WHEN given only successful Results THEN a successful VoidResult will be returned")
+        void withSuccessfulResults() {
+            VoidResult<EnumErrorCounts<ErrorCode>> result = VoidResult.sequenceEnumErrors(asList(VoidResult.<ErrorCode>ok(), VoidResult.<ErrorCode>ok()));
+            assertThat(result).isSuccessful();
+        }
+
+        @Test
+        @DisplayName("WHEN given failed Results THEN a failed VoidResult with the errors counted per enum constant will be returned")
+        void withFailedResults() {
+            VoidResult<EnumErrorCounts<ErrorCode>> result = VoidResult.sequenceEnumErrors(asList(
+                    VoidResult.fail(ErrorCode.CONFLICT), VoidResult.ok(), VoidResult.fail(ErrorCode.CONFLICT)
+            ));
+            assertThat(result).hasFailed();
+            assertThat(result.error().toMap()).containsExactly(entry(ErrorCode.CONFLICT, 2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("sequenceHistogram()")
+    class sequenceHistogram {
+        @Test
+        @DisplayName("WHEN given only successful Results THEN a successful VoidResult will be returned")
+        void withSuccessfulResults() {
+            VoidResult<ErrorHistogram<String>> result = VoidResult.sequenceHistogram(asList(VoidResult.ok(), VoidResult.ok()), 10);
+            assertThat(result).isSuccessful();
+        }
+
+        @Test
+        @DisplayName("WHEN given failed Results THEN a failed VoidResult with every distinct error, its count and its first indexes will be returned")
+        void withFailedResults() {
+            VoidResult<ErrorHistogram<String>> result = VoidResult.sequenceHistogram(asList(
+                    VoidResult.ok(), VoidResult.fail("err1"), VoidResult.fail("err1")
+            ), 10);
+            assertThat(result).hasFailed();
+            assertThat(result.error()).hasToString("ErrorHistogram[err1=2 at [1, 2]]");
+        }
+    }
+
+    @Nested
+    @DisplayName("sequence() with a FailureBudget")
+    class sequenceWithFailureBudget {
+        @Test
+        @DisplayName("WHEN given only successful Results THEN a successful VoidResult will be returned")
+        void withSuccessfulResults() {
+            VoidResult<BoundedErrors<String>> result = VoidResult.sequence(
+                    asList(VoidResult.ok(), VoidResult.ok()), FailureBudget.keepingFirst(1).stopAfterFailures(1)
+            );
+            assertThat(result).isSuccessful();
+        }
+
+        @Test
+        @DisplayName("WHEN the budget is exhausted THEN a failed VoidResult with the kept errors and the skipped inputs will be returned")
+        void withExhaustedBudget() {
+            VoidResult<BoundedErrors<String>> result = VoidResult.sequence(asList(
+                    VoidResult.fail("err1"), VoidResult.fail("err2"), VoidResult.ok(), VoidResult.fail("err3")
+            ), FailureBudget.keepingFirst(1).stopAfterFailures(2));
+            assertThat(result).hasFailed();
+            assertThat(result.error().errors()).containsExactly("err1");
+            assertThat(result.error().droppedErrors()).isEqualTo(1);
+            assertThat(result.error().skippedInputs()).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("allOf()")
+    class allOf {
+        @Test
+        @DisplayName("WHEN given only successful Results THEN allOf will return a successful VoidResult")
+        void withSuccessfulResults() {
+            assertThat(VoidResult.<String>allOf(VoidResult.ok(), VoidResult.ok())).isSuccessful();
+            assertThat(VoidResult.<String>allOf(VoidResult.ok(), VoidResult.ok(), VoidResult.ok())).isSuccessful();
+            assertThat(VoidResult.<String>allOf(VoidResult.ok(), VoidResult.ok(), VoidResult.ok(), VoidResult.ok())).isSuccessful();
+        }
+
+        @Test
+        @DisplayName("WHEN given failed Results THEN allOf will return a failed VoidResult with all errors")
+        void withFailedResults() {
+            assertThat(VoidResult.allOf(VoidResult.fail("err1"), VoidResult.ok()).error()).containsExactly("err1");
+            assertThat(VoidResult.allOf(VoidResult.fail("err1"), VoidResult.ok(), VoidResult.fail("err2")).error())
+                    .containsExactly("err1", "err2");
+            assertThat(VoidResult.allOf(VoidResult.ok(), VoidResult.fail("err1"), VoidResult.ok(), VoidResult.fail("err2")).error())
+                    .containsExactly("err1", "err2");
+        }
+
+        @Test
+        @DisplayName("WHEN given two or three Results THEN allOf will return the errors of every failed Result in order")
+        void withEveryCombination() {
+            for (int failures = 0; failures < 8; failures++) {
+                VoidResult<String> first = (failures & 1) != 0 ? VoidResult.fail("err1") : VoidResult.ok();
+                VoidResult<String> second = (failures & 2) != 0 ? VoidResult.fail("err2") : VoidResult.ok();
+                VoidResult<String> third = (failures & 4) != 0 ? VoidResult.fail("err3") : VoidResult.ok();
+
+                assertThat(VoidResult.allOf(first, second, third)).isEqualTo(VoidResult.sequence(asList(first, second, third)));
+                assertThat(VoidResult.allOf(first, second)).isEqualTo(VoidResult.sequence(asList(first, second)));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("firstFailure()")
+    class firstFailure {
+        @Test
+        @DisplayName("WHEN given only successful Results THEN firstFailure will return a successful VoidResult")
+        void withSuccessfulResults() {
+            assertThat(VoidResult.<String>firstFailure(VoidResult.ok(), VoidResult.ok())).isSuccessful();
+            assertThat(VoidResult.<String>firstFailure(VoidResult.ok(), VoidResult.ok(), VoidResult.ok())).isSuccessful();
+            assertThat(VoidResult.<String>firstFailure(VoidResult.ok(), VoidResult.ok(), VoidResult.ok(), VoidResult.ok())).isSuccessful();
+        }
+
+        @Test
+        @DisplayName("WHEN given failed Results THEN firstFailure will return the first failed VoidResult")
+        void withFailedResults() {
+            VoidResult<String> first = VoidResult.fail("err1");
+            VoidResult<String> second = VoidResult.fail("err2");
+            assertThat(VoidResult.firstFailure(VoidResult.ok(), first)).isSameAs(first);
+            assertThat(VoidResult.firstFailure(VoidResult.ok(), first, second)).isSameAs(first);
+            assertThat(VoidResult.firstFailure(VoidResult.ok(), VoidResult.ok(), second, first)).isSameAs(second);
+        }
+    }
 }
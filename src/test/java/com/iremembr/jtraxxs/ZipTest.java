@@ -0,0 +1,125 @@
+package com.iremembr.jtraxxs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.iremembr.jtraxxs.RailwayAssertions.assertThat;
+import static com.iremembr.jtraxxs.ValueResult.fail;
+import static com.iremembr.jtraxxs.ValueResult.ok;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Zip")
+class ZipTest {
+
+    private final ValueResult<String, String> street = ok("Main Street");
+    private final ValueResult<Integer, String> number = ok(42);
+    private final ValueResult<String, String> city = ok("Springfield");
+    private final ValueResult<String, String> noStreet = fail("no street");
+    private final ValueResult<String, String> noCity = fail("no city");
+
+    @Nested
+    @DisplayName("apply() with an ErrorList")
+    class applyErrorList {
+        @Test
+        @DisplayName("WHEN all ValueResults are successful THEN the function is applied to their values")
+        void success() {
+            ValueResult<String, Collection<String>> result = ValueResult.zip(street, number, city)
+                    .apply((s, n, c) -> s + " " + n + ", " + c);
+
+            assertThat(result).isSuccessful().withValue("Main Street 42, Springfield");
+        }
+
+        @Test
+        @DisplayName("WHEN several ValueResults have failed THEN all errors are returned in order")
+        void failure() {
+            AtomicInteger calls = new AtomicInteger();
+
+            ValueResult<String, Collection<String>> result = ValueResult.zip(noStreet, number, noCity)
+                    .apply((s, n, c) -> {
+                        calls.incrementAndGet();
+                        return s + n + c;
+                    });
+
+            assertThat(result).hasFailed();
+            assertThat(result.error()).containsExactly("no street", "no city");
+            assertThat(calls.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("WHEN two ValueResults are zipped THEN the errors of both are returned like for more ValueResults")
+        void two() {
+            assertThat(ValueResult.zip(street, number).apply((s, n) -> s + " " + n))
+                    .isSuccessful().withValue("Main Street 42");
+            assertThat(ValueResult.zip(noStreet, noCity).apply((s, c) -> s + c).error())
+                    .containsExactly("no street", "no city");
+            assertThat(ValueResult.zip(street, noCity).apply((s, c) -> s + c).error())
+                    .containsExactly("no city");
+        }
+
+        @Test
+        @DisplayName("WHEN eight ValueResults are zipped THEN the function receives all eight values")
+        void eight() {
+            ValueResult<Integer, String> one = ok(1);
+
+            ValueResult<Integer, Collection<String>> result = ValueResult.zip(one, one, one, one, one, one, one, one)
+                    .apply((a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+
+            assertThat(result).isSuccessful().withValue(8);
+        }
+    }
+
+    @Nested
+    @DisplayName("apply() with a merge function")
+    class applyMerged {
+        @Test
+        @DisplayName("WHEN all ValueResults are successful THEN the merge function is not used")
+        void success() {
+            ValueResult<String, String> result = ValueResult.zip(street, number, city, street)
+                    .apply((s, n, c, t) -> s + n + c + t, (first, second) -> {
+                        throw new IllegalStateException("must not be called");
+                    });
+
+            assertThat(result).isSuccessful().withValue("Main Street42SpringfieldMain Street");
+        }
+
+        @Test
+        @DisplayName("WHEN several ValueResults have failed THEN their errors are merged from left to right")
+        void failure() {
+            ValueResult<String, String> result = ValueResult.zip(noStreet, number, noCity, street, noStreet)
+                    .apply((s, n, c, t, u) -> s + n + c + t + u, (first, second) -> first + "; " + second);
+
+            assertThat(result).hasFailed().withError("no street; no city; no street");
+        }
+
+        @Test
+        @DisplayName("WHEN two ValueResults have failed THEN their errors are merged")
+        void two() {
+            ValueResult<String, String> result = ValueResult.zip(noStreet, noCity)
+                    .apply((s, c) -> s + c, (first, second) -> first + "; " + second);
+
+            assertThat(result).hasFailed().withError("no street; no city");
+        }
+
+        @Test
+        @DisplayName("WHEN a single ValueResult has failed THEN its error is returned unchanged")
+        void singleFailure() {
+            ValueResult<String, String> result = ValueResult.zip(street, number, city, street, number, noCity)
+                    .apply((s, n, c, t, u, v) -> s, (first, second) -> first + second);
+
+            assertThat(result).hasFailed().withError("no city");
+        }
+    }
+
+    @Test
+    @DisplayName("WHEN an argument is null THEN a NullPointerException is thrown")
+    void nullArguments() {
+        assertThatThrownBy(() -> ValueResult.zip(street, null, city)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ValueResult.zip(street, null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ValueResult.zip(street, number, city).apply(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}